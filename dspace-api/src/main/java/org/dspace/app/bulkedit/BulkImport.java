@@ -23,17 +23,29 @@ import static org.dspace.core.CrisConstants.PLACEHOLDER_PARENT_METADATA_VALUE;
 import static org.dspace.util.WorkbookUtils.getCellValue;
 import static org.dspace.util.WorkbookUtils.getRows;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -44,14 +56,19 @@ import org.apache.commons.cli.ParseException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.apache.poi.EncryptedDocumentException;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.dspace.app.bulkimport.exception.BulkImportException;
 import org.dspace.app.bulkimport.model.AccessCondition;
 import org.dspace.app.bulkimport.model.ChildRow;
@@ -60,6 +77,9 @@ import org.dspace.app.bulkimport.model.ImportAction;
 import org.dspace.app.bulkimport.model.MetadataGroup;
 import org.dspace.app.bulkimport.model.UploadDetails;
 import org.dspace.app.bulkimport.util.ImportFileUtil;
+import org.dspace.app.bulkimport.util.SpilledRowsFile;
+import org.dspace.app.bulkimport.util.SpilledRowsFile.SpilledRow;
+import org.dspace.app.bulkimport.util.StreamingWorkbookReader;
 import org.dspace.app.util.DCInputsReader;
 import org.dspace.app.util.DCInputsReaderException;
 import org.dspace.authority.service.ItemSearchService;
@@ -208,6 +228,16 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private boolean abortOnError;
 
+    private boolean streaming;
+
+    private int batchSize = 1;
+
+    private int threads = 1;
+
+    private final ThreadLocal<Context> workerContext = new ThreadLocal<>();
+
+    private final ThreadLocal<List<Runnable>> bufferedMessages = new ThreadLocal<>();
+
     private Context context;
 
     private ImportFileUtil importFileUtil;
@@ -263,13 +293,37 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         if (commandLine.hasOption("er")) {
             abortOnError = true;
         }
+
+        if (commandLine.hasOption("st")) {
+            streaming = true;
+        }
+
+        if (commandLine.hasOption("bs")) {
+            batchSize = parsePositiveInteger(commandLine.getOptionValue("bs"), "batch size");
+        }
+
+        if (commandLine.hasOption("t")) {
+            threads = parsePositiveInteger(commandLine.getOptionValue("t"), "number of threads");
+        }
+    }
+
+    private int parsePositiveInteger(String value, String name) throws ParseException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new ParseException("The " + name + " must be a positive integer: " + value);
     }
 
     @Override
     public void internalRun() throws Exception {
         context = new Context(Context.Mode.BATCH_EDIT);
         assignCurrentUserInContext(context);
-        assignSpecialGroupsInContext();
+        assignSpecialGroupsInContext(context);
 
         InputStream inputStream = handler.getFileStream(context, filename)
             .orElseThrow(() -> new IllegalArgumentException("Error reading file, the file couldn't be "
@@ -286,7 +340,11 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
         try {
             context.turnOffAuthorisationSystem();
-            performImport(inputStream);
+            if (streaming) {
+                performStreamingImport(inputStream);
+            } else {
+                performImport(inputStream);
+            }
             context.complete();
             context.restoreAuthSystemState();
         } catch (Exception e) {
@@ -302,6 +360,253 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         performImport(entityRows);
     }
 
+    /**
+     * Import the given xlsx workbook reading its sheets as streams of rows, instead
+     * of loading the whole workbook in memory. The rows of the nested sheets are
+     * validated and spilled to a temporary file indexed by their parent id, then
+     * each row of the main sheet is joined with its nested rows and imported as
+     * soon as it is read. To be validated and built exactly as by
+     * {@link #performImport(InputStream)}, the rows are copied one at a time into a
+     * workbook holding only the headers of the sheets.
+     * <p>
+     * With abortOnError, the rows of the main sheet are validated by a first pass
+     * over the sheet, so that an invalid row aborts the import before any row is
+     * imported. Otherwise the invalid rows are reported while the valid rows are
+     * imported, instead of before.
+     *
+     * @param is the input stream of the xlsx workbook
+     */
+    public void performStreamingImport(InputStream is) {
+
+        File workbookFile = copyToTempFile(is);
+
+        try {
+
+            if (FileMagic.valueOf(workbookFile) != FileMagic.OOXML) {
+                logWarning("The streaming import supports only xlsx files, the workbook is fully loaded");
+                try (InputStream workbookStream = Files.newInputStream(workbookFile.toPath())) {
+                    performImport(workbookStream);
+                }
+                return;
+            }
+
+            try (StreamingWorkbookReader reader = new StreamingWorkbookReader(workbookFile);
+                Workbook rowBuffer = new XSSFWorkbook();
+                SpilledRowsFile childRows = new SpilledRowsFile()) {
+
+                readHeaders(reader, rowBuffer);
+                validateWorkbook(rowBuffer);
+                spillChildRows(reader, rowBuffer, childRows);
+                if (abortOnError) {
+                    validateEntityRows(reader, rowBuffer);
+                }
+                importEntityRows(reader, rowBuffer, childRows);
+
+            }
+
+        } catch (IOException | UncheckedIOException e) {
+            throw new BulkImportException("An error occurs reading the workbook", e);
+        } finally {
+            FileUtils.deleteQuietly(workbookFile);
+        }
+
+    }
+
+    private File copyToTempFile(InputStream is) {
+        try {
+            Path workbookFile = Files.createTempFile("bulk-import-", ".xlsx");
+            Files.copy(is, workbookFile, StandardCopyOption.REPLACE_EXISTING);
+            return workbookFile.toFile();
+        } catch (IOException e) {
+            throw new BulkImportException("An error occurs copying the workbook to a temporary file", e);
+        }
+    }
+
+    /**
+     * Copy the header of each sheet read by the given reader into a sheet of the
+     * given row buffer with the same name and index.
+     */
+    private void readHeaders(StreamingWorkbookReader reader, Workbook rowBuffer) throws IOException {
+
+        if (reader.getNumberOfSheets() == 0) {
+            throw new BulkImportException("The Workbook should have at least one sheet");
+        }
+
+        for (int sheetIndex = 0; sheetIndex < reader.getNumberOfSheets(); sheetIndex++) {
+
+            Sheet sheet = rowBuffer.createSheet(reader.getSheetNames().get(sheetIndex));
+
+            reader.readSheet(sheetIndex, (rowNum, values) -> {
+                if (values.stream().allMatch(StringUtils::isBlank)) {
+                    return true;
+                }
+                copyRow(sheet, rowNum, values);
+                return false;
+            });
+
+            if (sheet.getPhysicalNumberOfRows() == 0) {
+                throw new BulkImportException("The sheet " + sheet.getSheetName() + " of the Workbook is empty");
+            }
+
+            if (sheet.getRow(0) == null) {
+                String name = sheet.getSheetName();
+                throw new BulkImportException("The header of sheet " + name + " of the Workbook is empty");
+            }
+
+        }
+    }
+
+    /**
+     * Validate the rows of the nested sheets, spilling the valid ones into the given
+     * file indexed by their parent id.
+     */
+    private void spillChildRows(StreamingWorkbookReader reader, Workbook rowBuffer, SpilledRowsFile childRows)
+        throws IOException {
+
+        logInfo("Start reading all the metadata group and bitstream rows");
+
+        for (int sheetIndex = 1; sheetIndex < reader.getNumberOfSheets(); sheetIndex++) {
+
+            Sheet sheet = rowBuffer.getSheetAt(sheetIndex);
+            boolean isBitstreamsSheet = BulkImportSheetType.getTypeFromSheet(sheet) == BulkImportSheetType.BITSTREAMS;
+            int currentSheetIndex = sheetIndex;
+
+            reader.readSheet(sheetIndex, (rowNum, values) -> {
+                if (rowNum == 0) {
+                    return true;
+                }
+
+                Row row = copyRow(sheet, rowNum, values);
+                try {
+                    if (WorkbookUtils.isNotEmptyRow(row) && isChildRowValid(row, isBitstreamsSheet)) {
+                        childRows.add(getParentIdFromRow(row), new SpilledRow(currentSheetIndex, rowNum, values));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    sheet.removeRow(row);
+                }
+
+                return true;
+            });
+        }
+
+        logInfo("Found " + childRows.size() + " metadata groups and bitstreams to process");
+    }
+
+    /**
+     * Validate all the rows of the main sheet without importing them, so that with
+     * abortOnError an invalid row aborts the import before any row is imported, as
+     * by {@link #performImport(InputStream)}.
+     */
+    private void validateEntityRows(StreamingWorkbookReader reader, Workbook rowBuffer) throws IOException {
+
+        Sheet entityRowSheet = rowBuffer.getSheetAt(0);
+
+        reader.readSheet(0, (rowNum, values) -> {
+            if (rowNum == 0) {
+                return true;
+            }
+
+            Row row = copyRow(entityRowSheet, rowNum, values);
+            try {
+                if (WorkbookUtils.isNotEmptyRow(row)) {
+                    isEntityRowRowValid(row);
+                }
+            } finally {
+                entityRowSheet.removeRow(row);
+            }
+
+            return true;
+        });
+    }
+
+    /**
+     * Validate the rows of the main sheet, importing each valid one with its nested
+     * rows as soon as it is read.
+     */
+    private void importEntityRows(StreamingWorkbookReader reader, Workbook rowBuffer, SpilledRowsFile childRows)
+        throws IOException {
+
+        Sheet entityRowSheet = rowBuffer.getSheetAt(0);
+        Map<String, Integer> headers = getHeaderMap(entityRowSheet);
+        MutableInt count = new MutableInt();
+
+        try (EntityRowImporter importer = new EntityRowImporter()) {
+
+            reader.readSheet(0, (rowNum, values) -> {
+                if (rowNum == 0) {
+                    return true;
+                }
+
+                Row row = copyRow(entityRowSheet, rowNum, values);
+                try {
+                    if (WorkbookUtils.isNotEmptyRow(row) && isEntityRowRowValid(row)) {
+                        importer.submit(buildEntityRow(row, headers, childRows));
+                        count.increment();
+                    }
+                } finally {
+                    entityRowSheet.removeRow(row);
+                }
+
+                return true;
+            });
+
+            importer.finish();
+        }
+
+        logInfo("Processed " + count + " items");
+    }
+
+    private boolean isChildRowValid(Row row, boolean isBitstreamsSheetRow) {
+        return isBitstreamsSheetRow ? isUploadRowValid(row) : isMetadataGroupRowValid(row);
+    }
+
+    private EntityRow buildEntityRow(Row row, Map<String, Integer> headers, SpilledRowsFile childRows) {
+
+        List<MetadataGroup> metadataGroups = new ArrayList<>();
+        List<UploadDetails> uploadDetails = new ArrayList<>();
+
+        for (SpilledRow childRow : getOwnChildRows(row, childRows)) {
+
+            Sheet childSheet = row.getSheet().getWorkbook().getSheetAt(childRow.getSheetIndex());
+            Row childSheetRow = copyRow(childSheet, childRow.getRowNum(), childRow.getValues());
+
+            try {
+                if (BulkImportSheetType.getTypeFromSheet(childSheet) == BulkImportSheetType.BITSTREAMS) {
+                    uploadDetails.add(buildUploadDetails(childSheetRow));
+                } else {
+                    metadataGroups.add(buildMetadataGroup(childSheetRow, getHeaderMap(childSheet)));
+                }
+            } finally {
+                childSheet.removeRow(childSheetRow);
+            }
+
+        }
+
+        return buildEntityRow(row, headers, metadataGroups, uploadDetails);
+    }
+
+    private List<SpilledRow> getOwnChildRows(Row row, SpilledRowsFile childRows) {
+        String id = getIdFromRow(row);
+        int rowIndex = row.getRowNum() + 1;
+        try {
+            return childRows.get(List.of(StringUtils.defaultString(id), ROW_ID + ID_SEPARATOR + rowIndex));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Row copyRow(Sheet sheet, int rowNum, List<String> values) {
+        Row row = sheet.createRow(rowNum);
+        for (int column = 0; column < values.size(); column++) {
+            if (StringUtils.isNotEmpty(values.get(column))) {
+                WorkbookUtils.createCell(row, column, values.get(column));
+            }
+        }
+        return row;
+    }
+
     private Workbook createWorkbook(InputStream is) {
         try {
             return WorkbookFactory.create(is);
@@ -498,9 +803,9 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
         List<Sheet> metadataGroupSheets = getAllMetadataGroupSheets(workbook);
 
-        handler.logInfo("Start reading all the metadata group rows");
+        logInfo("Start reading all the metadata group rows");
         List<MetadataGroup> metadataGroups = getValidMetadataGroups(metadataGroupSheets);
-        handler.logInfo("Found " + metadataGroups.size() + " metadata groups to process");
+        logInfo("Found " + metadataGroups.size() + " metadata groups to process");
 
         List<UploadDetails> uploadDetails = getUploadDetails(workbook);
 
@@ -688,7 +993,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
             return Collections.emptyList();
         }
 
-        handler.logInfo("Start reading all the bitstream rows");
+        logInfo("Start reading all the bitstream rows");
 
         List<UploadDetails> uploadDetails = getRows(uploadSheet)
             .filter(WorkbookUtils::isNotFirstRow)
@@ -697,7 +1002,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
             .map(row -> buildUploadDetails(row))
             .collect(Collectors.toList());
 
-        handler.logInfo("Found " + uploadDetails.size() + " bitstreams to process");
+        logInfo("Found " + uploadDetails.size() + " bitstreams to process");
 
         return uploadDetails;
 
@@ -839,41 +1144,19 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
     }
 
     private void performImport(List<EntityRow> entityRows) {
-        handler.logInfo("Found " + entityRows.size() + " items to process");
-        entityRows.forEach(entityRow -> performImport(entityRow));
+        logInfo("Found " + entityRows.size() + " items to process");
+        try (EntityRowImporter importer = new EntityRowImporter()) {
+            entityRows.forEach(importer::submit);
+            importer.finish();
+        }
     }
 
     private void performImport(EntityRow entityRow) {
 
         try {
 
-            Item item = null;
-
-            switch (entityRow.getAction()) {
-                case ADD:
-                case ADD_ARCHIVE:
-                case ADD_WORKSPACE:
-                    item = addItem(entityRow);
-                    break;
-                case UPDATE:
-                case UPDATE_WORKFLOW:
-                case UPDATE_ARCHIVE:
-                    item = updateItem(entityRow);
-                    break;
-                case DELETE:
-                    deleteItem(entityRow);
-                    break;
-                case NOT_SPECIFIED:
-                default:
-                    item = addOrUpdateItem(entityRow);
-                    break;
-            }
-
-            if (item != null) {
-                context.uncacheEntity(item);
-            }
-
-            context.commit();
+            importEntityRow(entityRow);
+            getContext().commit();
 
         } catch (BulkImportException bie) {
             handleException(entityRow, bie);
@@ -884,14 +1167,91 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     }
 
+    /**
+     * Import the given rows committing them together, buffering the messages of the
+     * rows and the notifications of the workflow items started by them until the
+     * commit. If any row fails, the whole batch is rolled back, its notifications
+     * are discarded and its rows are imported again one at a time, so that the
+     * valid rows are imported anyway and the errors are reported exactly as by the
+     * import of single rows. The effects outside of the database of the rolled back
+     * rows are not undone: the bitstreams they stored are left to the cleanup of
+     * the assetstore, and the curation tasks run by the start of their workflow
+     * are run again when the rows are imported again.
+     */
+    private void importBatch(List<EntityRow> batch) {
+
+        List<Runnable> messages = new ArrayList<>();
+        bufferedMessages.set(messages);
+        workflowService.deferNotifications();
+
+        boolean committed = false;
+        try {
+            for (EntityRow entityRow : batch) {
+                importEntityRow(entityRow);
+            }
+            getContext().commit();
+            committed = true;
+        } catch (Exception e) {
+            LOGGER.info("An error occurs importing a batch of {} rows, importing them one at a time: {}",
+                batch.size(), getRootCauseMessage(e));
+        } finally {
+            bufferedMessages.remove();
+            if (committed) {
+                workflowService.sendDeferredNotifications();
+            } else {
+                workflowService.discardDeferredNotifications();
+            }
+        }
+
+        if (committed) {
+            synchronized (handler) {
+                messages.forEach(Runnable::run);
+            }
+        } else {
+            rollback();
+            batch.forEach(this::performImport);
+        }
+
+    }
+
+    private void importEntityRow(EntityRow entityRow) throws Exception {
+
+        Item item = null;
+
+        switch (entityRow.getAction()) {
+            case ADD:
+            case ADD_ARCHIVE:
+            case ADD_WORKSPACE:
+                item = addItem(entityRow);
+                break;
+            case UPDATE:
+            case UPDATE_WORKFLOW:
+            case UPDATE_ARCHIVE:
+                item = updateItem(entityRow);
+                break;
+            case DELETE:
+                deleteItem(entityRow);
+                break;
+            case NOT_SPECIFIED:
+            default:
+                item = addOrUpdateItem(entityRow);
+                break;
+        }
+
+        if (item != null) {
+            getContext().uncacheEntity(item);
+        }
+
+    }
+
     private Item addItem(EntityRow entityRow)
         throws AuthorizeException, SQLException, IOException, WorkflowException {
 
-        WorkspaceItem workspaceItem = workspaceItemService.create(context, getCollection(), false);
+        WorkspaceItem workspaceItem = workspaceItemService.create(getContext(), getCollection(), false);
 
         Item item = workspaceItem.getItem();
 
-        PackageUtils.addDepositLicense(context, null, item, workspaceItem.getCollection());
+        PackageUtils.addDepositLicense(getContext(), null, item, workspaceItem.getCollection());
 
         addMetadata(item, entityRow, false);
         addUploadsToItem(item, entityRow);
@@ -909,7 +1269,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
                 installItem(entityRow, workspaceItem);
                 break;
             case ADD_WORKSPACE:
-                handler.logInfo("Row " + row + " - WorkspaceItem created successfully - ID: " + itemId);
+                logInfo("Row " + row + " - WorkspaceItem created successfully - ID: " + itemId);
                 break;
             default:
                 break;
@@ -936,7 +1296,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
             List<Bitstream> bitstreams = bitstreamsByBundle.get(uploadDetails.getBundleName());
 
             if (zeroBasedPosition >= bitstreams.size()) {
-                handler.logError("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow() +
+                logError("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow() +
                     " - No bitstream found at position " + bitstreamPosition + " for Item with id " + item.getID());
                 continue;
             }
@@ -964,12 +1324,12 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private void deleteBitstream(Bitstream bitstream, UploadDetails uploadDetails) {
         try {
-            bitstreamService.delete(context, bitstream);
+            bitstreamService.delete(getContext(), bitstream);
         } catch (SQLException | AuthorizeException | IOException e) {
             throw new RuntimeException(e);
         }
 
-        handler.logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
+        logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
             + " - Bitstream deleted successfully - ID: " + bitstream.getID());
     }
 
@@ -978,7 +1338,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         updateBitstreamMetadata(bitstream, uploadDetails);
         updateBitstreamPolicies(bitstream, item, uploadDetails);
 
-        handler.logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
+        logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
             + " - Bitstream updated successfully - ID: " + bitstream.getID());
     }
 
@@ -1012,7 +1372,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private void removeReadPolicies(Bitstream bitstream, String type) {
         try {
-            resourcePolicyService.removePolicies(context, bitstream, type, Constants.READ);
+            resourcePolicyService.removePolicies(getContext(), bitstream, type, Constants.READ);
         } catch (SQLException | AuthorizeException e) {
             throw new BulkImportException(e);
         }
@@ -1028,9 +1388,9 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         for (AccessConditionOption aco : uploadAccessConditions.values()) {
             if (aco.getName().equalsIgnoreCase(name)) {
                 try {
-                    aco.createResourcePolicy(context, obj, name, description, startDate, endDate);
+                    aco.createResourcePolicy(getContext(), obj, name, description, startDate, endDate);
                 } catch (Exception e) {
-                    handler.logError("Sheet " + BITSTREAMS_SHEET_NAME + " - Row "
+                    logError("Sheet " + BITSTREAMS_SHEET_NAME + " - Row "
                         + uploadDetails.getRow() + " - " + e.getMessage());
                 }
                 break;
@@ -1046,7 +1406,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         Optional<InputStream> inputStream = importFileUtil.getInputStream(filePath);
 
         if (inputStream.isEmpty()) {
-            handler.logError("Cannot create bitstream from file at path " + filePath);
+            logError("Cannot create bitstream from file at path " + filePath);
             return;
         }
 
@@ -1063,7 +1423,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         setBitstreamPolicies(bitstream, uploadDetails);
         setBitstreamFormat(bitstream);
 
-        handler.logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
+        logInfo("Sheet " + BITSTREAMS_SHEET_NAME + " - Row " + uploadDetails.getRow()
             + " - Bitstream created successfully - ID: " + bitstream.getID());
 
     }
@@ -1080,7 +1440,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private Bundle createBundle(Item item, String bundleName) {
         try {
-            return bundleService.create(context, item, bundleName);
+            return bundleService.create(getContext(), item, bundleName);
         } catch (SQLException | AuthorizeException e) {
             throw new RuntimeException(e);
         }
@@ -1088,17 +1448,17 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private void setBitstreamFormat(Bitstream bitstream) {
         try {
-            BitstreamFormat bf = bitstreamFormatService.guessFormat(context, bitstream);
-            bitstreamService.setFormat(context, bitstream, bf);
-            bitstreamService.update(context, bitstream);
+            BitstreamFormat bf = bitstreamFormatService.guessFormat(getContext(), bitstream);
+            bitstreamService.setFormat(getContext(), bitstream, bf);
+            bitstreamService.update(getContext(), bitstream);
         } catch (SQLException | AuthorizeException e) {
-            handler.logError(e.getMessage());
+            logError(e.getMessage());
         }
     }
 
     private Bitstream createBitstream(Bundle bundle, InputStream inputStream) {
         try {
-            return bitstreamService.create(context, bundle, inputStream);
+            return bitstreamService.create(getContext(), bundle, inputStream);
         } catch (IOException | SQLException | AuthorizeException e) {
             throw new RuntimeException(e);
         }
@@ -1110,11 +1470,11 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         String itemId = inProgressItem.getItem().getID().toString();
         int row = entityRow.getRow();
 
-        if (authorizeService.isAdmin(context)) {
-            installItemService.installItem(context, inProgressItem);
-            handler.logInfo("Row " + row + " - Item archived successfully - ID: " + itemId);
+        if (authorizeService.isAdmin(getContext())) {
+            installItemService.installItem(getContext(), inProgressItem);
+            logInfo("Row " + row + " - Item archived successfully - ID: " + itemId);
         } else {
-            handler.logWarning("Row " + row + " - Current user can't deposit an item directly bypassing the workflow");
+            logWarning("Row " + row + " - Current user can't deposit an item directly bypassing the workflow");
         }
 
     }
@@ -1127,10 +1487,10 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
         List<String> validationErrors = validateItem(workspaceItem);
         if (CollectionUtils.isEmpty(validationErrors)) {
-            workflowService.start(context, workspaceItem);
-            handler.logInfo("Row " + row + " - WorkflowItem created successfully - ID: " + itemId);
+            workflowService.start(getContext(), workspaceItem);
+            logInfo("Row " + row + " - WorkflowItem created successfully - ID: " + itemId);
         } else {
-            handler.logWarning("Row " + row + " - Invalid item left in workspace - ID: " + itemId
+            logWarning("Row " + row + " - Invalid item left in workspace - ID: " + itemId
                 + " - validation errors: " + validationErrors);
         }
 
@@ -1157,7 +1517,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         addUploadsToItem(item, entityRow);
         configureDiscoverability(item, entityRow);
 
-        handler.logInfo("Row " + entityRow.getRow() + " - Item updated successfully - ID: " + item.getID());
+        logInfo("Row " + entityRow.getRow() + " - Item updated successfully - ID: " + item.getID());
 
         switch (entityRow.getAction()) {
             case UPDATE_WORKFLOW:
@@ -1167,7 +1527,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
                 installItem(entityRow, item);
                 break;
             default:
-                itemService.update(context, item);
+                itemService.update(getContext(), item);
                 break;
         }
 
@@ -1181,7 +1541,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         if (inProgressItem != null) {
             installItem(entityRow, inProgressItem);
         } else {
-            handler.logInfo("Row " + entityRow.getRow() + " - No workspace/workflow item to archive found");
+            logInfo("Row " + entityRow.getRow() + " - No workspace/workflow item to archive found");
         }
 
     }
@@ -1189,11 +1549,11 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
     private void startWorkflow(EntityRow entityRow, Item item)
         throws SQLException, AuthorizeException, IOException, WorkflowException {
 
-        WorkspaceItem workspaceItem = workspaceItemService.findByItem(context, item);
+        WorkspaceItem workspaceItem = workspaceItemService.findByItem(getContext(), item);
         if (workspaceItem != null) {
             startWorkflow(entityRow, workspaceItem);
         } else {
-            handler.logInfo("Row " + entityRow.getRow() + " - No workspace item to start found");
+            logInfo("Row " + entityRow.getRow() + " - No workspace item to start found");
         }
     }
 
@@ -1204,8 +1564,8 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
             throw new BulkImportException("No item to delete found for entity with id " + entityRow.getId());
         }
 
-        itemService.delete(context, item);
-        handler.logInfo("Row " + entityRow.getRow() + " - Item deleted successfully");
+        itemService.delete(getContext(), item);
+        logInfo("Row " + entityRow.getRow() + " - Item deleted successfully");
     }
 
     private Item addOrUpdateItem(EntityRow entityRow) throws Exception {
@@ -1220,11 +1580,11 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
     }
 
     private Item findItem(EntityRow entityRow) throws Exception {
-        return entityRow.getId() != null ? itemSearchService.search(context, entityRow.getId()) : null;
+        return entityRow.getId() != null ? itemSearchService.search(getContext(), entityRow.getId()) : null;
     }
 
     private List<String> validateItem(WorkspaceItem workspaceItem) {
-        return validationService.validate(context, workspaceItem).stream()
+        return validationService.validate(getContext(), workspaceItem).stream()
             .map(error -> error.getMessage() + ": " + error.getPaths())
             .collect(Collectors.toList());
     }
@@ -1259,15 +1619,16 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         Iterable<String> metadataFields = metadata.keySet();
         for (String field : metadataFields) {
             String lang = getMetadataLanguage(field);
-            MetadataField metadataField = metadataFieldService.findByString(context, getMetadataField(field), '.');
+            MetadataField metadataField = metadataFieldService.findByString(getContext(), getMetadataField(field),
+                '.');
             for (MetadataValueVO metadataValue : metadata.get(field)) {
-                metadataValue = bulkImportTransformerService.converter(context, field, metadataValue);
+                metadataValue = bulkImportTransformerService.converter(getContext(), field, metadataValue);
                 String authority = metadataValue.getAuthority();
                 int confidence = metadataValue.getConfidence();
                 String value = metadataValue.getValue();
                 Integer security = metadataValue.getSecurityLevel();
                 if (StringUtils.isNotEmpty(value)) {
-                    dSpaceObjectService.addSecuredMetadata(context, dso, metadataField, lang, value,
+                    dSpaceObjectService.addSecuredMetadata(getContext(), dso, metadataField, lang, value,
                         authority, confidence, security);
                 }
             }
@@ -1291,7 +1652,8 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         Iterable<String> fields = metadata.keySet();
         for (String field : fields) {
             String language = getMetadataLanguage(field);
-            MetadataField metadataField = metadataFieldService.findByString(context, getMetadataField(field), '.');
+            MetadataField metadataField = metadataFieldService.findByString(getContext(), getMetadataField(field),
+                '.');
             removeSingleMetadata(dso, metadataField, language);
         }
 
@@ -1304,7 +1666,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
         List<MetadataValue> metadata = dSpaceObjectService.getMetadata(dso, field.getMetadataSchema().getName(),
             field.getElement(), field.getQualifier(), language);
-        dSpaceObjectService.removeMetadataValues(context, dso, metadata);
+        dSpaceObjectService.removeMetadataValues(getContext(), dso, metadata);
     }
 
     private String getMetadataField(String field) {
@@ -1466,7 +1828,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
 
     private boolean isUnknownMetadataField(String metadataField) {
         try {
-            return metadataFieldService.findByString(context, metadataField, '.') == null;
+            return metadataFieldService.findByString(getContext(), metadataField, '.') == null;
         } catch (SQLException e) {
             throw new SQLRuntimeException(e);
         }
@@ -1540,8 +1902,8 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
     }
 
     private InProgressSubmission<Integer> findInProgressSubmission(Item item) throws SQLException {
-        WorkspaceItem workspaceItem = workspaceItemService.findByItem(context, item);
-        return workspaceItem != null ? workspaceItem : workflowItemService.findByItem(context, item);
+        WorkspaceItem workspaceItem = workspaceItemService.findByItem(getContext(), item);
+        return workspaceItem != null ? workspaceItem : workflowItemService.findByItem(getContext(), item);
     }
 
     private Map<String, AccessConditionOption> getUploadAccessConditions() {
@@ -1583,7 +1945,7 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         }
 
         String message = "Row " + entityRow.getRow() + " - " + getRootCauseMessage(bie);
-        handler.logError(message);
+        logError(message);
 
     }
 
@@ -1593,13 +1955,13 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         if (abortOnError) {
             throw new BulkImportException(errorMessage);
         } else {
-            handler.logError(errorMessage);
+            logError(errorMessage);
         }
     }
 
     private void rollback() {
         try {
-            context.rollback();
+            getContext().rollback();
         } catch (SQLException e) {
             throw new SQLRuntimeException(e);
         }
@@ -1613,19 +1975,86 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         }
     }
 
-    private void assignSpecialGroupsInContext() throws SQLException {
+    private void assignSpecialGroupsInContext(Context context) throws SQLException {
         for (UUID uuid : handler.getSpecialGroups()) {
             context.setSpecialGroup(uuid);
         }
     }
 
+    /**
+     * @return the context of the current thread if it is a worker importing the
+     *         rows, otherwise the context of the script
+     */
+    private Context getContext() {
+        Context currentWorkerContext = workerContext.get();
+        return currentWorkerContext != null ? currentWorkerContext : context;
+    }
+
+    private void importBatchOnWorkerContext(List<EntityRow> batch) {
+        if (workerContext.get() == null) {
+            workerContext.set(createWorkerContext());
+        }
+        importBatch(batch);
+    }
+
+    private Context createWorkerContext() {
+        Context newContext = new Context(Context.Mode.BATCH_EDIT);
+        try {
+            assignCurrentUserInContext(newContext);
+            assignSpecialGroupsInContext(newContext);
+        } catch (SQLException | ParseException e) {
+            newContext.abort();
+            throw new BulkImportException("An error occurs creating the context of the import worker", e);
+        }
+        newContext.turnOffAuthorisationSystem();
+        return newContext;
+    }
+
+    private void closeWorkerContext() {
+        Context currentWorkerContext = workerContext.get();
+        if (currentWorkerContext != null) {
+            currentWorkerContext.abort();
+            workerContext.remove();
+        }
+    }
+
+    private void logInfo(String message) {
+        log(() -> handler.logInfo(message));
+    }
+
+    private void logWarning(String message) {
+        log(() -> handler.logWarning(message));
+    }
+
+    private void logError(String message) {
+        log(() -> handler.logError(message));
+    }
+
+    /**
+     * Log the given message with the handler, or buffer it until the commit of the
+     * batch being imported by the current thread, if any.
+     */
+    private void log(Runnable message) {
+
+        List<Runnable> messages = bufferedMessages.get();
+        if (messages != null) {
+            messages.add(message);
+            return;
+        }
+
+        synchronized (handler) {
+            message.run();
+        }
+
+    }
+
     private Date parseDate(String date) {
         return MultiFormatDateParser.parse(date);
     }
 
     private Collection getCollection() {
         try {
-            return collectionService.find(context, UUID.fromString(collectionId));
+            return collectionService.find(getContext(), UUID.fromString(collectionId));
         } catch (SQLException e) {
             throw new BulkImportException(e);
         }
@@ -1645,4 +2074,151 @@ public class BulkImport extends DSpaceRunnable<BulkImportScriptConfiguration<Bul
         return new DSpace().getServiceManager().getServiceByName("bulk-import", BulkImportScriptConfiguration.class);
     }
 
+    /**
+     * Importer of the entity rows. With the default batch size and number of
+     * threads, each row is imported and committed as soon as it is submitted.
+     * Otherwise the rows are grouped in batches committed together, which are
+     * imported by the submitting thread or by a pool of workers, each with its own
+     * context. The rows with the same ID are imported by the same worker, in the
+     * order they are submitted, while the others are distributed among all the
+     * workers: many threads should be used only if the rows don't depend on each
+     * other, e.g. through the authorities of their metadata.
+     */
+    private class EntityRowImporter implements AutoCloseable {
+
+        private final List<List<EntityRow>> batches = new ArrayList<>();
+
+        private final List<ExecutorService> workers = new ArrayList<>();
+
+        private final List<Deque<Future<?>>> pendingBatches = new ArrayList<>();
+
+        private final long start = System.currentTimeMillis();
+
+        private volatile boolean closed;
+
+        private int count;
+
+        private EntityRowImporter() {
+            for (int worker = 0; worker < threads; worker++) {
+                batches.add(new ArrayList<>(batchSize));
+                pendingBatches.add(new ArrayDeque<>());
+                if (threads > 1) {
+                    workers.add(Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                        .namingPattern("bulk-import-worker-" + worker).daemon(true).build()));
+                }
+            }
+        }
+
+        private void submit(EntityRow entityRow) {
+
+            if (batchSize == 1 && threads == 1) {
+                performImport(entityRow);
+                count++;
+                return;
+            }
+
+            int worker = getWorker(entityRow);
+            List<EntityRow> batch = batches.get(worker);
+            batch.add(entityRow);
+            count++;
+
+            if (batch.size() >= batchSize) {
+                batches.set(worker, new ArrayList<>(batchSize));
+                importBatch(worker, batch);
+            }
+
+        }
+
+        /**
+         * Import the rows of the incomplete batches and wait for the workers to
+         * import all the submitted rows.
+         */
+        private void finish() {
+
+            for (int worker = 0; worker < batches.size(); worker++) {
+                List<EntityRow> batch = batches.get(worker);
+                if (!batch.isEmpty()) {
+                    batches.set(worker, new ArrayList<>());
+                    importBatch(worker, batch);
+                }
+            }
+
+            for (Deque<Future<?>> pending : pendingBatches) {
+                while (!pending.isEmpty()) {
+                    waitFor(pending.poll());
+                }
+            }
+
+            long elapsed = Math.max(1, System.currentTimeMillis() - start);
+            LOGGER.info("Imported {} rows in {} ms ({} rows/s) with batch size {} and {} threads", count, elapsed,
+                count * 1000 / elapsed, batchSize, threads);
+
+        }
+
+        private int getWorker(EntityRow entityRow) {
+            String id = entityRow.getId();
+            return isNotBlank(id) ? Math.floorMod(id.hashCode(), threads) : count % threads;
+        }
+
+        private void importBatch(int worker, List<EntityRow> batch) {
+
+            if (workers.isEmpty()) {
+                BulkImport.this.importBatch(batch);
+                return;
+            }
+
+            Deque<Future<?>> pending = pendingBatches.get(worker);
+            pending.add(workers.get(worker).submit(() -> {
+                if (!closed) {
+                    importBatchOnWorkerContext(batch);
+                }
+            }));
+
+            while (!pending.isEmpty() && (pending.size() > 2 || pending.peek().isDone())) {
+                waitFor(pending.poll());
+            }
+
+        }
+
+        private void waitFor(Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BulkImportException("The import has been interrupted", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new BulkImportException(e.getCause());
+            }
+        }
+
+        /**
+         * Skip the batches not imported yet, if the import failed, and close the
+         * contexts of the workers, waiting for the batches being imported.
+         */
+        @Override
+        public void close() {
+
+            closed = true;
+
+            for (ExecutorService worker : workers) {
+                worker.submit(BulkImport.this::closeWorkerContext);
+                worker.shutdown();
+            }
+
+            try {
+                for (ExecutorService worker : workers) {
+                    worker.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                workers.forEach(ExecutorService::shutdownNow);
+                Thread.currentThread().interrupt();
+            }
+
+        }
+
+    }
+
 }
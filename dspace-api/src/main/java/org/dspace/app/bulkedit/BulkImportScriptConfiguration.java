@@ -58,6 +58,22 @@ public class BulkImportScriptConfiguration<T extends BulkImport> extends ScriptC
             options.getOption("er").setType(boolean.class);
             options.getOption("er").setRequired(false);
 
+            options.addOption("st", "streaming", false, "read the xlsx file row by row, to import large files "
+                + "with a bounded memory. The invalid rows of the main sheet are reported while the other rows are "
+                + "imported, with -er they are checked before importing any row");
+            options.getOption("st").setType(boolean.class);
+            options.getOption("st").setRequired(false);
+
+            options.addOption("bs", "batchSize", true, "the number of rows imported in a single transaction, "
+                + "1 by default");
+            options.getOption("bs").setType(Integer.class);
+            options.getOption("bs").setRequired(false);
+
+            options.addOption("t", "threads", true, "the number of threads importing the rows at the same time, "
+                + "1 by default. Use many threads only if the rows are independent of each other");
+            options.getOption("t").setType(Integer.class);
+            options.getOption("t").setRequired(false);
+
             super.options = options;
         }
         return options;
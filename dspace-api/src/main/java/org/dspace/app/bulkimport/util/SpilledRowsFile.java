@@ -0,0 +1,206 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.bulkimport.util;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Temporary file where the rows of a sheet are spilled while the sheet is read,
+ * to be joined later with the rows of another sheet by a key, without keeping
+ * them in memory. Only the offsets of the rows in the file, grouped by key, are
+ * held in memory. The file is deleted when this object is closed.
+ *
+ */
+public class SpilledRowsFile implements Closeable {
+
+    private final Path path;
+
+    private final DataOutputStream outputStream;
+
+    private final Map<String, List<Long>> offsetsByKey = new HashMap<>();
+
+    private RandomAccessFile inputFile;
+
+    private long size;
+
+    private int count;
+
+    public SpilledRowsFile() throws IOException {
+        this.path = Files.createTempFile("bulk-import-rows-", ".tmp");
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+
+    /**
+     * Append the given row to the file, indexed by the given key.
+     *
+     * @param  key         the key to find the row by
+     * @param  row         the row to spill
+     * @throws IOException if an error occurs writing the file
+     */
+    public void add(String key, SpilledRow row) throws IOException {
+
+        if (inputFile != null) {
+            throw new IllegalStateException("No row can be added after the rows have started to be read");
+        }
+
+        byte[] record = serialize(row);
+        outputStream.writeInt(record.length);
+        outputStream.write(record);
+
+        offsetsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(size);
+        size += Integer.BYTES + record.length;
+        count++;
+
+    }
+
+    /**
+     * Read all the rows indexed by any of the given keys, in the order they have
+     * been added. No row can be added after this method has been called.
+     *
+     * @param  keys        the keys of the rows to read
+     * @return             the rows found
+     * @throws IOException if an error occurs reading the file
+     */
+    public List<SpilledRow> get(Collection<String> keys) throws IOException {
+
+        TreeSet<Long> offsets = new TreeSet<>();
+        for (String key : keys) {
+            offsets.addAll(offsetsByKey.getOrDefault(key, Collections.emptyList()));
+        }
+
+        if (offsets.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RandomAccessFile file = getInputFile();
+        List<SpilledRow> rows = new ArrayList<>(offsets.size());
+        for (Long offset : offsets) {
+            file.seek(offset);
+            byte[] record = new byte[file.readInt()];
+            file.readFully(record);
+            rows.add(deserialize(record));
+        }
+
+        return rows;
+    }
+
+    /**
+     * @return the number of spilled rows
+     */
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            outputStream.close();
+            if (inputFile != null) {
+                inputFile.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private RandomAccessFile getInputFile() throws IOException {
+        if (inputFile == null) {
+            outputStream.flush();
+            inputFile = new RandomAccessFile(path.toFile(), "r");
+        }
+        return inputFile;
+    }
+
+    private byte[] serialize(SpilledRow row) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream recordStream = new DataOutputStream(record)) {
+            recordStream.writeInt(row.getSheetIndex());
+            recordStream.writeInt(row.getRowNum());
+            recordStream.writeInt(row.getValues().size());
+            for (String value : row.getValues()) {
+                writeString(recordStream, value);
+            }
+        }
+        return record.toByteArray();
+    }
+
+    private SpilledRow deserialize(byte[] record) throws IOException {
+        try (DataInputStream recordStream = new DataInputStream(new ByteArrayInputStream(record))) {
+            int sheetIndex = recordStream.readInt();
+            int rowNum = recordStream.readInt();
+            int valuesCount = recordStream.readInt();
+            List<String> values = new ArrayList<>(valuesCount);
+            for (int i = 0; i < valuesCount; i++) {
+                values.add(readString(recordStream));
+            }
+            return new SpilledRow(sheetIndex, rowNum, values);
+        }
+    }
+
+    // DataOutputStream.writeUTF is limited to 64KB, less than the maximum length of a cell value
+    private void writeString(DataOutputStream outputStream, String value) throws IOException {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private String readString(DataInputStream inputStream) throws IOException {
+        byte[] bytes = new byte[inputStream.readInt()];
+        inputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A row spilled to the file, with the index of its sheet and its number.
+     */
+    public static class SpilledRow {
+
+        private final int sheetIndex;
+
+        private final int rowNum;
+
+        private final List<String> values;
+
+        public SpilledRow(int sheetIndex, int rowNum, List<String> values) {
+            this.sheetIndex = sheetIndex;
+            this.rowNum = rowNum;
+            this.values = values;
+        }
+
+        public int getSheetIndex() {
+            return sheetIndex;
+        }
+
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+    }
+
+}
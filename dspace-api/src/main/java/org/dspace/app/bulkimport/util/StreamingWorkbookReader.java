@@ -0,0 +1,184 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.bulkimport.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reader of the sheets of a xlsx workbook that parses the XML of each sheet as a
+ * stream of SAX events, without building the POI object model of the whole
+ * workbook, so that only the row being read is held in memory together with the
+ * shared strings table of the workbook. The cell values are formatted as the
+ * {@link DataFormatter} formats the cells of a loaded workbook.
+ *
+ */
+public class StreamingWorkbookReader implements Closeable {
+
+    private final OPCPackage opcPackage;
+
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    private final StylesTable styles;
+
+    private final List<String> sheetNames = new ArrayList<>();
+
+    private final List<PackagePart> sheetParts = new ArrayList<>();
+
+    /**
+     * Callback invoked for each row read from a sheet.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * Handle a row of the sheet.
+         *
+         * @param  rowNum the zero based number of the row
+         * @param  values the formatted values of the row cells, with an empty
+         *                string for the missing cells
+         * @return        true to continue reading the sheet, false to stop
+         */
+        boolean handle(int rowNum, List<String> values);
+
+    }
+
+    public StreamingWorkbookReader(File file) throws IOException {
+        try {
+            this.opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("The file " + file.getName() + " is not a valid xlsx workbook", e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            this.styles = reader.getStylesTable();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                sheetNames.add(sheets.getSheetName());
+                sheetParts.add(sheets.getSheetPart());
+            }
+        } catch (OpenXML4JException | SAXException | IOException | RuntimeException e) {
+            opcPackage.revert();
+            throw new IOException("An error occurs reading the structure of the workbook " + file.getName(), e);
+        }
+    }
+
+    public int getNumberOfSheets() {
+        return sheetNames.size();
+    }
+
+    public List<String> getSheetNames() {
+        return Collections.unmodifiableList(sheetNames);
+    }
+
+    /**
+     * Read the rows of the sheet at the given index, in the order they appear in
+     * the sheet, passing them to the given handler until it asks to stop. The
+     * rows that have no cells at all are skipped.
+     *
+     * @param  sheetIndex  the zero based index of the sheet
+     * @param  rowHandler  the handler of the rows
+     * @throws IOException if an error occurs reading the sheet
+     */
+    public void readSheet(int sheetIndex, RowHandler rowHandler) throws IOException {
+        try (InputStream inputStream = sheetParts.get(sheetIndex).getInputStream()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            RowCollector rowCollector = new RowCollector(rowHandler);
+            parser.setContentHandler(new XSSFSheetXMLHandler(styles, sharedStrings, rowCollector,
+                new DataFormatter(), false));
+            parser.parse(new InputSource(inputStream));
+        } catch (StopReadingException e) {
+            // the handler asked to stop reading the sheet
+        } catch (SAXException | ParserConfigurationException e) {
+            throw new IOException("An error occurs reading the sheet " + sheetNames.get(sheetIndex), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        opcPackage.revert();
+    }
+
+    /**
+     * Implementation of {@link SheetContentsHandler} that collects the cell values
+     * of each row and passes them to the {@link RowHandler}.
+     */
+    private static class RowCollector implements SheetContentsHandler {
+
+        private final RowHandler rowHandler;
+
+        private List<String> values;
+
+        private RowCollector(RowHandler rowHandler) {
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!rowHandler.handle(rowNum, values)) {
+                throw new StopReadingException();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : values.size();
+            while (values.size() < column) {
+                values.add("");
+            }
+            values.add(formattedValue != null ? formattedValue : "");
+        }
+
+    }
+
+    /**
+     * Exception thrown to stop the parsing of the sheet when the
+     * {@link RowHandler} asks to stop reading it.
+     */
+    private static class StopReadingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private StopReadingException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
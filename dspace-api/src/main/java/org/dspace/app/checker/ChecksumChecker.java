@@ -79,6 +79,8 @@ public final class ChecksumChecker {
      * <dd>Report only errors in the logs</dd>
      * <dt>-p</dt>
      * <dd>Don't prune results before running checker</dd>
+     * <dt>-t</dt>
+     * <dd>specify the number of bitstreams checked at the same time</dd>
      * </dl>
      *
      * @param args the command line arguments given
@@ -100,6 +102,9 @@ public final class ChecksumChecker {
         options.addOption("c", "count", true, "Check count");
         options.addOption("a", "handle", true, "Specify a handle to check");
         options.addOption("v", "verbose", false, "Report all processing");
+        options.addOption("t", "threads", true, "Number of bitstreams checked at the same time");
+        options.addOption("s", "store-metadata", false,
+                          "Verify the bitstreams of the remote stores (e.g. S3) with their stored checksum");
 
         Option option;
 
@@ -207,6 +212,14 @@ public final class ChecksumChecker {
                 checker.setReportVerbose(true);
             }
 
+            if (line.hasOption('t')) {
+                checker.setThreads(Integer.parseInt(line.getOptionValue('t')));
+            }
+
+            if (line.hasOption('s')) {
+                checker.setStoreMetadataVerification(true);
+            }
+
             checker.setProcessStartDate(processStart);
             checker.setDispatcher(dispatcher);
             checker.setCollector(logger);
@@ -239,6 +252,9 @@ public final class ChecksumChecker {
         System.out.println("\nLoop continuously through all bitstreams: ChecksumChecker -L");
         System.out.println("\nCheck a defined number of bitstreams: ChecksumChecker -c 10");
         System.out.println("\nReport all processing (verbose)(default reports only errors): ChecksumChecker -v");
+        System.out.println("\nCheck 8 bitstreams at the same time: ChecksumChecker -l -t 8");
+        System.out.println("\nVerify the S3 bitstreams without downloading them, except a random sample "
+                               + "(checker.store-metadata.sample-rate): ChecksumChecker -l -s");
         System.out.println("\nDefault (no arguments) is equivalent to '-c 1'");
         System.exit(0);
     }
@@ -0,0 +1,279 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.DSpaceObject;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Application wide cache of the authorization decisions taken by the {@link AuthorizeServiceImpl}, shared by all the
+ * contexts. Unlike the cache of the read-only contexts, which lives as long as a single request, the decisions stored
+ * here are reused by the following requests of the same user, until they expire or until an
+ * {@link AuthorizationDecisionCacheConsumer} receives an event that could change them (a policy, group membership or
+ * hierarchy change).
+ * <p>
+ * A decision is identified by the user, the special groups of the context, the object, the action and the use of the
+ * inheritance. The cache is disabled by default and is configured with the following properties:
+ * <ul>
+ * <li><code>core.authorization.cache.enabled</code>: whether the cache is used</li>
+ * <li><code>core.authorization.cache.max-size</code>: the maximum number of decisions, the least recently used ones
+ * are discarded first</li>
+ * <li><code>core.authorization.cache.ttl</code>: the seconds after which a decision expires, needed by the policies
+ * with a start or end date</li>
+ * </ul>
+ */
+public class AuthorizationDecisionCache {
+
+    private static final Logger log = LogManager.getLogger();
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    public static final long DEFAULT_TTL = 300;
+
+    @Autowired(required = true)
+    private ConfigurationService configurationService;
+
+    private final Map<Key, Decision> decisions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Decision> eldest) {
+            if (size() > getMaxSize()) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Incremented on each invalidation, the decisions computed from data read before an invalidation are not stored.
+     */
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @return whether the shared cache of the authorization decisions is enabled
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("core.authorization.cache.enabled", false);
+    }
+
+    /**
+     * Build the key identifying the decision about the given action on the given object.
+     *
+     * @param context        the DSpace context
+     * @param dso            the object the action is attempted on
+     * @param action         the action, from <code>org.dspace.core.Constants</code>
+     * @param eperson        the user attempting the action, null for anonymous
+     * @param useInheritance whether the ADMIN action on the parent objects is considered
+     * @return the key of the decision, or null if the cache can't be used in the given context: when it is disabled
+     *         or when the context holds changes not committed yet, which are not visible to the other contexts
+     */
+    public Key getKey(Context context, DSpaceObject dso, int action, EPerson eperson, boolean useInheritance) {
+        if (!isEnabled() || context.hasEvents() || dso == null || dso.getID() == null) {
+            return null;
+        }
+        UUID epersonId = eperson != null ? eperson.getID() : null;
+        synchronized (this) {
+            return new Key(epersonId, Set.copyOf(context.getSpecialGroupUuids()), dso.getID(), action,
+                useInheritance, generation);
+        }
+    }
+
+    /**
+     * @param key the key of the decision
+     * @return the cached decision, or null if the decision is not cached or has expired
+     */
+    public Boolean get(Key key) {
+        Decision decision;
+        synchronized (this) {
+            decision = decisions.get(key);
+            if (decision != null && decision.expiration - System.nanoTime() < 0) {
+                decisions.remove(key);
+                decision = null;
+            }
+        }
+        if (decision == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return decision.authorized;
+    }
+
+    /**
+     * Store a decision. The decision is discarded if the cache has been invalidated since its key was built.
+     *
+     * @param key        the key of the decision
+     * @param authorized whether the action is authorized
+     */
+    public void put(Key key, boolean authorized) {
+        long expiration = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTtl());
+        synchronized (this) {
+            if (key.generation == generation) {
+                decisions.put(key, new Decision(authorized, expiration));
+            }
+        }
+    }
+
+    /**
+     * Discard the decisions about the given objects.
+     *
+     * @param dsoIds the ids of the objects
+     */
+    public void evict(Collection<UUID> dsoIds) {
+        if (dsoIds.isEmpty()) {
+            return;
+        }
+        int evicted = 0;
+        synchronized (this) {
+            generation++;
+            Iterator<Key> keys = decisions.keySet().iterator();
+            while (keys.hasNext()) {
+                if (dsoIds.contains(keys.next().dsoId)) {
+                    keys.remove();
+                    evicted++;
+                }
+            }
+        }
+        log.debug("Evicted {} authorization decisions about {} objects", evicted, dsoIds.size());
+    }
+
+    /**
+     * Discard all the decisions.
+     */
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            decisions.clear();
+        }
+        log.debug("Cleared the authorization decisions cache, hits: {}, misses: {}, evictions: {}",
+            getHits(), getMisses(), getEvictions());
+    }
+
+    /**
+     * @return the number of cached decisions
+     */
+    public synchronized int size() {
+        return decisions.size();
+    }
+
+    /**
+     * @return the number of lookups which found a decision
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which didn't find a decision
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of decisions discarded because the cache was full
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    private int getMaxSize() {
+        return configurationService.getIntProperty("core.authorization.cache.max-size", DEFAULT_MAX_SIZE);
+    }
+
+    private long getTtl() {
+        return configurationService.getLongProperty("core.authorization.cache.ttl", DEFAULT_TTL);
+    }
+
+    public void setConfigurationService(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    /**
+     * The identifier of an authorization decision.
+     */
+    public static final class Key {
+
+        private final UUID epersonId;
+
+        private final Set<UUID> specialGroupIds;
+
+        private final UUID dsoId;
+
+        private final int action;
+
+        private final boolean useInheritance;
+
+        /**
+         * The generation of the cache when the key was built, not part of the identity of the decision.
+         */
+        private final long generation;
+
+        private Key(UUID epersonId, Set<UUID> specialGroupIds, UUID dsoId, int action, boolean useInheritance,
+                    long generation) {
+            this.epersonId = epersonId;
+            this.specialGroupIds = specialGroupIds;
+            this.dsoId = dsoId;
+            this.action = action;
+            this.useInheritance = useInheritance;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return action == other.action && useInheritance == other.useInheritance
+                && Objects.equals(epersonId, other.epersonId) && dsoId.equals(other.dsoId)
+                && specialGroupIds.equals(other.specialGroupIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(epersonId, specialGroupIds, dsoId, action, useInheritance);
+        }
+    }
+
+    private static final class Decision {
+
+        private final boolean authorized;
+
+        private final long expiration;
+
+        private Decision(boolean authorized, long expiration) {
+            this.authorized = authorized;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.content.Bitstream;
+import org.dspace.content.Bundle;
+import org.dspace.content.DSpaceObject;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+
+/**
+ * Consumer invalidating the {@link AuthorizationDecisionCache} once the changes which could affect the authorization
+ * decisions are committed.
+ * <p>
+ * The changes of the policies are notified as MODIFY events of their object: the decisions about an item are evicted
+ * together with the ones about its bundles and bitstreams, which depend on the status of the item. The changes of
+ * the group memberships, of the epeople, of the site and of the communities and collections, whose ADMIN policies
+ * are inherited by all their content, clear the whole cache.
+ * <p>
+ * Recommended filter: Site|Community|Collection|Item|Bundle|Bitstream|Group|EPerson+Add|Modify|Remove|Delete|Install
+ */
+public class AuthorizationDecisionCacheConsumer implements Consumer {
+
+    private AuthorizationDecisionCache authorizationDecisionCache;
+
+    private boolean clearAll = false;
+
+    private final Set<UUID> toEvict = new HashSet<>();
+
+    @Override
+    public void initialize() throws Exception {
+        authorizationDecisionCache = AuthorizeServiceFactory.getInstance().getAuthorizationDecisionCache();
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (clearAll || !authorizationDecisionCache.isEnabled()) {
+            return;
+        }
+        switch (event.getSubjectType()) {
+            case Constants.ITEM:
+                toEvict.add(event.getSubjectID());
+                DSpaceObject item = event.getEventType() != Event.DELETE ? event.getSubject(ctx) : null;
+                if (item != null) {
+                    for (Bundle bundle : ((Item) item).getBundles()) {
+                        addBundle(bundle);
+                    }
+                }
+                break;
+            case Constants.BUNDLE:
+            case Constants.BITSTREAM:
+                toEvict.add(event.getSubjectID());
+                if (event.getObjectID() != null) {
+                    toEvict.add(event.getObjectID());
+                }
+                break;
+            default:
+                clearAll = true;
+                toEvict.clear();
+        }
+    }
+
+    private void addBundle(Bundle bundle) {
+        toEvict.add(bundle.getID());
+        for (Bitstream bitstream : bundle.getBitstreams()) {
+            toEvict.add(bitstream.getID());
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (clearAll) {
+            authorizationDecisionCache.clear();
+        } else {
+            authorizationDecisionCache.evict(toEvict);
+        }
+        clearAll = false;
+        toEvict.clear();
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+
+    }
+}
@@ -14,7 +14,12 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -89,6 +94,8 @@ public class AuthorizeServiceImpl implements AuthorizeService {
     private SearchService searchService;
     @Autowired(required = true)
     private List<RelationshipAuthorizer> relationshipAuthorizers;
+    @Autowired(required = true)
+    protected AuthorizationDecisionCache authorizationDecisionCache;
 
 
     protected AuthorizeServiceImpl() {
@@ -222,6 +229,80 @@ public class AuthorizeServiceImpl implements AuthorizeService {
         return isAuthorized;
     }
 
+    @Override
+    public Map<UUID, Boolean> authorizeActionBoolean(Context c, List<? extends DSpaceObject> dsos, int action)
+        throws SQLException {
+        Map<UUID, Boolean> results = new HashMap<>();
+        EPerson e = c.getCurrentUser();
+
+        // the objects whose decision depends only on their policies and on the ADMIN inheritance
+        Map<UUID, DSpaceObject> toEvaluate = new LinkedHashMap<>();
+        for (DSpaceObject dso : dsos) {
+            if (dso == null || results.containsKey(dso.getID()) || toEvaluate.containsKey(dso.getID())) {
+                continue;
+            }
+            Boolean cachedResult = c.ignoreAuthorization() ? Boolean.TRUE
+                : c.getCachedAuthorizationResult(dso, action, e, true);
+            if (cachedResult != null) {
+                results.put(dso.getID(), cachedResult);
+            } else if (dso instanceof Community || dso instanceof Collection
+                || (dso instanceof Item && ((Item) dso).isArchived())) {
+                toEvaluate.put(dso.getID(), dso);
+            } else {
+                results.put(dso.getID(), authorizeActionBoolean(c, e, dso, action, true));
+            }
+        }
+        if (toEvaluate.isEmpty()) {
+            return results;
+        }
+
+        boolean admin = e != null && isAdmin(c, e);
+        Map<UUID, AuthorizationDecisionCache.Key> sharedKeys = new HashMap<>();
+        if (!admin) {
+            Iterator<DSpaceObject> iterator = toEvaluate.values().iterator();
+            while (iterator.hasNext()) {
+                DSpaceObject dso = iterator.next();
+                AuthorizationDecisionCache.Key sharedKey = authorizationDecisionCache.getKey(c, dso, action, e, true);
+                Boolean sharedResult = sharedKey != null ? authorizationDecisionCache.get(sharedKey) : null;
+                if (sharedResult != null) {
+                    c.cachePrefetchedAuthorization(dso, action, e, true, sharedResult);
+                    results.put(dso.getID(), sharedResult);
+                    iterator.remove();
+                } else if (sharedKey != null) {
+                    sharedKeys.put(dso.getID(), sharedKey);
+                }
+            }
+        }
+
+        Map<UUID, List<ResourcePolicy>> policies = new HashMap<>();
+        Set<UUID> groupIds = new HashSet<>();
+        if (!admin && !toEvaluate.isEmpty()) {
+            for (ResourcePolicy rp : resourcePolicyService.findByDsosAndAction(c,
+                new ArrayList<>(toEvaluate.keySet()), action)) {
+                policies.computeIfAbsent(rp.getdSpaceObject().getID(), id -> new ArrayList<>()).add(rp);
+            }
+            for (Group group : groupService.allMemberGroupsSet(c, e)) {
+                groupIds.add(group.getID());
+            }
+        }
+
+        for (DSpaceObject dso : toEvaluate.values()) {
+            boolean authorized = admin || policies.getOrDefault(dso.getID(), List.of()).stream()
+                .anyMatch(rp -> resourcePolicyService.isDateValid(rp)
+                    && ((rp.getEPerson() != null && rp.getEPerson().equals(e))
+                        || (rp.getGroup() != null && groupIds.contains(rp.getGroup().getID()))));
+            if (!authorized && e != null) {
+                authorized = isAdmin(c, e, serviceFactory.getDSpaceObjectService(dso).getAdminObject(c, dso, action));
+            }
+            c.cachePrefetchedAuthorization(dso, action, e, true, authorized);
+            if (sharedKeys.containsKey(dso.getID())) {
+                authorizationDecisionCache.put(sharedKeys.get(dso.getID()), authorized);
+            }
+            results.put(dso.getID(), authorized);
+        }
+        return results;
+    }
+
     /**
      * Check to see if the given user can perform the given action on the given
      * object. Always returns true if the ignore authorization flat is set in
@@ -257,6 +338,41 @@ public class AuthorizeServiceImpl implements AuthorizeService {
             return cachedResult;
         }
 
+        // If the same decision was taken by another context
+        AuthorizationDecisionCache.Key sharedKey = authorizationDecisionCache.getKey(c, o, action, e, useInheritance);
+        if (sharedKey != null) {
+            Boolean sharedResult = authorizationDecisionCache.get(sharedKey);
+            if (sharedResult != null) {
+                c.cacheAuthorizedAction(o, action, e, useInheritance, sharedResult, null);
+                return sharedResult;
+            }
+        }
+
+        boolean authorized = authorizeWithPolicies(c, o, action, e, useInheritance);
+        if (sharedKey != null) {
+            authorizationDecisionCache.put(sharedKey, authorized);
+        }
+        return authorized;
+    }
+
+    /**
+     * Check to see if the given user can perform the given action on the given object, evaluating the admin
+     * permissions and the resource policies of the object. Called by
+     * {@link #authorize(Context, DSpaceObject, int, EPerson, boolean)} when the decision is not cached.
+     *
+     * @param c              current context
+     * @param o              object action is being attempted on
+     * @param action         ID of action being attempted, from
+     *                       <code>org.dspace.core.Constants</code>
+     * @param e              user attempting action
+     * @param useInheritance flag to say if ADMIN action on the current object or parent
+     *                       object can be used
+     * @return <code>true</code> if user is authorized to perform the given
+     * action, <code>false</code> otherwise
+     * @throws SQLException if database error
+     */
+    protected boolean authorizeWithPolicies(Context c, DSpaceObject o, int action, EPerson e, boolean useInheritance)
+        throws SQLException {
         // is eperson set? if not, userToCheck = null (anonymous)
         EPerson userToCheck = null;
         if (e != null) {
@@ -27,6 +27,7 @@ import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.service.GroupService;
+import org.dspace.event.Event;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -157,8 +158,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         context.turnOffAuthorisationSystem();
         if (resourcePolicy.getdSpaceObject() != null) {
             //A policy for a DSpace Object has been modified, fire a modify event on the DSpace object
-            contentServiceFactory.getDSpaceObjectService(resourcePolicy.getdSpaceObject())
-                                 .updateLastModified(context, resourcePolicy.getdSpaceObject());
+            updateLastModified(context, resourcePolicy.getdSpaceObject());
         }
         context.restoreAuthSystemState();
     }
@@ -231,7 +231,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
     public void removeAllPolicies(Context c, DSpaceObject o) throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDso(c, o);
         c.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(o).updateLastModified(c, o);
+        updateLastModified(c, o);
         c.restoreAuthSystemState();
     }
 
@@ -239,7 +239,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
     public void removePolicies(Context c, DSpaceObject o, String type) throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDsoAndType(c, o, type);
         c.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(o).updateLastModified(c, o);
+        updateLastModified(c, o);
         c.restoreAuthSystemState();
     }
 
@@ -248,7 +248,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDsoAndTypeAndAction(c, o, type, action);
         c.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(o).updateLastModified(c, o);
+        updateLastModified(c, o);
         c.restoreAuthSystemState();
     }
 
@@ -257,7 +257,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDsoGroupPolicies(context, dso, group);
         context.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(dso).updateLastModified(context, dso);
+        updateLastModified(context, dso);
         context.restoreAuthSystemState();
     }
 
@@ -266,7 +266,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDsoEPersonPolicies(context, dso, ePerson);
         context.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(dso).updateLastModified(context, dso);
+        updateLastModified(context, dso);
         context.restoreAuthSystemState();
 
     }
@@ -288,7 +288,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         } else {
             resourcePolicyDAO.deleteByDsoAndAction(c, o, actionId);
             c.turnOffAuthorisationSystem();
-            contentServiceFactory.getDSpaceObjectService(o).updateLastModified(c, o);
+            updateLastModified(c, o);
             c.restoreAuthSystemState();
         }
     }
@@ -298,11 +298,31 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         throws SQLException, AuthorizeException {
         resourcePolicyDAO.deleteByDsoAndTypeNotEqualsTo(c, o, type);
         c.turnOffAuthorisationSystem();
-        contentServiceFactory.getDSpaceObjectService(o).updateLastModified(c, o);
+        updateLastModified(c, o);
         c.restoreAuthSystemState();
     }
 
 
+    /**
+     * A policy for a DSpace Object has been modified, fire a modify event on the DSpace object. The bundles, the
+     * groups, the epeople and the site don't keep a last modified date, so their modify event is fired here, for
+     * the consumers relying on it (e.g. the authorization decision cache).
+     */
+    private void updateLastModified(Context context, DSpaceObject dso) throws SQLException, AuthorizeException {
+        contentServiceFactory.getDSpaceObjectService(dso).updateLastModified(context, dso);
+        switch (dso.getType()) {
+            case Constants.BUNDLE:
+            case Constants.GROUP:
+            case Constants.EPERSON:
+            case Constants.SITE:
+                context.addEvent(new Event(Event.MODIFY, dso.getType(), dso.getID(), null,
+                    contentServiceFactory.getDSpaceObjectService(dso).getIdentifiers(context, dso)));
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * Update the ResourcePolicy
      *
@@ -337,7 +357,7 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
             context.turnOffAuthorisationSystem();
             for (DSpaceObject dSpaceObject : relatedDSpaceObjects) {
                 //A policy for a DSpace Object has been modified, fire a modify event on the DSpace object
-                contentServiceFactory.getDSpaceObjectService(dSpaceObject).updateLastModified(context, dSpaceObject);
+                updateLastModified(context, dSpaceObject);
             }
             context.restoreAuthSystemState();
         }
@@ -435,4 +455,9 @@ public class ResourcePolicyServiceImpl implements ResourcePolicyService {
         throws SQLException {
         return resourcePolicyDAO.findValidPolicyOwners(c, dsoIds, actionID);
     }
+
+    @Override
+    public List<ResourcePolicy> findByDsosAndAction(Context c, List<UUID> dsoIds, int actionID) throws SQLException {
+        return resourcePolicyDAO.findByDsosAndAction(c, dsoIds, actionID);
+    }
 }
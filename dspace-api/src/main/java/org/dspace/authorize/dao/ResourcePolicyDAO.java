@@ -258,4 +258,15 @@ public interface ResourcePolicyDAO extends GenericDAO<ResourcePolicy> {
      */
     List<ResourcePolicyOwnerVO> findValidPolicyOwners(Context c, List<UUID> dsoIds, int actionID) throws SQLException;
 
+    /**
+     * Return the policies of a list of objects that match the action.
+     *
+     * @param  c            context
+     * @param  dsoIds       DSpaceObject ids policies relate to
+     * @param  actionID     action (defined in class Constants)
+     * @return              list of resource policies
+     * @throws SQLException if there's a database problem
+     */
+    List<ResourcePolicy> findByDsosAndAction(Context c, List<UUID> dsoIds, int actionID) throws SQLException;
+
 }
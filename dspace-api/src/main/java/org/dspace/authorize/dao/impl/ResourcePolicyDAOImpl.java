@@ -450,4 +450,19 @@ public class ResourcePolicyDAOImpl extends AbstractHibernateDAO<ResourcePolicy>
         return query.getResultList();
 
     }
+
+    @Override
+    public List<ResourcePolicy> findByDsosAndAction(Context context, List<UUID> dsoIds, int actionID)
+        throws SQLException {
+
+        if (CollectionUtils.isEmpty(dsoIds)) {
+            return emptyList();
+        }
+
+        Query query = createQuery(context, "SELECT policy FROM ResourcePolicy policy "
+            + "WHERE policy.dSpaceObject.id in (:dsoIds) AND policy.actionId = :actionId");
+        query.setParameter("dsoIds", dsoIds);
+        query.setParameter("actionId", actionID);
+        return query.getResultList();
+    }
 }
@@ -7,6 +7,7 @@
  */
 package org.dspace.authorize.factory;
 
+import org.dspace.authorize.AuthorizationDecisionCache;
 import org.dspace.authorize.service.AuthorizeService;
 import org.dspace.authorize.service.ResourcePolicyService;
 import org.dspace.submit.model.UploadConfigurationService;
@@ -26,6 +27,8 @@ public class AuthorizeServiceFactoryImpl extends AuthorizeServiceFactory {
     private ResourcePolicyService resourcePolicyService;
     @Autowired(required = true)
     private UploadConfigurationService uploadConfigurationService;
+    @Autowired(required = true)
+    private AuthorizationDecisionCache authorizationDecisionCache;
 
     @Override
     public AuthorizeService getAuthorizeService() {
@@ -41,4 +44,9 @@ public class AuthorizeServiceFactoryImpl extends AuthorizeServiceFactory {
     public UploadConfigurationService getUploadConfigurationService() {
         return uploadConfigurationService;
     }
+
+    @Override
+    public AuthorizationDecisionCache getAuthorizationDecisionCache() {
+        return authorizationDecisionCache;
+    }
 }
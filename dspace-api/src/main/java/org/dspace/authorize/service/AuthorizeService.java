@@ -10,6 +10,7 @@ package org.dspace.authorize.service;
 import java.sql.SQLException;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.dspace.authorize.AuthorizeException;
@@ -156,6 +157,22 @@ public interface AuthorizeService {
     public boolean authorizeActionBoolean(Context c, EPerson e, DSpaceObject o, int a, boolean useInheritance)
         throws SQLException;
 
+    /**
+     * Bulk version of {@link #authorizeActionBoolean(Context, DSpaceObject, int)}, meant for the pages of objects
+     * about to be displayed: the policies of all the objects are read with a single query and the groups of the
+     * current user are resolved once. The decisions are cached in the context, so that the following checks of the
+     * same objects, with inheritance, don't query the database again.
+     *
+     * @param c    DSpace context, containing current user
+     * @param dsos the objects
+     * @param a    action being attempted, from
+     *             <code>org.dspace.core.Constants</code>
+     * @return the decision for each object, by id
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    public Map<UUID, Boolean> authorizeActionBoolean(Context c, List<? extends DSpaceObject> dsos, int a)
+        throws SQLException;
+
     ///////////////////////////////////////////////
     // admin check methods
     ///////////////////////////////////////////////
@@ -8,11 +8,25 @@
 package org.dspace.checker;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.logging.log4j.Logger;
 import org.dspace.checker.factory.CheckerServiceFactory;
 import org.dspace.checker.service.ChecksumHistoryService;
@@ -20,6 +34,9 @@ import org.dspace.checker.service.ChecksumResultService;
 import org.dspace.checker.service.MostRecentChecksumService;
 import org.dspace.content.Bitstream;
 import org.dspace.core.Context;
+import org.dspace.core.Utils;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
 import org.dspace.storage.bitstore.factory.StorageServiceFactory;
 import org.dspace.storage.bitstore.service.BitstreamStorageService;
 
@@ -44,6 +61,16 @@ public final class CheckerCommand {
      */
     private static final Logger LOG = org.apache.logging.log4j.LogManager.getLogger(CheckerCommand.class);
 
+    /**
+     * Size of the buffer used to read the bitstreams in concurrent mode.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Key of the checksum maps of the bitstreams verified with the metadata of their store.
+     */
+    private static final String STORE_METADATA = "store_metadata";
+
     private Context context;
 
     /**
@@ -78,6 +105,43 @@ public final class CheckerCommand {
      */
     private boolean reportVerbose = false;
 
+    /**
+     * Number of bitstreams checked at the same time, 1 to check them one at a time in the current thread.
+     */
+    private int threads = 1;
+
+    /**
+     * Maximum number of bitstreams read at the same time from the stores backed by the local file system, in
+     * concurrent mode.
+     */
+    private int fileStoreConcurrency;
+
+    /**
+     * Maximum number of bitstreams read at the same time from the other stores (e.g. S3), in concurrent mode.
+     */
+    private int remoteStoreConcurrency;
+
+    /**
+     * Maximum number of bytes per second read from all the stores in concurrent mode, 0 for no limit.
+     */
+    private long bytesPerSecond;
+
+    /**
+     * Number of results recorded in each transaction in concurrent mode.
+     */
+    private int commitBatchSize;
+
+    /**
+     * Whether the bitstreams of the stores not backed by the local file system are verified with the size and
+     * checksum recorded by the store, without reading them.
+     */
+    private boolean storeMetadataVerification = false;
+
+    /**
+     * Fraction of the bitstreams read anyway, chosen at random, when verifying with the metadata of the store.
+     */
+    private double storeMetadataSampleRate;
+
     /**
      * Default constructor uses DSpace plugin manager to construct dependencies.
      *
@@ -89,6 +153,13 @@ public final class CheckerCommand {
         bitstreamStorageService = StorageServiceFactory.getInstance().getBitstreamStorageService();
         checksumResultService = CheckerServiceFactory.getInstance().getChecksumResultService();
         this.context = context;
+
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        fileStoreConcurrency = configurationService.getIntProperty("checker.concurrency.file-store", 2);
+        remoteStoreConcurrency = configurationService.getIntProperty("checker.concurrency.remote-store", 8);
+        bytesPerSecond = configurationService.getLongProperty("checker.throttle.bytes-per-second", 0);
+        commitBatchSize = configurationService.getIntProperty("checker.commit-batch-size", 100);
+        storeMetadataSampleRate = configurationService.getPropertyAsType("checker.store-metadata.sample-rate", 0.01);
     }
 
     /**
@@ -120,22 +191,200 @@ public final class CheckerCommand {
         // bitstream table - this always done.
         checksumService.updateMissingBitstreams(context);
 
+        if (threads > 1) {
+            processConcurrently();
+            return;
+        }
+
         Bitstream bitstream = dispatcher.next();
 
         while (bitstream != null) {
             LOG.debug("Processing bitstream id = " + bitstream.getID());
-            MostRecentChecksum info = checkBitstream(bitstream);
-
-            if (reportVerbose
-                || !ChecksumResultCode.CHECKSUM_MATCH.equals(info.getChecksumResult().getResultCode())) {
-                collector.collect(context, info);
-            }
+            collect(checkBitstream(bitstream));
 
             context.uncacheEntity(bitstream);
             bitstream = dispatcher.next();
         }
     }
 
+    /**
+     * Check the bitstreams of the dispatcher with a pool of workers. The bitstreams are read and hashed by the
+     * workers, within the limits of concurrency of their store and of the global throughput limit, while the
+     * dispatcher and the database are accessed only by the current thread, where the results are recorded and
+     * committed in batches.
+     * <p>
+     * The bitstreams being checked are marked as just processed, so that the dispatchers based on the oldest
+     * records move on to the next ones. When the dispatcher ends, for instance because its duration has elapsed,
+     * the checks already started are completed.
+     *
+     * @throws SQLException if database error
+     */
+    protected void processConcurrently() throws SQLException {
+        Semaphore fileStoreLimit = new Semaphore(fileStoreConcurrency);
+        Semaphore remoteStoreLimit = new Semaphore(remoteStoreConcurrency);
+        RateLimiter rateLimiter = bytesPerSecond > 0 ? RateLimiter.create(bytesPerSecond) : null;
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+            new BasicThreadFactory.Builder().namingPattern("checker-%d").daemon(true).build());
+
+        Deque<PendingChecksum> pending = new ArrayDeque<>();
+        int uncommitted = 0;
+        try {
+            Bitstream bitstream = dispatcher.next();
+            while (bitstream != null) {
+                LOG.debug("Processing bitstream id = " + bitstream.getID());
+                MostRecentChecksum info = checksumService.findByBitstream(context, bitstream);
+                if (info == null || !info.isToBeProcessed() || info.getBitstream().isDeleted()) {
+                    collect(checkBitstream(bitstream));
+                    context.uncacheEntity(bitstream);
+                } else {
+                    Date startDate = new Date();
+                    info.setProcessStartDate(startDate);
+                    info.setProcessEndDate(startDate);
+                    Bitstream toCheck = info.getBitstream();
+                    String expectedChecksum = info.getExpectedChecksum();
+                    Future<Map<String, Object>> checksum = executor.submit(
+                        () -> computeChecksum(toCheck, expectedChecksum, fileStoreLimit, remoteStoreLimit,
+                                              rateLimiter));
+                    pending.add(new PendingChecksum(toCheck, startDate, checksum));
+                }
+
+                // record the completed checks, waiting for the oldest when too many are queued
+                while (!pending.isEmpty() && (pending.size() > threads * 2 || pending.peek().checksum.isDone())) {
+                    recordPendingChecksum(pending.poll());
+                    uncommitted++;
+                }
+                if (uncommitted >= commitBatchSize) {
+                    context.commit();
+                    uncommitted = 0;
+                }
+                bitstream = dispatcher.next();
+            }
+
+            while (!pending.isEmpty()) {
+                recordPendingChecksum(pending.poll());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compute the checksum of a bitstream, reading it within the limits of concurrency of its store and of the
+     * global throughput limit, unless it is verified with the metadata of its store. Called by the workers of the
+     * concurrent mode.
+     */
+    private Map<String, Object> computeChecksum(Bitstream bitstream, String expectedChecksum,
+                                                Semaphore fileStoreLimit, Semaphore remoteStoreLimit,
+                                                RateLimiter rateLimiter)
+        throws IOException, SQLException, InterruptedException, NoSuchAlgorithmException {
+        String algorithm = StringUtils.defaultIfBlank(bitstream.getChecksumAlgorithm(), "MD5");
+        MessageDigest digest = MessageDigest.getInstance(algorithm);
+        Semaphore storeLimit = bitstreamStorageService.isFileBacked(bitstream) ? fileStoreLimit : remoteStoreLimit;
+
+        storeLimit.acquire();
+        try {
+            Map<String, Object> verified = verifyWithStoreMetadata(bitstream, expectedChecksum);
+            if (verified != null) {
+                return verified;
+            }
+            readDigest(bitstream, digest, rateLimiter);
+        } finally {
+            storeLimit.release();
+        }
+        return Map.of("checksum", Utils.toHex(digest.digest()), "checksum_algorithm", algorithm);
+    }
+
+    private void readDigest(Bitstream bitstream, MessageDigest digest, RateLimiter rateLimiter)
+        throws IOException, SQLException {
+        try (InputStream in = bitstreamStorageService.retrieve(context, bitstream)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (read > 0) {
+                    if (rateLimiter != null) {
+                        rateLimiter.acquire(read);
+                    }
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    /**
+     * Verify a bitstream of a store not backed by the local file system with the size and the checksum recorded
+     * by the store, without reading its content. The bitstream has to be read when the verification is not
+     * enabled, when the store doesn't record a checksum of the content, when its metadata disagree with the
+     * expected ones or when it is part of the random sample of the bitstreams read anyway.
+     *
+     * @param bitstream        the bitstream
+     * @param expectedChecksum the expected checksum of the bitstream
+     * @return the checksum and its algorithm if the bitstream is verified, null if it has to be read
+     */
+    protected Map<String, Object> verifyWithStoreMetadata(Bitstream bitstream, String expectedChecksum) {
+        if (!storeMetadataVerification || StringUtils.isBlank(expectedChecksum)
+            || ThreadLocalRandom.current().nextDouble() < storeMetadataSampleRate) {
+            return null;
+        }
+        Map<String, Object> metadata;
+        try {
+            if (bitstreamStorageService.isFileBacked(bitstream)) {
+                return null;
+            }
+            metadata = bitstreamStorageService.getStoredChecksum(context, bitstream);
+        } catch (IOException e) {
+            LOG.warn("Unable to obtain the store metadata of bitstream ID " + bitstream.getID()
+                         + ", reading it", e);
+            return null;
+        }
+        if (MapUtils.isEmpty(metadata) || !metadata.containsKey("stored_checksum")) {
+            return null;
+        }
+
+        String algorithm = StringUtils.defaultIfBlank(bitstream.getChecksumAlgorithm(), "MD5");
+        String storedChecksum = metadata.get("stored_checksum").toString();
+        if (!algorithm.equalsIgnoreCase(String.valueOf(metadata.get("checksum_algorithm")))
+            || !String.valueOf(bitstream.getSizeBytes()).equals(String.valueOf(metadata.get("size_bytes")))
+            || !storedChecksum.equalsIgnoreCase(expectedChecksum)) {
+            LOG.info("The store metadata of bitstream ID " + bitstream.getID()
+                         + " don't match the expected ones, reading it");
+            return null;
+        }
+        return Map.of("checksum", expectedChecksum, "checksum_algorithm", algorithm, STORE_METADATA, true);
+    }
+
+    /**
+     * Wait for the check of a bitstream submitted to the workers and record its result.
+     */
+    private void recordPendingChecksum(PendingChecksum pendingChecksum) throws SQLException {
+        Map<String, Object> checksumMap = null;
+        Exception error = null;
+        try {
+            checksumMap = pendingChecksum.checksum.get();
+        } catch (ExecutionException e) {
+            error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking bitstream ID "
+                                                + pendingChecksum.bitstream.getID(), e);
+        }
+
+        // the context may have been committed in the meantime
+        Bitstream bitstream = context.reloadEntity(pendingChecksum.bitstream);
+        MostRecentChecksum info = checksumService.findByBitstream(context, bitstream);
+        info.setProcessStartDate(pendingChecksum.startDate);
+        recordChecksum(info, checksumMap, error);
+        collect(info);
+        context.uncacheEntity(bitstream);
+    }
+
+    private void collect(MostRecentChecksum info) throws SQLException {
+        ChecksumResultCode resultCode = info.getChecksumResult().getResultCode();
+        if (reportVerbose || (!ChecksumResultCode.CHECKSUM_MATCH.equals(resultCode)
+            && !ChecksumResultCode.CHECKSUM_MATCH_STORE_METADATA.equals(resultCode))) {
+            collector.collect(context, info);
+        }
+    }
+
     /**
      * Check a specified bitstream.
      *
@@ -244,9 +493,44 @@ public final class CheckerCommand {
     protected void processBitstream(MostRecentChecksum info) throws SQLException {
         info.setProcessStartDate(new Date());
 
+        Map<String, Object> checksumMap = null;
+        Exception error = null;
         try {
-            Map<String, Object> checksumMap = bitstreamStorageService.computeChecksum(context, info.getBitstream());
-            if (MapUtils.isNotEmpty(checksumMap)) {
+            checksumMap = verifyWithStoreMetadata(info.getBitstream(), info.getExpectedChecksum());
+            if (checksumMap == null) {
+                checksumMap = bitstreamStorageService.computeChecksum(context, info.getBitstream());
+            }
+        } catch (IOException e) {
+            error = e;
+        }
+        recordChecksum(info, checksumMap, error);
+    }
+
+    /**
+     * Record the result of the check of a bitstream, comparing the computed checksum to the expected one.
+     *
+     * @param info        BitstreamInfo to update
+     * @param checksumMap the checksum and its algorithm, as returned by the store
+     * @param error       the error occurred computing the checksum, null if the checksum was computed
+     * @throws SQLException if database error
+     */
+    protected void recordChecksum(MostRecentChecksum info, Map<String, Object> checksumMap, Exception error)
+        throws SQLException {
+        try {
+            if (error instanceof IOException) {
+                // bitstream located, but file missing from asset store
+                info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.BITSTREAM_NOT_FOUND));
+                info.setToBeProcessed(false);
+                LOG.error("Error retrieving bitstream ID " + info.getBitstream().getID()
+                              + " from " + "asset store.", error);
+            } else if (error instanceof NoSuchAlgorithmException) {
+                info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.CHECKSUM_ALGORITHM_INVALID));
+                LOG.error("Invalid checksum algorithm for bitstream ID " + info.getBitstream().getID(), error);
+            } else if (error != null) {
+                info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.BITSTREAM_INFO_NOT_FOUND));
+                LOG.error("Error retrieving metadata for bitstream ID "
+                              + info.getBitstream().getID(), error);
+            } else if (MapUtils.isNotEmpty(checksumMap)) {
                 info.setBitstreamFound(true);
                 if (checksumMap.containsKey("checksum")) {
                     info.setCurrentChecksum(checksumMap.get("checksum").toString());
@@ -258,6 +542,11 @@ public final class CheckerCommand {
 
                 // compare new checksum to previous checksum
                 info.setChecksumResult(compareChecksums(info.getExpectedChecksum(), info.getCurrentChecksum()));
+                if (checksumMap.containsKey(STORE_METADATA)
+                    && ChecksumResultCode.CHECKSUM_MATCH.equals(info.getChecksumResult().getResultCode())) {
+                    info.setChecksumResult(
+                        getChecksumResultByCode(ChecksumResultCode.CHECKSUM_MATCH_STORE_METADATA));
+                }
 
             } else {
                 info.setCurrentChecksum("");
@@ -265,12 +554,6 @@ public final class CheckerCommand {
                 info.setToBeProcessed(false);
             }
 
-        } catch (IOException e) {
-            // bitstream located, but file missing from asset store
-            info.setChecksumResult(getChecksumResultByCode(ChecksumResultCode.BITSTREAM_NOT_FOUND));
-            info.setToBeProcessed(false);
-            LOG.error("Error retrieving bitstream ID " + info.getBitstream().getID()
-                          + " from " + "asset store.", e);
         } catch (SQLException e) {
             // ??this code only executes if an SQL
             // exception occurs in *DSpace* code, probably
@@ -362,4 +645,70 @@ public final class CheckerCommand {
     public void setReportVerbose(boolean reportVerbose) {
         this.reportVerbose = reportVerbose;
     }
+
+    /**
+     * Get the number of bitstreams checked at the same time.
+     *
+     * @return the number of workers, 1 when the bitstreams are checked one at a time
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of bitstreams checked at the same time by a pool of workers.
+     *
+     * @param threads the number of workers, 1 to check the bitstreams one at a time in the current thread
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Set whether the bitstreams of the stores not backed by the local file system, such as S3, are verified with
+     * the size and the checksum recorded by the store, reading only a random sample of them and the ones whose
+     * metadata disagree. The bitstreams verified this way are recorded with the CHECKSUM_MATCH_STORE_METADATA
+     * result.
+     *
+     * @param storeMetadataVerification true to verify the bitstreams with the metadata of their store
+     */
+    public void setStoreMetadataVerification(boolean storeMetadataVerification) {
+        this.storeMetadataVerification = storeMetadataVerification;
+    }
+
+    /**
+     * Set the fraction of the bitstreams read anyway when verifying with the metadata of their store.
+     *
+     * @param storeMetadataSampleRate the fraction, between 0 (none) and 1 (all)
+     */
+    public void setStoreMetadataSampleRate(double storeMetadataSampleRate) {
+        this.storeMetadataSampleRate = storeMetadataSampleRate;
+    }
+
+    /**
+     * Set the number of results recorded in each transaction in concurrent mode.
+     *
+     * @param commitBatchSize the number of results
+     */
+    public void setCommitBatchSize(int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
+    /**
+     * The check of a bitstream submitted to the workers.
+     */
+    private static final class PendingChecksum {
+
+        private final Bitstream bitstream;
+
+        private final Date startDate;
+
+        private final Future<Map<String, Object>> checksum;
+
+        private PendingChecksum(Bitstream bitstream, Date startDate, Future<Map<String, Object>> checksum) {
+            this.bitstream = bitstream;
+            this.startDate = startDate;
+            this.checksum = checksum;
+        }
+    }
 }
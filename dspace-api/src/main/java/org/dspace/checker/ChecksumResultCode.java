@@ -22,6 +22,7 @@ public enum ChecksumResultCode {
     BITSTREAM_NOT_PROCESSED,
     BITSTREAM_MARKED_DELETED,
     CHECKSUM_MATCH,
+    CHECKSUM_MATCH_STORE_METADATA,
     CHECKSUM_NO_MATCH,
     CHECKSUM_PREV_NOT_FOUND,
     CHECKSUM_ALGORITHM_INVALID
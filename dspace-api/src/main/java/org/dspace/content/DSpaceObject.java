@@ -58,6 +58,12 @@ public abstract class DSpaceObject implements Serializable, ReloadableEntity<jav
     @OrderBy("metadataField, place")
     private List<MetadataValue> metadata = new ArrayList<>();
 
+    /**
+     * Lookup structure of the metadata values by field, lazily built and discarded when the metadata change
+     */
+    @Transient
+    private MetadataValueIndex metadataIndex;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "dso")
     // OrderBy is here to ensure that the oldest handle is retrieved first.
     // Multiple handles are assigned to the latest version of an item.
@@ -176,25 +182,43 @@ public abstract class DSpaceObject implements Serializable, ReloadableEntity<jav
 
     public void setMetadata(List<MetadataValue> metadata) {
         this.metadata = metadata;
+        this.metadataIndex = null;
     }
 
     protected void removeMetadata(MetadataValue metadataValue) {
         setMetadataModified();
         getMetadata().remove(metadataValue);
+        metadataIndex = null;
     }
 
     protected void removeMetadata(List<MetadataValue> metadataValues) {
         setMetadataModified();
         getMetadata().removeAll(metadataValues);
+        metadataIndex = null;
     }
 
 
     protected void addMetadata(MetadataValue metadataValue) {
         setMetadataModified();
         getMetadata().add(metadataValue);
+        metadataIndex = null;
         addDetails(metadataValue.getMetadataField().toString());
     }
 
+    /**
+     * Return the lookup structure of the metadata values of this object by field, building it if it does not
+     * exist yet or if the metadata changed since it was built.
+     *
+     * @return the index of the metadata values
+     */
+    MetadataValueIndex getMetadataIndex() {
+        List<MetadataValue> metadataValues = getMetadata();
+        if (metadataIndex == null || !metadataIndex.isIndexOf(metadataValues)) {
+            metadataIndex = new MetadataValueIndex(metadataValues);
+        }
+        return metadataIndex;
+    }
+
     public List<ResourcePolicy> getResourcePolicies() {
         return resourcePolicies;
     }
@@ -205,6 +229,7 @@ public abstract class DSpaceObject implements Serializable, ReloadableEntity<jav
 
     protected void setMetadataModified() {
         this.modifiedMetadata = true;
+        this.metadataIndex = null;
     }
 
     public boolean isModified() {
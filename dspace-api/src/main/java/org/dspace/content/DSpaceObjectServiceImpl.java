@@ -124,11 +124,17 @@ public abstract class DSpaceObjectServiceImpl<T extends DSpaceObject> implements
 
     @Override
     public List<MetadataValue> getMetadata(T dso, String schema, String element, String qualifier, String lang) {
-        // Build up list of matching values
-        List<MetadataValue> values = new ArrayList<>();
-        for (MetadataValue dcv : dso.getMetadata()) {
-            if (match(schema, element, qualifier, dcv)) {
-                values.add(dcv);
+        // Build up list of matching values, using the index of the metadata by field when possible
+        List<MetadataValue> values;
+        List<MetadataValue> indexedValues = dso.getMetadataIndex().getValues(schema, element, qualifier);
+        if (indexedValues != null) {
+            values = new ArrayList<>(indexedValues);
+        } else {
+            values = new ArrayList<>();
+            for (MetadataValue dcv : dso.getMetadata()) {
+                if (match(schema, element, qualifier, dcv)) {
+                    values.add(dcv);
+                }
             }
         }
 
@@ -174,6 +174,9 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
     @Autowired(required = true)
     private RelationshipMetadataService relationshipMetadataService;
 
+    @Autowired(required = true)
+    private VirtualMetadataCache virtualMetadataCache;
+
     @Autowired(required = true)
     private EntityTypeService entityTypeService;
 
@@ -480,6 +483,11 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         return itemDAO.findAllRegularItems(context);
     }
 
+    @Override
+    public Iterator<Item> findAllRegularItems(Context context, UUID lower, UUID upper) throws SQLException {
+        return itemDAO.findAllRegularItems(context, lower, upper);
+    }
+
     @Override
     public Iterator<Item> findBySubmitter(Context context, EPerson eperson) throws SQLException {
         return itemDAO.findBySubmitter(context, eperson);
@@ -819,6 +827,7 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         log.info(LogHelper.getHeader(context, "update_item", "item_id="
             + item.getID()));
 
+        virtualMetadataCache.change(item.getID());
         super.update(context, item);
 
         // Set sequence IDs for bitstreams in Item. To guarantee uniqueness,
@@ -1013,6 +1022,8 @@ public class ItemServiceImpl extends DSpaceObjectServiceImpl<Item> implements It
         log.info(LogHelper.getHeader(context, "delete_item", "item_id="
             + item.getID()));
 
+        virtualMetadataCache.change(item.getID());
+
         //remove subscription related with it
         subscribeService.deleteByDspaceObject(context, item);
         crisMetricsService.deleteByResourceID(context, item);
@@ -1950,6 +1961,11 @@ prevent the generation of resource policy entry values with null dspace_object a
                 ids.stream().map(uuid -> UUID.fromString(uuid)).distinct().collect(Collectors.toList()));
     }
 
+    @Override
+    public List<Item> findAllByIds(Context context, List<UUID> ids) throws SQLException {
+        return itemDAO.findByIDs(context, Item.class, ids.stream().distinct().collect(Collectors.toList()));
+    }
+
     @Override
     public int countItems(Context context, Collection collection) throws SQLException {
         return itemDAO.countItems(context, collection, true, false, true);
@@ -2117,10 +2133,16 @@ prevent the generation of resource policy entry values with null dspace_object a
 
         log.debug("Called getMetadata for " + item.getID() + " based on cache");
         // Build up list of matching values based on the cache
-        List<MetadataValue> values = new ArrayList<>();
-        for (MetadataValue dcv : item.getCachedMetadata()) {
-            if (match(schema, element, qualifier, dcv)) {
-                values.add(dcv);
+        List<MetadataValue> values;
+        List<MetadataValue> indexedValues = item.getCachedMetadataIndex().getValues(schema, element, qualifier);
+        if (indexedValues != null) {
+            values = new ArrayList<>(indexedValues);
+        } else {
+            values = new ArrayList<>();
+            for (MetadataValue dcv : item.getCachedMetadata()) {
+                if (match(schema, element, qualifier, dcv)) {
+                    values.add(dcv);
+                }
             }
         }
 
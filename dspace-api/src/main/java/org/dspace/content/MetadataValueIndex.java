@@ -0,0 +1,106 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Lookup structure of a list of metadata values by metadata field, used to retrieve the values of a field without
+ * scanning all the values of a {@link DSpaceObject}. The values of each field keep the order they have in the
+ * indexed list.
+ * <p>
+ * The index is built from the current content of the list, so it must be discarded as soon as the list changes:
+ * {@link #isIndexOf(List)} detects a replaced list or a list whose size changed, all the other changes have to be
+ * notified by the owning object.
+ */
+final class MetadataValueIndex {
+
+    private final List<MetadataValue> source;
+
+    private final int size;
+
+    /**
+     * The values by full field name, e.g. dc.contributor.author or dc.title
+     */
+    private final Map<String, List<MetadataValue>> valuesByField = new HashMap<>();
+
+    /**
+     * The values by schema and element, whatever their qualifier, e.g. dc.contributor
+     */
+    private final Map<String, List<MetadataValue>> valuesByElement = new HashMap<>();
+
+    /**
+     * False if some value has no schema, as these values match any schema and can't be indexed
+     */
+    private boolean complete = true;
+
+    MetadataValueIndex(List<MetadataValue> source) {
+        this.source = source;
+        this.size = source.size();
+        for (MetadataValue metadataValue : source) {
+            MetadataField metadataField = metadataValue.getMetadataField();
+            MetadataSchema metadataSchema = metadataField != null ? metadataField.getMetadataSchema() : null;
+            if (metadataSchema == null) {
+                complete = false;
+                valuesByField.clear();
+                valuesByElement.clear();
+                return;
+            }
+            String schema = metadataSchema.getName();
+            String element = metadataField.getElement();
+            valuesByField.computeIfAbsent(key(schema, element, metadataField.getQualifier()),
+                k -> new ArrayList<>()).add(metadataValue);
+            valuesByElement.computeIfAbsent(key(schema, element, null), k -> new ArrayList<>()).add(metadataValue);
+        }
+    }
+
+    /**
+     * Check whether this index was built from the given list and is still usable.
+     *
+     * @param metadataValues the list of metadata values
+     * @return true if the index was built from the given list and its size did not change since then
+     */
+    boolean isIndexOf(List<MetadataValue> metadataValues) {
+        return source == metadataValues && size == metadataValues.size();
+    }
+
+    /**
+     * Return the values matching the given field, with the same semantic of
+     * {@link DSpaceObjectServiceImpl#match(String, String, String, MetadataValue)}.
+     *
+     * @param schema    the schema name
+     * @param element   the element
+     * @param qualifier the qualifier, <code>Item.ANY</code> for any qualifier or a blank value for the unqualified
+     *                  field
+     * @return the matching values, not to be modified, or null if the lookup can't be answered by the index (a
+     *         wildcard schema or element)
+     */
+    List<MetadataValue> getValues(String schema, String element, String qualifier) {
+        if (!complete || schema == null || element == null || Item.ANY.equals(schema) || Item.ANY.equals(element)) {
+            return null;
+        }
+        List<MetadataValue> values;
+        if (Item.ANY.equals(qualifier)) {
+            values = valuesByElement.get(key(schema, element, null));
+        } else if (StringUtils.isBlank(qualifier)) {
+            values = valuesByField.get(key(schema, element, null));
+        } else {
+            values = valuesByField.get(key(schema, element, qualifier));
+        }
+        return values != null ? values : List.of();
+    }
+
+    private static String key(String schema, String element, String qualifier) {
+        return qualifier == null ? schema + "." + element : schema + "." + element + "." + qualifier;
+    }
+}
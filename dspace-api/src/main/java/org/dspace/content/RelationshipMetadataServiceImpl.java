@@ -12,10 +12,13 @@ import static org.dspace.content.RelationshipType.Tilted.RIGHT;
 
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -53,11 +56,25 @@ public class RelationshipMetadataServiceImpl implements RelationshipMetadataServ
     @Autowired(required = true)
     protected MetadataFieldService metadataFieldService;
 
+    @Autowired(required = true)
+    protected VirtualMetadataCache virtualMetadataCache;
+
     @Override
     public List<RelationshipMetadataValue> getRelationshipMetadata(Item item, boolean enableVirtualMetadata) {
         Context context = new Context();
         List<RelationshipMetadataValue> fullMetadataValueList = new LinkedList<>();
+        // the virtual metadata of the items not saved yet are not cached
+        boolean useCache = enableVirtualMetadata && item.getID() != null && virtualMetadataCache.isEnabled();
         try {
+            long generation = 0;
+            if (useCache) {
+                List<RelationshipMetadataValue> cachedValues = virtualMetadataCache.get(context, item);
+                if (cachedValues != null) {
+                    return cachedValues;
+                }
+                generation = virtualMetadataCache.getGeneration();
+            }
+            Set<UUID> relatedItemIds = new HashSet<>();
             EntityType entityType = itemService.getEntityType(context, item);
             if (entityType != null) {
                 // NOTE: The following code will add metadata fields of type relation.*.latestForDiscovery
@@ -78,9 +95,15 @@ public class RelationshipMetadataServiceImpl implements RelationshipMetadataServ
                     fullMetadataValueList
                         .addAll(findRelationshipMetadataValueForItemRelationship(context, item, entityType.getLabel(),
                                 relationship, enableVirtualMetadata));
+                    relatedItemIds.add(relationship.getLeftItem().getID());
+                    relatedItemIds.add(relationship.getRightItem().getID());
                 }
+                relatedItemIds.remove(item.getID());
 
             }
+            if (useCache) {
+                virtualMetadataCache.put(item, fullMetadataValueList, relatedItemIds, generation);
+            }
         } catch (SQLException e) {
             log.error("Lookup for Relationships for item with uuid: " + item.getID() + " caused DSpace to crash", e);
         }
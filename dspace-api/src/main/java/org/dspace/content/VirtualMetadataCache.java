@@ -0,0 +1,394 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.content.service.MetadataFieldService;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Application wide cache of the virtual metadata computed by the {@link RelationshipMetadataServiceImpl} from the
+ * relationships of the items. Unlike the metadata cached by each {@link Item} instance, which are lost with the
+ * instance, the virtual metadata stored here are reused by all the following requests, until they expire or until
+ * the item or one of the related items they were computed from is changed.
+ * <p>
+ * The changes are applied in two steps: when an item is updated, its virtual metadata and the ones computed from
+ * it are discarded, and no virtual metadata depending on it are stored until the change is committed, so that the
+ * uncommitted values read by the transaction making the change are never shared. Once committed, the
+ * {@link VirtualMetadataCacheConsumer} discards them again, together with the ones computed in the meantime by the
+ * other transactions. The virtual metadata read through more than one relationship (see
+ * {@link org.dspace.content.virtual.Related}) are only refreshed when they expire.
+ * <p>
+ * The cache is disabled by default and is configured with the following properties:
+ * <ul>
+ * <li><code>relationship.virtual-metadata.cache.enabled</code>: whether the cache is used</li>
+ * <li><code>relationship.virtual-metadata.cache.max-size</code>: the maximum number of items, the least recently
+ * used ones are discarded first</li>
+ * <li><code>relationship.virtual-metadata.cache.ttl</code>: the seconds after which the virtual metadata of an item
+ * expire</li>
+ * </ul>
+ */
+public class VirtualMetadataCache {
+
+    private static final Logger log = LogManager.getLogger();
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    public static final long DEFAULT_TTL = 600;
+
+    @Autowired(required = true)
+    private ConfigurationService configurationService;
+
+    @Autowired(required = true)
+    private MetadataFieldService metadataFieldService;
+
+    private final Map<UUID, CachedItem> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedItem> eldest) {
+            return size() > getMaxSize();
+        }
+    };
+
+    /**
+     * The items whose virtual metadata are cached, by the related items they were computed from.
+     */
+    private final Map<UUID, Set<UUID>> dependents = new HashMap<>();
+
+    /**
+     * The items changed by transactions not committed yet, with the time after which the mark is ignored, needed
+     * for the transactions which are rolled back.
+     */
+    private final Map<UUID, Long> uncommitted = new HashMap<>();
+
+    /**
+     * Incremented on each change, the virtual metadata computed from data read before a change are not stored.
+     */
+    private long generation = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @return whether the shared cache of the virtual metadata is enabled
+     */
+    public boolean isEnabled() {
+        return configurationService.getBooleanProperty("relationship.virtual-metadata.cache.enabled", false);
+    }
+
+    /**
+     * @return the current generation of the cache, to be passed to {@link #put} with the virtual metadata computed
+     *         from the data read afterwards
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Get the cached virtual metadata of an item. A new copy of the values, bound to the given item, is returned
+     * for each call.
+     *
+     * @param context the DSpace context, used to resolve the metadata fields
+     * @param item    the item
+     * @return the virtual metadata of the item, or null if they are not cached or have expired
+     * @throws SQLException if database error
+     */
+    public List<RelationshipMetadataValue> get(Context context, Item item) throws SQLException {
+        CachedItem entry;
+        synchronized (this) {
+            entry = entries.get(item.getID());
+            if (entry != null && entry.expiration - System.nanoTime() < 0) {
+                remove(item.getID());
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        List<RelationshipMetadataValue> values = new LinkedList<>();
+        for (CachedValue cachedValue : entry.values) {
+            MetadataField metadataField = metadataFieldService.find(context, cachedValue.metadataFieldId);
+            if (metadataField == null) {
+                // the field has been deleted in the meantime
+                misses.incrementAndGet();
+                return null;
+            }
+            values.add(cachedValue.toMetadataValue(item, metadataField));
+        }
+        hits.incrementAndGet();
+        return values;
+    }
+
+    /**
+     * Store the virtual metadata of an item. They are discarded if the item or one of the related items has been
+     * changed since the given generation, or is being changed by a transaction not committed yet.
+     *
+     * @param item           the item
+     * @param values         the virtual metadata of the item
+     * @param relatedItemIds the ids of the related items whose metadata were read to compute the virtual metadata
+     * @param generation     the generation of the cache before the data were read
+     */
+    public void put(Item item, List<RelationshipMetadataValue> values, Set<UUID> relatedItemIds, long generation) {
+        List<CachedValue> cachedValues = new LinkedList<>();
+        for (RelationshipMetadataValue value : values) {
+            cachedValues.add(new CachedValue(value));
+        }
+        long expiration = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTtl());
+        UUID itemId = item.getID();
+        synchronized (this) {
+            if (generation != this.generation || isUncommitted(itemId)
+                || relatedItemIds.stream().anyMatch(this::isUncommitted)) {
+                return;
+            }
+            remove(itemId);
+            entries.put(itemId, new CachedItem(cachedValues, Set.copyOf(relatedItemIds), expiration));
+            for (UUID relatedItemId : relatedItemIds) {
+                dependents.computeIfAbsent(relatedItemId, id -> new HashSet<>()).add(itemId);
+            }
+            pruneDependents();
+        }
+    }
+
+    /**
+     * Discard the virtual metadata of an item being changed by the current transaction, and the ones computed from
+     * it, and don't store them until the change is committed.
+     *
+     * @param itemId the id of the item
+     */
+    public void change(UUID itemId) {
+        if (itemId == null || !isEnabled()) {
+            return;
+        }
+        long expiration = System.nanoTime() + TimeUnit.SECONDS.toNanos(getTtl());
+        synchronized (this) {
+            generation++;
+            if (uncommitted.size() >= getMaxSize()) {
+                // the marks of the transactions rolled back are otherwise removed only when they are looked up
+                uncommitted.values().removeIf(mark -> mark - System.nanoTime() < 0);
+            }
+            uncommitted.put(itemId, expiration);
+            evict(itemId);
+        }
+    }
+
+    /**
+     * Discard the virtual metadata of the given items, whose changes have been committed, and the ones computed
+     * from them.
+     *
+     * @param itemIds the ids of the items
+     */
+    public void invalidate(Collection<UUID> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            for (UUID itemId : itemIds) {
+                uncommitted.remove(itemId);
+                evict(itemId);
+            }
+        }
+        log.debug("Invalidated the virtual metadata of {} items", itemIds.size());
+    }
+
+    /**
+     * Discard all the virtual metadata.
+     */
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            entries.clear();
+            dependents.clear();
+        }
+        log.debug("Cleared the virtual metadata cache, hits: {}, misses: {}", getHits(), getMisses());
+    }
+
+    /**
+     * @return the number of items whose virtual metadata are cached
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups which found the virtual metadata
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups which didn't find the virtual metadata
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Remove the virtual metadata of an item and, transitively, the ones computed from it.
+     */
+    private void evict(UUID itemId) {
+        Set<UUID> visited = new HashSet<>();
+        Deque<UUID> toEvict = new ArrayDeque<>();
+        toEvict.add(itemId);
+        while (!toEvict.isEmpty()) {
+            UUID id = toEvict.poll();
+            if (visited.add(id)) {
+                remove(id);
+                Set<UUID> itemDependents = dependents.remove(id);
+                if (itemDependents != null) {
+                    toEvict.addAll(itemDependents);
+                }
+            }
+        }
+    }
+
+    private void remove(UUID itemId) {
+        CachedItem entry = entries.remove(itemId);
+        if (entry != null) {
+            for (UUID relatedItemId : entry.relatedItemIds) {
+                Set<UUID> itemDependents = dependents.get(relatedItemId);
+                if (itemDependents != null) {
+                    itemDependents.remove(itemId);
+                    if (itemDependents.isEmpty()) {
+                        dependents.remove(relatedItemId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the dependencies of the items discarded because the cache was full.
+     */
+    private void pruneDependents() {
+        if (dependents.size() <= entries.size() * 2 + 16) {
+            return;
+        }
+        Iterator<Set<UUID>> iterator = dependents.values().iterator();
+        while (iterator.hasNext()) {
+            Set<UUID> itemDependents = iterator.next();
+            itemDependents.retainAll(entries.keySet());
+            if (itemDependents.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isUncommitted(UUID itemId) {
+        Long expiration = uncommitted.get(itemId);
+        if (expiration == null) {
+            return false;
+        }
+        if (expiration - System.nanoTime() < 0) {
+            uncommitted.remove(itemId);
+            return false;
+        }
+        return true;
+    }
+
+    private int getMaxSize() {
+        return configurationService.getIntProperty("relationship.virtual-metadata.cache.max-size", DEFAULT_MAX_SIZE);
+    }
+
+    private long getTtl() {
+        return configurationService.getLongProperty("relationship.virtual-metadata.cache.ttl", DEFAULT_TTL);
+    }
+
+    public void setConfigurationService(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    public void setMetadataFieldService(MetadataFieldService metadataFieldService) {
+        this.metadataFieldService = metadataFieldService;
+    }
+
+    private static final class CachedItem {
+
+        private final List<CachedValue> values;
+
+        private final Set<UUID> relatedItemIds;
+
+        private final long expiration;
+
+        private CachedItem(List<CachedValue> values, Set<UUID> relatedItemIds, long expiration) {
+            this.values = values;
+            this.relatedItemIds = relatedItemIds;
+            this.expiration = expiration;
+        }
+    }
+
+    /**
+     * A virtual metadata value detached from the item and from the database session it was computed with.
+     */
+    private static final class CachedValue {
+
+        private final int metadataFieldId;
+
+        private final String value;
+
+        private final String language;
+
+        private final int place;
+
+        private final String authority;
+
+        private final int confidence;
+
+        private final boolean useForPlace;
+
+        private final boolean boundToItem;
+
+        private CachedValue(RelationshipMetadataValue metadataValue) {
+            this.metadataFieldId = metadataValue.getMetadataField().getID();
+            this.value = metadataValue.getValue();
+            this.language = metadataValue.getLanguage();
+            this.place = metadataValue.getPlace();
+            this.authority = metadataValue.getAuthority();
+            this.confidence = metadataValue.getConfidence();
+            this.useForPlace = metadataValue.isUseForPlace();
+            this.boundToItem = metadataValue.getDSpaceObject() != null;
+        }
+
+        private RelationshipMetadataValue toMetadataValue(Item item, MetadataField metadataField) {
+            RelationshipMetadataValue metadataValue = new RelationshipMetadataValue();
+            metadataValue.setMetadataField(metadataField);
+            metadataValue.setValue(value);
+            metadataValue.setLanguage(language);
+            metadataValue.setPlace(place);
+            metadataValue.setAuthority(authority);
+            metadataValue.setConfidence(confidence);
+            metadataValue.setUseForPlace(useForPlace);
+            if (boundToItem) {
+                metadataValue.setDSpaceObject(item);
+            }
+            return metadataValue;
+        }
+    }
+}
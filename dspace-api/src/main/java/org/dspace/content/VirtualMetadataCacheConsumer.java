@@ -0,0 +1,57 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.event.Consumer;
+import org.dspace.event.Event;
+
+/**
+ * Consumer invalidating the {@link VirtualMetadataCache} once the changes of the items are committed. The changes
+ * of the relationships are notified as MODIFY events of both their items, so the virtual metadata of the changed
+ * items are discarded together with the ones computed from them by their related items.
+ * <p>
+ * Recommended filter: Item+Create|Modify|Modify_Metadata|Delete|Install
+ */
+public class VirtualMetadataCacheConsumer implements Consumer {
+
+    private VirtualMetadataCache virtualMetadataCache;
+
+    private final Set<UUID> toInvalidate = new HashSet<>();
+
+    @Override
+    public void initialize() throws Exception {
+        virtualMetadataCache = ContentServiceFactory.getInstance().getVirtualMetadataCache();
+    }
+
+    @Override
+    public void consume(Context ctx, Event event) throws Exception {
+        if (event.getSubjectType() == Constants.ITEM && event.getSubjectID() != null) {
+            toInvalidate.add(event.getSubjectID());
+        }
+    }
+
+    @Override
+    public void end(Context ctx) throws Exception {
+        if (virtualMetadataCache.isEnabled()) {
+            virtualMetadataCache.invalidate(toInvalidate);
+        }
+        toInvalidate.clear();
+    }
+
+    @Override
+    public void finish(Context ctx) throws Exception {
+
+    }
+}
@@ -84,6 +84,11 @@ public class WorkspaceItemServiceImpl implements WorkspaceItemService {
 
     }
 
+    @Override
+    public List<WorkspaceItem> findByIds(Context context, List<Integer> ids) throws SQLException {
+        return workspaceItemDAO.findByIDs(context, WorkspaceItem.class, ids);
+    }
+
     @Override
     public WorkspaceItem find(Context context, int id) throws SQLException {
         WorkspaceItem workspaceItem = workspaceItemDAO.findByID(context, WorkspaceItem.class, id);
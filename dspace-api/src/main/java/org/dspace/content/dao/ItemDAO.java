@@ -48,6 +48,17 @@ public interface ItemDAO extends DSpaceObjectLegacySupportDAO<Item> {
      */
     public Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find all regular items (see {@link #findAllRegularItems(Context)}) whose UUID falls in the given range.
+     *
+     * @param context the DSpace context.
+     * @param lower   the lower bound of the range (inclusive), null for no lower bound
+     * @param upper   the upper bound of the range (exclusive), null for no upper bound
+     * @return iterator over the regular items in the range.
+     * @throws SQLException if database error.
+     */
+    public Iterator<Item> findAllRegularItems(Context context, UUID lower, UUID upper) throws SQLException;
+
     /**
      * Find all Items modified since a Date.
      *
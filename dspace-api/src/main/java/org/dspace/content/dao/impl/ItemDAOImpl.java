@@ -103,6 +103,32 @@ public class ItemDAOImpl extends AbstractHibernateDSODAO<Item> implements ItemDA
         return new UUIDIterator<Item>(context, uuids, Item.class, this);
     }
 
+    @Override
+    public Iterator<Item> findAllRegularItems(Context context, UUID lower, UUID upper) throws SQLException {
+        StringBuilder queryStr = new StringBuilder();
+        queryStr.append("SELECT i.id FROM Item as i ");
+        queryStr.append("LEFT JOIN Version as v ON i = v.item ");
+        queryStr.append("WHERE (i.inArchive=true or i.withdrawn=true or (i.inArchive=false and v.id IS NOT NULL))");
+        if (lower != null) {
+            queryStr.append(" AND i.id >= :lower");
+        }
+        if (upper != null) {
+            queryStr.append(" AND i.id < :upper");
+        }
+        queryStr.append(" ORDER BY i.id");
+
+        Query query = createQuery(context, queryStr.toString());
+        if (lower != null) {
+            query.setParameter("lower", lower);
+        }
+        if (upper != null) {
+            query.setParameter("upper", upper);
+        }
+        @SuppressWarnings("unchecked")
+        List<UUID> uuids = query.getResultList();
+        return new UUIDIterator<Item>(context, uuids, Item.class, this);
+    }
+
     @Override
     public Iterator<Item> findAll(Context context, boolean archived,
                                   boolean withdrawn, boolean discoverable, Date lastModified)
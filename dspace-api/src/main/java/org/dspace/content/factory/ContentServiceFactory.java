@@ -12,6 +12,7 @@ import java.util.List;
 import org.dspace.content.DSpaceObject;
 import org.dspace.content.InProgressSubmission;
 import org.dspace.content.RelationshipMetadataService;
+import org.dspace.content.VirtualMetadataCache;
 import org.dspace.content.WorkspaceItem;
 import org.dspace.content.service.BitstreamFormatService;
 import org.dspace.content.service.BitstreamService;
@@ -105,6 +106,8 @@ public abstract class ContentServiceFactory {
 
     public abstract RelationshipMetadataService getRelationshipMetadataService();
 
+    public abstract VirtualMetadataCache getVirtualMetadataCache();
+
     public InProgressSubmissionService getInProgressSubmissionService(InProgressSubmission inProgressSubmission) {
         if (inProgressSubmission instanceof WorkspaceItem) {
             return getWorkspaceItemService();
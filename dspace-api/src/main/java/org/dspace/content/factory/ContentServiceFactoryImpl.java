@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.dspace.content.DSpaceObject;
 import org.dspace.content.RelationshipMetadataService;
+import org.dspace.content.VirtualMetadataCache;
 import org.dspace.content.service.BitstreamFormatService;
 import org.dspace.content.service.BitstreamService;
 import org.dspace.content.service.BundleService;
@@ -78,6 +79,8 @@ public class ContentServiceFactoryImpl extends ContentServiceFactory {
     @Autowired(required = true)
     private RelationshipMetadataService relationshipMetadataService;
     @Autowired(required = true)
+    private VirtualMetadataCache virtualMetadataCache;
+    @Autowired(required = true)
     private EntityTypeService entityTypeService;
     @Autowired(required = true)
     private EntityService entityService;
@@ -180,4 +183,9 @@ public class ContentServiceFactoryImpl extends ContentServiceFactory {
     public RelationshipMetadataService getRelationshipMetadataService() {
         return relationshipMetadataService;
     }
+
+    @Override
+    public VirtualMetadataCache getVirtualMetadataCache() {
+        return virtualMetadataCache;
+    }
 }
@@ -90,6 +90,16 @@ public interface CollectionService
      */
     public List<Collection> findAll(Context context) throws SQLException;
 
+    /**
+     * Get the collections with the given ids, loaded with as few queries as possible.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids of the collections
+     * @return the found collections, in the same order of the given ids
+     * @throws SQLException if database error
+     */
+    public List<Collection> findByIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Get all collections in the system. Adds support for limit and offset.
      *
@@ -79,6 +79,16 @@ public interface CommunityService extends DSpaceObjectService<Community>, DSpace
      */
     public List<Community> findAll(Context context) throws SQLException;
 
+    /**
+     * Get the communities with the given ids, loaded with as few queries as possible.
+     *
+     * @param context DSpace context object
+     * @param ids     the ids of the communities
+     * @return the found communities, in the same order of the given ids
+     * @throws SQLException if database error
+     */
+    public List<Community> findByIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Get all communities in the system. Adds support for limit and offset.
      *
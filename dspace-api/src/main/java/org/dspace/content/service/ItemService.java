@@ -142,6 +142,18 @@ public interface ItemService
      */
     public Iterator<Item> findAllRegularItems(Context context) throws SQLException;
 
+    /**
+     * Find all regular items (see {@link #findAllRegularItems(Context)}) whose UUID falls in the given range, used
+     * to split the item space in partitions that can be processed independently.
+     *
+     * @param context the DSpace context.
+     * @param lower   the lower bound of the range (inclusive), null for no lower bound
+     * @param upper   the upper bound of the range (exclusive), null for no upper bound
+     * @return iterator over the regular items in the range.
+     * @throws SQLException if database error.
+     */
+    public Iterator<Item> findAllRegularItems(Context context, UUID lower, UUID upper) throws SQLException;
+
     /**
      * Find all the items in the archive by a given submitter. The order is
      * indeterminate. Only items with the "in archive" flag set are included.
@@ -1013,6 +1025,18 @@ public interface ItemService
      */
     Iterator<Item> findByIds(Context context, List<String> ids) throws SQLException;
 
+    /**
+     * Find all the items matching the given list of ids, loaded eagerly with as few queries as possible. Unlike
+     * {@link #findByIds(Context, List)}, that loads the items one at a time while iterating, all the items are held
+     * in memory, so this method is meant for bounded lists of ids, such as a page of results.
+     *
+     * @param context         DSpace context object
+     * @param ids             the ids of the items
+     * @return                the found items, in the same order of the given ids
+     * @throws SQLException   if database error
+     */
+    List<Item> findAllByIds(Context context, List<UUID> ids) throws SQLException;
+
     /**
      * Retrieve the label of the entity type of the given item.
      * @param  item the item.
@@ -41,6 +41,16 @@ public interface WorkspaceItemService extends InProgressSubmissionService<Worksp
      */
     public WorkspaceItem find(Context context, int id) throws SQLException;
 
+    /**
+     * Get the workspace items with the given ids, loaded with as few queries as possible.
+     *
+     * @param context DSpace context object
+     * @param ids     IDs of the workspace items
+     * @return the found workspace items, in the same order of the given ids
+     * @throws SQLException if database error
+     */
+    public List<WorkspaceItem> findByIds(Context context, List<Integer> ids) throws SQLException;
+
     /**
      * Create a new workspace item, with a new ID. An Item is also created. The
      * submitter is the current user in the context.
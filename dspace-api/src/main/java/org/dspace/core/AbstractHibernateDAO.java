@@ -7,15 +7,19 @@
  */
 package org.dspace.core;
 
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.persistence.Column;
 import javax.persistence.Id;
@@ -40,6 +44,11 @@ import org.hibernate.Session;
  */
 public abstract class AbstractHibernateDAO<T> implements GenericDAO<T> {
 
+    /**
+     * Maximum number of primary keys of a single query issued by {@link #findByIDs(Context, Class, List)}.
+     */
+    private static final int MULTI_LOAD_BATCH_SIZE = 500;
+
     protected AbstractHibernateDAO() {
 
     }
@@ -102,6 +111,18 @@ public abstract class AbstractHibernateDAO<T> implements GenericDAO<T> {
         return result;
     }
 
+    @Override
+    public List<T> findByIDs(Context context, Class<T> clazz, List<? extends Serializable> ids)
+        throws SQLException {
+        if (CollectionUtils.isEmpty(ids)) {
+            return new ArrayList<>();
+        }
+        List<T> result = getHibernateSession(context).byMultipleIds(clazz)
+            .withBatchSize(MULTI_LOAD_BATCH_SIZE)
+            .multiLoad(ids);
+        return result.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
     public static List<Field> getAllFields(List<Field> fields, Class<?> type) {
         fields.addAll(Arrays.asList(type.getDeclaredFields()));
 
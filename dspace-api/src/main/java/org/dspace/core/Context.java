@@ -126,6 +126,12 @@ public class Context implements AutoCloseable {
      */
     private final ContextReadOnlyCache readOnlyCache = new ContextReadOnlyCache();
 
+    /**
+     * Authorization decisions computed in bulk when the context is not in READ_ONLY mode, used until the context
+     * is modified
+     */
+    private final ContextReadOnlyCache prefetchedAuthorizations = new ContextReadOnlyCache();
+
     protected EventService eventService;
 
     private DBConnection dbConnection;
@@ -450,6 +456,7 @@ public class Context implements AutoCloseable {
                 dbConnection.commit();
                 reloadContextBoundEntities();
             }
+            prefetchedAuthorizations.clear();
         }
     }
 
@@ -520,6 +527,7 @@ public class Context implements AutoCloseable {
         }
 
         events.add(event);
+        prefetchedAuthorizations.clear();
     }
 
     /**
@@ -580,6 +588,7 @@ public class Context implements AutoCloseable {
             }
         } finally {
             events = null;
+            prefetchedAuthorizations.clear();
         }
     }
 
@@ -675,6 +684,7 @@ public class Context implements AutoCloseable {
      */
     public void setSpecialGroup(UUID groupID) {
         specialGroups.add(groupID);
+        prefetchedAuthorizations.clear();
     }
 
     /**
@@ -730,6 +740,7 @@ public class Context implements AutoCloseable {
         specialGroupsPreviousState = specialGroups;
         specialGroups = new HashSet<>();
         currentUser = newUser;
+        prefetchedAuthorizations.clear();
     }
 
     /**
@@ -745,6 +756,7 @@ public class Context implements AutoCloseable {
         specialGroups = specialGroupsPreviousState;
         specialGroupsPreviousState = null;
         currentUserPreviousState = null;
+        prefetchedAuthorizations.clear();
     }
 
     /**
@@ -823,6 +835,7 @@ public class Context implements AutoCloseable {
         if (mode != Mode.READ_ONLY || newMode != Mode.READ_ONLY) {
             //clear our read-only cache to prevent any inconsistencies
             readOnlyCache.clear();
+            prefetchedAuthorizations.clear();
         }
 
         // When going to READ_ONLY, flush database changes to ensure that the current data is retrieved
@@ -921,6 +934,8 @@ public class Context implements AutoCloseable {
         EPerson eperson, Boolean inheritance) {
         if (isReadOnly()) {
             return readOnlyCache.getCachedAuthorizationResult(dspaceObject, action, eperson, inheritance);
+        } else if (!hasEvents()) {
+            return prefetchedAuthorizations.getCachedAuthorizationResult(dspaceObject, action, eperson, inheritance);
         } else {
             return null;
         }
@@ -943,6 +958,26 @@ public class Context implements AutoCloseable {
         }
     }
 
+    /**
+     * Cache an authorization decision computed in bulk, before the objects are processed one by one. Unlike
+     * {@link #cacheAuthorizedAction(DSpaceObject, int, EPerson, Boolean, Boolean, ResourcePolicy)} the decision is
+     * cached also when the context is not in READ_ONLY mode, until the context is modified, committed or rolled back.
+     *
+     * @param dspaceObject the object
+     * @param action       the action, from <code>org.dspace.core.Constants</code>
+     * @param eperson      the user attempting the action
+     * @param inheritance  whether the ADMIN action on the parent objects was considered
+     * @param result       whether the action is authorized
+     */
+    public void cachePrefetchedAuthorization(DSpaceObject dspaceObject, int action, EPerson eperson,
+        Boolean inheritance, Boolean result) {
+        if (isReadOnly()) {
+            readOnlyCache.cacheAuthorizedAction(dspaceObject, action, eperson, inheritance, result);
+        } else if (!hasEvents()) {
+            prefetchedAuthorizations.cacheAuthorizedAction(dspaceObject, action, eperson, inheritance, result);
+        }
+    }
+
     public Boolean getCachedGroupMembership(Group group, EPerson eperson) {
         if (isReadOnly()) {
             return readOnlyCache.getCachedGroupMembership(group, eperson);
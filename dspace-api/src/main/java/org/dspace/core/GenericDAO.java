@@ -7,6 +7,7 @@
  */
 package org.dspace.core;
 
+import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
@@ -113,6 +114,18 @@ public interface GenericDAO<T> {
      */
     public T findByID(Context context, Class clazz, UUID id) throws SQLException;
 
+    /**
+     * Fetch the entities identified by the given primary keys, loading the entities not yet in the session with
+     * as few queries as possible.
+     *
+     * @param context current DSpace context.
+     * @param clazz   class of entity to be found.
+     * @param ids     primary keys of the database records.
+     * @return the found entities, in the same order of the given primary keys. Missing entities are skipped.
+     * @throws SQLException
+     */
+    public List<T> findByIDs(Context context, Class<T> clazz, List<? extends Serializable> ids) throws SQLException;
+
     /**
      * Execute a JPQL query and return a collection of results.
      *
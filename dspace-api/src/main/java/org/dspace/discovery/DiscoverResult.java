@@ -38,6 +38,7 @@ public class DiscoverResult {
     private Map<String, Long> facetResultMore;
     private Map<String, Long> facetResultTotalElements;
     private Map<String, List<FacetPivotResult>> facetPivotResults;
+    private Map<String, Long> facetQueryCounts;
 
     /**
      * A map that contains all the documents sougth after, the key is a string representation of the Indexable Object
@@ -52,6 +53,7 @@ public class DiscoverResult {
         indexableObjects = new ArrayList<IndexableObject>();
         facetResults = new LinkedHashMap<String, List<FacetResult>>();
         facetPivotResults = new LinkedHashMap<String, List<FacetPivotResult>>();
+        facetQueryCounts = new LinkedHashMap<String, Long>();
         searchDocuments = new LinkedHashMap<String, List<SearchDocument>>();
         facetResultsMissing = new LinkedHashMap<String, Long>();
         facetResultMore = new LinkedHashMap<String, Long>();
@@ -149,6 +151,21 @@ public class DiscoverResult {
         return ListUtils.emptyIfNull(facetResults.get(facet));
     }
 
+    public void setFacetQueryCount(String facetQuery, long count) {
+        facetQueryCounts.put(facetQuery, count);
+    }
+
+    /**
+     * Get the number of results matching a facet query, as it was added to the
+     * {@link DiscoverQuery}.
+     *
+     * @param facetQuery the facet query
+     * @return the number of matching results, null if the facet query was not requested
+     */
+    public Long getFacetQueryCount(String facetQuery) {
+        return facetQueryCounts.get(facetQuery);
+    }
+
     public Map<String, List<FacetPivotResult>> getFacetPivotResults() {
         return facetPivotResults;
     }
@@ -25,10 +25,12 @@ import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.dspace.discovery.indexobject.IndexableCollection;
 import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexFactory;
 import org.dspace.discovery.indexobject.factory.IndexObjectFactoryFactory;
 import org.dspace.handle.factory.HandleServiceFactory;
 import org.dspace.metrics.UpdateCrisMetricsInSolrDocService;
 import org.dspace.scripts.DSpaceRunnable;
+import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
 import org.dspace.utils.DSpace;
 
@@ -48,6 +50,8 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
 
     private UpdateCrisMetricsInSolrDocService updateCrisMetricsInSolrDocService;
 
+    private Integer parallelThreads;
+
     @Override
     public void internalRun() throws Exception {
         if (indexClientOptions == IndexClientOptions.HELP) {
@@ -140,7 +144,11 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
             indexClientOptions == IndexClientOptions.BUILDANDSPELLCHECK) {
             handler.logInfo("(Re)building index from scratch.");
             indexer.deleteIndex();
-            indexer.createIndex(context);
+            if (parallelThreads != null) {
+                createIndexInParallel(parallelThreads);
+            } else {
+                indexer.createIndex(context);
+            }
             if (indexClientOptions == IndexClientOptions.BUILDANDSPELLCHECK) {
                 checkRebuildSpellCheck(commandLine, indexer);
             }
@@ -208,9 +216,54 @@ public class IndexClient extends DSpaceRunnable<IndexDiscoveryScriptConfiguratio
             throw new ParseException("Unable to create a new DSpace Context: " + e.getMessage());
         }
         indexClientOptions = IndexClientOptions.getIndexClientOption(commandLine);
+        if (commandLine.hasOption("p")) {
+            if (indexClientOptions != IndexClientOptions.BUILD
+                && indexClientOptions != IndexClientOptions.BUILDANDSPELLCHECK) {
+                throw new ParseException("The -p option can only be used to (re)build the index with -b");
+            }
+            parallelThreads = parsePositiveInteger(commandLine.getOptionValue("p"), "number of threads");
+        }
         updateCrisMetricsInSolrDocService = new DSpace().getServiceManager().getServiceByName(
                 UpdateCrisMetricsInSolrDocService.class.getName(), UpdateCrisMetricsInSolrDocService.class);
     }
+
+    private int parsePositiveInteger(String value, String name) throws ParseException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new ParseException("The " + name + " must be a positive integer: " + value);
+    }
+
+    /**
+     * Rebuild the whole index: the items are indexed by a {@link PartitionedItemIndexer} with the given number of
+     * threads, all the other indexable object types are indexed as usual.
+     *
+     * @param threads the number of threads used to index the items
+     * @throws SearchServiceException if the items could not be indexed
+     */
+    private void createIndexInParallel(int threads) throws SearchServiceException {
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        for (IndexFactory indexFactory : indexObjectServiceFactory.getIndexFactories()) {
+            if (!IndexableItem.TYPE.equals(indexFactory.getType())) {
+                indexer.updateIndex(context, true, indexFactory.getType());
+            }
+        }
+
+        int partitions = configurationService.getIntProperty("discovery.index.parallel.partitions", threads * 16);
+        int batchSize = configurationService.getIntProperty("discovery.index.parallel.batch-size", 500);
+        SolrSearchCore solrSearchCore = DSpaceServicesFactory.getInstance().getServiceManager()
+            .getServicesByType(SolrSearchCore.class).get(0);
+        handler.logInfo("Indexing items with " + threads + " threads in " + partitions + " partitions");
+        new PartitionedItemIndexer(ContentServiceFactory.getInstance().getItemService(),
+            indexObjectServiceFactory.getIndexFactoryByType(IndexableItem.TYPE), solrSearchCore, handler, threads,
+            partitions, batchSize).indexAll();
+    }
+
     /**
      * Indexes the given object and all children, if applicable.
      *
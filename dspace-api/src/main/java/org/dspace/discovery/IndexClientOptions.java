@@ -81,6 +81,9 @@ public enum IndexClientOptions {
         options.addOption("d", "delete", false,
                 "delete all records from existing index");
         options.addOption("b", "build", false, "(re)build index, wiping out current one if it exists");
+        options.addOption("p", "parallel", true,
+                          "number of threads used to (re)build the items of the index in parallel partitions, "
+                          + "a positive integer, can only be used with -b.");
         options.addOption("s", "spellchecker", false, "Rebuild the spellchecker, can be combined with -b and -f.");
         options.addOption("t", "type", true,
                           "limit the update operation to a specific indexable object type " +
@@ -8,10 +8,13 @@
 package org.dspace.discovery;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.Logger;
 import org.dspace.content.Bundle;
 import org.dspace.content.DSpaceObject;
@@ -231,7 +234,7 @@ public class IndexEventConsumer implements Consumer {
         } finally {
             if (!objectsToUpdate.isEmpty() || !uniqueIdsToDelete.isEmpty()) {
 
-                indexer.commit();
+                commit(ctx);
 
                 // "free" the resources
                 objectsToUpdate.clear();
@@ -243,6 +246,64 @@ public class IndexEventConsumer implements Consumer {
         }
     }
 
+    /**
+     * Commit the index. The objects of this consumer whose documents could not be written by the batch writer are
+     * indexed again once, the documents still failing are reported.
+     */
+    private void commit(Context ctx) throws Exception {
+        SolrDocumentWriteException writeException = commitIndex();
+        if (writeException == null) {
+            return;
+        }
+
+        List<String> notRetried = new ArrayList<>();
+        for (String uniqueId : writeException.getFailedUniqueIds()) {
+            if (!reindex(ctx, uniqueId, createdItemsToUpdate, true)
+                && !reindex(ctx, uniqueId, objectsToUpdate, false)) {
+                // buffered by another context sharing the writer, or already deleted
+                notRetried.add(uniqueId);
+            }
+        }
+        if (!notRetried.isEmpty()) {
+            log.error("The documents {} could not be written to the index", notRetried);
+        }
+        if (notRetried.size() < writeException.getFailedUniqueIds().size()) {
+            SolrDocumentWriteException retryException = commitIndex();
+            if (retryException != null) {
+                log.error("The documents {} could not be written to the index, even indexing them again",
+                    retryException.getFailedUniqueIds());
+            }
+        }
+    }
+
+    /**
+     * Commit the index, returning the failure of the documents that could not be written, if any.
+     */
+    private SolrDocumentWriteException commitIndex() throws SearchServiceException {
+        try {
+            indexer.commit();
+            return null;
+        } catch (SearchServiceException e) {
+            SolrDocumentWriteException writeException = ExceptionUtils.throwableOfType(e,
+                SolrDocumentWriteException.class);
+            if (writeException == null) {
+                throw e;
+            }
+            return writeException;
+        }
+    }
+
+    private boolean reindex(Context ctx, String uniqueId, Set<IndexableObject> objects, boolean preDb)
+        throws SQLException {
+        for (IndexableObject iu : objects) {
+            if (uniqueId.equals(iu.getUniqueIndexID())) {
+                indexObject(ctx, iu, preDb);
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void indexObject(Context ctx, IndexableObject iu, boolean preDb) throws SQLException {
         /* we let all types through here and
          * allow the search indexer to make
@@ -0,0 +1,119 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+
+/**
+ * Bulk version of the staleness check performed before indexing an object: the last indexed dates of a whole
+ * batch of objects are retrieved from the search core with a single query and compared in memory with the last
+ * modified dates of the objects.
+ */
+public class IndexStalenessResolver {
+
+    private final SolrSearchCore solrSearchCore;
+
+    public IndexStalenessResolver(SolrSearchCore solrSearchCore) {
+        this.solrSearchCore = solrSearchCore;
+    }
+
+    /**
+     * Return the unique index ids of the given objects that need to be (re)indexed, i.e. the objects without a
+     * last modified date, not in the index or modified after their last indexing.
+     *
+     * @param indexableObjects the objects to check
+     * @return the unique index ids of the stale objects
+     * @throws SearchServiceException if something went wrong with querying the solr server
+     */
+    public Set<String> findStale(List<IndexableObject> indexableObjects) throws SearchServiceException {
+        Set<String> stale = new HashSet<>();
+        Map<String, Date> lastModifiedDates = new HashMap<>();
+        for (IndexableObject indexableObject : indexableObjects) {
+            Date lastModified = indexableObject.getLastModified();
+            if (lastModified == null) {
+                stale.add(indexableObject.getUniqueIndexID());
+            } else {
+                lastModifiedDates.put(indexableObject.getUniqueIndexID(), lastModified);
+            }
+        }
+        if (lastModifiedDates.isEmpty()) {
+            return stale;
+        }
+
+        Map<String, Date> lastIndexedDates = findLastIndexedDates(lastModifiedDates.keySet());
+        for (Map.Entry<String, Date> entry : lastModifiedDates.entrySet()) {
+            if (!lastIndexedDates.containsKey(entry.getKey())) {
+                // not in the index
+                stale.add(entry.getKey());
+                continue;
+            }
+            Date lastIndexed = lastIndexedDates.get(entry.getKey());
+            if (lastIndexed != null && lastIndexed.before(entry.getValue())) {
+                stale.add(entry.getKey());
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Retrieve the last indexed date of the documents with the given unique ids.
+     *
+     * @param uniqueIds the unique ids of the documents
+     * @return a map between the unique ids found in the index and their last indexed date, if any
+     * @throws SearchServiceException if something went wrong with querying the solr server
+     */
+    private Map<String, Date> findLastIndexedDates(Set<String> uniqueIds) throws SearchServiceException {
+        Map<String, Date> lastIndexedDates = new HashMap<>();
+        SolrClient solr = solrSearchCore.getSolr();
+        if (solr == null) {
+            return lastIndexedDates;
+        }
+
+        SolrQuery query = new SolrQuery("*:*");
+        query.addFilterQuery("{!terms f=" + SearchUtils.RESOURCE_UNIQUE_ID + "}" + uniqueIds.stream()
+            .collect(joining(",")));
+        query.setFields(SearchUtils.RESOURCE_UNIQUE_ID, SearchUtils.LAST_INDEXED_FIELD);
+        query.setRows(uniqueIds.size());
+
+        QueryResponse rsp;
+        try {
+            rsp = solr.query(query, solrSearchCore.REQUEST_METHOD);
+        } catch (SolrServerException | IOException e) {
+            throw new SearchServiceException(e.getMessage(), e);
+        }
+
+        for (SolrDocument doc : rsp.getResults()) {
+            String uniqueId = (String) doc.getFirstValue(SearchUtils.RESOURCE_UNIQUE_ID);
+            Object value = doc.getFieldValue(SearchUtils.LAST_INDEXED_FIELD);
+            if (value instanceof Date) {
+                // keep the oldest date if the same object has been indexed more than once
+                Date previous = lastIndexedDates.get(uniqueId);
+                if (previous == null || ((Date) value).before(previous)) {
+                    lastIndexedDates.put(uniqueId, (Date) value);
+                }
+            } else if (!lastIndexedDates.containsKey(uniqueId)) {
+                lastIndexedDates.put(uniqueId, null);
+            }
+        }
+        return lastIndexedDates;
+    }
+}
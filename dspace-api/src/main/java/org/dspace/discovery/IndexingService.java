@@ -81,6 +81,15 @@ public interface IndexingService {
 
     void updateMetrics(Context context, CrisMetrics metric);
 
+    /**
+     * Update the metric fields of the documents of the resources of the given metrics, sending them to the index
+     * with a single request. Unlike {@link #updateMetrics(Context, CrisMetrics)}, the changes are not committed.
+     *
+     * @param context the DSpace context
+     * @param metrics the metrics to index
+     */
+    void updateMetrics(Context context, List<CrisMetrics> metrics);
+
     public QueryResponse retriveSolrDocByUniqueID(String uniqueID);
 
     void updateRelationForItem(String itemId, String relationLabel, List<String> relatedItems);
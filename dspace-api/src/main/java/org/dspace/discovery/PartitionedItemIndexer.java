@@ -0,0 +1,210 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.content.Item;
+import org.dspace.content.service.ItemService;
+import org.dspace.core.Context;
+import org.dspace.discovery.indexobject.IndexableItem;
+import org.dspace.discovery.indexobject.factory.IndexFactory;
+import org.dspace.scripts.handler.DSpaceRunnableHandler;
+
+/**
+ * Rebuilds the item documents of the discovery index using several worker threads. The item UUID space is split
+ * in ranges (partitions), each partition is processed by a worker with its own read-only {@link Context}: the
+ * documents are built through {@link IndexFactory#buildCompleteDocument(Context, IndexableObject)} and sent to
+ * the search core in bulk.
+ */
+public class PartitionedItemIndexer {
+
+    private static final Logger log = LogManager.getLogger(PartitionedItemIndexer.class);
+
+    /**
+     * The number of bits of the most significant part of the UUID used to compute the partition boundaries.
+     */
+    private static final int PARTITION_BITS = 16;
+
+    private final ItemService itemService;
+
+    private final IndexFactory<IndexableItem, Item> itemIndexFactory;
+
+    private final SolrSearchCore solrSearchCore;
+
+    private final DSpaceRunnableHandler handler;
+
+    private final int threads;
+
+    private final int partitions;
+
+    private final int batchSize;
+
+    public PartitionedItemIndexer(ItemService itemService, IndexFactory<IndexableItem, Item> itemIndexFactory,
+                                  SolrSearchCore solrSearchCore, DSpaceRunnableHandler handler, int threads,
+                                  int partitions, int batchSize) {
+        if (threads < 1 || partitions < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("threads, partitions and batch size must be greater than zero");
+        }
+        this.itemService = itemService;
+        this.itemIndexFactory = itemIndexFactory;
+        this.solrSearchCore = solrSearchCore;
+        this.handler = handler;
+        this.threads = threads;
+        this.partitions = Math.min(partitions, 1 << PARTITION_BITS);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Index all the regular items, returning the number of indexed items.
+     *
+     * @return the number of indexed items
+     * @throws SearchServiceException if a partition could not be indexed
+     */
+    public long indexAll() throws SearchServiceException {
+        long startTime = System.currentTimeMillis();
+        AtomicLong total = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            UUID[] boundaries = getPartitionBoundaries(partitions);
+            for (int i = 0; i < partitions; i++) {
+                results.add(executorService.submit(new PartitionIndexer(i, boundaries[i], boundaries[i + 1], total,
+                    startTime)));
+            }
+            for (Future<Long> result : results) {
+                result.get();
+            }
+            if (solrSearchCore.getSolr() != null) {
+                solrSearchCore.getSolr().commit();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchServiceException("Interrupted while indexing items", e);
+        } catch (ExecutionException | SolrServerException | IOException e) {
+            throw new SearchServiceException(e.getMessage(), e);
+        } finally {
+            executorService.shutdownNow();
+        }
+        logInfo("Indexed " + total.get() + " items in " + partitions + " partitions using " + threads
+            + " threads, " + getThroughput(total.get(), startTime) + " items/s");
+        return total.get();
+    }
+
+    /**
+     * Split the UUID space in the given number of contiguous ranges, returning the boundaries. The first and the
+     * last boundaries are null, meaning that the first and the last ranges are unbounded.
+     *
+     * @param partitions the number of partitions
+     * @return an array of partitions + 1 boundaries
+     */
+    static UUID[] getPartitionBoundaries(int partitions) {
+        UUID[] boundaries = new UUID[partitions + 1];
+        long space = 1L << PARTITION_BITS;
+        for (int i = 1; i < partitions; i++) {
+            long prefix = i * space / partitions;
+            boundaries[i] = new UUID(prefix << (Long.SIZE - PARTITION_BITS), 0L);
+        }
+        return boundaries;
+    }
+
+    private static long getThroughput(long count, long startTime) {
+        long elapsed = Math.max(System.currentTimeMillis() - startTime, 1);
+        return count * 1000 / elapsed;
+    }
+
+    private void logInfo(String message) {
+        // the handler can be shared by all the workers
+        synchronized (handler) {
+            handler.logInfo(message);
+        }
+    }
+
+    /**
+     * Index all the items of a single partition.
+     */
+    private class PartitionIndexer implements Callable<Long> {
+
+        private final int partition;
+
+        private final UUID lower;
+
+        private final UUID upper;
+
+        private final AtomicLong total;
+
+        private final long globalStartTime;
+
+        PartitionIndexer(int partition, UUID lower, UUID upper, AtomicLong total, long globalStartTime) {
+            this.partition = partition;
+            this.lower = lower;
+            this.upper = upper;
+            this.total = total;
+            this.globalStartTime = globalStartTime;
+        }
+
+        @Override
+        public Long call() throws Exception {
+            long startTime = System.currentTimeMillis();
+            long count = 0;
+            Context context = new Context(Context.Mode.READ_ONLY);
+            context.turnOffAuthorisationSystem();
+            try {
+                List<SolrInputDocument> documents = new ArrayList<>(batchSize);
+                Iterator<Item> items = itemService.findAllRegularItems(context, lower, upper);
+                while (items.hasNext()) {
+                    Item item = items.next();
+                    try {
+                        documents.add(itemIndexFactory.buildCompleteDocument(context, new IndexableItem(item)));
+                    } catch (SQLException | IOException | RuntimeException e) {
+                        log.error("An error occurs building the document of item {}", item.getID(), e);
+                    }
+                    count++;
+                    //To prevent memory issues, discard an object from the cache after processing
+                    context.uncacheEntity(item);
+                    if (documents.size() >= batchSize) {
+                        send(documents);
+                    }
+                }
+                send(documents);
+            } finally {
+                context.complete();
+            }
+            long overall = total.addAndGet(count);
+            logInfo("Partition " + (partition + 1) + "/" + partitions + " [" + lower + ", " + upper + "): "
+                + count + " items in " + (System.currentTimeMillis() - startTime) / 1000 + " seconds ("
+                + getThroughput(count, startTime) + " items/s), " + overall + " items indexed so far ("
+                + getThroughput(overall, globalStartTime) + " items/s)");
+            return count;
+        }
+
+        private void send(List<SolrInputDocument> documents) throws SolrServerException, IOException {
+            SolrClient solr = solrSearchCore.getSolr();
+            if (solr != null && !documents.isEmpty()) {
+                solr.add(documents);
+            }
+            documents.clear();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.SolrInputField;
+
+/**
+ * Buffered writer of the documents sent to the search core. The documents are collected and sent to solr with a
+ * single request when one of the following thresholds is reached:
+ * <ul>
+ * <li>the number of buffered documents reaches the configured batch size</li>
+ * <li>the estimated size of the buffered documents reaches the configured number of bytes</li>
+ * <li>the oldest buffered document has been waiting for more than the configured number of milliseconds</li>
+ * </ul>
+ * If a batch is rejected by solr the documents are sent again one by one, so that only the documents actually
+ * failing are lost. The unique ids of the lost documents, including the ones lost by a flush triggered by a
+ * threshold, are collected and reported by the next explicit {@link #flush()} with a
+ * {@link SolrDocumentWriteException}, so that the caller can index them again or report them.
+ * <p>
+ * Every operation that must be applied to solr after the buffered documents (deletions, partial updates) has to
+ * {@link #sendBuffered()} first, a commit has to {@link #flush()} the writer first. With a batch size of 1 (the
+ * default) the documents are sent immediately, as if the writer was not there.
+ */
+public class SolrDocumentBatchWriter {
+
+    private static final Logger log = LogManager.getLogger(SolrDocumentBatchWriter.class);
+
+    private final SolrClient solr;
+
+    private final int batchSize;
+
+    private final long maxBytes;
+
+    private final long maxWaitMillis;
+
+    private final List<SolrInputDocument> documents = new ArrayList<>();
+
+    private long bufferedBytes = 0;
+
+    private long oldestDocumentTime = 0;
+
+    private final List<String> failedIds = new ArrayList<>();
+
+    private Exception lastFailure;
+
+    private ScheduledExecutorService scheduler;
+
+    public SolrDocumentBatchWriter(SolrClient solr, int batchSize, long maxBytes, long maxWaitMillis) {
+        this.solr = solr;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBytes = maxBytes;
+        this.maxWaitMillis = maxWaitMillis;
+        if (this.batchSize > 1 && maxWaitMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "solr-search-batch-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flushExpired, maxWaitMillis, maxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Add the given document to the buffer, sending the buffer to solr if any threshold is reached. The documents
+     * lost by the threshold flush are reported by the next {@link #flush()}.
+     *
+     * @param document the document to write
+     * @throws IOException         if the document could not be sent without batching
+     * @throws SolrServerException if the document could not be sent without batching
+     */
+    public synchronized void add(SolrInputDocument document) throws IOException, SolrServerException {
+        if (batchSize == 1) {
+            solr.add(document);
+            return;
+        }
+        if (documents.isEmpty()) {
+            oldestDocumentTime = System.currentTimeMillis();
+        }
+        documents.add(document);
+        bufferedBytes += estimateSize(document);
+        if (documents.size() >= batchSize || (maxBytes > 0 && bufferedBytes >= maxBytes)) {
+            sendBuffered();
+        }
+    }
+
+    /**
+     * Send all the buffered documents to solr.
+     *
+     * @throws SolrDocumentWriteException if some documents could not be sent by this flush or by the flushes
+     *                                    triggered since the previous one, with the unique ids of all of them
+     */
+    public synchronized void flush() throws SolrDocumentWriteException {
+        sendBuffered();
+        if (!failedIds.isEmpty()) {
+            SolrDocumentWriteException exception = new SolrDocumentWriteException(failedIds, lastFailure);
+            failedIds.clear();
+            lastFailure = null;
+            throw exception;
+        }
+    }
+
+    /**
+     * Stop the background flush, sending the buffered documents to solr.
+     */
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        try {
+            flush();
+        } catch (SolrDocumentWriteException e) {
+            log.error("Unable to send the buffered documents to solr", e);
+        }
+    }
+
+    /**
+     * Return the number of buffered documents.
+     *
+     * @return the number of documents waiting to be sent
+     */
+    public synchronized int size() {
+        return documents.size();
+    }
+
+    private synchronized void flushExpired() {
+        if (!documents.isEmpty() && System.currentTimeMillis() - oldestDocumentTime >= maxWaitMillis) {
+            // the failures are collected and reported by the next flush
+            sendBuffered();
+        }
+    }
+
+    /**
+     * Send all the buffered documents to solr, keeping the unique ids of the documents that could not be sent to
+     * be reported by the next {@link #flush()}.
+     */
+    public synchronized void sendBuffered() {
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<SolrInputDocument> batch = new ArrayList<>(documents);
+        documents.clear();
+        bufferedBytes = 0;
+        try {
+            solr.add(batch);
+        } catch (SolrServerException | IOException | RuntimeException e) {
+            log.warn("Unable to send a batch of {} documents to solr, sending them one by one", batch.size(), e);
+            addOneByOne(batch);
+        }
+    }
+
+    private void addOneByOne(List<SolrInputDocument> batch) {
+        int failures = 0;
+        for (SolrInputDocument document : batch) {
+            try {
+                solr.add(document);
+            } catch (SolrServerException | IOException | RuntimeException e) {
+                Object uniqueId = document.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
+                log.error("Error occurred while writing SOLR document {}", uniqueId, e);
+                failedIds.add(String.valueOf(uniqueId));
+                lastFailure = e;
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            log.error("{} of {} documents of the batch could not be written", failures, batch.size());
+        }
+    }
+
+    /**
+     * Rough estimate of the size of the document, based on the length of its values.
+     */
+    static long estimateSize(SolrInputDocument document) {
+        long size = 0;
+        for (SolrInputField field : document) {
+            size += field.getName().length();
+            Collection<Object> values = field.getValues();
+            if (values != null) {
+                for (Object value : values) {
+                    size += value != null ? value.toString().length() : 0;
+                }
+            }
+        }
+        return size;
+    }
+}
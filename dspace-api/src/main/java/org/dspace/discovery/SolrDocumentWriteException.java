@@ -0,0 +1,39 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrServerException;
+
+/**
+ * Exception thrown by the {@link SolrDocumentBatchWriter} when some of the buffered documents could not be written
+ * to the search core, with the unique ids of the documents that have been lost.
+ */
+public class SolrDocumentWriteException extends SolrServerException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> failedUniqueIds;
+
+    public SolrDocumentWriteException(List<String> failedUniqueIds, Throwable cause) {
+        super("Unable to write the documents " + failedUniqueIds, cause);
+        this.failedUniqueIds = Collections.unmodifiableList(new ArrayList<>(failedUniqueIds));
+    }
+
+    /**
+     * Return the unique ids of the documents that could not be written.
+     *
+     * @return the unique ids of the failed documents
+     */
+    public List<String> getFailedUniqueIds() {
+        return failedUniqueIds;
+    }
+}
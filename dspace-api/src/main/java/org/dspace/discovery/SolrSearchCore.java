@@ -43,6 +43,11 @@ public class SolrSearchCore {
      */
     protected SolrClient solr = null;
 
+    /**
+     * Buffered writer of the documents sent to the search core.
+     */
+    protected SolrDocumentBatchWriter documentWriter = null;
+
     /**
      * Default HTTP method to use for all Solr Requests (we prefer POST).
      * This REQUEST_METHOD should be used in all Solr queries, e.g.
@@ -69,6 +74,64 @@ public class SolrSearchCore {
         return solr;
     }
 
+    /**
+     * Get access to the writer used to send the indexed documents to the search core. The writer buffers the
+     * documents according to the discovery.solr.write.* configuration properties.
+     * @return the document writer, null if the search core is not available
+     */
+    public synchronized SolrDocumentBatchWriter getDocumentWriter() {
+        if (documentWriter == null) {
+            SolrClient solrClient = getSolr();
+            if (solrClient == null) {
+                return null;
+            }
+            documentWriter = new SolrDocumentBatchWriter(solrClient,
+                configurationService.getIntProperty("discovery.solr.write.batch-size", 1),
+                configurationService.getLongProperty("discovery.solr.write.max-bytes", 10 * 1024 * 1024),
+                configurationService.getLongProperty("discovery.solr.write.max-wait", 5000));
+        }
+        return documentWriter;
+    }
+
+    /**
+     * Send the documents buffered by the document writer, if any, to the search core, before a commit.
+     * @throws SolrDocumentWriteException if some documents could not be sent since the previous flush, with their
+     *                                    unique ids
+     */
+    public void flush() throws SolrDocumentWriteException {
+        SolrDocumentBatchWriter writer;
+        synchronized (this) {
+            writer = documentWriter;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Send the documents buffered by the document writer, if any, to the search core, before an operation that
+     * must be applied after them. The documents that could not be sent are reported by the next {@link #flush()}.
+     */
+    public void sendBuffered() {
+        SolrDocumentBatchWriter writer;
+        synchronized (this) {
+            writer = documentWriter;
+        }
+        if (writer != null) {
+            writer.sendBuffered();
+        }
+    }
+
+    /**
+     * Send the buffered documents to the search core and release the document writer.
+     */
+    public synchronized void close() {
+        if (documentWriter != null) {
+            documentWriter.close();
+            documentWriter = null;
+        }
+    }
+
     /**
      * Initialize the solr search core
      */
@@ -69,20 +69,36 @@ public class SolrServiceHiddenRelationsRestrictionPlugin implements SolrServiceS
                                                .map(dso -> dso.getID().toString())
                                                .orElseGet(() -> fromProperties(discoveryQuery));
 
-        if (StringUtils.isBlank(scope) || currentUserIsScopeOrAdmin(scope, context)
-                || !discoveryQuery.getDiscoveryConfigurationName().startsWith("RELATION.")) {
-            return;
+        getRestrictionFilterQueries(context, scope, discoveryQuery.getDiscoveryConfigurationName())
+            .forEach(solrQuery::addFilterQuery);
+
+    }
+
+    /**
+     * Returns the filter queries excluding the items made hidden by their owner from the relation of the given
+     * discovery configuration, to be used by the searches not scoped through the discovery query.
+     *
+     * @param context           current context
+     * @param scope             id of the item whose relations are searched
+     * @param configurationName name of the relation discovery configuration
+     * @return the filter queries, empty if no restriction applies
+     */
+    public List<String> getRestrictionFilterQueries(final Context context, final String scope,
+                                                    final String configurationName) {
+
+        if (StringUtils.isBlank(scope) || !StringUtils.startsWith(configurationName, "RELATION.")
+                || currentUserIsScopeOrAdmin(scope, context)) {
+            return List.of();
         }
 
-        final String[] relationSplit = discoveryQuery.getDiscoveryConfigurationName().split("\\.");
+        final String[] relationSplit = configurationName.split("\\.");
         final List<String> relations = relations(context, relationSplit[relationSplit.length - 1]);
         if (relations == null || relations.isEmpty()) {
-            return;
+            return List.of();
         }
-        relations.stream()
-                 .map(r -> "-relation." + r + ":" + scope)
-                 .forEach(solrQuery::addFilterQuery);
-
+        return relations.stream()
+                        .map(r -> "-relation." + r + ":" + scope)
+                        .collect(Collectors.toList());
     }
 
     private String fromProperties(final DiscoverQuery discoveryQuery) {
@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -54,6 +55,7 @@ import org.apache.solr.common.SolrDocument;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrException;
 import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CursorMarkParams;
 import org.apache.solr.common.params.FacetParams;
 import org.apache.solr.common.params.HighlightParams;
 import org.apache.solr.common.params.MoreLikeThisParams;
@@ -238,6 +240,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             log.info("Try to delete uniqueID:" + uniqueID);
             indexObjectServiceFactory.getIndexableObjectFactory(indexableObject).delete(indexableObject);
             if (commit) {
+                solrSearchCore.sendBuffered();
                 solrSearchCore.getSolr().commit();
             }
         } catch (IOException | SolrServerException exception) {
@@ -279,6 +282,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                     log.warn("Object not found in Solr index: " + searchUniqueID);
                 }
                 if (commit) {
+                    solrSearchCore.sendBuffered();
                     solrSearchCore.getSolr().commit();
                 }
             }
@@ -357,25 +361,61 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         try {
             final List<IndexFactory> indexableObjectServices = indexObjectServiceFactory.
                 getIndexFactories();
+            int batchSize = configurationService.getIntProperty("discovery.index.staleness.batch-size", 500);
             for (IndexFactory indexableObjectService : indexableObjectServices) {
                 if (type == null || StringUtils.equals(indexableObjectService.getType(), type)) {
                     final Iterator<IndexableObject> indexableObjects = indexableObjectService.findAll(context);
-                    while (indexableObjects.hasNext()) {
-                        final IndexableObject indexableObject = indexableObjects.next();
-                        indexContent(context, indexableObject, force);
-                        context.uncacheEntity(indexableObject.getIndexedObject());
+                    if (force) {
+                        while (indexableObjects.hasNext()) {
+                            final IndexableObject indexableObject = indexableObjects.next();
+                            indexContent(context, indexableObject, force);
+                            context.uncacheEntity(indexableObject.getIndexedObject());
+                        }
+                    } else {
+                        // check the staleness of the objects in batches, with a single query for each batch
+                        List<IndexableObject> batch = new ArrayList<>(batchSize);
+                        while (indexableObjects.hasNext()) {
+                            batch.add(indexableObjects.next());
+                            if (batch.size() >= batchSize) {
+                                updateStale(context, indexableObjectService, batch);
+                            }
+                        }
+                        updateStale(context, indexableObjectService, batch);
                     }
                 }
             }
             if (solrSearchCore.getSolr() != null) {
-                solrSearchCore.getSolr().commit();
+                flushAndCommit();
             }
 
-        } catch (IOException | SQLException | SolrServerException e) {
+        } catch (IOException | SQLException | SolrServerException | SearchServiceException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Index the objects of the given batch that are not up to date in the index, then clear the batch.
+     *
+     * @param context                the DSpace context
+     * @param indexableObjectService the service to index the objects with
+     * @param batch                  the objects to check
+     */
+    private void updateStale(Context context, IndexFactory indexableObjectService, List<IndexableObject> batch)
+        throws SearchServiceException, IOException, SQLException, SolrServerException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> staleIds = new IndexStalenessResolver(solrSearchCore).findStale(batch);
+        for (IndexableObject indexableObject : batch) {
+            if (staleIds.contains(indexableObject.getUniqueIndexID())) {
+                update(context, indexableObjectService, indexableObject);
+                log.info(LogHelper.getHeader(context, "indexed_object", indexableObject.getUniqueIndexID()));
+            }
+            context.uncacheEntity(indexableObject.getIndexedObject());
+        }
+        batch.clear();
+    }
+
     /**
      * Removes all documents from the Lucene index
      */
@@ -395,6 +435,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     /**
      * Iterates over all documents in the Lucene index and verifies they are in
      * database, if not, they are removed.
+     * <p>
+     * The documents are streamed with a solr cursor, so that the cost of each page does not grow with its position
+     * in the index. The objects referenced by each page are looked up in the database in bulk and the orphan
+     * documents are removed with a single request per type.
      *
      * @throws IOException            IO exception
      * @throws SQLException           sql exception
@@ -402,7 +446,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
      */
     @Override
     public void cleanIndex() throws IOException, SQLException, SearchServiceException {
-        Context context = new Context();
+        Context context = new Context(Context.Mode.READ_ONLY);
         context.turnOffAuthorisationSystem();
 
         try {
@@ -410,48 +454,46 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 return;
             }
 
-            // First, we'll just get a count of the total results
-            SolrQuery countQuery = new SolrQuery("*:*");
-            countQuery.setRows(0); // don't actually request any data
-            // Get the total amount of results
-            QueryResponse totalResponse = solrSearchCore.getSolr().query(countQuery,
-                solrSearchCore.REQUEST_METHOD);
-            long total = totalResponse.getResults().getNumFound();
+            int batch = configurationService.getIntProperty("discovery.index.clean.batch-size", 1000);
 
-            int start = 0;
-            int batch = 100;
-
-            // Now get actual Solr Documents in batches
             SolrQuery query = new SolrQuery();
             query.setFields(SearchUtils.RESOURCE_UNIQUE_ID, SearchUtils.RESOURCE_ID_FIELD,
                 SearchUtils.RESOURCE_TYPE_FIELD);
+            // a cursor requires a sort on the unique key of the core
             query.addSort(SearchUtils.RESOURCE_UNIQUE_ID, SolrQuery.ORDER.asc);
             query.setQuery("*:*");
             query.setRows(batch);
-            // Keep looping until we hit the total number of Solr docs
-            while (start < total) {
-                query.setStart(start);
+
+            long start = System.currentTimeMillis();
+            long total = 0;
+            long checked = 0;
+            long deleted = 0;
+            String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+            while (true) {
+                query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
                 QueryResponse rsp = solrSearchCore.getSolr().query(query, solrSearchCore.REQUEST_METHOD);
                 SolrDocumentList docs = rsp.getResults();
+                total = docs.getNumFound();
 
-                for (SolrDocument doc : docs) {
-                    String uniqueID = (String) doc.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
+                deleted += cleanIndex(context, docs);
+                checked += docs.size();
 
-                    IndexableObject o = findIndexableObject(context, doc);
-                    if (o == null) {
-                        log.info("Deleting: " + uniqueID);
-                        /*
-                         * Use IndexWriter to delete, its easier to manage write.lock
-                         */
-                        unIndexContent(context, uniqueID);
-                    } else {
-                        context.uncacheEntity(o.getIndexedObject());
-                        log.debug("Keeping: " + o.getUniqueIndexID());
-                    }
+                long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+                log.info("Cleaning discovery index: checked " + checked + " of " + total + " documents, deleted "
+                    + deleted + " (" + (checked * 1000 / elapsed) + " documents/s)");
+
+                String nextCursorMark = rsp.getNextCursorMark();
+                if (docs.isEmpty() || cursorMark.equals(nextCursorMark)) {
+                    break;
                 }
+                cursorMark = nextCursorMark;
             }
 
-            start += batch;
+            if (deleted > 0) {
+                solrSearchCore.getSolr().commit();
+            }
+            log.info("Discovery index cleaned: checked " + checked + " documents, deleted " + deleted + " in "
+                + (System.currentTimeMillis() - start) + " ms");
 
         } catch (IOException | SQLException | SolrServerException e) {
             log.error("Error cleaning discovery index: " + e.getMessage(), e);
@@ -460,6 +502,39 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    /**
+     * Remove from the index the given documents whose object is no longer in the database.
+     *
+     * @param context the dspace context
+     * @param docs    the documents to check
+     * @return the number of removed documents
+     */
+    private long cleanIndex(Context context, SolrDocumentList docs)
+        throws SQLException, IOException, SolrServerException {
+        List<IndexableObject> indexableObjects = findIndexableObjects(context, docs);
+        Map<String, List<String>> orphansByType = new HashMap<>();
+        for (int i = 0; i < docs.size(); i++) {
+            SolrDocument doc = docs.get(i);
+            IndexableObject o = indexableObjects.get(i);
+            if (o == null) {
+                String uniqueID = (String) doc.getFieldValue(SearchUtils.RESOURCE_UNIQUE_ID);
+                log.info("Deleting: " + uniqueID);
+                orphansByType.computeIfAbsent((String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD),
+                    type -> new ArrayList<>()).add(uniqueID);
+            } else {
+                context.uncacheEntity(o.getIndexedObject());
+                log.debug("Keeping: " + o.getUniqueIndexID());
+            }
+        }
+
+        long deleted = 0;
+        for (Map.Entry<String, List<String>> entry : orphansByType.entrySet()) {
+            indexObjectServiceFactory.getIndexFactoryByType(entry.getKey()).delete(entry.getValue());
+            deleted += entry.getValue().size();
+        }
+        return deleted;
+    }
+
     /**
      * Maintenance to keep a SOLR index efficient.
      * Note: This might take a long time.
@@ -506,6 +581,8 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         solrInputDocument.addField(SearchUtils.RESOURCE_UNIQUE_ID, uniqueIndexId);
         solrInputDocument.addField(field, fieldModifier);
 
+        // the partial update must be applied after any buffered full document of the same object
+        solrSearchCore.sendBuffered();
         solrSearchCore.getSolr().add(solrInputDocument);
     }
 
@@ -1032,8 +1109,11 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                 result.setTotalSearchResults(solrQueryResponse.getResults().getNumFound());
 
                 List<String> searchFields = query.getSearchFields();
-                for (SolrDocument doc : solrQueryResponse.getResults()) {
-                    IndexableObject indexableObject = findIndexableObject(context, doc);
+                SolrDocumentList docs = solrQueryResponse.getResults();
+                List<IndexableObject> indexableObjects = findIndexableObjects(context, docs);
+                for (int i = 0; i < docs.size(); i++) {
+                    SolrDocument doc = docs.get(i);
+                    IndexableObject indexableObject = indexableObjects.get(i);
 
                     if (indexableObject != null) {
                         result.addIndexableObject(indexableObject);
@@ -1217,6 +1297,10 @@ public class SolrServiceImpl implements SearchService, IndexingService {
                     LinkedHashMap<String, Integer> sortedFacetQueries = new LinkedHashMap<>(
                         solrQueryResponse.getFacetQuery());
                     for (String facetQuery : sortedFacetQueries.keySet()) {
+                        result.setFacetQueryCount(facetQuery, sortedFacetQueries.get(facetQuery));
+                        if (facetQuery.indexOf(':') < 0) {
+                            continue;
+                        }
                         //TODO: do not assume this, people may want to use it for other ends, use a regex to make sure
                         // We have a facet query, the values looks something like: dateissued.year:[1990
                         // TO 2000] AND -2000
@@ -1263,6 +1347,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             // Otherwise, the query is valid and the results are returned.
             if (!zombieDocs.isEmpty()) {
                 log.info("Cleaning " + zombieDocs.size() + " stale objects from Discovery Index");
+                solrSearchCore.sendBuffered();
                 solrSearchCore.getSolr().deleteById(zombieDocs);
                 solrSearchCore.getSolr().commit();
             } else {
@@ -1305,6 +1390,48 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         return indexableObject.orElse(null);
     }
 
+    /**
+     * Find the indexable objects related to the given solr documents, loading the objects of the same type with a
+     * single query instead of one query per document.
+     *
+     * @param context
+     *            The relevant DSpace Context.
+     * @param docs
+     *            the solr documents, the following fields MUST be present RESOURCE_TYPE_FIELD and RESOURCE_ID_FIELD
+     * @return the indexable objects in the same order of the documents, with a null element for the documents
+     *         whose object could not be found
+     * @throws SQLException
+     *             An exception that provides information on a database access error or other errors.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<IndexableObject> findIndexableObjects(Context context, List<SolrDocument> docs)
+        throws SQLException {
+        Map<String, List<String>> idsByType = new LinkedHashMap<>();
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            idsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(id);
+        }
+
+        Map<String, Map<String, IndexableObject>> objectsByType = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : idsByType.entrySet()) {
+            IndexFactory indexableObjectService = indexObjectServiceFactory.getIndexFactoryByType(entry.getKey());
+            objectsByType.put(entry.getKey(), indexableObjectService.findIndexableObjects(context, entry.getValue()));
+        }
+
+        List<IndexableObject> indexableObjects = new ArrayList<>(docs.size());
+        for (SolrDocument doc : docs) {
+            String type = (String) doc.getFirstValue(SearchUtils.RESOURCE_TYPE_FIELD);
+            String id = (String) doc.getFirstValue(SearchUtils.RESOURCE_ID_FIELD);
+            IndexableObject indexableObject = objectsByType.get(type).get(id);
+            if (indexableObject == null) {
+                log.warn("Not able to retrieve object RESOURCE_ID:" + id + " - RESOURCE_TYPE_ID:" + type);
+            }
+            indexableObjects.add(indexableObject);
+        }
+        return indexableObjects;
+    }
+
     public List<IndexableObject> search(Context context, String query, int offset, int max,
             String... filterquery) {
         return search(context, query, null, true, offset, max, filterquery);
@@ -1334,11 +1461,8 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             QueryResponse rsp = solrSearchCore.getSolr().query(solrQuery, solrSearchCore.REQUEST_METHOD);
             SolrDocumentList docs = rsp.getResults();
 
-            Iterator iter = docs.iterator();
             List<IndexableObject> result = new ArrayList<>();
-            while (iter.hasNext()) {
-                SolrDocument doc = (SolrDocument) iter.next();
-                IndexableObject o = findIndexableObject(context, doc);
+            for (IndexableObject o : findIndexableObjects(context, docs)) {
                 if (o != null) {
                     result.add(o);
                 }
@@ -1668,13 +1792,30 @@ public class SolrServiceImpl implements SearchService, IndexingService {
     public void commit() throws SearchServiceException {
         try {
             if (solrSearchCore.getSolr() != null) {
-                solrSearchCore.getSolr().commit();
+                flushAndCommit();
             }
         } catch (IOException | SolrServerException e) {
             throw new SearchServiceException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Send the buffered documents and commit the search core. The documents that could not be sent are reported
+     * after the commit of the ones that have been sent.
+     */
+    protected void flushAndCommit() throws IOException, SolrServerException {
+        SolrDocumentWriteException writeException = null;
+        try {
+            solrSearchCore.flush();
+        } catch (SolrDocumentWriteException e) {
+            writeException = e;
+        }
+        solrSearchCore.getSolr().commit();
+        if (writeException != null) {
+            throw writeException;
+        }
+    }
+
     @Override
     public String escapeQueryChars(String query) {
         // Use Solr's built in query escape tool
@@ -1738,6 +1879,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrInDoc.addField(SearchUtils.RESOURCE_TYPE_FIELD, itemType(context, metric.getResource()));
             solrInDoc.addField(SearchUtils.RESOURCE_ID_FIELD, UUIDUtils.toString(metric.getResource().getID()));
             req.add(SearchUtils.addMetricFieldsInSolrDoc(metric, solrInDoc));
+            solrSearchCore.sendBuffered();
             solrClient.request(req);
             solrClient.commit();
         } catch (SolrServerException | IOException e) {
@@ -1745,6 +1887,32 @@ public class SolrServiceImpl implements SearchService, IndexingService {
         }
     }
 
+    @Override
+    public void updateMetrics(Context context, List<CrisMetrics> metrics) {
+        UpdateRequest req = new UpdateRequest();
+        for (CrisMetrics metric : metrics) {
+            Optional<String> id = findUniqueId(context, metric);
+            if (id.isEmpty()) {
+                log.warn("Unable to define unique id for item {}", metric.getResource().getID());
+                continue;
+            }
+            SolrInputDocument solrInDoc = new SolrInputDocument();
+            solrInDoc.addField(SearchUtils.RESOURCE_UNIQUE_ID, id.get());
+            solrInDoc.addField(SearchUtils.RESOURCE_TYPE_FIELD, itemType(context, metric.getResource()));
+            solrInDoc.addField(SearchUtils.RESOURCE_ID_FIELD, UUIDUtils.toString(metric.getResource().getID()));
+            req.add(SearchUtils.addMetricFieldsInSolrDoc(metric, solrInDoc));
+        }
+        if (req.getDocuments() == null || req.getDocuments().isEmpty()) {
+            return;
+        }
+        try {
+            solrSearchCore.sendBuffered();
+            solrSearchCore.getSolr().request(req);
+        } catch (SolrServerException | IOException e) {
+            log.error(e.getMessage(), e);
+        }
+    }
+
     @Override
     public QueryResponse retriveSolrDocByUniqueID(String uniqueID) {
         SolrClient solrClient =  solrSearchCore.getSolr();
@@ -1775,6 +1943,7 @@ public class SolrServiceImpl implements SearchService, IndexingService {
             solrInDoc.addField(field,
                                Collections.<String, Object>singletonMap("set", relatedItems));
             req.add(solrInDoc);
+            solrSearchCore.sendBuffered();
             solrClient.request(req);
             solrClient.commit();
         } catch (SolrServerException | SolrException | IOException e) {
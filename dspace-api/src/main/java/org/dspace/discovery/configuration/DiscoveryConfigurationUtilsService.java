@@ -9,9 +9,14 @@ package org.dspace.discovery.configuration;
 import static org.apache.commons.collections4.iterators.EmptyIterator.emptyIterator;
 
 import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -19,7 +24,11 @@ import org.dspace.content.Item;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.dspace.discovery.DiscoverQuery;
+import org.dspace.discovery.DiscoverResult;
 import org.dspace.discovery.DiscoverResultIterator;
+import org.dspace.discovery.SearchService;
+import org.dspace.discovery.SearchServiceException;
+import org.dspace.discovery.SolrServiceHiddenRelationsRestrictionPlugin;
 import org.dspace.discovery.indexobject.IndexableItem;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -34,6 +43,10 @@ public class DiscoveryConfigurationUtilsService {
     private ItemService itemService;
     @Autowired
     private DiscoveryConfigurationService searchConfigurationService;
+    @Autowired
+    private SearchService searchService;
+    @Autowired(required = false)
+    private SolrServiceHiddenRelationsRestrictionPlugin hiddenRelationsRestrictionPlugin;
 
     public Iterator<Item> findByRelation(Context context, Item item, String relationName) {
         String entityType = itemService.getMetadataFirstValue(item, "dspace", "entity", "type", Item.ANY);
@@ -61,6 +74,81 @@ public class DiscoveryConfigurationUtilsService {
         return new DiscoverResultIterator<Item, UUID>(context, discoverQuery);
     }
 
+    /**
+     * Checks which of the given relations of the item have at least one related item, with a single search whose
+     * facet queries count the items of each relation.
+     *
+     * @param context       the DSpace context
+     * @param item          the item whose relations are checked
+     * @param relationNames the names of the relations
+     * @return whether each relation has related items, by relation name
+     */
+    public Map<String, Boolean> hasRelations(Context context, Item item, Collection<String> relationNames) {
+        Map<String, Boolean> hasRelations = new HashMap<>();
+        relationNames.forEach(relationName -> hasRelations.put(relationName, false));
+
+        String entityType = itemService.getMetadataFirstValue(item, "dspace", "entity", "type", Item.ANY);
+        if (entityType == null) {
+            log.warn("The item with id " + item.getID() + " has no dspace.entity.type. No related items is found.");
+            return hasRelations;
+        }
+
+        Map<String, String> facetQueries = new LinkedHashMap<>();
+        for (String relationName : relationNames) {
+            DiscoveryConfiguration discoveryConfiguration = findDiscoveryConfiguration(entityType, relationName);
+            if (discoveryConfiguration == null) {
+                log.warn("No discovery configuration found for relation " + relationName + " for item with id "
+                    + item.getID() + " and type " + entityType + ". No related items is found.");
+                continue;
+            }
+            facetQueries.put(relationName, buildRelationQuery(context, item, discoveryConfiguration));
+        }
+        if (facetQueries.isEmpty()) {
+            return hasRelations;
+        }
+
+        // the scope and the configuration name are not set, the restrictions they drive are in the facet queries
+        DiscoverQuery discoverQuery = new DiscoverQuery();
+        discoverQuery.setDSpaceObjectFilter(IndexableItem.TYPE);
+        discoverQuery.setMaxResults(0);
+        facetQueries.values().stream().distinct().forEach(discoverQuery::addFacetQuery);
+
+        DiscoverResult discoverResult;
+        try {
+            discoverResult = searchService.search(context, discoverQuery);
+        } catch (SearchServiceException e) {
+            throw new RuntimeException(e);
+        }
+
+        facetQueries.forEach((relationName, facetQuery) -> {
+            Long count = discoverResult.getFacetQueryCount(facetQuery);
+            hasRelations.put(relationName, count != null && count > 0);
+        });
+        return hasRelations;
+    }
+
+    private String buildRelationQuery(Context context, Item item, DiscoveryConfiguration discoveryConfiguration) {
+        List<String> filterQueries = discoveryConfiguration.getDefaultFilterQueries().stream()
+            .map(defaultFilterQuery -> MessageFormat.format(defaultFilterQuery, item.getID()))
+            .collect(Collectors.toList());
+        if (hiddenRelationsRestrictionPlugin != null) {
+            filterQueries.addAll(hiddenRelationsRestrictionPlugin.getRestrictionFilterQueries(context,
+                item.getID().toString(), discoveryConfiguration.getId()));
+        }
+        if (filterQueries.isEmpty()) {
+            return "*:*";
+        }
+        // unlike a filter query, a nested pure negative clause matches nothing without the match all query
+        return filterQueries.stream()
+            .map(filterQuery -> isNegative(filterQuery) ? "(*:* " + filterQuery + ")" : "(" + filterQuery + ")")
+            .collect(Collectors.joining(" AND "));
+    }
+
+    private boolean isNegative(String filterQuery) {
+        String query = filterQuery.trim();
+        return query.startsWith("-") || query.startsWith("NOT ");
+    }
+
     private DiscoveryConfiguration findDiscoveryConfiguration(String entityType, String relationName) {
         String configurationName = "RELATION." + entityType + "." + relationName;
         return searchConfigurationService.getDiscoveryConfigurationByName(configurationName);
@@ -11,10 +11,13 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrInputDocument;
@@ -154,6 +157,17 @@ public class CollectionIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Ind
         return collection == null ? Optional.empty() : Optional.of(new IndexableCollection(collection));
     }
 
+    @Override
+    public Map<String, IndexableCollection> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        List<UUID> uuids = ids.stream().map(UUID::fromString).collect(Collectors.toList());
+        Map<String, IndexableCollection> collections = new HashMap<>();
+        for (Collection collection : collectionService.findByIds(context, uuids)) {
+            collections.put(collection.getID().toString(), new IndexableCollection(collection));
+        }
+        return sortByIds(ids, collections);
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCollection indexableCollection) throws SQLException {
         return getCollectionLocations(context, indexableCollection.getIndexedObject());
@@ -11,10 +11,13 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.solr.common.SolrInputDocument;
 import org.dspace.content.Community;
@@ -121,6 +124,17 @@ public class CommunityIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Inde
         return community == null ? Optional.empty() : Optional.of(new IndexableCommunity(community));
     }
 
+    @Override
+    public Map<String, IndexableCommunity> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        List<UUID> uuids = ids.stream().map(UUID::fromString).collect(Collectors.toList());
+        Map<String, IndexableCommunity> communities = new HashMap<>();
+        for (Community community : communityService.findByIds(context, uuids)) {
+            communities.put(community.getID().toString(), new IndexableCommunity(community));
+        }
+        return sortByIds(ids, communities);
+    }
+
     @Override
     public List<String> getLocations(Context context, IndexableCommunity indexableDSpaceObject) throws SQLException {
         final Community target = indexableDSpaceObject.getIndexedObject();
@@ -11,12 +11,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
-import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.common.SolrInputDocument;
 import org.apache.tika.exception.TikaException;
@@ -28,6 +29,7 @@ import org.dspace.core.Context;
 import org.dspace.discovery.FullTextContentStreams;
 import org.dspace.discovery.IndexableObject;
 import org.dspace.discovery.SearchUtils;
+import org.dspace.discovery.SolrDocumentBatchWriter;
 import org.dspace.discovery.SolrSearchCore;
 import org.dspace.discovery.SolrServiceIndexPlugin;
 import org.dspace.discovery.indexobject.factory.IndexFactory;
@@ -85,6 +87,38 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
         return buildDocument(context, indexableObject);
     }
 
+    @Override
+    public Map<String, T> findIndexableObjects(Context context, List<String> ids) throws SQLException {
+        Map<String, T> indexableObjects = new LinkedHashMap<>();
+        for (String id : ids) {
+            findIndexableObject(context, id).ifPresent(indexableObject -> indexableObjects.put(id, indexableObject));
+        }
+        return indexableObjects;
+    }
+
+    /**
+     * Sort the given indexable objects, keyed by their identifier, in the order of the given ids.
+     * @param ids               the requested identifiers
+     * @param indexableObjects  the indexable objects found
+     * @return                  the indexable objects in the order of the given ids
+     */
+    protected Map<String, T> sortByIds(List<String> ids, Map<String, T> indexableObjects) {
+        Map<String, T> sorted = new LinkedHashMap<>();
+        for (String id : ids) {
+            T indexableObject = indexableObjects.get(id);
+            if (indexableObject != null) {
+                sorted.put(id, indexableObject);
+            }
+        }
+        return sorted;
+    }
+
+    @Override
+    public SolrInputDocument buildCompleteDocument(Context context, T indexableObject)
+            throws SQLException, IOException {
+        return buildDocument(context, indexableObject);
+    }
+
     @Override
     public void writeDocument(Context context, T indexableObject, SolrInputDocument solrInputDocument)
             throws SQLException, IOException, SolrServerException {
@@ -105,62 +139,71 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
      */
     protected void writeDocument(SolrInputDocument doc, FullTextContentStreams streams)
             throws IOException, SolrServerException {
-        final SolrClient solr = solrSearchCore.getSolr();
-        if (solr != null) {
-            // If full text stream(s) were passed in, we'll index them as part of the SolrInputDocument
-            if (!ConfigurationService.getBooleanProperty("discovery.ignore-fulltext", false) && streams != null
-                    && !streams.isEmpty()) {
-                // limit full text indexing to first 100,000 characters unless configured otherwise
-                final int charLimit = DSpaceServicesFactory.getInstance().getConfigurationService()
-                        .getIntProperty("discovery.solr.fulltext.charLimit",
-                                100000);
-
-                // Use Tika's Text parser as the streams are always from the TEXT bundle (i.e. already extracted text)
-                TextAndCSVParser tikaParser = new TextAndCSVParser();
-                BodyContentHandler tikaHandler = new BodyContentHandler(charLimit);
-                Metadata tikaMetadata = new Metadata();
-                ParseContext tikaContext = new ParseContext();
-
-                // Use Apache Tika to parse the full text stream(s)
-                try (InputStream fullTextStreams = streams.getStream()) {
-                    tikaParser.parse(fullTextStreams, tikaHandler, tikaMetadata, tikaContext);
-
-                    // Write Tika metadata to "tika_meta_*" fields.
-                    // This metadata is not very useful right now,
-                    // but we'll keep it just in case it becomes more useful.
-                    for (String name : tikaMetadata.names()) {
-                        for (String value : tikaMetadata.getValues(name)) {
-                            doc.addField("tika_meta_" + name, value);
-                        }
-                    }
+        final SolrDocumentBatchWriter writer = solrSearchCore.getDocumentWriter();
+        if (writer != null) {
+            try {
+                addFullText(doc, streams);
+            } finally {
+                // Add document to index, the writer can buffer it to send it with other documents
+                writer.add(doc);
+            }
+        }
+    }
+
+    /**
+     * Add the full text of the given streams to the document, if full text indexing is enabled.
+     *
+     * @param doc     the solr document to be enriched
+     * @param streams list of bitstream content streams, can be null
+     * @throws IOException if the full text could not be parsed
+     */
+    protected void addFullText(SolrInputDocument doc, FullTextContentStreams streams) throws IOException {
+        // If full text stream(s) were passed in, we'll index them as part of the SolrInputDocument
+        if (!ConfigurationService.getBooleanProperty("discovery.ignore-fulltext", false) && streams != null
+                && !streams.isEmpty()) {
+            // limit full text indexing to first 100,000 characters unless configured otherwise
+            final int charLimit = DSpaceServicesFactory.getInstance().getConfigurationService()
+                    .getIntProperty("discovery.solr.fulltext.charLimit",
+                            100000);
+
+            // Use Tika's Text parser as the streams are always from the TEXT bundle (i.e. already extracted text)
+            TextAndCSVParser tikaParser = new TextAndCSVParser();
+            BodyContentHandler tikaHandler = new BodyContentHandler(charLimit);
+            Metadata tikaMetadata = new Metadata();
+            ParseContext tikaContext = new ParseContext();
 
-                    // Save (parsed) full text to "fulltext" field
-                    doc.addField("fulltext", tikaHandler.toString());
-                } catch (SAXException saxe) {
-                    // Check if this SAXException is just a notice that this file was longer than the character limit.
-                    // Unfortunately there is not a unique, public exception type to catch here. This error is thrown
-                    // by Tika's WriteOutContentHandler when it encounters a document longer than the char limit
-                    // https://github.com/apache/tika/blob/main/tika-core/src/main/java/org/apache/tika/sax/WriteOutContentHandler.java
-                    if (saxe.getMessage().contains("limit has been reached")) {
-                        // log that we only indexed up to that configured limit
-                        log.info("Full text is larger than the configured limit (discovery.solr.fulltext.charLimit)."
-                                + " Only the first {} characters were indexed.", charLimit);
-                    } else {
-                        log.error("Tika parsing error. Could not index full text.", saxe);
-                        throw new IOException("Tika parsing error. Could not index full text.", saxe);
+            // Use Apache Tika to parse the full text stream(s)
+            try (InputStream fullTextStreams = streams.getStream()) {
+                tikaParser.parse(fullTextStreams, tikaHandler, tikaMetadata, tikaContext);
+
+                // Write Tika metadata to "tika_meta_*" fields.
+                // This metadata is not very useful right now,
+                // but we'll keep it just in case it becomes more useful.
+                for (String name : tikaMetadata.names()) {
+                    for (String value : tikaMetadata.getValues(name)) {
+                        doc.addField("tika_meta_" + name, value);
                     }
-                } catch (TikaException | IOException ex) {
-                    log.error("Tika parsing error. Could not index full text.", ex);
-                    throw new IOException("Tika parsing error. Could not index full text.", ex);
-                } finally {
-                    // Add document to index
-                    solr.add(doc);
                 }
-                return;
-            }
-            // Add document to index
-            solr.add(doc);
 
+                // Save (parsed) full text to "fulltext" field
+                doc.addField("fulltext", tikaHandler.toString());
+            } catch (SAXException saxe) {
+                // Check if this SAXException is just a notice that this file was longer than the character limit.
+                // Unfortunately there is not a unique, public exception type to catch here. This error is thrown
+                // by Tika's WriteOutContentHandler when it encounters a document longer than the char limit
+                // https://github.com/apache/tika/blob/main/tika-core/src/main/java/org/apache/tika/sax/WriteOutContentHandler.java
+                if (saxe.getMessage().contains("limit has been reached")) {
+                    // log that we only indexed up to that configured limit
+                    log.info("Full text is larger than the configured limit (discovery.solr.fulltext.charLimit)."
+                            + " Only the first {} characters were indexed.", charLimit);
+                } else {
+                    log.error("Tika parsing error. Could not index full text.", saxe);
+                    throw new IOException("Tika parsing error. Could not index full text.", saxe);
+                }
+            } catch (TikaException | IOException ex) {
+                log.error("Tika parsing error. Could not index full text.", ex);
+                throw new IOException("Tika parsing error. Could not index full text.", ex);
+            }
         }
     }
 
@@ -237,16 +280,28 @@ public abstract class IndexFactoryImpl<T extends IndexableObject, S> implements
 
     @Override
     public void delete(T indexableObject) throws IOException, SolrServerException {
+        solrSearchCore.sendBuffered();
         solrSearchCore.getSolr().deleteById(indexableObject.getUniqueIndexID());
     }
 
     @Override
     public void delete(String indexableObjectIdentifier) throws IOException, SolrServerException {
+        solrSearchCore.sendBuffered();
         solrSearchCore.getSolr().deleteById(indexableObjectIdentifier);
     }
 
+    @Override
+    public void delete(List<String> indexableObjectIdentifiers) throws IOException, SolrServerException {
+        if (indexableObjectIdentifiers.isEmpty()) {
+            return;
+        }
+        solrSearchCore.sendBuffered();
+        solrSearchCore.getSolr().deleteById(indexableObjectIdentifiers);
+    }
+
     @Override
     public void deleteAll() throws IOException, SolrServerException {
+        solrSearchCore.sendBuffered();
         solrSearchCore.getSolr().deleteByQuery(SearchUtils.RESOURCE_TYPE_FIELD + ":" + getType());
     }
 }
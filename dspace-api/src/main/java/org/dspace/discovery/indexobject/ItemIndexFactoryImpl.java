@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -746,6 +747,19 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         log.debug("  Added Grouping");
     }
 
+    @Override
+    public SolrInputDocument buildCompleteDocument(Context context, IndexableItem indexableItem)
+            throws SQLException, IOException {
+        SolrInputDocument doc = buildDocument(context, indexableItem);
+        try {
+            addFullText(doc, new FullTextContentStreams(context, indexableItem.getIndexedObject()));
+        } catch (IOException e) {
+            // as for the single document write, a full text failure must not prevent the item to be indexed
+            log.error("Could not index the full text of item {}", indexableItem.getID(), e);
+        }
+        return doc;
+    }
+
     @Override
     public void writeDocument(Context context, IndexableItem indexableObject, SolrInputDocument solrInputDocument)
             throws SQLException, IOException, SolrServerException {
@@ -797,6 +811,18 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         deleteInProgressData(indexableObjectIdentifier);
     }
 
+    @Override
+    public void delete(List<String> indexableObjectIdentifiers) throws IOException, SolrServerException {
+        if (indexableObjectIdentifiers.isEmpty()) {
+            return;
+        }
+        super.delete(indexableObjectIdentifiers);
+        // Also delete any possible workflowItem / workspaceItem / tasks related to these items
+        String query = "{!terms f=inprogress.item}" + String.join(",", indexableObjectIdentifiers);
+        log.debug("Try to delete all in progress submissions [DELETEBYQUERY]:" + query);
+        solrSearchCore.getSolr().deleteByQuery(query);
+    }
+
     @Override
     public boolean supports(Object object) {
         return object instanceof Item;
@@ -836,6 +862,16 @@ public class ItemIndexFactoryImpl extends DSpaceObjectIndexFactoryImpl<Indexable
         return item == null ? Optional.empty() : Optional.of(new IndexableItem(item));
     }
 
+    @Override
+    public Map<String, IndexableItem> findIndexableObjects(Context context, List<String> ids) throws SQLException {
+        List<UUID> uuids = ids.stream().map(UUID::fromString).collect(Collectors.toList());
+        Map<String, IndexableItem> items = new HashMap<>();
+        for (Item item : itemService.findAllByIds(context, uuids)) {
+            items.put(item.getID().toString(), new IndexableItem(item));
+        }
+        return sortByIds(ids, items);
+    }
+
     /**
      * Handles indexing when discoverySearchFilter is of type facet.
      *
@@ -10,9 +10,12 @@ package org.dspace.discovery.indexobject;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrInputDocument;
@@ -112,4 +115,15 @@ public class WorkflowItemIndexFactoryImpl
         final XmlWorkflowItem xmlWorkflowItem = workflowItemService.find(context, Integer.parseInt(id));
         return xmlWorkflowItem == null ? Optional.empty() : Optional.of(new IndexableWorkflowItem(xmlWorkflowItem));
     }
+
+    @Override
+    public Map<String, IndexableWorkflowItem> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        List<Integer> workflowItemIds = ids.stream().map(Integer::valueOf).collect(Collectors.toList());
+        Map<String, IndexableWorkflowItem> workflowItems = new HashMap<>();
+        for (XmlWorkflowItem workflowItem : workflowItemService.findByIds(context, workflowItemIds)) {
+            workflowItems.put(workflowItem.getID().toString(), new IndexableWorkflowItem(workflowItem));
+        }
+        return sortByIds(ids, workflowItems);
+    }
 }
@@ -10,9 +10,12 @@ package org.dspace.discovery.indexobject;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.solr.common.SolrInputDocument;
@@ -88,4 +91,15 @@ public class WorkspaceItemIndexFactoryImpl
         final WorkspaceItem workspaceItem = workspaceItemService.find(context, Integer.parseInt(id));
         return workspaceItem == null ? Optional.empty() : Optional.of(new IndexableWorkspaceItem(workspaceItem));
     }
+
+    @Override
+    public Map<String, IndexableWorkspaceItem> findIndexableObjects(Context context, List<String> ids)
+        throws SQLException {
+        List<Integer> workspaceItemIds = ids.stream().map(Integer::valueOf).collect(Collectors.toList());
+        Map<String, IndexableWorkspaceItem> workspaceItems = new HashMap<>();
+        for (WorkspaceItem workspaceItem : workspaceItemService.findByIds(context, workspaceItemIds)) {
+            workspaceItems.put(workspaceItem.getID().toString(), new IndexableWorkspaceItem(workspaceItem));
+        }
+        return sortByIds(ids, workspaceItems);
+    }
 }
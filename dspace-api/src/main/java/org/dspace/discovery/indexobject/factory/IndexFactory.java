@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.solr.client.solrj.SolrServerException;
@@ -54,6 +55,15 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     SolrInputDocument buildNewDocument(Context context, T indexableObject) throws SQLException, IOException;
 
+    /**
+     * Create the complete solr document for the provided object, including the content (e.g. the full text of an
+     * item) that is otherwise only attached when the document is written. The resulting document can be sent to
+     * the search core as is, e.g. as part of a bulk update.
+     * @param indexableObject   the indexableObject that we want to index
+     * @return                  the complete solr document
+     */
+    SolrInputDocument buildCompleteDocument(Context context, T indexableObject) throws SQLException, IOException;
+
     /**
      * Write the provided document to the solr core
      * @param context               DSpace context object
@@ -82,6 +92,14 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     void delete(String indexableObjectIdentifier) throws IOException, SolrServerException;
 
+    /**
+     * Remove the provided indexable objects from the solr core with a single request
+     * @param indexableObjectIdentifiers The identifiers that we want to remove from the search core
+     * @throws IOException               If IO error
+     * @throws SolrServerException       If the solr documents could not be removed from the search core
+     */
+    void delete(List<String> indexableObjectIdentifiers) throws IOException, SolrServerException;
+
     /**
      * Remove all indexable objects of the implementing type from the search core
      * @throws IOException          If IO error
@@ -98,6 +116,16 @@ public interface IndexFactory<T extends IndexableObject, S> {
      */
     Optional<T> findIndexableObject(Context context, String id) throws SQLException;
 
+    /**
+     * Retrieve the indexable objects with the provided identifiers, loading them in bulk where supported
+     * @param context       DSpace context object
+     * @param ids           The identifiers for which we want to retrieve our indexable objects
+     * @return              The indexable objects found, keyed by their identifier in the order of the given ids.
+     *                      Identifiers without a matching object are not in the map.
+     * @throws SQLException If database error
+     */
+    Map<String, T> findIndexableObjects(Context context, List<String> ids) throws SQLException;
+
     /**
      * Determine whether the class can handle the factory implementation
      * @param object        The object which we want to check
@@ -28,6 +28,7 @@ import org.dspace.authorize.AuthorizeException;
 import org.dspace.core.Context;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.eperson.service.EPersonService;
+import org.dspace.eperson.service.GroupService;
 
 /**
  * Tools for manipulating EPersons and Groups.
@@ -44,6 +45,8 @@ public class Groomer {
 
     private static final EPersonService ePersonService = EPersonServiceFactory.getInstance().getEPersonService();
 
+    private static final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+
     /**
      * Default constructor
      */
@@ -64,6 +67,8 @@ public class Groomer {
         verbs.addOption(new Option("h", "help", false, "explain this tool"));
         verbs.addOption(new Option("a", "aging", false, "discover accounts not used recently"));
         verbs.addOption(new Option("u", "unsalted", false, "list accounts with unsalted password hashes"));
+        verbs.addOption(new Option("g", "group-cache", false,
+                                   "rebuild the cache of the indirect group memberships (group2groupcache)"));
 
         Options options = new Options();
         options.addOptionGroup(verbs);
@@ -96,6 +101,9 @@ public class Groomer {
         } else if (command.hasOption('u')) {
             // List accounts with unsalted passwords
             findUnsalted();
+        } else if (command.hasOption('g')) {
+            // Repair the cache of the group memberships
+            rebuildGroupCache();
         } else {
             // Should not happen:  verb option defined but no code!
             System.err.println("Unimplemented verb:  " + verbs.getSelected());
@@ -167,4 +175,20 @@ public class Groomer {
         }
         myContext.abort(); // No changes to commit
     }
+
+    /**
+     * Rebuild the whole group2groupcache table from the group memberships.
+     *
+     * @throws SQLException if database error
+     */
+    private static void rebuildGroupCache()
+        throws SQLException {
+        Context myContext = new Context();
+        myContext.turnOffAuthorisationSystem();
+        long start = System.currentTimeMillis();
+        groupService.rebuildGroupCache(myContext);
+        myContext.restoreAuthSystemState();
+        myContext.complete();
+        System.out.println("Group cache rebuilt in " + (System.currentTimeMillis() - start) + " ms");
+    }
 }
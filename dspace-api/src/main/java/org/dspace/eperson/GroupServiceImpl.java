@@ -8,7 +8,9 @@
 package org.dspace.eperson;
 
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -153,6 +155,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
 
         groupParent.addMember(groupChild);
         groupChild.addParentGroup(groupParent);
+        addToGroupCache(context, groupParent, groupChild);
 
         context.addEvent(new Event(Event.ADD, Constants.GROUP, groupParent.getID(), Constants.GROUP, groupChild.getID(),
                                    groupChild.getName(), getIdentifiers(context, groupParent)));
@@ -238,6 +241,7 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
         }
         if (groupParent.remove(childGroup)) {
             childGroup.removeParentGroup(groupParent);
+            removeFromGroupCache(context, groupParent, childGroup);
             context.addEvent(
                 new Event(Event.REMOVE, Constants.GROUP, groupParent.getID(), Constants.GROUP, childGroup.getID(),
                           childGroup.getName(), getIdentifiers(context, groupParent)));
@@ -571,11 +575,15 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             ePerson.getGroups().remove(group);
         }
 
-        // empty out group2groupcache table (if we do it after we delete our object we get an issue with references)
-        group2GroupCacheDAO.deleteAll(context);
+        // the cached pairs between the parents and the children of the group could go through it
+        Set<UUID> ancestors = new HashSet<>(group2GroupCacheDAO.findParentIds(context, group));
+        Set<UUID> descendants = new HashSet<>(group2GroupCacheDAO.findChildIds(context, group));
+        // remove the group from group2groupcache table (if we do it after we delete our object we get an issue with
+        // references)
+        group2GroupCacheDAO.deleteByGroup(context, group);
         // Remove ourself
         groupDAO.delete(context, group);
-        rethinkGroupCache(context, false);
+        removeUnreachableFromGroupCache(context, ancestors, descendants);
 
         log.info(LogHelper.getHeader(context, "delete_group", "group_id="
             + group.getID()));
@@ -665,10 +673,8 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
             group.clearDetails();
         }
 
-        if (group.isGroupsChanged()) {
-            rethinkGroupCache(context, true);
-            group.clearGroupsChanged();
-        }
+        // the group2groupcache table has already been updated by addMember and removeMember
+        group.clearGroupsChanged();
 
         log.info(LogHelper.getHeader(context, "update_group", "group_id="
             + group.getID()));
@@ -681,9 +687,16 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
     }
 
 
+    @Override
+    public void rebuildGroupCache(Context context) throws SQLException {
+        rethinkGroupCache(context, true);
+    }
+
     /**
      * Regenerate the group cache AKA the group2groupcache table in the database -
-     * meant to be called when a group is added or removed from another group
+     * meant to repair the table, the memberships added or removed by
+     * {@link #addMember(Context, Group, Group)} and {@link #removeMember(Context, Group, Group)}
+     * are applied incrementally
      *
      * @param context      The relevant DSpace Context.
      * @param flushQueries flushQueries Flush all pending queries
@@ -691,60 +704,91 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
      */
     protected void rethinkGroupCache(Context context, boolean flushQueries) throws SQLException {
 
-        Map<UUID, Set<UUID>> parents = new HashMap<>();
-
-        List<Pair<UUID, UUID>> group2groupResults = groupDAO.getGroup2GroupResults(context, flushQueries);
-        for (Pair<UUID, UUID> group2groupResult : group2groupResults) {
-            UUID parent = group2groupResult.getLeft();
-            UUID child = group2groupResult.getRight();
-
-            // if parent doesn't have an entry, create one
-            if (!parents.containsKey(parent)) {
-                Set<UUID> children = new HashSet<>();
-
-                // add child id to the list
-                children.add(child);
-                parents.put(parent, children);
-            } else {
-                // parent has an entry, now add the child to the parent's record
-                // of children
-                Set<UUID> children = parents.get(parent);
-                children.add(child);
-            }
-        }
-
-        // now parents is a hash of all of the IDs of groups that are parents
-        // and each hash entry is a hash of all of the IDs of children of those
-        // parent groups
-        // so now to establish all parent,child relationships we can iterate
-        // through the parents hash
-        for (Map.Entry<UUID, Set<UUID>> parent : parents.entrySet()) {
-            Set<UUID> myChildren = getChildren(parents, parent.getKey());
-            parent.getValue().addAll(myChildren);
-        }
+        Map<UUID, Set<UUID>> parents = getGroupMemberships(context, flushQueries);
 
         // empty out group2groupcache table
         group2GroupCacheDAO.deleteAll(context);
 
-        // write out new one
-        for (Map.Entry<UUID, Set<UUID>> parent : parents.entrySet()) {
-            UUID key = parent.getKey();
+        // write out new one, with a batch of inserts for each parent
+        for (UUID parent : parents.keySet()) {
+            group2GroupCacheDAO.insert(context, parent, getChildren(parents, parent));
+        }
+    }
 
-            for (UUID child : parent.getValue()) {
+    /**
+     * Add to the group cache the pairs introduced by a new membership: the parent group and all its ancestors
+     * become parents of the child group and of all its descendants.
+     *
+     * @param context     The relevant DSpace Context.
+     * @param groupParent the parent group of the new membership
+     * @param groupChild  the child group of the new membership
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void addToGroupCache(Context context, Group groupParent, Group groupChild) throws SQLException {
+        Set<UUID> ancestors = new HashSet<>(group2GroupCacheDAO.findParentIds(context, groupParent));
+        ancestors.add(groupParent.getID());
+        Set<UUID> descendants = new HashSet<>(group2GroupCacheDAO.findChildIds(context, groupChild));
+        descendants.add(groupChild.getID());
+        for (UUID ancestor : ancestors) {
+            group2GroupCacheDAO.insert(context, ancestor, descendants);
+        }
+    }
 
-                Group parentGroup = find(context, key);
-                Group childGroup = find(context, child);
+    /**
+     * Remove from the group cache the pairs broken by a removed membership. Only the pairs between the parent
+     * group or its ancestors and the child group or its descendants are affected.
+     *
+     * @param context     The relevant DSpace Context.
+     * @param groupParent the parent group of the removed membership
+     * @param childGroup  the child group of the removed membership
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void removeFromGroupCache(Context context, Group groupParent, Group childGroup) throws SQLException {
+        Set<UUID> ancestors = new HashSet<>(group2GroupCacheDAO.findParentIds(context, groupParent));
+        ancestors.add(groupParent.getID());
+        Set<UUID> descendants = new HashSet<>(group2GroupCacheDAO.findChildIds(context, childGroup));
+        descendants.add(childGroup.getID());
+        removeUnreachableFromGroupCache(context, ancestors, descendants);
+    }
 
+    /**
+     * Remove from the group cache the pairs between the given ancestors and descendants which are no longer
+     * reachable through the current memberships. A pair is kept when the descendant is still a member of the
+     * ancestor through another path.
+     *
+     * @param context     The relevant DSpace Context.
+     * @param ancestors   the ids of the parent groups of the affected pairs
+     * @param descendants the ids of the child groups of the affected pairs
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected void removeUnreachableFromGroupCache(Context context, Set<UUID> ancestors, Set<UUID> descendants)
+        throws SQLException {
+        if (ancestors.isEmpty() || descendants.isEmpty()) {
+            return;
+        }
+        Map<UUID, Set<UUID>> parents = getGroupMemberships(context, true);
+        for (UUID ancestor : ancestors) {
+            Set<UUID> unreachable = new HashSet<>(descendants);
+            unreachable.removeAll(getChildren(parents, ancestor));
+            group2GroupCacheDAO.delete(context, ancestor, unreachable);
+        }
+    }
 
-                if (parentGroup != null && childGroup != null && group2GroupCacheDAO
-                    .find(context, parentGroup, childGroup) == null) {
-                    Group2GroupCache group2GroupCache = group2GroupCacheDAO.create(context, new Group2GroupCache());
-                    group2GroupCache.setParent(parentGroup);
-                    group2GroupCache.setChild(childGroup);
-                    group2GroupCacheDAO.save(context, group2GroupCache);
-                }
-            }
+    /**
+     * Load the direct group memberships.
+     *
+     * @param context      The relevant DSpace Context.
+     * @param flushQueries flushQueries Flush all pending queries
+     * @return the ids of the direct child groups by id of parent group
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    protected Map<UUID, Set<UUID>> getGroupMemberships(Context context, boolean flushQueries) throws SQLException {
+        Map<UUID, Set<UUID>> parents = new HashMap<>();
+        for (Pair<UUID, UUID> group2groupResult : groupDAO.getGroup2GroupResults(context, flushQueries)) {
+            parents.computeIfAbsent(group2groupResult.getLeft(), parent -> new HashSet<>())
+                   .add(group2groupResult.getRight());
         }
+        return parents;
     }
 
     @Override
@@ -848,34 +892,23 @@ public class GroupServiceImpl extends DSpaceObjectServiceImpl<Group> implements
     }
 
     /**
-     * Used recursively to generate a map of ALL of the children of the given
-     * parent
+     * Generate the set of ALL of the children of the given parent, following
+     * the memberships breadth-first so that cycles can't loop forever
      *
      * @param parents Map of parent,child relationships
      * @param parent  the parent you're interested in
-     * @return Map whose keys are all of the children of a parent
+     * @return Set of all of the direct and indirect children of a parent
      */
     protected Set<UUID> getChildren(Map<UUID, Set<UUID>> parents, UUID parent) {
         Set<UUID> myChildren = new HashSet<>();
-
-        // degenerate case, this parent has no children
-        if (!parents.containsKey(parent)) {
-            return myChildren;
-        }
-
-        // got this far, so we must have children
-        Set<UUID> children = parents.get(parent);
-
-        // now iterate over all of the children
-
-        for (UUID child : children) {
-            // add this child's ID to our return set
-            myChildren.add(child);
-
-            // and now its children
-            myChildren.addAll(getChildren(parents, child));
+        Deque<UUID> toVisit = new ArrayDeque<>(parents.getOrDefault(parent, Set.of()));
+        while (!toVisit.isEmpty()) {
+            UUID child = toVisit.poll();
+            // visit the children of each group only once
+            if (myChildren.add(child)) {
+                toVisit.addAll(parents.getOrDefault(child, Set.of()));
+            }
         }
-
         return myChildren;
     }
 
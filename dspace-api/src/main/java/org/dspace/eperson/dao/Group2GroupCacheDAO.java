@@ -9,6 +9,8 @@ package org.dspace.eperson.dao;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.dspace.core.Context;
 import org.dspace.core.GenericDAO;
@@ -34,4 +36,55 @@ public interface Group2GroupCacheDAO extends GenericDAO<Group2GroupCache> {
     public Group2GroupCache find(Context context, Group parent, Group child) throws SQLException;
 
     public void deleteAll(Context context) throws SQLException;
+
+    /**
+     * Find the ids of all the groups having the given group as direct or indirect member.
+     *
+     * @param context The relevant DSpace Context.
+     * @param child   the member group
+     * @return the ids of the parent groups
+     * @throws SQLException if database error
+     */
+    public List<UUID> findParentIds(Context context, Group child) throws SQLException;
+
+    /**
+     * Find the ids of all the direct and indirect member groups of the given group.
+     *
+     * @param context The relevant DSpace Context.
+     * @param parent  the parent group
+     * @return the ids of the member groups
+     * @throws SQLException if database error
+     */
+    public List<UUID> findChildIds(Context context, Group parent) throws SQLException;
+
+    /**
+     * Add the pairs between the given parent and the given children which are not cached yet, with one statement
+     * for each batch of children. Children which aren't existing groups and the parent itself are ignored.
+     *
+     * @param context  The relevant DSpace Context.
+     * @param parentId the id of the parent group
+     * @param childIds the ids of the children groups
+     * @throws SQLException if database error
+     */
+    public void insert(Context context, UUID parentId, Set<UUID> childIds) throws SQLException;
+
+    /**
+     * Remove the pairs between the given parent and the given children, with one statement for each batch of
+     * children.
+     *
+     * @param context  The relevant DSpace Context.
+     * @param parentId the id of the parent group
+     * @param childIds the ids of the children groups
+     * @throws SQLException if database error
+     */
+    public void delete(Context context, UUID parentId, Set<UUID> childIds) throws SQLException;
+
+    /**
+     * Remove all the pairs having the given group as parent or as child.
+     *
+     * @param context The relevant DSpace Context.
+     * @param group   the group
+     * @throws SQLException if database error
+     */
+    public void deleteByGroup(Context context, Group group) throws SQLException;
 }
@@ -8,14 +8,18 @@
 package org.dspace.eperson.dao.impl;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.apache.commons.collections4.ListUtils;
 import org.dspace.core.AbstractHibernateDAO;
 import org.dspace.core.Context;
 import org.dspace.eperson.Group;
@@ -31,6 +35,12 @@ import org.dspace.eperson.dao.Group2GroupCacheDAO;
  * @author kevinvandevelde at atmire.com
  */
 public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCache> implements Group2GroupCacheDAO {
+
+    /**
+     * The maximum number of children bound to a single insert or delete statement
+     */
+    private static final int BATCH_SIZE = 1000;
+
     protected Group2GroupCacheDAOImpl() {
         super();
     }
@@ -90,4 +100,61 @@ public class Group2GroupCacheDAOImpl extends AbstractHibernateDAO<Group2GroupCac
     public void deleteAll(Context context) throws SQLException {
         createQuery(context, "delete from Group2GroupCache").executeUpdate();
     }
+
+    @Override
+    public List<UUID> findParentIds(Context context, Group child) throws SQLException {
+        Query query = createQuery(context, "SELECT g.parent.id FROM Group2GroupCache g WHERE g.child = :childGroup");
+        query.setParameter("childGroup", child);
+        @SuppressWarnings("unchecked")
+        List<UUID> results = query.getResultList();
+        return results;
+    }
+
+    @Override
+    public List<UUID> findChildIds(Context context, Group parent) throws SQLException {
+        Query query = createQuery(context, "SELECT g.child.id FROM Group2GroupCache g WHERE g.parent = :parentGroup");
+        query.setParameter("parentGroup", parent);
+        @SuppressWarnings("unchecked")
+        List<UUID> results = query.getResultList();
+        return results;
+    }
+
+    @Override
+    public void insert(Context context, UUID parentId, Set<UUID> childIds) throws SQLException {
+        if (childIds.isEmpty()) {
+            return;
+        }
+        // the groups referenced by the new pairs could still be pending in the session
+        getHibernateSession(context).flush();
+        for (List<UUID> batch : ListUtils.partition(new ArrayList<>(childIds), BATCH_SIZE)) {
+            getHibernateSession(context)
+                .createNativeQuery("INSERT INTO group2groupcache (parent_id, child_id) " +
+                                       "SELECT p.uuid, c.uuid FROM epersongroup p, epersongroup c " +
+                                       "WHERE p.uuid = :parentId AND c.uuid IN (:childIds) AND c.uuid <> p.uuid " +
+                                       "AND NOT EXISTS (SELECT 1 FROM group2groupcache g " +
+                                       "WHERE g.parent_id = p.uuid AND g.child_id = c.uuid)")
+                .addSynchronizedEntityClass(Group2GroupCache.class)
+                .setParameter("parentId", parentId)
+                .setParameterList("childIds", batch)
+                .executeUpdate();
+        }
+    }
+
+    @Override
+    public void delete(Context context, UUID parentId, Set<UUID> childIds) throws SQLException {
+        for (List<UUID> batch : ListUtils.partition(new ArrayList<>(childIds), BATCH_SIZE)) {
+            createQuery(context, "DELETE FROM Group2GroupCache g " +
+                "WHERE g.parent.id = :parentId AND g.child.id IN (:childIds)")
+                .setParameter("parentId", parentId)
+                .setParameter("childIds", batch)
+                .executeUpdate();
+        }
+    }
+
+    @Override
+    public void deleteByGroup(Context context, Group group) throws SQLException {
+        createQuery(context, "DELETE FROM Group2GroupCache g WHERE g.parent = :group OR g.child = :group")
+            .setParameter("group", group)
+            .executeUpdate();
+    }
 }
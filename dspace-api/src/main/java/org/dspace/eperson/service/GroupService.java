@@ -60,9 +60,9 @@ public interface GroupService extends DSpaceObjectService<Group>, DSpaceObjectLe
     public void addMember(Context context, Group group, EPerson e);
 
     /**
-     * add group to this group. Be sure to call the {@link #update(Context, Group)}
-     * method once that all the membership are set to trigger the rebuild of the
-     * group2group cache table
+     * add group to this group. The group2group cache table is updated right away
+     * with the pairs of groups affected by the new membership, without rebuilding
+     * the whole table
      *
      * @param context     DSpace context object
      * @param groupParent parent group
@@ -82,9 +82,9 @@ public interface GroupService extends DSpaceObjectService<Group>, DSpaceObjectLe
 
 
     /**
-     * remove group from this group. Be sure to call the {@link #update(Context, Group)}
-     * method once that all the membership are set to trigger the rebuild of the
-     * group2group cache table
+     * remove group from this group. The pairs of the group2group cache table
+     * affected by the removed membership are updated right away, without
+     * rebuilding the whole table
      *
      * @param context     DSpace context object
      * @param groupParent parent group
@@ -352,6 +352,15 @@ public interface GroupService extends DSpaceObjectService<Group>, DSpaceObjectLe
      */
     public void initDefaultGroupNames(Context context) throws SQLException, AuthorizeException;
 
+    /**
+     * Rebuild the whole group2group cache table from the group memberships, to
+     * repair a table which is out of sync with them.
+     *
+     * @param context The DSpace context
+     * @throws SQLException database exception
+     */
+    public void rebuildGroupCache(Context context) throws SQLException;
+
     /**
      * Find all empty groups in DSpace
      *
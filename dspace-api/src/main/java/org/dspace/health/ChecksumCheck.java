@@ -55,8 +55,9 @@ public class ChecksumCheck extends Check {
                                 collector.arr.size());
             int ok_items = 0;
             for (MostRecentChecksum bi : collector.arr) {
-                if (!ChecksumResultCode.CHECKSUM_MATCH.equals(bi
-                                                                  .getChecksumResult().getResultCode())) {
+                ChecksumResultCode resultCode = bi.getChecksumResult().getResultCode();
+                if (!ChecksumResultCode.CHECKSUM_MATCH.equals(resultCode)
+                    && !ChecksumResultCode.CHECKSUM_MATCH_STORE_METADATA.equals(resultCode)) {
                     ret += String
                         .format("md5 checksum FAILED (%s): %s id: %s bitstream-id: %s\n was: %s\n  is: %s\n",
                                 bi.getChecksumResult(), bi.getBitstream().getName(),
@@ -15,6 +15,7 @@ import org.dspace.content.MetadataField;
 import org.dspace.core.Context;
 import org.dspace.core.GenericDAO;
 import org.dspace.layout.CrisLayoutTab;
+import org.dspace.layout.dao.pojo.CrisLayoutTabKey;
 
 
 /**
@@ -88,6 +89,28 @@ public interface CrisLayoutTabDAO extends GenericDAO<CrisLayoutTab> {
     public List<CrisLayoutTab> findByEntityTypeAndEagerlyFetchBoxes(
         Context context, String entityType, String customFilter, Integer limit, Integer offset) throws SQLException;
 
+    /**
+     * Returns the id and the custom filter of the tabs with a specific entity type, ordered by priority. The
+     * result is stored in the query cache, which Hibernate invalidates when the tabs are changed, so that the
+     * tabs of an item can be chosen without querying the database.
+     * @param context The relevant DSpace Context
+     * @param entityType entity type label {@link EntityType}
+     * @return List of CrisLayoutTabKey {@link CrisLayoutTabKey}
+     * @throws SQLException An exception that provides information on a database errors.
+     */
+    public List<CrisLayoutTabKey> findKeysByEntityType(Context context, String entityType) throws SQLException;
+
+    /**
+     * Returns the tabs with the given ids, ordered by priority, and fetch all the rows, cells and boxes
+     * contained therein.
+     * @param context The relevant DSpace Context
+     * @param ids the tab ids
+     * @return List of CrisLayoutTab {@link CrisLayoutTab}
+     * @throws SQLException An exception that provides information on a database errors.
+     */
+    public List<CrisLayoutTab> findByIdsAndEagerlyFetchBoxes(Context context, List<Integer> ids)
+        throws SQLException;
+
     /**
      * Returns the total number of metadata field associated at tab
      * @param context The relevant DSpace Context
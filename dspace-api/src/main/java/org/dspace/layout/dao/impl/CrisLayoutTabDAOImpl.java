@@ -12,7 +12,9 @@ import static org.dspace.layout.CrisLayoutTab.ROWS_AND_CONTENT_GRAPH;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.persistence.EntityGraph;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -29,6 +31,7 @@ import org.dspace.core.Context;
 import org.dspace.layout.CrisLayoutTab;
 import org.dspace.layout.CrisLayoutTab_;
 import org.dspace.layout.dao.CrisLayoutTabDAO;
+import org.dspace.layout.dao.pojo.CrisLayoutTabKey;
 
 /**
  * Database Access Object implementation class for the CrisLayoutTab object
@@ -130,6 +133,52 @@ public class CrisLayoutTabDAOImpl extends AbstractHibernateDAO<CrisLayoutTab> im
         return getHibernateSession(context).createQuery(cc).getSingleResult();
     }
 
+    @Override
+    public List<CrisLayoutTabKey> findKeysByEntityType(Context context, String entityType) throws SQLException {
+        final String idAlias = "id";
+        final String customFilterAlias = "customFilter";
+
+        CriteriaBuilder cb = getCriteriaBuilder(context);
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<CrisLayoutTab> tabRoot = query.from(CrisLayoutTab.class);
+        Join<CrisLayoutTab, EntityType> join = tabRoot.join(CrisLayoutTab_.entity);
+
+        query.multiselect(
+                tabRoot.get(CrisLayoutTab_.id).alias(idAlias),
+                tabRoot.get(CrisLayoutTab_.customFilter).alias(customFilterAlias))
+            .where(cb.equal(join.get(EntityType_.LABEL), entityType))
+            .orderBy(cb.asc(tabRoot.get(CrisLayoutTab_.PRIORITY)));
+
+        TypedQuery<Tuple> typedQuery = getHibernateSession(context).createQuery(query);
+        typedQuery.setHint("org.hibernate.cacheable", true);
+
+        return typedQuery.getResultList().stream()
+            .map(t -> new CrisLayoutTabKey((Integer) t.get(idAlias), (String) t.get(customFilterAlias)))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CrisLayoutTab> findByIdsAndEagerlyFetchBoxes(Context context, List<Integer> ids)
+        throws SQLException {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = getCriteriaBuilder(context);
+        CriteriaQuery<CrisLayoutTab> query = cb.createQuery(CrisLayoutTab.class);
+        Root<CrisLayoutTab> tabRoot = query.from(CrisLayoutTab.class);
+
+        query
+            .where(tabRoot.get(CrisLayoutTab_.ID).in(ids))
+            .orderBy(cb.asc(tabRoot.get(CrisLayoutTab_.PRIORITY)));
+
+        TypedQuery<CrisLayoutTab> typedQuery = getHibernateSession(context).createQuery(query);
+        EntityGraph<?> graph = getHibernateSession(context).createEntityGraph(ROWS_AND_CONTENT_GRAPH);
+        typedQuery.setHint("javax.persistence.loadgraph", graph);
+
+        return typedQuery.getResultList();
+    }
+
     @Override
     public Long totalMetadatafield(Context context, Integer tabId) throws SQLException {
         CriteriaBuilder cb = getCriteriaBuilder(context);
@@ -0,0 +1,35 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.layout.dao.pojo;
+
+import org.dspace.layout.CrisLayoutTab;
+import org.dspace.layout.dao.CrisLayoutTabDAO;
+
+/**
+ * The attributes used to choose the tabs of an item, returned by {@link CrisLayoutTabDAO#findKeysByEntityType}
+ * to avoid loading the {@link CrisLayoutTab}s.
+ */
+public class CrisLayoutTabKey {
+
+    private final int tabId;
+    private final String customFilter;
+
+    public CrisLayoutTabKey(int tabId, String customFilter) {
+        this.tabId = tabId;
+        this.customFilter = customFilter;
+    }
+
+    public int getTabId() {
+        return tabId;
+    }
+
+    public String getCustomFilter() {
+        return customFilter;
+    }
+
+}
@@ -7,10 +7,14 @@
  */
 package org.dspace.layout.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.dspace.content.Item;
 import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.layout.CrisLayoutBox;
+import org.dspace.layout.LayoutSecurity;
 
 /**
  * Service to be used to check box access rights
@@ -30,4 +34,16 @@ public interface CrisLayoutBoxAccessService {
      * @return true if access has to be granded, false otherwise
      */
     boolean hasAccess(Context context, EPerson user, CrisLayoutBox box, Item item);
+
+    /**
+     * Establishes in bulk which of the given layout boxes the user can access for a given Item. The
+     * {@link LayoutSecurity} policies not depending on the box configuration are evaluated once for all the boxes.
+     *
+     * @param context current Context
+     * @param user    user to be checked
+     * @param boxes   layout boxes
+     * @param item    item to whom metadata contained in the boxes belong to
+     * @return for each box, true if access has to be granted, false otherwise
+     */
+    Map<CrisLayoutBox, Boolean> hasAccess(Context context, EPerson user, Collection<CrisLayoutBox> boxes, Item item);
 }
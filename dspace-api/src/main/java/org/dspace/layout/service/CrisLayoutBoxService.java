@@ -8,7 +8,9 @@
 package org.dspace.layout.service;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.content.EntityType;
@@ -16,6 +18,7 @@ import org.dspace.content.Item;
 import org.dspace.core.Context;
 import org.dspace.layout.CrisLayoutBox;
 import org.dspace.layout.CrisLayoutBoxConfiguration;
+import org.dspace.layout.CrisLayoutTab;
 import org.dspace.service.DSpaceCRUDService;
 
 /**
@@ -83,6 +86,21 @@ public interface CrisLayoutBoxService extends DSpaceCRUDService<CrisLayoutBox> {
      */
     public boolean hasAccess(Context context, CrisLayoutBox box, Item item);
 
+    /**
+     * Evaluates in bulk the boxes of the given tabs for the given item, grouping the checks by type: the content of
+     * all the relation boxes is checked with a single search, the metrics of the item are read once for all the
+     * metrics boxes and each security policy is evaluated once for all the boxes it doesn't depend on.
+     *
+     * @param context current Context
+     * @param item    the tabs' item
+     * @param tabs    the tabs whose boxes are evaluated
+     * @return for each box of the tabs, the box to show in its place: the box itself if the current user has access
+     *         to it and it has content, otherwise its alternative box if it has content. The boxes with nothing to
+     *         show are not mapped
+     */
+    public Map<CrisLayoutBox, CrisLayoutBox> findVisibleBoxes(Context context, Item item,
+        Collection<CrisLayoutTab> tabs);
+
     /**
      * Retrieve the configuration details of a specific box. By default the
      * configuration object is just a wrapper of box object as all the details are
@@ -8,6 +8,10 @@
 package org.dspace.layout.service.impl;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.dspace.content.Item;
 import org.dspace.core.Context;
@@ -33,9 +37,38 @@ public class CrisLayoutBoxAccessServiceImpl implements CrisLayoutBoxAccessServic
 
     @Override
     public boolean hasAccess(Context context, EPerson user, CrisLayoutBox box, Item item) {
+        return hasAccess(LayoutSecurity.valueOf(box.getSecurity()), context, user, box, item);
+    }
+
+    @Override
+    public Map<CrisLayoutBox, Boolean> hasAccess(Context context, EPerson user, Collection<CrisLayoutBox> boxes,
+                                                 Item item) {
+        Map<CrisLayoutBox, Boolean> access = new HashMap<>();
+        Map<LayoutSecurity, Boolean> grantedBySecurity = new EnumMap<>(LayoutSecurity.class);
+        for (CrisLayoutBox box : boxes) {
+            LayoutSecurity security = LayoutSecurity.valueOf(box.getSecurity());
+            switch (security) {
+                case CUSTOM_DATA:
+                    access.put(box, hasAccess(security, context, user, box, item));
+                    break;
+                case CUSTOM_DATA_AND_ADMINISTRATOR:
+                    access.put(box, grantedBySecurity.computeIfAbsent(LayoutSecurity.ADMINISTRATOR,
+                        administrator -> hasAccess(administrator, context, user, box, item))
+                        || hasAccess(LayoutSecurity.CUSTOM_DATA, context, user, box, item));
+                    break;
+                default:
+                    access.put(box, grantedBySecurity.computeIfAbsent(security,
+                        boxSecurity -> hasAccess(boxSecurity, context, user, box, item)));
+                    break;
+            }
+        }
+        return access;
+    }
+
+    private boolean hasAccess(LayoutSecurity security, Context context, EPerson user, CrisLayoutBox box, Item item) {
         try {
-            return layoutSecurityService.hasAccess(LayoutSecurity.valueOf(box.getSecurity()), context, user,
-                box.getMetadataSecurityFields(), box.getGroupSecurityFields(), item);
+            return layoutSecurityService.hasAccess(security, context, user, box.getMetadataSecurityFields(),
+                box.getGroupSecurityFields(), item);
         } catch (SQLException e) {
             throw new SQLRuntimeException(e);
         }
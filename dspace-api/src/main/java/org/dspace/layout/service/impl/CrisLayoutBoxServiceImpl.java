@@ -8,14 +8,17 @@
 package org.dspace.layout.service.impl;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -34,9 +37,11 @@ import org.dspace.core.Context;
 import org.dspace.core.exception.SQLRuntimeException;
 import org.dspace.discovery.configuration.DiscoveryConfigurationUtilsService;
 import org.dspace.layout.CrisLayoutBox;
+import org.dspace.layout.CrisLayoutBox2SecurityGroup;
 import org.dspace.layout.CrisLayoutBoxConfiguration;
 import org.dspace.layout.CrisLayoutField;
 import org.dspace.layout.CrisLayoutFieldBitstream;
+import org.dspace.layout.CrisLayoutTab;
 import org.dspace.layout.dao.CrisLayoutBoxDAO;
 import org.dspace.layout.service.CrisLayoutBoxAccessService;
 import org.dspace.layout.service.CrisLayoutBoxService;
@@ -191,6 +196,115 @@ public class CrisLayoutBoxServiceImpl implements CrisLayoutBoxService {
         return crisLayoutBoxAccessService.hasAccess(context, context.getCurrentUser(), box, item);
     }
 
+    @Override
+    public Map<CrisLayoutBox, CrisLayoutBox> findVisibleBoxes(Context context, Item item,
+        Collection<CrisLayoutTab> tabs) {
+
+        Set<CrisLayoutBox> boxes = tabs.stream()
+            .flatMap(tab -> tab.getBoxes().stream())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<CrisLayoutBox, Boolean> access = crisLayoutBoxAccessService.hasAccess(context, context.getCurrentUser(),
+            boxes, item);
+
+        Map<CrisLayoutBox, CrisLayoutBox> alternativeBoxes = new HashMap<>();
+        Set<CrisLayoutBox> boxesToCheck = new LinkedHashSet<>();
+        for (CrisLayoutBox box : boxes) {
+            if (access.get(box)) {
+                boxesToCheck.add(box);
+            }
+            CrisLayoutBox alternativeBox = findAlternativeBox(box);
+            if (alternativeBox != null) {
+                alternativeBoxes.put(box, alternativeBox);
+                boxesToCheck.add(alternativeBox);
+            }
+        }
+
+        Map<CrisLayoutBox, Boolean> content = hasContent(context, boxesToCheck, item);
+
+        Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes = new HashMap<>();
+        for (CrisLayoutBox box : boxes) {
+            CrisLayoutBox alternativeBox = alternativeBoxes.get(box);
+            if (access.get(box) && content.get(box)) {
+                visibleBoxes.put(box, box);
+            } else if (alternativeBox != null && content.get(alternativeBox)) {
+                visibleBoxes.put(box, alternativeBox);
+            }
+        }
+        return visibleBoxes;
+    }
+
+    private Map<CrisLayoutBox, Boolean> hasContent(Context context, Collection<CrisLayoutBox> boxes, Item item) {
+
+        Map<String, List<CrisLayoutBox>> boxesByType = boxes.stream()
+            .collect(Collectors.groupingBy(box -> StringUtils.upperCase(StringUtils.defaultString(box.getType()))));
+
+        Map<CrisLayoutBox, Boolean> content = new HashMap<>();
+        boxesByType.forEach((boxType, boxesOfType) -> {
+            switch (boxType) {
+                case "RELATION":
+                    content.putAll(hasRelationBoxesContent(context, boxesOfType, item));
+                    break;
+                case "METRICS":
+                    content.putAll(hasMetricsBoxesContent(context, boxesOfType, item));
+                    break;
+                case "VERSIONING":
+                    boolean hasVersioningBox = hasVersioningBox(context, item);
+                    boxesOfType.forEach(box -> content.put(box, hasVersioningBox));
+                    break;
+                default:
+                    boxesOfType.forEach(box -> content.put(box, hasContent(context, box, item)));
+                    break;
+            }
+        });
+        return content;
+    }
+
+    private Map<CrisLayoutBox, Boolean> hasRelationBoxesContent(Context context, List<CrisLayoutBox> boxes,
+        Item item) {
+        Set<String> relationNames = boxes.stream()
+            .map(CrisLayoutBox::getShortname)
+            .collect(Collectors.toSet());
+        Map<String, Boolean> hasRelations = searchConfigurationUtilsService.hasRelations(context, item,
+            relationNames);
+        return boxes.stream()
+            .collect(Collectors.toMap(box -> box, box -> BooleanUtils.isTrue(hasRelations.get(box.getShortname())),
+                (b1, b2) -> b1));
+    }
+
+    private Map<CrisLayoutBox, Boolean> hasMetricsBoxesContent(Context context, List<CrisLayoutBox> boxes,
+        Item item) {
+
+        Map<CrisLayoutBox, Boolean> content = new HashMap<>();
+        boxes.forEach(box -> content.put(box, false));
+
+        List<CrisLayoutBox> boxesWithMetrics = boxes.stream()
+            .filter(box -> !box.getMetric2box().isEmpty())
+            .collect(Collectors.toList());
+        if (boxesWithMetrics.isEmpty() || currentUserIsNotAllowedToReadItem(context, item)) {
+            return content;
+        }
+
+        Set<String> itemMetricTypes = new HashSet<>();
+        crisMetricService.getEmbeddableMetrics(context, item.getID(), null)
+            .forEach(metric -> itemMetricTypes.add(metric.getMetricType()));
+        crisMetricService.getStoredMetrics(context, item.getID())
+            .forEach(metric -> itemMetricTypes.add(metric.getMetricType()));
+
+        boxesWithMetrics.forEach(box -> content.put(box,
+            getMetricTypes(box).stream().anyMatch(itemMetricTypes::contains)));
+        return content;
+    }
+
+    private CrisLayoutBox findAlternativeBox(CrisLayoutBox box) {
+        return box.getBox2SecurityGroups()
+                  .stream()
+                  .map(CrisLayoutBox2SecurityGroup::getAlternativeBox)
+                  .filter(Objects::nonNull)
+                  .findFirst()
+                  .orElse(null);
+    }
+
     @Override
     public CrisLayoutBoxConfiguration getConfiguration(CrisLayoutBox box) {
         return new CrisLayoutBoxConfiguration(box);
@@ -246,11 +360,7 @@ public class CrisLayoutBoxServiceImpl implements CrisLayoutBoxService {
             return false;
         }
 
-        final Set<String> boxTypes = new HashSet<>();
-        box.getMetric2box().forEach(b -> {
-            boxTypes.add(b.getType());
-            crisMetricService.embeddableFallback(b.getType()).ifPresent(boxTypes::add);
-        });
+        final Set<String> boxTypes = getMetricTypes(box);
         if (this.crisMetricService.getEmbeddableMetrics(context, item.getID(), null).stream()
             .filter(m -> boxTypes.contains(m.getMetricType())).count() > 0) {
             return true;
@@ -262,6 +372,15 @@ public class CrisLayoutBoxServiceImpl implements CrisLayoutBoxService {
         return false;
     }
 
+    private Set<String> getMetricTypes(CrisLayoutBox box) {
+        final Set<String> boxTypes = new HashSet<>();
+        box.getMetric2box().forEach(b -> {
+            boxTypes.add(b.getType());
+            crisMetricService.embeddableFallback(b.getType()).ifPresent(boxTypes::add);
+        });
+        return boxTypes;
+    }
+
     private boolean isIiifEnabled(Item item) {
         return BooleanUtils.toBoolean(itemService.getMetadataFirstValue(item,
             new MetadataFieldName("dspace.iiif.enabled"), Item.ANY));
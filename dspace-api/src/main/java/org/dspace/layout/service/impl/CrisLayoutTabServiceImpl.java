@@ -7,17 +7,19 @@
  */
 package org.dspace.layout.service.impl;
 
-import static org.dspace.util.FunctionalUtils.throwingMapperWrapper;
-
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import javax.annotation.PostConstruct;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.dspace.app.util.SubmissionConfigReader;
 import org.dspace.app.util.SubmissionConfigReaderException;
 import org.dspace.authorize.AuthorizeException;
@@ -29,6 +31,7 @@ import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.dspace.layout.CrisLayoutTab;
 import org.dspace.layout.dao.CrisLayoutTabDAO;
+import org.dspace.layout.dao.pojo.CrisLayoutTabKey;
 import org.dspace.layout.service.CrisLayoutTabAccessService;
 import org.dspace.layout.service.CrisLayoutTabService;
 import org.dspace.services.ConfigurationService;
@@ -190,6 +193,13 @@ public class CrisLayoutTabServiceImpl implements CrisLayoutTabService {
         return dao.totalMetadatafield(context, tabId);
     }
 
+    /**
+     * Find the tabs of an item. The tabs with the first of the following custom filters which has any are chosen,
+     * otherwise the tabs without custom filter: the submission definition of the item followed by the authority
+     * and by the value of the metadata configured with dspace.metadata.layout.tab, then the authority and the
+     * value of that metadata alone, then the submission definition alone. The custom filters of the tabs are read
+     * through the query cache, so only the chosen tabs are loaded from the database.
+     */
     @Override
     public List<CrisLayoutTab> findByItem(Context context, String itemUuid) throws SQLException {
         Item item = Objects.requireNonNull(itemService.find(context, UUID.fromString(itemUuid)),
@@ -198,27 +208,38 @@ public class CrisLayoutTabServiceImpl implements CrisLayoutTabService {
         String entityTypeValue = itemService.getMetadata(item, "dspace.entity.type");
         String submissionName = getSubmissionDefinitionName(item);
 
-        List<CrisLayoutTab> layoutTabs =
-            Optional.ofNullable(this.configurationService.getProperty("dspace.metadata.layout.tab"))
-                    .map(metadataField -> this.itemService.getMetadataByMetadataString(item, metadataField))
-                    .filter(metadatas -> !metadatas.isEmpty())
-                    .map(metadatas -> metadatas.get(0))
-                    .map(metadata ->
-                            findValidEntityType(context, entityTypeValue, submissionName + "." +
-                                metadata.getAuthority())
-                                .orElse(
-                                    findValidEntityType(context, entityTypeValue, submissionName + "." +
-                                        metadata.getValue())
-                                        .orElse(findValidEntityType(context, entityTypeValue, metadata.getAuthority())
-                                            .orElse(findValidEntityType(context, entityTypeValue, metadata.getValue())
-                                                .orElse(null))))
-                    )
-                    .orElse(findValidEntityType(context, entityTypeValue, submissionName)
-                    .orElse(findByEntityType(context, entityTypeValue, null)));
-        if (layoutTabs == null) {
+        List<String> customFilters = new ArrayList<>();
+        Optional.ofNullable(this.configurationService.getProperty("dspace.metadata.layout.tab"))
+                .map(metadataField -> this.itemService.getMetadataByMetadataString(item, metadataField))
+                .filter(metadatas -> !metadatas.isEmpty())
+                .map(metadatas -> metadatas.get(0))
+                .ifPresent(metadata -> {
+                    customFilters.add(submissionName + "." + metadata.getAuthority());
+                    customFilters.add(submissionName + "." + metadata.getValue());
+                    customFilters.add(metadata.getAuthority());
+                    customFilters.add(metadata.getValue());
+                });
+        customFilters.add(submissionName);
+
+        Map<String, List<Integer>> tabIdsByCustomFilter = new HashMap<>();
+        for (CrisLayoutTabKey key : dao.findKeysByEntityType(context, entityTypeValue)) {
+            tabIdsByCustomFilter.computeIfAbsent(key.getCustomFilter(), customFilter -> new ArrayList<>())
+                                .add(key.getTabId());
+        }
+
+        List<Integer> tabIds = tabIdsByCustomFilter.get(null);
+        for (String customFilter : customFilters) {
+            // the blank filters choose the tabs without custom filter
+            String key = StringUtils.isBlank(customFilter) ? null : customFilter;
+            if (customFilter != null && tabIdsByCustomFilter.containsKey(key)) {
+                tabIds = tabIdsByCustomFilter.get(key);
+                break;
+            }
+        }
+        if (tabIds == null) {
             return Collections.emptyList();
         }
-        return layoutTabs;
+        return dao.findByIdsAndEagerlyFetchBoxes(context, tabIds);
     }
 
     @Override
@@ -234,16 +255,4 @@ public class CrisLayoutTabServiceImpl implements CrisLayoutTabService {
         return submissionConfigReader.getSubmissionConfigByCollection(item.getOwningCollection()).getSubmissionName();
     }
 
-    private Optional<List<CrisLayoutTab>> findValidEntityType(Context context, String entityTypeValue,
-                                                              String customFilter) {
-        return Optional.ofNullable(customFilter)
-                       .map(
-                           throwingMapperWrapper(
-                               value -> findByEntityType(context, entityTypeValue, value),
-                               null
-                           )
-                       )
-                       .filter(tabs -> tabs != null && !tabs.isEmpty());
-    }
-
 }
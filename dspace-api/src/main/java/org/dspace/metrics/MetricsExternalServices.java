@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.dspace.authorize.AuthorizeException;
 import org.dspace.content.DCDate;
@@ -18,6 +19,7 @@ import org.dspace.content.Item;
 import org.dspace.content.MetadataFieldName;
 import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
+import org.dspace.metrics.scopus.CrisMetricDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
@@ -49,6 +51,35 @@ public abstract class MetricsExternalServices {
      */
     public abstract boolean updateMetric(Context context, Item item, String param);
 
+    /**
+     * Prepares the fetch of the metrics of the given {@code item}, to be run by another thread: the identifiers are
+     * read from the item by the calling thread, while the returned task only calls the external service, without
+     * accessing the database. The fetched metrics are then stored by the thread owning the context with
+     * {@link #storeMetrics(Context, Item, List)}.
+     *
+     * @param item  the item whose metrics are fetched
+     * @param param the name of a specific metric to retrieve, if any
+     * @return the task returning the fetched metrics, or null if none were found. The task itself is null if the
+     *         service doesn't support concurrent fetches
+     */
+    public Supplier<List<CrisMetricDTO>> prepareFetch(Item item, String param) {
+        return null;
+    }
+
+    /**
+     * Stores the metrics of the given {@code item} returned by the task prepared with
+     * {@link #prepareFetch(Item, String)}. The services that don't support concurrent
+     * fetches never prepare a task, so by default nothing is stored.
+     *
+     * @param context the DSpace context
+     * @param item    the item
+     * @param metrics the fetched metrics, or null if none were found
+     * @return true if the metrics of the item have been updated
+     */
+    public boolean storeMetrics(Context context, Item item, List<CrisMetricDTO> metrics) {
+        return false;
+    }
+
     /**
      * Updates and fetches all items by delegating call to
      * {@link org.dspace.metrics.MetricsExternalServices.updateMetric(Context, Item,
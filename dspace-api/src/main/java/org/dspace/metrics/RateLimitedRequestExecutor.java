@@ -0,0 +1,171 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.metrics;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Date;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Executes the requests of the connectors to an external metrics service within the quota of the service. The
+ * requests are throttled with a token bucket shared by all the threads using the executor, and the ones failed
+ * because of a network error, of the quota being exceeded (429) or of a server error (5xx) are retried after an
+ * exponential backoff, or after the delay asked by the <code>Retry-After</code> header of the response.
+ * <p>
+ * The connectors calling the same service with the same API key should share the same executor, so that their
+ * requests are counted together.
+ */
+public class RateLimitedRequestExecutor {
+
+    private static final Logger log = LogManager.getLogger(RateLimitedRequestExecutor.class);
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    public static final long DEFAULT_RETRY_DELAY = 1000;
+
+    public static final long DEFAULT_MAX_RETRY_DELAY = 60000;
+
+    private RateLimiter rateLimiter;
+
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+
+    private long retryDelay = DEFAULT_RETRY_DELAY;
+
+    private long maxRetryDelay = DEFAULT_MAX_RETRY_DELAY;
+
+    /**
+     * Execute a request, retrying it while it fails with a transient error. The response of the last attempt is
+     * returned whatever its status, to be checked and closed by the caller.
+     *
+     * @param httpClient the client executing the request
+     * @param request    the request, which must be repeatable
+     * @return the response
+     * @throws IOException if the last attempt fails with a network error, or if the thread is interrupted
+     */
+    public CloseableHttpResponse execute(CloseableHttpClient httpClient, HttpUriRequest request) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+
+            CloseableHttpResponse response;
+            try {
+                response = httpClient.execute(request);
+            } catch (IOException e) {
+                if (attempt >= maxRetries) {
+                    throw e;
+                }
+                long delay = getBackoff(attempt);
+                log.warn("The request to {} failed, retrying in {} ms: {}", request.getURI(), delay, e.getMessage());
+                sleep(delay);
+                continue;
+            }
+
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (attempt >= maxRetries || !isTransientError(statusCode)) {
+                return response;
+            }
+            long delay = getRetryAfter(response, attempt);
+            log.warn("The server answered the request to {} with status {}, retrying in {} ms", request.getURI(),
+                statusCode, delay);
+            response.close();
+            sleep(delay);
+        }
+    }
+
+    private boolean isTransientError(int statusCode) {
+        return statusCode == HttpStatus.SC_TOO_MANY_REQUESTS || statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * Get the delay asked by the Retry-After header of the response, either in seconds or as a date, or the
+     * backoff of the given attempt if the header is missing or invalid.
+     */
+    private long getRetryAfter(CloseableHttpResponse response, int attempt) {
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        String value = header != null ? StringUtils.trimToNull(header.getValue()) : null;
+        if (value == null) {
+            return getBackoff(attempt);
+        }
+        if (StringUtils.isNumeric(value)) {
+            return Math.min(Long.parseLong(value) * 1000, maxRetryDelay);
+        }
+        Date date = DateUtils.parseDate(value);
+        if (date == null) {
+            return getBackoff(attempt);
+        }
+        return Math.max(0, Math.min(date.getTime() - System.currentTimeMillis(), maxRetryDelay));
+    }
+
+    private long getBackoff(int attempt) {
+        return Math.min(retryDelay << Math.min(attempt, 30), maxRetryDelay);
+    }
+
+    private void sleep(long delay) throws InterruptedIOException {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request");
+        }
+    }
+
+    public double getRequestsPerSecond() {
+        return rateLimiter != null ? rateLimiter.getRate() : 0;
+    }
+
+    /**
+     * Set the maximum number of requests per second, 0 or less for no limit.
+     *
+     * @param requestsPerSecond the maximum number of requests per second
+     */
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.rateLimiter = requestsPerSecond > 0 ? RateLimiter.create(requestsPerSecond) : null;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * Set the milliseconds waited before the first retry, doubled at each following one.
+     *
+     * @param retryDelay the delay in milliseconds
+     */
+    public void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public long getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    public void setMaxRetryDelay(long maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+}
@@ -10,6 +10,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.UUID;
 
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,6 +22,8 @@ import org.dspace.core.Context;
 import org.dspace.discovery.IndexingService;
 import org.dspace.discovery.SearchServiceException;
 import org.dspace.scripts.handler.DSpaceRunnableHandler;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
 import org.dspace.utils.DSpace;
 
 /**
@@ -28,6 +31,8 @@ import org.dspace.utils.DSpace;
  */
 public class UpdateCrisMetricsInSolrDocService {
 
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
     private static final Logger log = LogManager.getLogger(UpdateCrisMetricsInSolrDocService.class);
 
     private CrisMetricsService crisMetricsService = new DSpace().getServiceManager().getServiceByName(
@@ -36,6 +41,9 @@ public class UpdateCrisMetricsInSolrDocService {
     private IndexingService crisIndexingService = new DSpace().getServiceManager().getServiceByName(
             IndexingService.class.getName(), IndexingService.class);
 
+    private ConfigurationService configurationService = DSpaceServicesFactory.getInstance()
+            .getConfigurationService();
+
     public void performUpdate(Context context, DSpaceRunnableHandler handler, boolean optimize) {
         performUpdate(context, handler, optimize, null);
     }
@@ -46,17 +54,20 @@ public class UpdateCrisMetricsInSolrDocService {
                     ? crisMetricsService.findAllLast(context,-1,-1)
                     : crisMetricsService.findLastMetricsByResourceId(context, resourceUuid, -1, -1);
             handler.logInfo("Metric update start");
-            for (CrisMetrics metric : metrics) {
+            int batchSize = Math.max(1, configurationService.getIntProperty("metrics.update-metrics-in-solr.batch-size",
+                DEFAULT_BATCH_SIZE));
+            for (List<CrisMetrics> batch : ListUtils.partition(metrics, batchSize)) {
                 try {
-                    crisIndexingService.updateMetrics(context, metric);
+                    crisIndexingService.updateMetrics(context, batch);
                 } catch (RemoteSolrException rse) {
-                    if (StringUtils.containsIgnoreCase(rse.getMessage(), "Did not find child ID Item-")) {
-                        log.error(rse.getMessage());
-                    } else {
-                        throw rse;
+                    // the whole batch is rejected if one of the documents is missing, update them one by one
+                    log.debug("Unable to update a batch of metrics, updating them one by one", rse);
+                    for (CrisMetrics metric : batch) {
+                        updateMetrics(context, metric);
                     }
                 }
             }
+            crisIndexingService.commit();
             handler.logInfo("Metric update end");
             if (optimize) {
                 handler.logInfo("Starting solr optimization");
@@ -68,4 +79,16 @@ public class UpdateCrisMetricsInSolrDocService {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
+
+    private void updateMetrics(Context context, CrisMetrics metric) {
+        try {
+            crisIndexingService.updateMetrics(context, metric);
+        } catch (RemoteSolrException rse) {
+            if (StringUtils.containsIgnoreCase(rse.getMessage(), "Did not find child ID Item-")) {
+                log.error(rse.getMessage());
+            } else {
+                throw rse;
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -11,15 +11,23 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.collections4.IteratorUtils.chainedIterator;
 
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.collections4.IteratorUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.dspace.content.DCDate;
@@ -32,6 +40,7 @@ import org.dspace.discovery.indexobject.IndexableItem;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.factory.EPersonServiceFactory;
 import org.dspace.kernel.ServiceManager;
+import org.dspace.metrics.scopus.CrisMetricDTO;
 import org.dspace.scripts.DSpaceRunnable;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.factory.DSpaceServicesFactory;
@@ -56,6 +65,10 @@ public class UpdateCrisMetricsWithExternalSource extends
 
     private Integer limit;
 
+    private int threads;
+
+    private int commitBatchSize;
+
     private Map<String, MetricsExternalServices> crisMetricsExternalServices = new HashMap<>();
 
     private ConfigurationService configurationService;
@@ -76,6 +89,12 @@ public class UpdateCrisMetricsWithExternalSource extends
         } else {
             this.limit = getDefaultLimit();
         }
+        if (commandLine.hasOption('t')) {
+            this.threads = Integer.parseInt(commandLine.getOptionValue('t'));
+        } else {
+            this.threads = configurationService.getIntProperty("metrics.update-metrics.threads", 1);
+        }
+        this.commitBatchSize = configurationService.getIntProperty("metrics.update-metrics.commit-batch-size", 20);
     }
 
     @Override
@@ -95,6 +114,10 @@ public class UpdateCrisMetricsWithExternalSource extends
             throw new IllegalArgumentException("The limit value must be a positive integer");
         }
 
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be a positive integer");
+        }
+
         if (serviceName == null) {
             throw new IllegalArgumentException("The name of service must be provided");
         }
@@ -128,6 +151,8 @@ public class UpdateCrisMetricsWithExternalSource extends
 
         if (metricsExternalServices.canMultiFetch()) {
             performUpdateWithMultiFetch(metricsExternalServices, itemIterator);
+        } else if (threads > 1) {
+            performUpdateConcurrently(metricsExternalServices, itemIterator);
         } else {
             performUpdateWithSingleFetches(metricsExternalServices, itemIterator);
         }
@@ -212,7 +237,7 @@ public class UpdateCrisMetricsWithExternalSource extends
             metricsServices.setLastImportMetadataValue(context, item);
 
             count++;
-            if (count == 20) {
+            if (count >= commitBatchSize) {
                 context.commit();
                 count = 0;
             }
@@ -225,6 +250,92 @@ public class UpdateCrisMetricsWithExternalSource extends
         handler.logInfo("Update end");
     }
 
+    /**
+     * Updates the metrics of the items with a pool of workers. The metrics are fetched from the external service
+     * by the workers, within the rate limits of its connector, while the items are read and the metrics stored
+     * only by the current thread, where they are committed in batches. The services which don't support
+     * concurrent fetches update the metrics of each item in the current thread.
+     */
+    private void performUpdateConcurrently(MetricsExternalServices metricsServices,
+        Iterator<Item> itemIterator) throws SQLException {
+
+        handler.logInfo("Update start with " + threads + " threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+            new BasicThreadFactory.Builder().namingPattern("update-metrics-%d").daemon(true).build());
+
+        Deque<PendingFetch> pending = new ArrayDeque<>();
+        int uncommitted = 0;
+        int countFoundItems = 0;
+        int countUpdatedItems = 0;
+
+        try {
+            while (itemIterator.hasNext()) {
+                Item item = itemIterator.next();
+                countFoundItems++;
+                Supplier<List<CrisMetricDTO>> fetch = metricsServices.prepareFetch(item, param);
+                if (fetch != null) {
+                    pending.add(new PendingFetch(item, executor.submit(fetch::get)));
+                } else {
+                    if (metricsServices.updateMetric(context, item, param)) {
+                        countUpdatedItems++;
+                    }
+                    metricsServices.setLastImportMetadataValue(context, item);
+                    uncommitted++;
+                }
+
+                // store the completed fetches, waiting for the oldest when too many are queued
+                while (!pending.isEmpty() && (pending.size() > threads * 2 || pending.peek().metrics.isDone())) {
+                    if (storePendingFetch(metricsServices, pending.poll())) {
+                        countUpdatedItems++;
+                    }
+                    uncommitted++;
+                }
+                if (uncommitted >= commitBatchSize) {
+                    context.commit();
+                    uncommitted = 0;
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                if (storePendingFetch(metricsServices, pending.poll())) {
+                    countUpdatedItems++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        context.commit();
+        getLogsFromMetricService(metricsServices);
+        handler.logInfo("Found " + countFoundItems + " items");
+        handler.logInfo("Updated " + countUpdatedItems + " metrics");
+        handler.logInfo("Update end");
+    }
+
+    private boolean storePendingFetch(MetricsExternalServices metricsServices, PendingFetch pendingFetch)
+        throws SQLException {
+        List<CrisMetricDTO> metrics;
+        try {
+            metrics = pendingFetch.metrics.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to fetch the metrics of item " + pendingFetch.item.getID(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching the metrics of item "
+                                                + pendingFetch.item.getID(), e);
+        }
+
+        // the context may have been committed in the meantime
+        Item item = context.reloadEntity(pendingFetch.item);
+        boolean updated = metricsServices.storeMetrics(context, item, metrics);
+        metricsServices.setLastImportMetadataValue(context, item);
+        return updated;
+    }
+
     private Integer getDefaultLimit() {
         return configurationService.getIntProperty("metrics.update-metrics.limit", Integer.MAX_VALUE);
     }
@@ -250,4 +361,16 @@ public class UpdateCrisMetricsWithExternalSource extends
             metricLogger.forEach(message -> handler.logInfo(message));
         }
     }
+
+    private static final class PendingFetch {
+
+        private final Item item;
+
+        private final Future<List<CrisMetricDTO>> metrics;
+
+        private PendingFetch(Item item, Future<List<CrisMetricDTO>> metrics) {
+            this.item = item;
+            this.metrics = metrics;
+        }
+    }
 }
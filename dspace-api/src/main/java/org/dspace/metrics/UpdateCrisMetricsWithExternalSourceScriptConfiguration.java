@@ -44,6 +44,11 @@ public class UpdateCrisMetricsWithExternalSourceScriptConfiguration<T extends Up
             options.getOption("l").setType(Integer.class);
             options.getOption("l").setRequired(false);
 
+            options.addOption("t", "threads", true, "the number of items whose metrics are fetched at the same time. "
+                + "If no number is provided, the default one will be used");
+            options.getOption("t").setType(Integer.class);
+            options.getOption("t").setRequired(false);
+
             super.options = options;
         }
         return options;
@@ -18,6 +18,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.logging.log4j.Logger;
+import org.dspace.metrics.RateLimitedRequestExecutor;
 
 /**
  * This class deals with logic management to connect to scopus external service in order to collect
@@ -39,6 +40,7 @@ public class ScopusPersonRestConnector {
     private String viewMode;
 
     private CloseableHttpClient httpClient;
+    private RateLimitedRequestExecutor requestExecutor = new RateLimitedRequestExecutor();
 
 
     public String get(String id) {
@@ -67,7 +69,7 @@ public class ScopusPersonRestConnector {
             httpGet.setHeader("X-ELS-Insttoken", insttoken);
             httpGet.setHeader("Accept", "application/json");
 
-            HttpResponse response = httpClient.execute(httpGet);
+            HttpResponse response = requestExecutor.execute(httpClient, httpGet);
 
             String content = getResponseContent(response);
             int statusCode = response.getStatusLine().getStatusCode();
@@ -131,4 +133,17 @@ public class ScopusPersonRestConnector {
     public void setHttpClient(CloseableHttpClient httpClient) {
         this.httpClient = httpClient;
     }
-}
\ No newline at end of file
+
+    public RateLimitedRequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * sets the {@link RateLimitedRequestExecutor} throttling and retrying the requests, shared with the other
+     * connectors using the same quota.
+     * @param requestExecutor
+     */
+    public void setRequestExecutor(RateLimitedRequestExecutor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
+}
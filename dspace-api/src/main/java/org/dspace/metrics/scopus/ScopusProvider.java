@@ -10,6 +10,7 @@ package org.dspace.metrics.scopus;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -40,7 +41,11 @@ public class ScopusProvider {
 
     private static final Logger log = LogManager.getLogger(ScopusProvider.class);
 
-    private List<String> logsCache = new ArrayList<>();
+    /**
+     * The messages logged while fetching the metrics, synchronized as the metrics of many items can be fetched
+     * concurrently.
+     */
+    private List<String> logsCache = Collections.synchronizedList(new ArrayList<>());
 
     @Autowired
     private ScopusRestConnector scopusRestConnector;
@@ -60,7 +65,7 @@ public class ScopusProvider {
      * @return List of CrisMetrics fetched
      */
     public List<CrisMetricDTO> getScopusList(String id) {
-        logsCache = new ArrayList<>();
+        logsCache = Collections.synchronizedList(new ArrayList<>());
         String scopusResponse = getRecords(id);
         if (StringUtils.isNotBlank(scopusResponse)) {
             List<CrisMetricDTO> crisMetricList = mapToCrisMetricList(scopusResponse);
@@ -20,6 +20,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.logging.log4j.Logger;
+import org.dspace.metrics.RateLimitedRequestExecutor;
 
 /**
  * This class deals with logic management to connect to the SCOPUS external service
@@ -39,6 +40,7 @@ public class ScopusRestConnector {
     private String scopusUrl;
 
     private CloseableHttpClient httpClient;
+    private RateLimitedRequestExecutor requestExecutor = new RateLimitedRequestExecutor();
 
 
     public String get(String id) {
@@ -88,7 +90,7 @@ public class ScopusRestConnector {
 
     private String sendRequest(CloseableHttpClient httpClient, HttpGet httpGet)
             throws IOException, ClientProtocolException {
-        try (CloseableHttpResponse response = httpClient.execute(httpGet)) {
+        try (CloseableHttpResponse response = requestExecutor.execute(httpClient, httpGet)) {
             int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode != HttpStatus.SC_OK) {
                 log.error("Error connecting to server! The Server answered with: " + statusCode);
@@ -147,4 +149,17 @@ public class ScopusRestConnector {
     public void setInsttoken(String insttoken) {
         this.insttoken = insttoken;
     }
+
+    public RateLimitedRequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * sets the {@link RateLimitedRequestExecutor} throttling and retrying the requests, shared with the other
+     * connectors using the same quota.
+     * @param requestExecutor
+     */
+    public void setRequestExecutor(RateLimitedRequestExecutor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
 }
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -70,12 +71,24 @@ public class UpdateScopusMetrics extends MetricsExternalServices {
 
     @Override
     public boolean updateMetric(Context context, Item item, String param) {
+        return storeMetrics(context, item, prepareFetch(item, param).get());
+    }
+
+    @Override
+    public Supplier<List<CrisMetricDTO>> prepareFetch(Item item, String param) {
         String id = buildQuery(item);
-        CrisMetricDTO scopusMetric = scopusProvider.getScopusObject(id);
-        if (Objects.isNull(scopusMetric)) {
+        return () -> {
+            CrisMetricDTO scopusMetric = scopusProvider.getScopusObject(id);
+            return Objects.isNull(scopusMetric) ? null : List.of(scopusMetric);
+        };
+    }
+
+    @Override
+    public boolean storeMetrics(Context context, Item item, List<CrisMetricDTO> metrics) {
+        if (Objects.isNull(metrics) || metrics.isEmpty()) {
             return false;
         }
-        return updateScopusMetrics(context, item, scopusMetric);
+        return updateScopusMetrics(context, item, metrics.get(0));
     }
 
     @Override
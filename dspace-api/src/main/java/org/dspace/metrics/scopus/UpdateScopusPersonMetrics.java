@@ -12,6 +12,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -53,11 +54,17 @@ public class UpdateScopusPersonMetrics extends MetricsExternalServices {
 
     @Override
     public boolean updateMetric(Context context, Item item, String param) {
-        List<CrisMetricDTO> metricDTOs = null;
+        return storeMetrics(context, item, prepareFetch(item, param).get());
+    }
+
+    @Override
+    public Supplier<List<CrisMetricDTO>> prepareFetch(Item item, String param) {
         String authorId = itemService.getMetadataFirstValue(item, "person", "identifier", "scopus-author-id", Item.ANY);
-        if (StringUtils.isNotBlank(authorId)) {
-            metricDTOs = hindexProvider.getCrisMetricDTOs(authorId, param);
-        }
+        return () -> StringUtils.isNotBlank(authorId) ? hindexProvider.getCrisMetricDTOs(authorId, param) : null;
+    }
+
+    @Override
+    public boolean storeMetrics(Context context, Item item, List<CrisMetricDTO> metricDTOs) {
         if (Objects.isNull(metricDTOs)) {
             return false;
         }
@@ -8,6 +8,7 @@
 package org.dspace.metrics.wos;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -37,6 +38,14 @@ public abstract class AbstractUpdateWOSMetrics extends MetricsExternalServices {
     @Autowired
     protected CrisMetricsService crisMetricsService;
 
+    @Override
+    public boolean storeMetrics(Context context, Item item, List<CrisMetricDTO> metrics) {
+        if (Objects.isNull(metrics) || metrics.isEmpty()) {
+            return false;
+        }
+        return updateWosMetric(context, item, metrics.get(0));
+    }
+
     protected boolean updateWosMetric(Context context, Item currentItem, CrisMetricDTO metricDTO) {
         try {
             if (Objects.isNull(metricDTO) || StringUtils.isBlank(metricDTO.getMetricType())) {
@@ -8,6 +8,8 @@
 package org.dspace.metrics.wos;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -41,12 +43,19 @@ public class UpdateWOSMetrics extends AbstractUpdateWOSMetrics {
 
     @Override
     public boolean updateMetric(Context context, Item item, String param) {
-        CrisMetricDTO metricDTO = new CrisMetricDTO();
+        return storeMetrics(context, item, prepareFetch(item, param).get());
+    }
+
+    @Override
+    public Supplier<List<CrisMetricDTO>> prepareFetch(Item item, String param) {
         String doi = itemService.getMetadataFirstValue(item, "dc", "identifier", "doi", Item.ANY);
-        if (StringUtils.isNotBlank(doi)) {
-            metricDTO = wosProvider.getWOSObject(doi);
-        }
-        return updateWosMetric(context, item, metricDTO);
+        return () -> {
+            if (StringUtils.isBlank(doi)) {
+                return null;
+            }
+            CrisMetricDTO metricDTO = wosProvider.getWOSObject(doi);
+            return Objects.isNull(metricDTO) ? null : List.of(metricDTO);
+        };
     }
 
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ package org.dspace.metrics.wos;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -42,16 +44,24 @@ public class UpdateWOSPersonMetrics extends AbstractUpdateWOSMetrics {
 
     @Override
     public boolean updateMetric(Context context, Item item, String param) {
-        CrisMetricDTO metricDTO = new CrisMetricDTO();
+        return storeMetrics(context, item, prepareFetch(item, param).get());
+    }
+
+    @Override
+    public Supplier<List<CrisMetricDTO>> prepareFetch(Item item, String param) {
         String orcidId = itemService.getMetadataFirstValue(item, "person", "identifier", "orcid", Item.ANY);
-        if (isValidId(orcidId)) {
+        return () -> {
+            if (!isValidId(orcidId)) {
+                return null;
+            }
             try {
-                metricDTO = wosPersonRestConnector.sendRequestToWOS(orcidId);
+                CrisMetricDTO metricDTO = wosPersonRestConnector.sendRequestToWOS(orcidId);
+                return Objects.isNull(metricDTO) ? null : List.of(metricDTO);
             } catch (IOException e) {
                 log.error(e.getMessage(), e);
+                return null;
             }
-        }
-        return updateWosMetric(context, item, metricDTO);
+        };
     }
 
     private static boolean isValidId(String orcidId) {
@@ -21,6 +21,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.logging.log4j.Logger;
+import org.dspace.metrics.RateLimitedRequestExecutor;
 import org.dspace.metrics.scopus.CrisMetricDTO;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -43,6 +44,7 @@ public class WOSPersonRestConnector {
     private String apiKey;
     private String wosUrl;
     private CloseableHttpClient httpClient;
+    private RateLimitedRequestExecutor requestExecutor = new RateLimitedRequestExecutor();
 
 
     public CrisMetricDTO sendRequestToWOS(String orcidId)throws IOException {
@@ -65,7 +67,7 @@ public class WOSPersonRestConnector {
                 httpGet.setHeader("X-ApiKey", apiKey);
                 httpGet.setHeader("Accept", "application/json");
 
-                HttpResponse response = httpClient.execute(httpGet);
+                HttpResponse response = requestExecutor.execute(httpClient, httpGet);
                 int statusCode = response.getStatusLine().getStatusCode();
                 if (statusCode != HttpStatus.SC_OK) {
                     return null;
@@ -150,4 +152,16 @@ public class WOSPersonRestConnector {
         this.httpClient = httpClient;
     }
 
-}
\ No newline at end of file
+    public RateLimitedRequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * sets the {@link RateLimitedRequestExecutor} throttling and retrying the requests, shared with the other
+     * connectors using the same quota.
+     * @param requestExecutor
+     */
+    public void setRequestExecutor(RateLimitedRequestExecutor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
+}
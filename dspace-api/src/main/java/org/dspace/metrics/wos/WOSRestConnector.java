@@ -19,6 +19,7 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.logging.log4j.Logger;
+import org.dspace.metrics.RateLimitedRequestExecutor;
 
 /**
  * This class deals with logic management to connect to the WOS external service
@@ -35,6 +36,7 @@ public class WOSRestConnector {
     private String apiKey;
     private String wosUrl;
     private CloseableHttpClient httpClient;
+    private RateLimitedRequestExecutor requestExecutor = new RateLimitedRequestExecutor();
 
 
     public String get(String id) {
@@ -57,7 +59,7 @@ public class WOSRestConnector {
             httpGet.setHeader("X-ApiKey", apiKey);
             httpGet.setHeader("Accept", "application/json");
 
-            HttpResponse response = httpClient.execute(httpGet);
+            HttpResponse response = requestExecutor.execute(httpClient, httpGet);
             int statusCode = response.getStatusLine().getStatusCode();
             if (statusCode != HttpStatus.SC_OK) {
                 return null;
@@ -96,4 +98,16 @@ public class WOSRestConnector {
         this.httpClient = httpClient;
     }
 
-}
\ No newline at end of file
+    public RateLimitedRequestExecutor getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * sets the {@link RateLimitedRequestExecutor} throttling and retrying the requests, shared with the other
+     * connectors using the same quota.
+     * @param requestExecutor
+     */
+    public void setRequestExecutor(RateLimitedRequestExecutor requestExecutor) {
+        this.requestExecutor = requestExecutor;
+    }
+}
@@ -107,6 +107,7 @@ import org.dspace.statistics.util.LocationUtils;
 import org.dspace.statistics.util.SpiderDetector;
 import org.dspace.usage.UsageWorkflowEvent;
 import org.dspace.util.SolrUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -119,7 +120,7 @@ import org.springframework.beans.factory.annotation.Autowired;
  * @author kevinvandevelde at atmire.com
  * @author mdiggory at atmire.com
  */
-public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBean {
+public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBean, DisposableBean {
 
     private static final Logger log = LogManager.getLogger();
 
@@ -161,6 +162,9 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
     /** Name of the current-year statistics core.  Prior-year shards will have a year suffixed. */
     private String statisticsCoreBase;
 
+    /** Queue of the usage events added asynchronously, null if they are added by the request threads. */
+    private SolrStatisticsQueue statisticsQueue;
+
     public static enum StatisticsType {
         VIEW("view"),
         SEARCH("search"),
@@ -211,6 +215,32 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             log.error(ex);
         }
         locationService = service;
+
+        if (solr != null && configurationService.getBooleanProperty("solr-statistics.async.enabled", false)) {
+            statisticsQueue = new SolrStatisticsQueue(solr,
+                configurationService.getIntProperty("solr-statistics.async.queue-size", 10000),
+                configurationService.getIntProperty("solr-statistics.async.batch-size", 500),
+                SolrStatisticsQueue.OverflowPolicy.valueOf(configurationService
+                    .getProperty("solr-statistics.async.overflow-policy", "DROP_NEWEST").toUpperCase(Locale.ROOT)),
+                configurationService.getLongProperty("solr-statistics.async.block-timeout", 100),
+                !configurationService.getBooleanProperty("solr-statistics.autoCommit", true),
+                configurationService.getIntProperty("solr-statistics.async.completion-threads", 8));
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (statisticsQueue != null) {
+            statisticsQueue.shutdown(configurationService.getLongProperty("solr-statistics.async.shutdown-timeout",
+                10000));
+        }
+    }
+
+    /**
+     * @return the queue of the usage events added asynchronously, null if they are added by the request threads
+     */
+    public SolrStatisticsQueue getStatisticsQueue() {
+        return statisticsQueue;
     }
 
     @Override
@@ -266,12 +296,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             doc1.addField("statistics_type", StatisticsType.VIEW.text());
 
 
-            solr.add(doc1);
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
+            addDocument(doc1);
 
         } catch (RuntimeException re) {
             throw re;
@@ -312,12 +337,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
 
             doc1.addField("statistics_type", StatisticsType.VIEW.text());
 
-            solr.add(doc1);
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
+            addDocument(doc1);
 
         } catch (RuntimeException re) {
             throw re;
@@ -344,13 +364,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
 
             document.addField("statistics_type", StatisticsType.LOGIN.text());
 
-            solr.add(document);
-
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
+            addDocument(document);
 
         } catch (RuntimeException re) {
             throw re;
@@ -417,53 +431,13 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
                 doc1.addField("referrer", request.getHeader("referer"));
             }
 
-            InetAddress ipAddress = null;
-            try {
-                String dns;
-                if (!configurationService.getBooleanProperty("anonymize_statistics.anonymize_on_log", false)) {
-                    ipAddress = InetAddress.getByName(ip);
-                    dns = ipAddress.getHostName();
-                } else {
-                    dns = configurationService.getProperty("anonymize_statistics.dns_mask", "anonymized");
-                }
-                doc1.addField("dns", dns.toLowerCase(Locale.ROOT));
-            } catch (UnknownHostException e) {
-                log.info("Failed DNS Lookup for IP:  {}", ip);
-                log.debug(e.getMessage(), e);
-            }
             if (request.getHeader("User-Agent") != null) {
                 doc1.addField("userAgent", request.getHeader("User-Agent"));
             }
             doc1.addField("isBot", isSpiderBot);
-            // Save the location information if valid, save the event without
-            // location information if not valid
-            if (locationService != null && ipAddress != null) {
-                try {
-                    CityResponse location = locationService.city(ipAddress);
-                    String countryCode = location.getCountry().getIsoCode();
-                    double latitude = location.getLocation().getLatitude();
-                    double longitude = location.getLocation().getLongitude();
-                    if (!(
-                            "--".equals(countryCode)
-                            && latitude == -180
-                            && longitude == -180)
-                    ) {
-                        try {
-                            doc1.addField("continent", LocationUtils
-                                .getContinentCode(countryCode));
-                        } catch (Exception e) {
-                            log.warn("Failed to load country/continent table: {}", countryCode);
-                        }
-                        doc1.addField("countryCode", countryCode);
-                        doc1.addField("city", location.getCity().getName());
-                        doc1.addField("latitude", latitude);
-                        doc1.addField("longitude", longitude);
-                    }
-                } catch (IOException e) {
-                    log.warn("GeoIP lookup failed.", e);
-                } catch (GeoIp2Exception e) {
-                    log.info("Unable to get location of request: {}", e.getMessage());
-                }
+            // the lookups are run by the worker of the queue when the events are added asynchronously
+            if (!isAsynchronous()) {
+                addDnsAndLocation(doc1, ip);
             }
         }
 
@@ -509,6 +483,37 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             doc1.addField("referrer", referrer);
         }
 
+        if (userAgent != null) {
+            doc1.addField("userAgent", userAgent);
+        }
+        doc1.addField("isBot", isSpiderBot);
+        // the lookups are run by the worker of the queue when the events are added asynchronously
+        if (!isAsynchronous()) {
+            addDnsAndLocation(doc1, ip);
+        }
+
+        if (dspaceObject != null) {
+            doc1.addField("id", dspaceObject.getID().toString());
+            doc1.addField("type", dspaceObject.getType());
+            storeParents(doc1, dspaceObject);
+        }
+        // Save the current time
+        doc1.addField("time", DateFormatUtils.format(new Date(), DATE_FORMAT_8601));
+        if (currentUser != null) {
+            doc1.addField("epersonid", currentUser.getID().toString());
+        }
+
+        return doc1;
+    }
+
+
+    /**
+     * Add the DNS name and the location of the given IP address to a usage event document.
+     *
+     * @param doc1 the usage event document
+     * @param ip   the IP address of the client
+     */
+    protected void addDnsAndLocation(SolrInputDocument doc1, String ip) {
         InetAddress ipAddress = null;
         try {
             String dns;
@@ -523,13 +528,9 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
             log.info("Failed DNS Lookup for IP:  {}", ip);
             log.debug(e.getMessage(), e);
         }
-        if (userAgent != null) {
-            doc1.addField("userAgent", userAgent);
-        }
-        doc1.addField("isBot", isSpiderBot);
         // Save the location information if valid, save the event without
         // location information if not valid
-        if (locationService != null) {
+        if (locationService != null && ipAddress != null) {
             try {
                 CityResponse location = locationService.city(ipAddress);
                 String countryCode = location.getCountry().getIsoCode();
@@ -537,15 +538,14 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
                 double longitude = location.getLocation().getLongitude();
                 if (!(
                         "--".equals(countryCode)
-                                && latitude == -180
-                                && longitude == -180)
+                        && latitude == -180
+                        && longitude == -180)
                 ) {
                     try {
                         doc1.addField("continent", LocationUtils
-                                .getContinentCode(countryCode));
+                            .getContinentCode(countryCode));
                     } catch (Exception e) {
-                        System.out
-                                .println("COUNTRY ERROR: " + countryCode);
+                        log.warn("Failed to load country/continent table: {}", countryCode);
                     }
                     doc1.addField("countryCode", countryCode);
                     doc1.addField("city", location.getCity().getName());
@@ -558,21 +558,44 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
                 log.info("Unable to get location of request: {}", e.getMessage());
             }
         }
+    }
 
-        if (dspaceObject != null) {
-            doc1.addField("id", dspaceObject.getID().toString());
-            doc1.addField("type", dspaceObject.getType());
-            storeParents(doc1, dspaceObject);
+    /**
+     * Complete a usage event document added asynchronously with the lookups skipped by the request thread. Called
+     * by the worker of the statistics queue.
+     */
+    private void completeDocument(SolrInputDocument document) {
+        Object ip = document.getFieldValue("ip");
+        if (ip != null && document.getFieldValue("dns") == null) {
+            addDnsAndLocation(document, ip.toString());
         }
-        // Save the current time
-        doc1.addField("time", DateFormatUtils.format(new Date(), DATE_FORMAT_8601));
-        if (currentUser != null) {
-            doc1.addField("epersonid", currentUser.getID().toString());
+    }
+
+    /**
+     * Add a usage event document to the statistics core, either directly or, when the events are added
+     * asynchronously, through the statistics queue.
+     *
+     * @param document the usage event document
+     * @throws SolrServerException if the document can't be added
+     * @throws IOException         if the document can't be added
+     */
+    protected void addDocument(SolrInputDocument document) throws SolrServerException, IOException {
+        if (isAsynchronous()) {
+            statisticsQueue.offer(document, this::completeDocument);
+            return;
         }
 
-        return doc1;
+        solr.add(document);
+        // commits are executed automatically using the solr autocommit
+        boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
+        if (!useAutoCommit) {
+            solr.commit(false, false);
+        }
     }
 
+    private boolean isAsynchronous() {
+        return statisticsQueue != null && statisticsQueue.isRunning();
+    }
 
     @Override
     public void postSearch(DSpaceObject resultObject, HttpServletRequest request, EPerson currentUser,
@@ -615,7 +638,11 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
                 solrDoc.addField("page", page);
             }
 
-            solr.add(solrDoc);
+            if (isAsynchronous()) {
+                statisticsQueue.offer(solrDoc, this::completeDocument);
+            } else {
+                solr.add(solrDoc);
+            }
         } catch (RuntimeException re) {
             throw re;
         } catch (Exception e) {
@@ -675,13 +702,7 @@ public class SolrLoggerServiceImpl implements SolrLoggerService, InitializingBea
 
             solrDoc.addField("previousActionRequiresUI", usageWorkflowEvent.isPreviousActionRequiresUI());
 
-            solr.add(solrDoc);
-
-            // commits are executed automatically using the solr autocommit
-            boolean useAutoCommit = configurationService.getBooleanProperty("solr-statistics.autoCommit", true);
-            if (!useAutoCommit) {
-                solr.commit(false, false);
-            }
+            addDocument(solrDoc);
 
         } catch (Exception e) {
             //Log the exception, no need to send it through, the workflow shouldn't crash because of this !
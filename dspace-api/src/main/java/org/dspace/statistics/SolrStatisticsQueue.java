@@ -0,0 +1,371 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.common.SolrInputDocument;
+
+/**
+ * Bounded in-memory queue of the usage event documents waiting to be added to the statistics core. The documents
+ * are enqueued by the request threads, then added to Solr in batches by a background worker, so that the latency
+ * of the lookups and of Solr doesn't delay the requests. Before each batch is added, the documents are completed
+ * (e.g. with the DNS and GeoIP lookups) in parallel by a pool of completion threads, as the lookups mostly wait for
+ * remote services.
+ * <p>
+ * When the queue is full, because the completion and Solr are slower than the incoming events, the documents are
+ * either dropped or the request threads wait for some room, depending on the {@link OverflowPolicy}. The batches
+ * that Solr fails to add are logged, counted as failed and discarded, they are not retried: an unavailable Solr
+ * doesn't fill the queue. The documents still queued when the queue is shut down are added before returning, the
+ * ones queued when the JVM is killed are lost.
+ */
+public class SolrStatisticsQueue {
+
+    private static final Logger log = LogManager.getLogger(SolrStatisticsQueue.class);
+
+    /**
+     * What to do with a new document when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** The new document is dropped. */
+        DROP_NEWEST,
+        /** The oldest queued document is dropped to make room for the new one. */
+        DROP_OLDEST,
+        /** The request thread waits for some room, up to the block timeout, then the new document is dropped. */
+        BLOCK
+    }
+
+    private final SolrClient solr;
+
+    private final BlockingQueue<QueuedDocument> queue;
+
+    private final int batchSize;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final long blockTimeout;
+
+    private final boolean commit;
+
+    /**
+     * The threads completing the documents of a batch, null if they are completed by the worker itself.
+     */
+    private final ExecutorService completionExecutor;
+
+    private final AtomicLong enqueued = new AtomicLong();
+
+    private final AtomicLong added = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile long lastLag = 0;
+
+    private volatile boolean running = true;
+
+    private Thread worker;
+
+    /**
+     * @param solr           the client of the statistics core
+     * @param capacity       the maximum number of queued documents
+     * @param batchSize      the maximum number of documents added with each request to Solr
+     * @param overflowPolicy what to do with a new document when the queue is full
+     * @param blockTimeout   the milliseconds a request thread waits for some room with the BLOCK policy
+     * @param commit         whether the documents are committed after each batch, instead of by the Solr autocommit
+     */
+    public SolrStatisticsQueue(SolrClient solr, int capacity, int batchSize, OverflowPolicy overflowPolicy,
+                               long blockTimeout, boolean commit) {
+        this(solr, capacity, batchSize, overflowPolicy, blockTimeout, commit, 1);
+    }
+
+    /**
+     * @param solr              the client of the statistics core
+     * @param capacity          the maximum number of queued documents
+     * @param batchSize         the maximum number of documents added with each request to Solr
+     * @param overflowPolicy    what to do with a new document when the queue is full
+     * @param blockTimeout      the milliseconds a request thread waits for some room with the BLOCK policy
+     * @param commit            whether the documents are committed after each batch, instead of by the Solr
+     *                          autocommit
+     * @param completionThreads the number of threads completing the documents of a batch in parallel, 1 to complete
+     *                          them in the worker
+     */
+    public SolrStatisticsQueue(SolrClient solr, int capacity, int batchSize, OverflowPolicy overflowPolicy,
+                               long blockTimeout, boolean commit, int completionThreads) {
+        this.solr = solr;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.commit = commit;
+        this.completionExecutor = completionThreads > 1 ? Executors.newFixedThreadPool(completionThreads,
+            new BasicThreadFactory.Builder().namingPattern("statistics-completion-%d").daemon(true).build()) : null;
+    }
+
+    /**
+     * Enqueue a document, to be completed and added to Solr by the background worker.
+     *
+     * @param document   the document
+     * @param completion the completion of the document run by the worker before adding it, e.g. the lookups too
+     *                   slow to be run by the request thread
+     * @return true if the document has been enqueued, false if it has been dropped
+     */
+    public boolean offer(SolrInputDocument document, Consumer<SolrInputDocument> completion) {
+        startWorker();
+        QueuedDocument queuedDocument = new QueuedDocument(document, completion);
+        boolean accepted = queue.offer(queuedDocument);
+        if (!accepted && overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            while (!accepted) {
+                if (queue.poll() != null) {
+                    drop();
+                }
+                accepted = queue.offer(queuedDocument);
+            }
+        } else if (!accepted && overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(queuedDocument, blockTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!accepted) {
+            drop();
+            return false;
+        }
+        enqueued.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Stop the background worker, adding the documents still queued.
+     *
+     * @param timeout the maximum milliseconds to wait for the batch being added by the worker
+     */
+    public void shutdown(long timeout) {
+        Thread currentWorker;
+        synchronized (this) {
+            running = false;
+            currentWorker = worker;
+        }
+        if (currentWorker != null) {
+            try {
+                // let the worker complete the batch being added, it stops polling within a second
+                currentWorker.join(timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            currentWorker.interrupt();
+        }
+        List<QueuedDocument> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            addBatch(batch);
+            batch.clear();
+        }
+        if (completionExecutor != null) {
+            completionExecutor.shutdown();
+        }
+        log.info("Statistics queue shut down, added: {}, dropped: {}, failed: {}", getAdded(), getDropped(),
+            getFailed());
+    }
+
+    /**
+     * @return whether the queue accepts documents, i.e. it has not been shut down
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return the number of documents waiting to be added
+     */
+    public int getSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the maximum number of queued documents
+     */
+    public int getCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * @return the milliseconds since the oldest queued document has been enqueued, 0 if the queue is empty
+     */
+    public long getLag() {
+        QueuedDocument oldest = queue.peek();
+        return oldest != null ? Math.max(0, System.currentTimeMillis() - oldest.enqueuedAt) : 0;
+    }
+
+    /**
+     * @return the milliseconds the documents of the last batch added to Solr waited in the queue, at most
+     */
+    public long getLastLag() {
+        return lastLag;
+    }
+
+    /**
+     * @return the number of documents enqueued
+     */
+    public long getEnqueued() {
+        return enqueued.get();
+    }
+
+    /**
+     * @return the number of documents added to Solr
+     */
+    public long getAdded() {
+        return added.get();
+    }
+
+    /**
+     * @return the number of documents dropped because the queue was full
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of documents not added because of an error
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    private synchronized void startWorker() {
+        if (worker != null || !running) {
+            return;
+        }
+        worker = new Thread(this::run, "statistics-queue");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        List<QueuedDocument> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                QueuedDocument first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                addBatch(batch);
+            } catch (InterruptedException e) {
+                // the remaining documents are added by the thread shutting the queue down
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error adding the usage events to Solr", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void addBatch(List<QueuedDocument> batch) {
+        if (!complete(batch)) {
+            failed.addAndGet(batch.size());
+            log.error("Interrupted while completing {} usage events, they are not added to Solr", batch.size());
+            return;
+        }
+        List<SolrInputDocument> documents = new ArrayList<>(batch.size());
+        for (QueuedDocument queuedDocument : batch) {
+            documents.add(queuedDocument.document);
+        }
+
+        try {
+            solr.add(documents);
+            if (commit) {
+                solr.commit(false, false);
+            }
+            added.addAndGet(documents.size());
+            lastLag = System.currentTimeMillis() - batch.get(0).enqueuedAt;
+            log.debug("Added {} usage events to Solr, lag: {} ms, queued: {}", documents.size(), lastLag,
+                queue.size());
+        } catch (Exception e) {
+            failed.addAndGet(documents.size());
+            log.error("Error adding {} usage events to Solr", documents.size(), e);
+        }
+    }
+
+    /**
+     * Complete the documents of a batch, in parallel on the completion threads if any.
+     *
+     * @return false if the worker has been interrupted while waiting for the completions
+     */
+    private boolean complete(List<QueuedDocument> batch) {
+        if (completionExecutor == null || batch.size() == 1) {
+            batch.forEach(QueuedDocument::complete);
+            return true;
+        }
+        List<Future<?>> completions = new ArrayList<>(batch.size());
+        for (QueuedDocument queuedDocument : batch) {
+            completions.add(completionExecutor.submit(queuedDocument::complete));
+        }
+        for (Future<?> completion : completions) {
+            try {
+                completion.get();
+            } catch (InterruptedException e) {
+                completions.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                log.warn("Unable to complete the usage event, adding it as it is", e.getCause());
+            }
+        }
+        return true;
+    }
+
+    private void drop() {
+        long count = dropped.incrementAndGet();
+        // avoid flooding the log while the queue stays full
+        if (Long.bitCount(count) == 1) {
+            log.warn("The statistics queue is full, {} usage events dropped so far", count);
+        }
+    }
+
+    private static final class QueuedDocument {
+
+        private final SolrInputDocument document;
+
+        private final Consumer<SolrInputDocument> completion;
+
+        private final long enqueuedAt = System.currentTimeMillis();
+
+        private QueuedDocument(SolrInputDocument document, Consumer<SolrInputDocument> completion) {
+            this.document = document;
+            this.completion = completion;
+        }
+
+        private void complete() {
+            try {
+                if (completion != null) {
+                    completion.accept(document);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Unable to complete the usage event, adding it as it is", e);
+            }
+        }
+    }
+}
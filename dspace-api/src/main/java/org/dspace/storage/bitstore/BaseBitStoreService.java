@@ -37,6 +37,8 @@ public abstract class BaseBitStoreService implements BitStoreService {
     protected static final String CHECKSUM_ALGORITHM = "checksum_algorithm";
     protected static final String CHECKSUM = "checksum";
     protected static final String SIZE_BYTES = "size_bytes";
+    // Checksum recorded by the store, obtained without reading the content
+    protected static final String STORED_CHECKSUM = "stored_checksum";
 
     protected boolean initialized = false;
 
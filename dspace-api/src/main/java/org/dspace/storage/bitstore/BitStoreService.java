@@ -12,6 +12,8 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.dspace.content.Bitstream;
 
 /**
@@ -45,6 +47,35 @@ public interface BitStoreService {
      */
     public InputStream get(Bitstream bitstream) throws IOException;
 
+    /**
+     * Retrieve a range of the bits of the bitstream. Stores able to position
+     * themselves at the given offset should override this method, the default
+     * implementation reads and discards the bits before the offset.
+     *
+     * @param bitstream DSpace Bitstream object
+     * @param offset    the position of the first byte to retrieve
+     * @param length    the maximum number of bytes to retrieve
+     * @return The stream of bits of the range
+     * @throws java.io.IOException If a problem occurs while retrieving the bits, or if no
+     *                             asset with ID exists in the store
+     */
+    public default InputStream get(Bitstream bitstream, long offset, long length) throws IOException {
+        InputStream inputStream = get(bitstream);
+        IOUtils.skipFully(inputStream, offset);
+        return new BoundedInputStream(inputStream, length);
+    }
+
+    /**
+     * Determines if the bits are stored as files of the local file system, so
+     * that they can be sent without copying them through the heap. By default
+     * the store is not file-backed.
+     *
+     * @return {@code boolean} true if file-backed, false otherwise
+     */
+    public default boolean isFileBacked() {
+        return false;
+    }
+
     /**
      * Store a stream of bits.
      *
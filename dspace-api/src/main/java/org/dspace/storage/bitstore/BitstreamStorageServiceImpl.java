@@ -202,6 +202,12 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         return this.getStore(bitstream.getStoreNumber()).about(bitstream, List.of("checksum", "checksum_algorithm"));
     }
 
+    @Override
+    public Map<String, Object> getStoredChecksum(Context context, Bitstream bitstream) throws IOException {
+        return this.getStore(bitstream.getStoreNumber())
+                   .about(bitstream, List.of("size_bytes", "stored_checksum", "checksum_algorithm"));
+    }
+
     @Override
     public boolean isRegisteredBitstream(String internalId) {
         return internalId.startsWith(REGISTERED_FLAG);
@@ -219,6 +225,18 @@ public class BitstreamStorageServiceImpl implements BitstreamStorageService, Ini
         return this.getStore(storeNumber).get(bitstream);
     }
 
+    @Override
+    public InputStream retrieve(Context context, Bitstream bitstream, long offset, long length)
+        throws SQLException, IOException {
+        Integer storeNumber = bitstream.getStoreNumber();
+        return this.getStore(storeNumber).get(bitstream, offset, length);
+    }
+
+    @Override
+    public boolean isFileBacked(Bitstream bitstream) throws IOException {
+        return this.getStore(bitstream.getStoreNumber()).isFileBacked();
+    }
+
     @Override
     public void cleanup(boolean deleteDbRecords, boolean verbose) throws SQLException, IOException, AuthorizeException {
         Context context = new Context(Context.Mode.BATCH_EDIT);
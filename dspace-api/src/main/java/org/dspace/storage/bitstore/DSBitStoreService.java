@@ -18,6 +18,8 @@ import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.logging.log4j.Logger;
 import org.dspace.content.Bitstream;
 import org.dspace.core.Utils;
@@ -80,6 +82,35 @@ public class DSBitStoreService extends BaseBitStoreService {
         }
     }
 
+    /**
+     * Retrieve a range of the bits for the asset with ID, positioning the file
+     * channel at the given offset instead of reading the bits before it.
+     *
+     * @param bitstream The bitstream to retrieve
+     * @param offset    the position of the first byte to retrieve
+     * @param length    the maximum number of bytes to retrieve
+     * @return The stream of bits of the range
+     * @throws java.io.IOException If a problem occurs while retrieving the bits
+     */
+    @Override
+    public InputStream get(Bitstream bitstream, long offset, long length) throws IOException {
+        FileInputStream inputStream = null;
+        try {
+            inputStream = new FileInputStream(getFile(bitstream));
+            inputStream.getChannel().position(offset);
+            return new BoundedInputStream(inputStream, length);
+        } catch (Exception e) {
+            log.error("get(" + bitstream.getInternalId() + ", " + offset + ", " + length + ")", e);
+            IOUtils.closeQuietly(inputStream);
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public boolean isFileBacked() {
+        return true;
+    }
+
     /**
      * Store a stream of bits.
      *
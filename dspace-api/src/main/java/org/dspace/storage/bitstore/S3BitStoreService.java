@@ -9,19 +9,31 @@ package org.dspace.storage.bitstore;
 
 import static java.lang.String.valueOf;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 
@@ -40,9 +52,18 @@ import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.SSEAlgorithm;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.transfer.Download;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
@@ -99,6 +120,11 @@ public class S3BitStoreService extends BaseBitStoreService {
      */
     static final String CSA = "MD5";
 
+    /**
+     * User metadata of the objects holding the MD5 digest of their content, computed while uploading them
+     */
+    static final String CONTENT_MD5_METADATA = "dspace-md5";
+
     // These settings control the way an identifier is hashed into
     // directory and file names
     //
@@ -128,6 +154,33 @@ public class S3BitStoreService extends BaseBitStoreService {
      */
     private long bufferSize = 5 * 1024 * 1024;
 
+    /**
+     * The number of chunks following the one being read that are downloaded in background, in memory, when a file is
+     * accessed. Default 0, the chunks are downloaded on demand to temporary files
+     */
+    private int prefetchDepth = 0;
+
+    /**
+     * Executor of the background chunk downloads, lazily created when the prefetch is enabled
+     */
+    private ExecutorService prefetchExecutor = null;
+
+    /**
+     * The size of the parts of the streaming multipart uploads. Default 16Mb, S3 requires at least 5Mb
+     */
+    private int uploadPartSize = 16 * 1024 * 1024;
+
+    /**
+     * The number of parts of a file uploaded concurrently by the streaming multipart upload. Default 0, the file is
+     * copied to a temporary file before being uploaded
+     */
+    private int uploadConcurrency = 0;
+
+    /**
+     * Executor of the part uploads, lazily created when the streaming multipart upload is enabled
+     */
+    private ExecutorService uploadExecutor = null;
+
     /**
      * container for all the assets
      */
@@ -435,7 +488,30 @@ public class S3BitStoreService extends BaseBitStoreService {
         if (isRegisteredBitstream(key)) {
             key = key.substring(REGISTERED_FLAG.length());
         }
-        return new S3LazyInputStream(key, bufferSize, bitstream.getSizeBytes());
+        return new S3LazyInputStream(key, bufferSize, bitstream.getSizeBytes(), prefetchDepth);
+    }
+
+    /**
+     * Retrieve a range of the bits for the asset with ID, requesting to S3 only
+     * the chunks of the range.
+     *
+     * @param bitstream The asset to retrieve
+     * @param offset    the position of the first byte to retrieve
+     * @param length    the maximum number of bytes to retrieve
+     * @return The stream of bits of the range
+     * @throws java.io.IOException If a problem occurs while retrieving the bits
+     */
+    @Override
+    public InputStream get(Bitstream bitstream, long offset, long length) throws IOException {
+        String key = getFullKey(bitstream.getInternalId());
+        // Strip -R from bitstream key if it's registered
+        if (isRegisteredBitstream(key)) {
+            key = key.substring(REGISTERED_FLAG.length());
+        }
+        long size = bitstream.getSizeBytes();
+        long start = Long.min(offset, size);
+        long end = length > size - start ? size : start + length;
+        return new S3LazyInputStream(key, bufferSize, start, end, prefetchDepth);
     }
 
     /**
@@ -452,6 +528,21 @@ public class S3BitStoreService extends BaseBitStoreService {
     @Override
     public void put(Bitstream bitstream, InputStream in) throws IOException {
         String key = getFullKey(bitstream.getInternalId());
+        if (uploadConcurrency > 0) {
+            try (InputStream input = in) {
+                putMultipart(bitstream, key, input);
+            } catch (AmazonClientException | IOException | InterruptedException e) {
+                log.error("put(" + bitstream.getInternalId() + ", is)", e);
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException(e);
+            } catch (NoSuchAlgorithmException nsae) {
+                // Should never happen
+                log.warn("Caught NoSuchAlgorithmException", nsae);
+            }
+            return;
+        }
         //Copy istream to temp file, and send the file, with some metadata
         File scratchFile = File.createTempFile(bitstream.getInternalId(), "s3bs");
         try (
@@ -462,14 +553,17 @@ public class S3BitStoreService extends BaseBitStoreService {
             Utils.bufferedCopy(dis, fos);
             in.close();
 
-            Upload upload = tm.upload(bucketName, key, scratchFile);
+            String md5 = Utils.toHex(dis.getMessageDigest().digest());
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.addUserMetadata(CONTENT_MD5_METADATA, md5);
+            Upload upload = tm.upload(new PutObjectRequest(bucketName, key, scratchFile).withMetadata(objectMetadata));
 
             upload.waitForUploadResult();
 
             bitstream.setSizeBytes(scratchFile.length());
             // we cannot use the S3 ETAG here as it could be not a MD5 in case of multipart upload (large files) or if
             // the bucket is encrypted
-            bitstream.setChecksum(Utils.toHex(dis.getMessageDigest().digest()));
+            bitstream.setChecksum(md5);
             bitstream.setChecksumAlgorithm(CSA);
 
         } catch (AmazonClientException | IOException | InterruptedException e) {
@@ -485,12 +579,152 @@ public class S3BitStoreService extends BaseBitStoreService {
         }
     }
 
+    /**
+     * Store a stream of bits without copying it to a temporary file. The stream
+     * is split in parts of uploadPartSize bytes, each part is uploaded while the
+     * following ones are read and the MD5 is computed as the stream is read, so
+     * that at most uploadConcurrency + 1 parts are kept in memory. A stream shorter
+     * than a part is stored with a single request. If any part fails the
+     * multipart upload is aborted, so that S3 discards the parts already stored.
+     * The MD5 is stored as user metadata of the object, see {@link #storeContentMD5}.
+     *
+     * @param bitstream The bitstream to store
+     * @param key       The key of the object
+     * @param in        The stream of bits to store
+     */
+    private void putMultipart(Bitstream bitstream, String key, InputStream in)
+        throws IOException, InterruptedException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance(CSA);
+        byte[] part = readPart(in, digest);
+        long size = part.length;
+        String md5;
+        if (part.length < uploadPartSize) {
+            md5 = Utils.toHex(digest.digest());
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(part.length);
+            objectMetadata.addUserMetadata(CONTENT_MD5_METADATA, md5);
+            s3Service.putObject(bucketName, key, new ByteArrayInputStream(part), objectMetadata);
+        } else {
+            String uploadId = s3Service.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key))
+                                       .getUploadId();
+            List<Future<PartETag>> uploads = new ArrayList<>();
+            Semaphore permits = new Semaphore(uploadConcurrency);
+            try {
+                while (part.length > 0) {
+                    permits.acquire();
+                    checkUploadedParts(uploads);
+                    byte[] data = part;
+                    int partNumber = uploads.size() + 1;
+                    uploads.add(getUploadExecutor().submit(() -> {
+                        try {
+                            return uploadPart(key, uploadId, partNumber, data);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                    part = readPart(in, digest);
+                    size += part.length;
+                }
+                List<PartETag> partETags = new ArrayList<>();
+                for (Future<PartETag> upload : uploads) {
+                    partETags.add(getUploadedPart(upload));
+                }
+                s3Service.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                abortMultipartUpload(key, uploadId, uploads);
+                throw e;
+            }
+            md5 = Utils.toHex(digest.digest());
+            storeContentMD5(key, md5);
+        }
+
+        bitstream.setSizeBytes(size);
+        bitstream.setChecksum(md5);
+        bitstream.setChecksumAlgorithm(CSA);
+    }
+
+    /**
+     * Store the MD5 digest of the content of a multipart upload as user metadata of the object, since its ETag is not
+     * the MD5 digest. The digest is known only once all the parts are uploaded and the metadata of an object can't
+     * be changed, so the object is copied onto itself within S3, without transferring its content. If the copy
+     * fails the object is kept as it is, and the checker reads its content to verify it.
+     *
+     * @param key the key of the object
+     * @param md5 the hex encoded MD5 digest of the content
+     */
+    private void storeContentMD5(String key, String md5) throws InterruptedException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.addUserMetadata(CONTENT_MD5_METADATA, md5);
+        try {
+            tm.copy(new CopyObjectRequest(bucketName, key, bucketName, key).withNewObjectMetadata(objectMetadata))
+              .waitForCopyResult();
+        } catch (AmazonClientException e) {
+            log.warn("Unable to store the MD5 digest of " + key + " as user metadata", e);
+        }
+    }
+
+    /**
+     * Read the next part of the stream to upload, updating the digest of the stream.
+     *
+     * @return the bytes of the part, shorter than the part size only at the end of the stream
+     */
+    private byte[] readPart(InputStream in, MessageDigest digest) throws IOException {
+        byte[] part = new byte[uploadPartSize];
+        int read = IOUtils.read(in, part);
+        digest.update(part, 0, read);
+        return read < part.length ? Arrays.copyOf(part, read) : part;
+    }
+
+    private PartETag uploadPart(String key, String uploadId, int partNumber, byte[] data) {
+        UploadPartRequest uploadPartRequest = new UploadPartRequest().withBucketName(bucketName)
+                                                                     .withKey(key)
+                                                                     .withUploadId(uploadId)
+                                                                     .withPartNumber(partNumber)
+                                                                     .withPartSize(data.length)
+                                                                     .withInputStream(new ByteArrayInputStream(data));
+        return s3Service.uploadPart(uploadPartRequest).getPartETag();
+    }
+
+    /**
+     * Fail fast if the upload of any part already ended with an error.
+     */
+    private void checkUploadedParts(List<Future<PartETag>> uploads) throws IOException, InterruptedException {
+        for (Future<PartETag> upload : uploads) {
+            if (upload.isDone()) {
+                getUploadedPart(upload);
+            }
+        }
+    }
+
+    private PartETag getUploadedPart(Future<PartETag> upload) throws IOException, InterruptedException {
+        try {
+            return upload.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Upload of a part failed", e.getCause());
+        }
+    }
+
+    private void abortMultipartUpload(String key, String uploadId, List<Future<PartETag>> uploads) {
+        uploads.forEach(upload -> upload.cancel(true));
+        try {
+            s3Service.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (AmazonClientException e) {
+            log.error("Unable to abort the multipart upload " + uploadId + " of " + key, e);
+        }
+    }
+
     /**
      * Obtain technical metadata about an asset in the asset store.
      *
      * Checksum used is (ETag) hex encoded 128-bit MD5 digest of an object's content as calculated by Amazon S3
      * (Does not use getContentMD5, as that is 128-bit MD5 digest calculated on caller's side)
      *
+     * The stored_checksum attribute is obtained without reading the object. It is the MD5 digest stored as user
+     * metadata of the object when it was uploaded, otherwise the ETag, provided that it is the MD5 digest of the
+     * content: the ETags of the multipart uploads and of the objects encrypted with KMS or with a customer key are
+     * not, and are not returned.
+     *
      * @param bitstream The asset to describe
      * @param attrs     A List of desired metadata fields
      * @return attrs
@@ -515,6 +749,16 @@ public class S3BitStoreService extends BaseBitStoreService {
             if (objectMetadata != null) {
                 putValueIfExistsKey(attrs, metadata, "size_bytes", objectMetadata.getContentLength());
                 putValueIfExistsKey(attrs, metadata, "modified", valueOf(objectMetadata.getLastModified().getTime()));
+                if (attrs.contains(STORED_CHECKSUM)) {
+                    // the ETag is computed by S3, the user metadata is the MD5 computed by DSpace on upload and
+                    // is used only for the objects whose ETag is not the MD5 of their content
+                    String storedMD5 = objectMetadata.getUserMetaDataOf(CONTENT_MD5_METADATA);
+                    if (isContentMD5(objectMetadata)) {
+                        metadata.put(STORED_CHECKSUM, objectMetadata.getETag().toLowerCase());
+                    } else if (StringUtils.isNotBlank(storedMD5)) {
+                        metadata.put(STORED_CHECKSUM, storedMD5.toLowerCase());
+                    }
+                }
             }
 
             putValueIfExistsKey(attrs, metadata, "checksum_algorithm", CSA);
@@ -544,6 +788,20 @@ public class S3BitStoreService extends BaseBitStoreService {
         return metadata;
     }
 
+    /**
+     * Is the ETag of an object the MD5 digest of its content. It is not for the multipart uploads, whose ETag has
+     * the number of parts as suffix, and for the objects encrypted with KMS or with a customer provided key.
+     *
+     * @param objectMetadata the metadata of the object
+     * @return true if the ETag is the MD5 digest of the content
+     */
+    protected boolean isContentMD5(ObjectMetadata objectMetadata) {
+        String eTag = objectMetadata.getETag();
+        return eTag != null && eTag.matches("[0-9a-fA-F]{32}")
+            && !SSEAlgorithm.KMS.getAlgorithm().equals(objectMetadata.getSSEAlgorithm())
+            && objectMetadata.getSSECustomerAlgorithm() == null;
+    }
+
     /**
      * Remove an asset from the asset store. An irreversible operation.
      *
@@ -832,13 +1090,84 @@ public class S3BitStoreService extends BaseBitStoreService {
         this.bufferSize = bufferSize;
     }
 
+    public void setPrefetchDepth(Integer prefetchDepth) {
+        this.prefetchDepth = prefetchDepth != null ? Math.max(prefetchDepth, 0) : 0;
+    }
+
+    public void setUploadPartSize(Integer uploadPartSize) {
+        if (uploadPartSize != null && uploadPartSize > 0) {
+            this.uploadPartSize = uploadPartSize;
+        }
+    }
+
+    public void setUploadConcurrency(Integer uploadConcurrency) {
+        this.uploadConcurrency = uploadConcurrency != null ? Math.max(uploadConcurrency, 0) : 0;
+    }
+
     /**
-     * This inner class represent an InputStream that uses temporary files to
-     * represent chunk of the object downloaded from S3. When the input stream is
-     * read the class look first to the current chunk and download a new one once if
-     * the current one as been fully read. The class is responsible to close a chunk
-     * as soon as a new one is retrieved, the last chunk is closed when the input
-     * stream itself is closed or the last byte is read (the first of the two)
+     * Return the executor used to upload the parts of the streaming multipart uploads, sized as the maximum number
+     * of connections of the S3 client so that the uploads can't exhaust the connection pool.
+     */
+    private synchronized ExecutorService getUploadExecutor() {
+        if (uploadExecutor == null) {
+            int threads = Optional.ofNullable(maxConnections).orElse(ClientConfiguration.DEFAULT_MAX_CONNECTIONS);
+            uploadExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "s3-upload");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return uploadExecutor;
+    }
+
+    /**
+     * Return the executor used to download the prefetched chunks, sized as the maximum number of connections of
+     * the S3 client so that the prefetch can't exhaust the connection pool.
+     */
+    private synchronized ExecutorService getPrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            int threads = Optional.ofNullable(maxConnections).orElse(ClientConfiguration.DEFAULT_MAX_CONNECTIONS);
+            prefetchExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "s3-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Download the given range of the object in memory.
+     *
+     * @param objectKey the key of the object
+     * @param startByte the first byte of the range (inclusive)
+     * @param endByte   the last byte of the range (inclusive)
+     * @return the bytes of the range
+     * @throws IOException if the range can't be downloaded
+     */
+    private byte[] downloadRange(String objectKey, long startByte, long endByte) throws IOException {
+        GetObjectRequest getRequest = new GetObjectRequest(bucketName, objectKey).withRange(startByte, endByte);
+        try (S3Object object = s3Service.getObject(getRequest);
+             InputStream in = object.getObjectContent()) {
+            return IOUtils.toByteArray(in);
+        } catch (AmazonClientException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * This inner class represent an InputStream that reads the object from S3 in
+     * chunks. When the input stream is read the class look first to the current
+     * chunk and download a new one once if the current one as been fully read. The
+     * class is responsible to close a chunk as soon as a new one is retrieved, the
+     * last chunk is closed when the input stream itself is closed or the last byte
+     * is read (the first of the two).
+     * <p>
+     * Without prefetch the chunks are downloaded on demand to temporary files.
+     * With a prefetch depth greater than zero the chunks are downloaded in memory
+     * by background threads, keeping at most the current chunk plus the prefetch
+     * depth in memory, so that the next chunks are usually already available when
+     * the current one has been read.
      */
     public class S3LazyInputStream extends InputStream {
         private InputStream currentChunkStream;
@@ -847,33 +1176,133 @@ public class S3BitStoreService extends BaseBitStoreService {
         private long chunkMaxSize;
         private long currPos = 0;
         private long fileSize;
+        private int prefetchDepth;
+        /**
+         * The start of the next chunk to prefetch
+         */
+        private long nextPrefetchPos = 0;
+        private final Deque<PrefetchedChunk> prefetchedChunks = new ArrayDeque<>();
 
         public S3LazyInputStream(String objectKey, long chunkMaxSize, long fileSize) throws IOException {
+            this(objectKey, chunkMaxSize, fileSize, 0);
+        }
+
+        public S3LazyInputStream(String objectKey, long chunkMaxSize, long fileSize, int prefetchDepth)
+            throws IOException {
+            this(objectKey, chunkMaxSize, 0, fileSize, prefetchDepth);
+        }
+
+        /**
+         * Create a stream of the given range of the object.
+         *
+         * @param objectKey     the key of the object
+         * @param chunkMaxSize  the maximum size of the chunks requested to S3
+         * @param startPosition the position of the first byte to read (inclusive)
+         * @param endPosition   the position where the stream ends (exclusive), the size of the object to read it
+         *                      until the end
+         * @param prefetchDepth the number of chunks to download in background
+         * @throws IOException if the first chunk can't be downloaded
+         */
+        public S3LazyInputStream(String objectKey, long chunkMaxSize, long startPosition, long endPosition,
+                                 int prefetchDepth) throws IOException {
             this.objectKey = objectKey;
             this.chunkMaxSize = chunkMaxSize;
-            this.endOfChunk = 0;
-            this.fileSize = fileSize;
-            downloadChunk();
+            this.currPos = startPosition;
+            this.endOfChunk = startPosition;
+            this.nextPrefetchPos = startPosition;
+            this.fileSize = endPosition;
+            this.prefetchDepth = prefetchDepth;
+            openChunk();
         }
 
         @Override
         public int read() throws IOException {
-            // is the current chunk completely read and other are available?
-            if (currPos == endOfChunk && currPos < fileSize) {
-                currentChunkStream.close();
-                downloadChunk();
-            }
+            nextChunkIfNeeded();
 
-            int byteRead = currPos < endOfChunk ? currentChunkStream.read() : -1;
+            int byteRead = currPos < endOfChunk && currentChunkStream != null ? currentChunkStream.read() : -1;
             // do we get any data or are we at the end of the file?
             if (byteRead != -1) {
                 currPos++;
             } else {
-                currentChunkStream.close();
+                closeChunk();
             }
             return byteRead;
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            nextChunkIfNeeded();
+
+            int bytesRead = currPos < endOfChunk && currentChunkStream != null
+                ? currentChunkStream.read(b, off, (int) Long.min(len, endOfChunk - currPos)) : -1;
+            if (bytesRead > 0) {
+                currPos += bytesRead;
+            } else {
+                closeChunk();
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            if (n <= 0 || currPos >= fileSize) {
+                return 0;
+            }
+            long target = Long.min(currPos + n, fileSize);
+            long skipped = target - currPos;
+            if (target < endOfChunk && currentChunkStream != null) {
+                // the target is inside the current chunk
+                IOUtils.skipFully(currentChunkStream, skipped);
+                currPos = target;
+                return skipped;
+            }
+
+            // drop the current chunk and the prefetched chunks before the target, the next read will start from
+            // the chunk containing the target
+            closeChunk();
+            while (!prefetchedChunks.isEmpty() && prefetchedChunks.peek().endByte < target) {
+                prefetchedChunks.poll().cancel();
+            }
+            if (prefetchedChunks.isEmpty()) {
+                nextPrefetchPos = target;
+            }
+            currPos = target;
+            endOfChunk = target;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return currentChunkStream != null ? (int) Long.min(endOfChunk - currPos, Integer.MAX_VALUE) : 0;
+        }
+
+        /**
+         * Open the next chunk if the current one is completely read and other are available.
+         */
+        private void nextChunkIfNeeded() throws IOException {
+            if (currPos == endOfChunk && currPos < fileSize) {
+                closeChunk();
+                openChunk();
+            }
+        }
+
+        private void openChunk() throws IOException {
+            if (currPos >= fileSize) {
+                // nothing left to read
+                endOfChunk = currPos;
+                return;
+            }
+            if (prefetchDepth > 0) {
+                openPrefetchedChunk();
+            } else {
+                downloadChunk();
+            }
+        }
+
         /**
          * This method download the next chunk from S3
          *
@@ -893,19 +1322,93 @@ public class S3BitStoreService extends BaseBitStoreService {
                 Download download = tm.download(getRequest, currentChunkFile);
                 download.waitForCompletion();
                 currentChunkStream = new DeleteOnCloseFileInputStream(currentChunkFile);
-                endOfChunk = endOfChunk + download.getProgress().getBytesTransferred();
+                endOfChunk = currPos + download.getProgress().getBytesTransferred();
             } catch (AmazonClientException | InterruptedException e) {
                 currentChunkFile.delete();
                 throw new IOException(e);
             }
         }
 
-        @Override
-        public void close() throws IOException {
+        /**
+         * Take the chunk containing the current position from the prefetched ones,
+         * waiting for its download if needed, and schedule the download of the
+         * following chunks.
+         */
+        private void openPrefetchedChunk() throws IOException {
+            prefetch(prefetchDepth + 1);
+            PrefetchedChunk chunk = prefetchedChunks.poll();
+            if (chunk == null) {
+                // nothing left to read
+                endOfChunk = currPos;
+                return;
+            }
+            prefetch(prefetchDepth);
+
+            byte[] content = chunk.get();
+            currentChunkStream = new ByteArrayInputStream(content);
+            // the chunk can start before the current position after a skip
+            IOUtils.skipFully(currentChunkStream, currPos - chunk.startByte);
+            endOfChunk = chunk.startByte + content.length;
+        }
+
+        private void prefetch(int chunks) {
+            while (prefetchedChunks.size() < chunks && nextPrefetchPos < fileSize) {
+                long startByte = nextPrefetchPos;
+                long endByte = Long.min(startByte + chunkMaxSize - 1, fileSize - 1);
+                prefetchedChunks.add(new PrefetchedChunk(startByte, endByte,
+                    getPrefetchExecutor().submit(() -> downloadRange(objectKey, startByte, endByte))));
+                nextPrefetchPos = endByte + 1;
+            }
+        }
+
+        private void closeChunk() throws IOException {
             if (currentChunkStream != null) {
                 currentChunkStream.close();
+                currentChunkStream = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeChunk();
+            while (!prefetchedChunks.isEmpty()) {
+                prefetchedChunks.poll().cancel();
+            }
+        }
+
+    }
+
+    /**
+     * A chunk of an object whose download has been scheduled in background.
+     */
+    private static class PrefetchedChunk {
+        private final long startByte;
+        private final long endByte;
+        private final Future<byte[]> content;
+
+        PrefetchedChunk(long startByte, long endByte, Future<byte[]> content) {
+            this.startByte = startByte;
+            this.endByte = endByte;
+            this.content = content;
+        }
+
+        byte[] get() throws IOException {
+            try {
+                return content.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while downloading the bytes " + startByte + "-"
+                    + endByte);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException(e.getCause());
             }
         }
 
+        void cancel() {
+            content.cancel(true);
+        }
     }
 }
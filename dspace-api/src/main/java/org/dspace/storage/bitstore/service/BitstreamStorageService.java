@@ -104,6 +104,19 @@ public interface BitstreamStorageService {
 
     public Map<String, Object> computeChecksum(Context context, Bitstream bitstream) throws IOException;
 
+    /**
+     * Obtain the size and the checksum of a bitstream recorded by its store,
+     * without reading its content.
+     *
+     * @param context   The current context
+     * @param bitstream The bitstream
+     * @return the size_bytes, stored_checksum and checksum_algorithm known by the
+     * store, without stored_checksum when the store doesn't record the checksum
+     * of the content. Empty if the bitstream is not found
+     * @throws IOException If a problem occurs while obtaining the metadata
+     */
+    public Map<String, Object> getStoredChecksum(Context context, Bitstream bitstream) throws IOException;
+
     /**
      * Does the internal_id column in the bitstream row indicate the bitstream
      * is a registered file
@@ -129,6 +142,31 @@ public interface BitstreamStorageService {
     public InputStream retrieve(Context context, Bitstream bitstream)
         throws SQLException, IOException;
 
+    /**
+     * Retrieve a range of the bits for the bitstream with ID, without reading
+     * the bits before the range when the store supports it.
+     *
+     * @param context   The current context
+     * @param bitstream The bitstream to retrieve
+     * @param offset    The position of the first byte to retrieve
+     * @param length    The maximum number of bytes to retrieve
+     * @return The stream of bits of the range
+     * @throws IOException  If a problem occurs while retrieving the bits
+     * @throws SQLException If a problem occurs accessing the RDBMS
+     */
+    public InputStream retrieve(Context context, Bitstream bitstream, long offset, long length)
+        throws SQLException, IOException;
+
+    /**
+     * Does the store of the bitstream keep the bits in the local file system, so
+     * that they can be transferred without copying them through the heap.
+     *
+     * @param bitstream The bitstream
+     * @return true if the bitstream is stored in a file-backed store
+     * @throws IOException If the store of the bitstream is not available
+     */
+    public boolean isFileBacked(Bitstream bitstream) throws IOException;
+
     /**
      * Clean up the bitstream storage area. This method deletes any bitstreams
      * which are more than 1 hour old and marked deleted. The deletions cannot
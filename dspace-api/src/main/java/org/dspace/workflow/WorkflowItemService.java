@@ -50,6 +50,16 @@ public interface WorkflowItemService<T extends WorkflowItem> extends InProgressS
      */
     public T find(Context context, int id) throws SQLException;
 
+    /**
+     * Get the workflow items with the given ids, loaded with as few queries as possible.
+     *
+     * @param context The relevant DSpace Context.
+     * @param ids     the ids of the workflow items
+     * @return the found workflow items, in the same order of the given ids
+     * @throws SQLException An exception that provides information on a database access error or other errors.
+     */
+    public List<T> findByIds(Context context, List<Integer> ids) throws SQLException;
+
     /**
      * return all workflowitems
      *
@@ -67,6 +67,31 @@ public interface WorkflowService<T extends WorkflowItem> {
     public T startWithoutNotify(Context c, WorkspaceItem wsi)
         throws SQLException, AuthorizeException, IOException, WorkflowException;
 
+    /**
+     * Hold back the notifications sent by the workflow on behalf of the current
+     * thread, e.g. to the reviewers of the tasks activated by {@link #start},
+     * until {@link #sendDeferredNotifications()} or
+     * {@link #discardDeferredNotifications()} is called. Useful for imports
+     * committing many items together, whose transaction could be rolled back.
+     * By default the notifications are sent immediately.
+     */
+    public default void deferNotifications() {
+    }
+
+    /**
+     * Send the notifications held back since {@link #deferNotifications()} was
+     * called by the current thread, and stop deferring them.
+     */
+    public default void sendDeferredNotifications() {
+    }
+
+    /**
+     * Discard the notifications held back since {@link #deferNotifications()}
+     * was called by the current thread, and stop deferring them.
+     */
+    public default void discardDeferredNotifications() {
+    }
+
     /**
      * abort() aborts a workflow, completely deleting it (administrator do this)
      * (it will basically do a reject from any state - the item ends up back in
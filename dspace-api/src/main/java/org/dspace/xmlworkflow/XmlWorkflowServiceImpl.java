@@ -96,6 +96,9 @@ public class XmlWorkflowServiceImpl implements XmlWorkflowService {
     /* support for 'no notification' */
     protected Map<UUID, Boolean> noEMail = new HashMap<>();
 
+    /* the notifications held back for the current thread, see deferNotifications */
+    protected final ThreadLocal<List<Email>> deferredEmails = new ThreadLocal<>();
+
     private final Logger log = org.apache.logging.log4j.LogManager.getLogger(XmlWorkflowServiceImpl.class);
 
     @Autowired(required = true)
@@ -296,7 +299,46 @@ public class XmlWorkflowServiceImpl implements XmlWorkflowService {
                 mail.addRecipient(anEpa.getEmail());
             }
 
-            mail.send();
+            send(mail);
+        }
+    }
+
+    @Override
+    public void deferNotifications() {
+        deferredEmails.set(new ArrayList<>());
+    }
+
+    @Override
+    public void sendDeferredNotifications() {
+        List<Email> emails = deferredEmails.get();
+        deferredEmails.remove();
+        if (emails == null) {
+            return;
+        }
+        for (Email email : emails) {
+            try {
+                email.send();
+            } catch (MessagingException | IOException e) {
+                log.warn("Unable to send a deferred workflow notification", e);
+            }
+        }
+    }
+
+    @Override
+    public void discardDeferredNotifications() {
+        deferredEmails.remove();
+    }
+
+    /**
+     * Send the given notification, or hold it back if the notifications of the
+     * current thread are deferred.
+     */
+    protected void send(Email email) throws MessagingException, IOException {
+        List<Email> emails = deferredEmails.get();
+        if (emails != null) {
+            emails.add(email);
+        } else {
+            email.send();
         }
     }
 
@@ -745,7 +787,7 @@ public class XmlWorkflowServiceImpl implements XmlWorkflowService {
                 email.addArgument(coll.getName());
                 email.addArgument(handleService.getCanonicalForm(handle));
 
-                email.send();
+                send(email);
             }
         } catch (MessagingException e) {
             log.warn(LogHelper.getHeader(context, "notifyOfArchive",
@@ -778,7 +820,7 @@ public class XmlWorkflowServiceImpl implements XmlWorkflowService {
                 email.addArgument(message);
                 email.addArgument(action);
                 email.addRecipient(epa.getEmail());
-                email.send();
+                send(email);
             }
         } catch (MessagingException e) {
             log.warn(LogHelper.getHeader(c, "notifyOfCuration",
@@ -1312,7 +1354,7 @@ public class XmlWorkflowServiceImpl implements XmlWorkflowService {
                 email.addArgument(reason);
                 email.addArgument(configurationService.getProperty("dspace.ui.url") + "/mydspace");
 
-                email.send();
+                send(email);
             } else {
                 // DO nothing
             }
@@ -75,6 +75,11 @@ public class XmlWorkflowItemServiceImpl implements XmlWorkflowItemService {
         return xmlWorkflowItem;
     }
 
+    @Override
+    public List<XmlWorkflowItem> findByIds(Context context, List<Integer> ids) throws SQLException {
+        return xmlWorkflowItemDAO.findByIDs(context, XmlWorkflowItem.class, ids);
+    }
+
     @Override
     public XmlWorkflowItem find(Context context, int id) throws SQLException {
         XmlWorkflowItem workflowItem = xmlWorkflowItemDAO.findByID(context, XmlWorkflowItem.class, id);
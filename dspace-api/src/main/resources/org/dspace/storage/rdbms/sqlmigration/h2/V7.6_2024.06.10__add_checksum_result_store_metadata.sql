@@ -0,0 +1,13 @@
+--
+-- The contents of this file are subject to the license and copyright
+-- detailed in the LICENSE and NOTICE files at the root of the source
+-- tree and available online at
+--
+-- http://www.dspace.org/license/
+--
+
+-- Result of the checks of the bitstreams verified with the checksum and size recorded by their store,
+-- without reading their content
+INSERT INTO checksum_results (result_code, result_description)
+SELECT 'CHECKSUM_MATCH_STORE_METADATA', 'Checksum and size recorded by the store matched previous checksum and size'
+WHERE NOT EXISTS (SELECT 1 FROM checksum_results WHERE result_code = 'CHECKSUM_MATCH_STORE_METADATA');
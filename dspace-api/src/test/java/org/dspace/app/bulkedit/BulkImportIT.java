@@ -45,11 +45,13 @@ import static org.mockito.Mockito.spy;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
@@ -58,6 +60,10 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.dspace.AbstractIntegrationTestWithDatabase;
 import org.dspace.app.bulkimport.util.ImportFileUtil;
 import org.dspace.app.launcher.ScriptLauncher;
@@ -457,6 +463,96 @@ public class BulkImportIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testCreatePublicationWithAuthorityWithStreaming() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String fileLocation = getXlsFilePath("create-publication-with-authority.xlsx");
+        String[] args = new String[] { "bulk-import", "-c", publications.getID().toString(), "-f", fileLocation,
+            "-e", eperson.getEmail(), "-st"};
+        TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+        handleScript(args, ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl, eperson);
+        assertThat("Expected no errors", handler.getErrorMessages(), empty());
+
+        List<String> warningMessages = handler.getWarningMessages();
+        assertThat("Expected 1 warning message", warningMessages, hasSize(1));
+        assertThat(warningMessages.get(0), containsString("Row 2 - Invalid item left in workspace"));
+
+        assertThat(handler.getInfoMessages(), contains(
+            is("Start reading all the metadata group and bitstream rows"),
+            is("Found 2 metadata groups and bitstreams to process"),
+            is("Processed 1 items")));
+
+        Item createdItem = getItemFromMessage(warningMessages.get(0));
+        assertThat("Item expected to be created", createdItem, notNullValue());
+        assertThat(createdItem.isArchived(), is(false));
+        assertThat(findWorkspaceItem(createdItem), notNullValue());
+
+        // the metadata groups are joined to the item as by the in-memory import
+        List<MetadataValue> metadata = createdItem.getMetadata();
+        assertThat(metadata, hasItems(with("dc.contributor.author", "Author1", null, "authority1", 0, 600)));
+        assertThat(metadata, hasItems(with("dc.contributor.author", "Author2", 1)));
+        assertThat(metadata, hasItems(with("oairecerif.author.affiliation", "OrgUnit1")));
+        assertThat(metadata, hasItems(with("oairecerif.author.affiliation", "OrgUnit2", null, "authority2", 1, 400)));
+
+    }
+
+    @Test
+    public void testInvalidRowWithStreamingAndAbortOnError() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+        context.commit();
+        context.restoreAuthSystemState();
+
+        File workbookFile = File.createTempFile("invalid-main-row-", ".xlsx");
+        try (Workbook workbook = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(workbookFile)) {
+            Sheet sheet = workbook.createSheet("Main");
+            addRow(sheet, 0, "ID", "ACTION", "dc.title");
+            addRow(sheet, 1, "", "ADD", "First streamed publication");
+            addRow(sheet, 2, "", "INVALID", "Second streamed publication");
+            workbook.write(out);
+        }
+
+        try {
+            // the invalid row aborts the import before the first row is imported, with and without streaming
+            for (boolean streaming : new boolean[] { false, true }) {
+                List<String> args = new ArrayList<>(List.of("bulk-import", "-c", publications.getID().toString(),
+                    "-f", workbookFile.getAbsolutePath(), "-e", eperson.getEmail(), "-er"));
+                if (streaming) {
+                    args.add("-st");
+                }
+                TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+                handleScript(args.toArray(new String[0]), ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl,
+                    eperson);
+
+                List<String> errorMessages = handler.getErrorMessages();
+                assertThat("Expected 1 error message", errorMessages, hasSize(1));
+                assertThat(errorMessages.get(0), containsString("Sheet Main - Row 3 - Invalid action INVALID"));
+                assertThat("Expected no warnings", handler.getWarningMessages(), empty());
+
+                Iterator<Item> items = itemService.findUnfilteredByMetadataField(context, "dc", "title", null,
+                    "First streamed publication");
+                assertThat("Expected no item created", items.hasNext(), is(false));
+            }
+        } finally {
+            workbookFile.delete();
+        }
+
+    }
+
     @Test
     public void testManyPublicationImport() throws Exception {
 
@@ -540,6 +636,61 @@ public class BulkImportIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testManyPublicationImportWithBatchedCommits() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+
+        Item itemToUpdateByRid = createItem(context, publications)
+            .withTitle("My Publication")
+            .withTitleForLanguage("My Publication English", "en")
+            .withResearcherIdentifier("123456789")
+            .build();
+
+        Item itemToDelete = createItem(context, publications).withDoiIdentifier("10.1000/182").build();
+
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String fileLocation = getXlsFilePath("many-publications.xls");
+        String[] args = new String[] { "bulk-import", "-c", publications.getID().toString(), "-f", fileLocation,
+            "-e", eperson.getEmail(), "-bs", "2"};
+        TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+        handleScript(args, ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl, eperson);
+        assertThat("Expected no errors", handler.getErrorMessages(), empty());
+
+        List<String> warningMessages = handler.getWarningMessages();
+        assertThat("Expected 1 warning message", warningMessages, hasSize(1));
+        assertThat(warningMessages.get(0), containsString("Row 2 - Invalid item left in workspace"));
+
+        List<String> infoMessages = handler.getInfoMessages();
+        assertThat("Expected 5 info messages", infoMessages, hasSize(5));
+
+        assertThat(infoMessages.get(0), containsString("Start reading all the metadata group rows"));
+        assertThat(infoMessages.get(1), containsString("Found 6 metadata groups to process"));
+        assertThat(infoMessages.get(2), containsString("Found 3 items to process"));
+        assertThat(infoMessages.get(3), containsString("Row 3 - Item updated successfully"));
+        assertThat(infoMessages.get(4), containsString("Row 4 - Item deleted successfully"));
+
+        Item createdItem = getItemFromMessage(warningMessages.get(0));
+        assertThat("Item expected to be created", createdItem, notNullValue());
+        assertThat(findWorkspaceItem(createdItem), notNullValue());
+        assertThat(createdItem.getMetadata(), hasItems(with("dc.title", "First publication")));
+
+        Item itemUpdated = itemService.find(context, itemToUpdateByRid.getID());
+        assertThat(itemUpdated.getMetadata(), hasItems(with("dc.title", "Publication")));
+        assertThat(itemUpdated.getMetadata(), hasItems(with("dc.relation.project", "Another Test Project", 1)));
+
+        assertThat("Item expected to be deleted", itemService.find(context, itemToDelete.getID()), nullValue());
+
+    }
+
     @Test
     public void testManyPublicationImportWithErrorAndNotAbortOnError() throws Exception {
 
@@ -601,6 +752,120 @@ public class BulkImportIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testManyPublicationImportWithErrorInBatchedCommits() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+
+        Item itemToDelete = createItem(context, publications).withDoiIdentifier("10.1000/182").build();
+
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String fileLocation = getXlsFilePath("many-publications.xls");
+        String[] args = new String[] { "bulk-import", "-c", publications.getID().toString(), "-f", fileLocation,
+            "-e", eperson.getEmail(), "-bs", "3"};
+        TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+        handleScript(args, ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl, eperson);
+
+        List<String> errorMessages = handler.getErrorMessages();
+        assertThat("Expected 1 error message", errorMessages, hasSize(1));
+        assertThat(errorMessages.get(0), containsString("No item to update found for entity with id RID::123456789"));
+
+        List<String> warningMessages = handler.getWarningMessages();
+        assertThat("Expected 1 warning message", warningMessages, hasSize(1));
+        assertThat(warningMessages.get(0), containsString("Row 2 - Invalid item left in workspace"));
+
+        List<String> infoMessages = handler.getInfoMessages();
+        assertThat("Expected 4 info messages", infoMessages, hasSize(4));
+
+        assertThat(infoMessages.get(0), containsString("Start reading all the metadata group rows"));
+        assertThat(infoMessages.get(1), containsString("Found 6 metadata groups to process"));
+        assertThat(infoMessages.get(2), containsString("Found 3 items to process"));
+        assertThat(infoMessages.get(3), containsString("Row 4 - Item deleted successfully"));
+
+        // verify that the created item (ROW 2) is kept once, even if its batch was rolled back
+        Item createdItem = getItemFromMessage(warningMessages.get(0));
+        assertThat("Item expected to be created", createdItem, notNullValue());
+        assertThat(findWorkspaceItem(createdItem), notNullValue());
+        assertThat(createdItem.getMetadata(), hasItems(with("dc.title", "First publication")));
+        assertThat(createdItem.getMetadata(), hasItems(with("dc.identifier.doi", "10.1000/183")));
+
+        Iterator<Item> itemsWithDoi = itemService.findUnfilteredByMetadataField(context, "dc", "identifier", "doi",
+            "10.1000/183");
+        assertThat(itemsWithDoi.hasNext(), is(true));
+        itemsWithDoi.next();
+        assertThat("Expected only one item created by the row 2", itemsWithDoi.hasNext(), is(false));
+
+        // verify deleted item (ROW 4)
+        assertThat("Item expected to be deleted", itemService.find(context, itemToDelete.getID()), nullValue());
+
+    }
+
+    @Test
+    public void testManyPublicationImportWithManyThreads() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+
+        Item itemToUpdateByRid = createItem(context, publications)
+            .withTitle("My Publication")
+            .withTitleForLanguage("My Publication English", "en")
+            .withResearcherIdentifier("123456789")
+            .build();
+
+        Item itemToDelete = createItem(context, publications).withDoiIdentifier("10.1000/182").build();
+
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String fileLocation = getXlsFilePath("many-publications.xls");
+        String[] args = new String[] { "bulk-import", "-c", publications.getID().toString(), "-f", fileLocation,
+            "-e", eperson.getEmail(), "-t", "2"};
+        TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+        handleScript(args, ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl, eperson);
+        assertThat("Expected no errors", handler.getErrorMessages(), empty());
+
+        List<String> warningMessages = handler.getWarningMessages();
+        assertThat("Expected 1 warning message", warningMessages, hasSize(1));
+        assertThat(warningMessages.get(0), containsString("Row 2 - Invalid item left in workspace"));
+
+        List<String> infoMessages = handler.getInfoMessages();
+        assertThat("Expected 5 info messages", infoMessages, hasSize(5));
+
+        assertThat(infoMessages.get(0), containsString("Start reading all the metadata group rows"));
+        assertThat(infoMessages.get(1), containsString("Found 6 metadata groups to process"));
+        assertThat(infoMessages.get(2), containsString("Found 3 items to process"));
+        // the rows imported by different threads are reported in the order they complete
+        assertThat(infoMessages.subList(3, 5), containsInAnyOrder(
+            containsString("Row 3 - Item updated successfully"),
+            containsString("Row 4 - Item deleted successfully")));
+
+        Item createdItem = getItemFromMessage(warningMessages.get(0));
+        assertThat("Item expected to be created", createdItem, notNullValue());
+        assertThat(findWorkspaceItem(createdItem), notNullValue());
+        assertThat(createdItem.getMetadata(), hasItems(with("dc.title", "First publication")));
+        assertThat(createdItem.getMetadata(), hasItems(with("dc.contributor.author", "Morgan Pitt", 1)));
+
+        Item itemUpdated = itemService.find(context, itemToUpdateByRid.getID());
+        assertThat(itemUpdated.getMetadata(), hasItems(with("dc.title", "Publication")));
+        assertThat(itemUpdated.getMetadata(), hasItems(with("dc.relation.project", "Another Test Project", 1)));
+
+        assertThat("Item expected to be deleted", itemService.find(context, itemToDelete.getID()), nullValue());
+
+    }
+
     @Test
     public void testManyPublicationImportWithErrorAndAbortOnError() throws Exception {
 
@@ -2004,6 +2269,63 @@ public class BulkImportIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testCreatePublicationInWorkspaceItemsWithBitstreamsWithStreaming() throws Exception {
+
+        context.turnOffAuthorisationSystem();
+
+        Collection publications = createCollection(context, community)
+            .withSubmissionDefinition("publication")
+            .withAdminGroup(eperson)
+            .build();
+
+        context.commit();
+        context.restoreAuthSystemState();
+
+        String fileLocation = getXlsFilePath("items-with-bitstreams.xlsx");
+        String[] args = new String[] { "bulk-import", "-c", publications.getID().toString(), "-f", fileLocation,
+            "-e", eperson.getEmail(), "-st"};
+        TestDSpaceRunnableHandler handler = new TestDSpaceRunnableHandler();
+
+        handleScript(args, ScriptLauncher.getConfig(kernelImpl), handler, kernelImpl, eperson);
+        assertThat("Expected no errors", handler.getErrorMessages(), empty());
+        assertThat("Expected no warnings", handler.getWarningMessages(), empty());
+
+        assertThat(handler.getInfoMessages(), contains(
+            is("Start reading all the metadata group and bitstream rows"),
+            is("Found 3 metadata groups and bitstreams to process"),
+            containsString("Sheet bitstream-metadata - Row 2 - Bitstream created successfully"),
+            containsString("Row 2 - WorkflowItem created successfully"),
+            is("Processed 1 items")));
+
+        // verify created item (ROW 2)
+        Item createdItem = getItemFromMessage(handler.getInfoMessages().get(3));
+        assertThat("Item expected to be created", createdItem, notNullValue());
+        assertThat(createdItem.isArchived(), is(true));
+        assertThat(findWorkspaceItem(createdItem), nullValue());
+
+        List<Bitstream> licenses = getItemBitstreamsByBundle(createdItem, "LICENSE");
+        assertThat(licenses, hasSize(1));
+
+        // the bitstream and the metadata groups are joined to the item as by the in-memory import
+        assertThat(getItemBitstreamsByBundle(createdItem, "ORIGINAL"), contains(
+            bitstreamWith("Test title.txt", "test file descr", "this is a test file for uploading bitstreams")));
+
+        List<MetadataValue> metadata = createdItem.getMetadata();
+        assertThat(metadata, hasItems(with("dc.title", "publication with attachment uploaded part second")));
+        assertThat(metadata, hasItems(with("dc.title.alternative", "lorem ipsum new new new")));
+        assertThat(metadata, hasItems(with("dc.date.issued", "2022-05-31")));
+        assertThat(metadata, hasItems(with("dc.type", "Resource Types::text::manuscript")));
+        assertThat(metadata, hasItems(with("dc.language.iso", "en")));
+        assertThat(metadata, hasItems(with("dc.contributor.author",
+            "Lombardi, Corrado", "b5ad6864-012d-4989-8e0d-4acfa1156fd9", 0, 600)));
+        assertThat(metadata, hasItems(with("oairecerif.author.affiliation", "4Science",
+            "a14ba215-c0f0-4b74-b21a-06359bfabd45", 0, 600)));
+        assertThat(metadata, hasItems(with("dc.contributor.editor",
+            "Corrado Francesco, Lombardi", "29177bec-ff50-4428-aa43-1fdf932f0d33", 0, 600)));
+
+    }
+
     /**
      * Test Bitstream format of created Bitstreams.
      */
@@ -2616,6 +2938,13 @@ public class BulkImportIT extends AbstractIntegrationTestWithDatabase {
         return itemService.find(context, UUID.fromString(uuid));
     }
 
+    private void addRow(Sheet sheet, int rowNum, String... values) {
+        Row row = sheet.createRow(rowNum);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+
     private String getXlsFilePath(String name) {
         return new File(BASE_XLS_DIR_PATH, name).getAbsolutePath();
     }
@@ -0,0 +1,65 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.bulkimport.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dspace.app.bulkimport.util.SpilledRowsFile.SpilledRow;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SpilledRowsFile}.
+ */
+public class SpilledRowsFileTest {
+
+    @Test
+    public void testRowsAreReadByKeyInInsertionOrder() throws Exception {
+        try (SpilledRowsFile spilledRows = new SpilledRowsFile()) {
+            spilledRows.add("ID-1", new SpilledRow(1, 1, List.of("ID-1", "First")));
+            spilledRows.add("ROW-ID::2", new SpilledRow(1, 2, List.of("ROW-ID::2", "Second")));
+            spilledRows.add("ID-3", new SpilledRow(2, 1, List.of("ID-3", "Third")));
+            spilledRows.add("ID-1", new SpilledRow(2, 2, List.of("ID-1", "")));
+
+            assertEquals(4, spilledRows.size());
+            assertEquals(List.of("1:1:[ID-1, First]", "1:2:[ROW-ID::2, Second]", "2:2:[ID-1, ]"),
+                toStrings(spilledRows.get(List.of("ROW-ID::2", "ID-1"))));
+            assertEquals(List.of("2:1:[ID-3, Third]"), toStrings(spilledRows.get(List.of("ID-3", "ID-3"))));
+            assertTrue(spilledRows.get(List.of("ID-4")).isEmpty());
+        }
+    }
+
+    @Test
+    public void testValuesLongerThan64KBAreSpilled() throws Exception {
+        String longValue = StringUtils.repeat("\u00e8", 40000);
+        try (SpilledRowsFile spilledRows = new SpilledRowsFile()) {
+            spilledRows.add("ID-1", new SpilledRow(1, 1, List.of("ID-1", longValue)));
+            assertEquals(longValue, spilledRows.get(List.of("ID-1")).get(0).getValues().get(1));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNoRowCanBeAddedAfterReading() throws Exception {
+        try (SpilledRowsFile spilledRows = new SpilledRowsFile()) {
+            spilledRows.add("ID-1", new SpilledRow(1, 1, List.of("ID-1")));
+            spilledRows.get(List.of("ID-1"));
+            spilledRows.add("ID-2", new SpilledRow(1, 2, List.of("ID-2")));
+        }
+    }
+
+    private List<String> toStrings(List<SpilledRow> rows) {
+        return rows.stream()
+            .map(row -> row.getSheetIndex() + ":" + row.getRowNum() + ":" + row.getValues())
+            .collect(Collectors.toList());
+    }
+
+}
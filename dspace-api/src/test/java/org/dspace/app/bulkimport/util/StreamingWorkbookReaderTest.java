@@ -0,0 +1,90 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.bulkimport.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link StreamingWorkbookReader}.
+ */
+public class StreamingWorkbookReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File workbookFile;
+
+    @Before
+    public void setUp() throws Exception {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet items = workbook.createSheet("items");
+            createRow(items, 0, "ID", "dc.title");
+            createRow(items, 1, "", "First title");
+            createRow(items, 3, "ID-2", "Second title");
+            items.getRow(3).createCell(3).setCellValue(12);
+
+            Sheet groups = workbook.createSheet("dc.contributor.author");
+            createRow(groups, 0, "PARENT-ID", "dc.contributor.author");
+
+            workbookFile = folder.newFile("workbook.xlsx");
+            try (OutputStream outputStream = new FileOutputStream(workbookFile)) {
+                workbook.write(outputStream);
+            }
+        }
+    }
+
+    @Test
+    public void testSheetsAreReadRowByRow() throws Exception {
+        List<String> rows = new ArrayList<>();
+
+        try (StreamingWorkbookReader reader = new StreamingWorkbookReader(workbookFile)) {
+            assertEquals(List.of("items", "dc.contributor.author"), reader.getSheetNames());
+            reader.readSheet(0, (rowNum, values) -> rows.add(rowNum + ":" + values));
+            reader.readSheet(1, (rowNum, values) -> rows.add(rowNum + ":" + values));
+        }
+
+        assertEquals(List.of("0:[ID, dc.title]", "1:[, First title]", "3:[ID-2, Second title, , 12]",
+            "0:[PARENT-ID, dc.contributor.author]"), rows);
+    }
+
+    @Test
+    public void testReadingStopsWhenAsked() throws Exception {
+        List<Integer> rowNums = new ArrayList<>();
+
+        try (StreamingWorkbookReader reader = new StreamingWorkbookReader(workbookFile)) {
+            reader.readSheet(0, (rowNum, values) -> rowNums.add(rowNum) && rowNum < 1);
+        }
+
+        assertEquals(List.of(0, 1), rowNums);
+    }
+
+    private void createRow(Sheet sheet, int rowNum, String... values) {
+        Row row = sheet.createRow(rowNum);
+        for (int i = 0; i < values.length; i++) {
+            if (!values[i].isEmpty()) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+    }
+
+}
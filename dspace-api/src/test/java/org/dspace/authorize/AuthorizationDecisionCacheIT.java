@@ -0,0 +1,134 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.dspace.AbstractIntegrationTestWithDatabase;
+import org.dspace.authorize.factory.AuthorizeServiceFactory;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.authorize.service.ResourcePolicyService;
+import org.dspace.builder.BundleBuilder;
+import org.dspace.builder.CollectionBuilder;
+import org.dspace.builder.CommunityBuilder;
+import org.dspace.builder.GroupBuilder;
+import org.dspace.builder.ItemBuilder;
+import org.dspace.content.Bundle;
+import org.dspace.content.Collection;
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.eperson.Group;
+import org.dspace.eperson.factory.EPersonServiceFactory;
+import org.dspace.eperson.service.GroupService;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Integration tests of the invalidation of the {@link AuthorizationDecisionCache} by the
+ * {@link AuthorizationDecisionCacheConsumer}.
+ */
+public class AuthorizationDecisionCacheIT extends AbstractIntegrationTestWithDatabase {
+
+    private final ConfigurationService configurationService =
+        DSpaceServicesFactory.getInstance().getConfigurationService();
+
+    private final AuthorizeService authorizeService = AuthorizeServiceFactory.getInstance().getAuthorizeService();
+
+    private final ResourcePolicyService resourcePolicyService =
+        AuthorizeServiceFactory.getInstance().getResourcePolicyService();
+
+    private final GroupService groupService = EPersonServiceFactory.getInstance().getGroupService();
+
+    private final AuthorizationDecisionCache authorizationDecisionCache =
+        AuthorizeServiceFactory.getInstance().getAuthorizationDecisionCache();
+
+    @Before
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        configurationService.setProperty("core.authorization.cache.enabled", true);
+        authorizationDecisionCache.clear();
+    }
+
+    @After
+    public void disableCache() {
+        configurationService.setProperty("core.authorization.cache.enabled", false);
+        authorizationDecisionCache.clear();
+    }
+
+    @Test
+    public void testBundlePolicyRemovalEvictsTheDecision() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        Item item = ItemBuilder.createItem(context, collection).build();
+        Bundle bundle = BundleBuilder.createBundle(context, item).withName("ORIGINAL").build();
+        Group anonymous = groupService.findByName(context, Group.ANONYMOUS);
+        authorizeService.addPolicy(context, bundle, Constants.READ, anonymous);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        context.setCurrentUser(null);
+        assertTrue(authorizeService.authorizeActionBoolean(context, bundle, Constants.READ));
+        assertTrue(authorizationDecisionCache.size() > 0);
+
+        context.turnOffAuthorisationSystem();
+        resourcePolicyService.removePolicies(context, bundle, Constants.READ);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        assertFalse(authorizeService.authorizeActionBoolean(context, bundle, Constants.READ));
+    }
+
+    @Test
+    public void testBundlePolicyAdditionEvictsTheDecision() throws Exception {
+        context.turnOffAuthorisationSystem();
+        parentCommunity = CommunityBuilder.createCommunity(context).build();
+        Collection collection = CollectionBuilder.createCollection(context, parentCommunity).build();
+        Item item = ItemBuilder.createItem(context, collection).build();
+        Bundle bundle = BundleBuilder.createBundle(context, item).withName("ORIGINAL").build();
+        resourcePolicyService.removePolicies(context, bundle, Constants.READ);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        context.setCurrentUser(null);
+        assertFalse(authorizeService.authorizeActionBoolean(context, bundle, Constants.READ));
+
+        context.turnOffAuthorisationSystem();
+        authorizeService.addPolicy(context, bundle, Constants.READ, groupService.findByName(context, Group.ANONYMOUS));
+        context.restoreAuthSystemState();
+        context.commit();
+
+        assertTrue(authorizeService.authorizeActionBoolean(context, bundle, Constants.READ));
+    }
+
+    @Test
+    public void testGroupPolicyRemovalEvictsTheDecision() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Group group = GroupBuilder.createGroup(context).withName("Managed group").build();
+        authorizeService.addPolicy(context, group, Constants.ADMIN, eperson);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        context.setCurrentUser(eperson);
+        assertTrue(authorizeService.authorizeActionBoolean(context, group, Constants.ADMIN));
+        assertTrue(authorizationDecisionCache.size() > 0);
+
+        context.turnOffAuthorisationSystem();
+        resourcePolicyService.removePolicies(context, group, Constants.ADMIN);
+        context.restoreAuthSystemState();
+        context.commit();
+
+        // the group keeps no last modified date, the revoked permission must not survive in the cache
+        assertFalse(authorizeService.authorizeActionBoolean(context, group, Constants.ADMIN));
+    }
+}
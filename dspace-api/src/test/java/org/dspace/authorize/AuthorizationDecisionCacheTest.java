@@ -0,0 +1,137 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.authorize;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.content.Item;
+import org.dspace.core.Constants;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AuthorizationDecisionCache}.
+ */
+public class AuthorizationDecisionCacheTest {
+
+    private final AuthorizationDecisionCache cache = new AuthorizationDecisionCache();
+
+    private final ConfigurationService configurationService = mock(ConfigurationService.class);
+
+    private final Context context = mock(Context.class);
+
+    private final EPerson eperson = mock(EPerson.class);
+
+    private final Item item = mock(Item.class);
+
+    @Before
+    public void setUp() {
+        cache.setConfigurationService(configurationService);
+        when(configurationService.getBooleanProperty("core.authorization.cache.enabled", false)).thenReturn(true);
+        when(configurationService.getIntProperty(eq("core.authorization.cache.max-size"), anyInt())).thenReturn(2);
+        when(configurationService.getLongProperty(eq("core.authorization.cache.ttl"), anyLong())).thenReturn(60L);
+        when(context.getSpecialGroupUuids()).thenReturn(Set.of());
+        when(eperson.getID()).thenReturn(UUID.randomUUID());
+        when(item.getID()).thenReturn(UUID.randomUUID());
+    }
+
+    @Test
+    public void testDecisionIsShared() {
+        cache.put(cache.getKey(context, item, Constants.READ, eperson, true), true);
+
+        assertEquals(Boolean.TRUE, cache.get(cache.getKey(context, item, Constants.READ, eperson, true)));
+        assertNull(cache.get(cache.getKey(context, item, Constants.WRITE, eperson, true)));
+        assertNull(cache.get(cache.getKey(context, item, Constants.READ, null, true)));
+        assertNull(cache.get(cache.getKey(context, item, Constants.READ, eperson, false)));
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void testSpecialGroupsArePartOfTheDecision() {
+        cache.put(cache.getKey(context, item, Constants.READ, eperson, true), true);
+
+        when(context.getSpecialGroupUuids()).thenReturn(Set.of(UUID.randomUUID()));
+        assertNull(cache.get(cache.getKey(context, item, Constants.READ, eperson, true)));
+    }
+
+    @Test
+    public void testCacheIsNotUsedWithUncommittedChanges() {
+        when(context.hasEvents()).thenReturn(true);
+        assertNull(cache.getKey(context, item, Constants.READ, eperson, true));
+    }
+
+    @Test
+    public void testCacheIsNotUsedWhenDisabled() {
+        when(configurationService.getBooleanProperty("core.authorization.cache.enabled", false)).thenReturn(false);
+        assertNull(cache.getKey(context, item, Constants.READ, eperson, true));
+    }
+
+    @Test
+    public void testEvict() {
+        Item other = mock(Item.class);
+        when(other.getID()).thenReturn(UUID.randomUUID());
+        cache.put(cache.getKey(context, item, Constants.READ, eperson, true), true);
+        cache.put(cache.getKey(context, other, Constants.READ, eperson, true), false);
+
+        cache.evict(List.of(item.getID()));
+
+        assertNull(cache.get(cache.getKey(context, item, Constants.READ, eperson, true)));
+        assertEquals(Boolean.FALSE, cache.get(cache.getKey(context, other, Constants.READ, eperson, true)));
+    }
+
+    @Test
+    public void testDecisionTakenBeforeAnInvalidationIsDiscarded() {
+        AuthorizationDecisionCache.Key key = cache.getKey(context, item, Constants.READ, eperson, true);
+        cache.clear();
+        cache.put(key, true);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDecisionIsDiscarded() {
+        Item second = mock(Item.class);
+        when(second.getID()).thenReturn(UUID.randomUUID());
+        Item third = mock(Item.class);
+        when(third.getID()).thenReturn(UUID.randomUUID());
+        cache.put(cache.getKey(context, item, Constants.READ, eperson, true), true);
+        cache.put(cache.getKey(context, second, Constants.READ, eperson, true), true);
+        cache.get(cache.getKey(context, item, Constants.READ, eperson, true));
+        cache.put(cache.getKey(context, third, Constants.READ, eperson, true), true);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.get(cache.getKey(context, item, Constants.READ, eperson, true)));
+        assertNull(cache.get(cache.getKey(context, second, Constants.READ, eperson, true)));
+    }
+
+    @Test
+    public void testExpiredDecisionIsDiscarded() {
+        when(configurationService.getLongProperty(eq("core.authorization.cache.ttl"), anyLong())).thenReturn(0L);
+        cache.put(cache.getKey(context, item, Constants.READ, eperson, true), true);
+
+        assertNull(cache.get(cache.getKey(context, item, Constants.READ, eperson, true)));
+        assertFalse(cache.size() > 0);
+    }
+}
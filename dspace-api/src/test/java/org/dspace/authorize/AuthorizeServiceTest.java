@@ -9,6 +9,9 @@
 package org.dspace.authorize;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.dspace.AbstractUnitTest;
 import org.dspace.authorize.factory.AuthorizeServiceFactory;
@@ -18,6 +21,7 @@ import org.dspace.content.factory.ContentServiceFactory;
 import org.dspace.content.service.CollectionService;
 import org.dspace.content.service.CommunityService;
 import org.dspace.core.Constants;
+import org.dspace.core.Context;
 import org.dspace.eperson.EPerson;
 import org.dspace.eperson.Group;
 import org.dspace.eperson.factory.EPersonServiceFactory;
@@ -127,6 +131,58 @@ public class AuthorizeServiceTest extends AbstractUnitTest {
             throw new AssertionError(ex);
         }
     }
+
+    @Test
+    public void testBulkAuthorizeActionBoolean() {
+        EPerson eperson;
+        Group group;
+        Community granted;
+        Community denied;
+        try {
+            context.turnOffAuthorisationSystem();
+
+            eperson = ePersonService.create(context);
+            group = groupService.create(context);
+            groupService.setName(group, "My test group 3");
+            groupService.addMember(context, group, eperson);
+            groupService.update(context, group);
+
+            granted = communityService.create(null, context);
+            denied = communityService.create(null, context);
+            authorizeService.addPolicy(context, granted, Constants.WRITE, group);
+            context.commit();
+            context.setCurrentUser(eperson);
+        } catch (SQLException | AuthorizeException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            context.restoreAuthSystemState();
+        }
+
+        try {
+            Map<UUID, Boolean> results = authorizeService.authorizeActionBoolean(context,
+                List.of(granted, denied), Constants.WRITE);
+            Assert.assertEquals(Map.of(granted.getID(), true, denied.getID(), false), results);
+            // the decisions are cached in the context
+            Assert.assertEquals(Boolean.TRUE, context.getCachedAuthorizationResult(granted, Constants.WRITE,
+                eperson, true));
+            Assert.assertEquals(Boolean.FALSE, context.getCachedAuthorizationResult(denied, Constants.WRITE,
+                eperson, true));
+        } catch (SQLException ex) {
+            throw new AssertionError(ex);
+        }
+
+        // a fresh context has no cached decision, so the single object evaluation is really performed
+        Context freshContext = new Context();
+        try {
+            freshContext.setCurrentUser(eperson);
+            Assert.assertTrue(authorizeService.authorizeActionBoolean(freshContext, granted, Constants.WRITE));
+            Assert.assertFalse(authorizeService.authorizeActionBoolean(freshContext, denied, Constants.WRITE));
+        } catch (SQLException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            freshContext.abort();
+        }
+    }
 //
 //    @Test
 //    public void testIsCollectionAdmin() throws SQLException, AuthorizeException, IOException {
@@ -0,0 +1,223 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.checker;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.dspace.AbstractUnitTest;
+import org.dspace.content.Bitstream;
+import org.dspace.content.factory.ContentServiceFactory;
+import org.dspace.content.service.BitstreamService;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.dspace.services.factory.DSpaceServicesFactory;
+import org.dspace.storage.bitstore.service.BitstreamStorageService;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests of the concurrent mode and of the verification with the store metadata of {@link CheckerCommand}.
+ */
+public class CheckerCommandTest extends AbstractUnitTest {
+
+    private final BitstreamService bitstreamService = ContentServiceFactory.getInstance().getBitstreamService();
+
+    @Test
+    public void testConcurrentCheck() throws Exception {
+        List<Bitstream> bitstreams = new ArrayList<>();
+        context.turnOffAuthorisationSystem();
+        for (int i = 0; i < 5; i++) {
+            Bitstream bitstream = bitstreamService.create(context,
+                new ByteArrayInputStream(("bitstream " + i).getBytes(UTF_8)));
+            bitstreamService.update(context, bitstream);
+            bitstreams.add(bitstream);
+        }
+        context.restoreAuthSystemState();
+        context.commit();
+
+        Map<UUID, ChecksumResultCode> results = new HashMap<>();
+        CheckerCommand checker = new CheckerCommand(context);
+        checker.setProcessStartDate(new Date());
+        checker.setDispatcher(new IteratorDispatcher(bitstreams.iterator()));
+        checker.setCollector((ctx, info) -> results.put(info.getBitstream().getID(),
+            info.getChecksumResult().getResultCode()));
+        checker.setReportVerbose(true);
+        checker.setThreads(3);
+        // commit after each result, to record results of bitstreams loaded before the commit
+        checker.setCommitBatchSize(1);
+        checker.process();
+
+        assertEquals(bitstreams.size(), results.size());
+        for (Bitstream bitstream : bitstreams) {
+            assertEquals(ChecksumResultCode.CHECKSUM_MATCH, results.get(bitstream.getID()));
+        }
+    }
+
+    @Test
+    public void testStoreMetadataVerificationReadsFileBackedBitstreams() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Bitstream bitstream = bitstreamService.create(context, new ByteArrayInputStream("bitstream".getBytes(UTF_8)));
+        bitstreamService.update(context, bitstream);
+        context.restoreAuthSystemState();
+
+        Map<UUID, ChecksumResultCode> results = new HashMap<>();
+        CheckerCommand checker = new CheckerCommand(context);
+        checker.setProcessStartDate(new Date());
+        checker.setDispatcher(new IteratorDispatcher(List.of(bitstream).iterator()));
+        checker.setCollector((ctx, info) -> results.put(info.getBitstream().getID(),
+            info.getChecksumResult().getResultCode()));
+        checker.setReportVerbose(true);
+        checker.setStoreMetadataVerification(true);
+        checker.setStoreMetadataSampleRate(0);
+        checker.process();
+
+        // the local file system doesn't record the checksums, the bitstream is read
+        assertEquals(ChecksumResultCode.CHECKSUM_MATCH, results.get(bitstream.getID()));
+    }
+
+    @Test
+    public void testStoreMetadataVerificationMatch() throws Exception {
+        Bitstream bitstream = createBitstream("bitstream");
+        BitstreamStorageService storageService = mock(BitstreamStorageService.class);
+        when(storageService.getStoredChecksum(any(Context.class), any(Bitstream.class)))
+            .thenReturn(storeMetadata(bitstream.getChecksum(), "MD5", bitstream.getSizeBytes()));
+
+        Map<UUID, ChecksumResultCode> results = checkWithStoreMetadata(bitstream, storageService, 0);
+
+        assertEquals(ChecksumResultCode.CHECKSUM_MATCH_STORE_METADATA, results.get(bitstream.getID()));
+        verify(storageService, never()).computeChecksum(any(Context.class), any(Bitstream.class));
+        verify(storageService, never()).retrieve(any(Context.class), any(Bitstream.class));
+    }
+
+    @Test
+    public void testStoreMetadataMismatchReadsBitstream() throws Exception {
+        Bitstream bitstream = createBitstream("bitstream");
+        List<Map<String, Object>> mismatches = List.of(
+            storeMetadata(bitstream.getChecksum(), "MD5", bitstream.getSizeBytes() + 1),
+            storeMetadata(bitstream.getChecksum(), "SHA-256", bitstream.getSizeBytes()),
+            storeMetadata("0123456789abcdef0123456789abcdef", "MD5", bitstream.getSizeBytes()));
+
+        for (Map<String, Object> mismatch : mismatches) {
+            BitstreamStorageService storageService = mock(BitstreamStorageService.class);
+            when(storageService.getStoredChecksum(any(Context.class), any(Bitstream.class))).thenReturn(mismatch);
+            when(storageService.computeChecksum(any(Context.class), any(Bitstream.class)))
+                .thenReturn(Map.of("checksum", bitstream.getChecksum(), "checksum_algorithm", "MD5"));
+
+            Map<UUID, ChecksumResultCode> results = checkWithStoreMetadata(bitstream, storageService, 0);
+
+            // the store metadata disagree, the bitstream is read and its checksum compared as usual
+            assertEquals(ChecksumResultCode.CHECKSUM_MATCH, results.get(bitstream.getID()));
+            verify(storageService).computeChecksum(any(Context.class), any(Bitstream.class));
+        }
+    }
+
+    @Test
+    public void testStoreMetadataVerificationWithFullSampleReadsBitstream() throws Exception {
+        Bitstream bitstream = createBitstream("bitstream");
+        BitstreamStorageService storageService = mock(BitstreamStorageService.class);
+        when(storageService.getStoredChecksum(any(Context.class), any(Bitstream.class)))
+            .thenReturn(storeMetadata(bitstream.getChecksum(), "MD5", bitstream.getSizeBytes()));
+        when(storageService.computeChecksum(any(Context.class), any(Bitstream.class)))
+            .thenReturn(Map.of("checksum", bitstream.getChecksum(), "checksum_algorithm", "MD5"));
+
+        Map<UUID, ChecksumResultCode> results = checkWithStoreMetadata(bitstream, storageService, 1.0);
+
+        assertEquals(ChecksumResultCode.CHECKSUM_MATCH, results.get(bitstream.getID()));
+        verify(storageService, never()).getStoredChecksum(any(Context.class), any(Bitstream.class));
+        verify(storageService).computeChecksum(any(Context.class), any(Bitstream.class));
+    }
+
+    @Test
+    public void testConcurrentCheckIsThrottled() throws Exception {
+        String content = "0123456789".repeat(100);
+        List<Bitstream> bitstreams = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            bitstreams.add(createBitstream(content));
+        }
+        context.commit();
+
+        BitstreamStorageService storageService = mock(BitstreamStorageService.class);
+        when(storageService.retrieve(any(Context.class), any(Bitstream.class)))
+            .thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes(UTF_8)));
+
+        ConfigurationService configurationService = DSpaceServicesFactory.getInstance().getConfigurationService();
+        configurationService.setProperty("checker.throttle.bytes-per-second", 1000);
+        CheckerCommand checker;
+        try {
+            checker = new CheckerCommand(context);
+        } finally {
+            configurationService.setProperty("checker.throttle.bytes-per-second", null);
+        }
+        ReflectionTestUtils.setField(checker, "bitstreamStorageService", storageService);
+
+        Map<UUID, ChecksumResultCode> results = new HashMap<>();
+        checker.setProcessStartDate(new Date());
+        checker.setDispatcher(new IteratorDispatcher(bitstreams.iterator()));
+        checker.setCollector((ctx, info) -> results.put(info.getBitstream().getID(),
+            info.getChecksumResult().getResultCode()));
+        checker.setReportVerbose(true);
+        checker.setThreads(3);
+
+        long start = System.currentTimeMillis();
+        checker.process();
+        long elapsed = System.currentTimeMillis() - start;
+
+        // 3000 bytes at 1000 bytes per second: the first read is immediate, the others wait about a second each
+        assertTrue("Expected the reads to be throttled, took " + elapsed + " ms", elapsed >= 1500);
+        for (Bitstream bitstream : bitstreams) {
+            assertEquals(ChecksumResultCode.CHECKSUM_MATCH, results.get(bitstream.getID()));
+        }
+    }
+
+    private Bitstream createBitstream(String content) throws Exception {
+        context.turnOffAuthorisationSystem();
+        Bitstream bitstream = bitstreamService.create(context, new ByteArrayInputStream(content.getBytes(UTF_8)));
+        bitstreamService.update(context, bitstream);
+        context.restoreAuthSystemState();
+        return bitstream;
+    }
+
+    private Map<String, Object> storeMetadata(String checksum, String algorithm, long size) {
+        return Map.of("stored_checksum", checksum, "checksum_algorithm", algorithm, "size_bytes", size);
+    }
+
+    /**
+     * Check the given bitstream with the metadata of the given store, which is not backed by the local file system.
+     */
+    private Map<UUID, ChecksumResultCode> checkWithStoreMetadata(Bitstream bitstream,
+                                                                 BitstreamStorageService storageService,
+                                                                 double sampleRate) throws Exception {
+        Map<UUID, ChecksumResultCode> results = new HashMap<>();
+        CheckerCommand checker = new CheckerCommand(context);
+        ReflectionTestUtils.setField(checker, "bitstreamStorageService", storageService);
+        checker.setProcessStartDate(new Date());
+        checker.setDispatcher(new IteratorDispatcher(List.of(bitstream).iterator()));
+        checker.setCollector((ctx, info) -> results.put(info.getBitstream().getID(),
+            info.getChecksumResult().getResultCode()));
+        checker.setReportVerbose(true);
+        checker.setStoreMetadataVerification(true);
+        checker.setStoreMetadataSampleRate(sampleRate);
+        checker.process();
+        return results;
+    }
+}
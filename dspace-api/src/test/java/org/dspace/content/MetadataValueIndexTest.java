@@ -0,0 +1,138 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MetadataValueIndex}.
+ */
+public class MetadataValueIndexTest {
+
+    private final MetadataSchema dc = schema("dc");
+
+    private final MetadataSchema cris = schema("cris");
+
+    private final MetadataField title = field(dc, "title", null);
+
+    private final MetadataField titleAlternative = field(dc, "title", "alternative");
+
+    private final MetadataField author = field(dc, "contributor", "author");
+
+    private final MetadataField editor = field(dc, "contributor", "editor");
+
+    private final MetadataField crisTitle = field(cris, "title", null);
+
+    @Test
+    public void testLookupByField() {
+        List<MetadataValue> metadata = List.of(value(author, "Author 1"), value(title, "Title"),
+            value(editor, "Editor"), value(author, "Author 2"), value(titleAlternative, "Alternative"),
+            value(crisTitle, "Cris title"));
+        MetadataValueIndex index = new MetadataValueIndex(metadata);
+
+        assertEquals(List.of("Author 1", "Author 2"), values(index.getValues("dc", "contributor", "author")));
+        assertEquals(List.of("Title"), values(index.getValues("dc", "title", null)));
+        assertEquals(List.of("Title"), values(index.getValues("dc", "title", "")));
+        assertEquals(List.of("Title", "Alternative"), values(index.getValues("dc", "title", Item.ANY)));
+        assertEquals(List.of("Author 1", "Editor", "Author 2"),
+            values(index.getValues("dc", "contributor", Item.ANY)));
+        assertEquals(List.of("Cris title"), values(index.getValues("cris", "title", null)));
+        assertTrue(index.getValues("dc", "contributor", null).isEmpty());
+        assertTrue(index.getValues("dc", "subject", Item.ANY).isEmpty());
+    }
+
+    @Test
+    public void testWildcardsAreNotAnsweredByTheIndex() {
+        MetadataValueIndex index = new MetadataValueIndex(List.of(value(title, "Title")));
+        assertNull(index.getValues(Item.ANY, "title", null));
+        assertNull(index.getValues("dc", Item.ANY, Item.ANY));
+    }
+
+    @Test
+    public void testValuesWithoutSchemaAreNotIndexed() {
+        MetadataValueIndex index = new MetadataValueIndex(List.of(value(title, "Title"),
+            value(field(null, "title", null), "Without schema")));
+        assertNull(index.getValues("dc", "title", null));
+    }
+
+    @Test
+    public void testIndexOfList() {
+        List<MetadataValue> metadata = new ArrayList<>(List.of(value(title, "Title")));
+        MetadataValueIndex index = new MetadataValueIndex(metadata);
+        assertTrue(index.isIndexOf(metadata));
+        assertFalse(index.isIndexOf(new ArrayList<>(metadata)));
+
+        metadata.add(value(author, "Author"));
+        assertFalse(index.isIndexOf(metadata));
+    }
+
+    @Test
+    public void testLookupOnLargeEntity() {
+        List<MetadataValue> metadata = new ArrayList<>();
+        List<MetadataField> fields = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fields.add(field(cris, "element" + i, "qualifier"));
+        }
+        for (int i = 0; i < 20000; i++) {
+            metadata.add(value(fields.get(i % fields.size()), "Value " + i));
+        }
+        MetadataValueIndex index = new MetadataValueIndex(metadata);
+        List<MetadataValue> expected = metadata.stream()
+            .filter(value -> value.getMetadataField() == fields.get(7))
+            .collect(Collectors.toList());
+        assertEquals(expected, index.getValues("cris", "element7", "qualifier"));
+
+        long startTime = System.currentTimeMillis();
+        int amount = 50000;
+        for (int i = 0; i < amount; i++) {
+            index.getValues("cris", "element" + (i % fields.size()), "qualifier");
+        }
+        long duration = System.currentTimeMillis() - startTime;
+
+        // a scan of the 20000 values for each lookup takes several seconds
+        double maxDurationPerCall = 0.01;
+        double maxDuration = maxDurationPerCall * amount;
+        Assert.assertTrue("Duration (" + duration + ") should be smaller than " + maxDuration +
+                " for " + amount + " lookups.", duration < maxDuration);
+    }
+
+    private List<String> values(List<MetadataValue> metadataValues) {
+        return metadataValues.stream().map(MetadataValue::getValue).collect(Collectors.toList());
+    }
+
+    private MetadataSchema schema(String name) {
+        MetadataSchema schema = new MetadataSchema();
+        schema.setName(name);
+        return schema;
+    }
+
+    private MetadataField field(MetadataSchema schema, String element, String qualifier) {
+        MetadataField field = new MetadataField();
+        field.setMetadataSchema(schema);
+        field.setElement(element);
+        field.setQualifier(qualifier);
+        return field;
+    }
+
+    private MetadataValue value(MetadataField field, String value) {
+        MetadataValue metadataValue = new MetadataValue();
+        metadataValue.setMetadataField(field);
+        metadataValue.setValue(value);
+        return metadataValue;
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.content;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.dspace.content.service.MetadataFieldService;
+import org.dspace.core.Context;
+import org.dspace.services.ConfigurationService;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link VirtualMetadataCache}.
+ */
+public class VirtualMetadataCacheTest {
+
+    private final VirtualMetadataCache cache = new VirtualMetadataCache();
+
+    private final ConfigurationService configurationService = mock(ConfigurationService.class);
+
+    private final MetadataFieldService metadataFieldService = mock(MetadataFieldService.class);
+
+    private final Context context = mock(Context.class);
+
+    private final MetadataField metadataField = mock(MetadataField.class);
+
+    private final Item publication = mock(Item.class);
+
+    private final Item author = mock(Item.class);
+
+    @Before
+    public void setUp() throws Exception {
+        cache.setConfigurationService(configurationService);
+        cache.setMetadataFieldService(metadataFieldService);
+        when(configurationService.getBooleanProperty("relationship.virtual-metadata.cache.enabled", false))
+            .thenReturn(true);
+        when(configurationService.getIntProperty(eq("relationship.virtual-metadata.cache.max-size"), anyInt()))
+            .thenReturn(2);
+        when(configurationService.getLongProperty(eq("relationship.virtual-metadata.cache.ttl"), anyLong()))
+            .thenReturn(60L);
+        when(metadataField.getID()).thenReturn(1);
+        when(metadataFieldService.find(context, 1)).thenReturn(metadataField);
+        when(publication.getID()).thenReturn(UUID.randomUUID());
+        when(author.getID()).thenReturn(UUID.randomUUID());
+    }
+
+    @Test
+    public void testVirtualMetadataAreShared() throws Exception {
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+
+        List<RelationshipMetadataValue> values = cache.get(context, publication);
+        assertNotNull(values);
+        assertEquals(1, values.size());
+        RelationshipMetadataValue value = values.get(0);
+        assertSame(metadataField, value.getMetadataField());
+        assertEquals("Smith, John", value.getValue());
+        assertEquals("virtual::1", value.getAuthority());
+        assertEquals(2, value.getPlace());
+        assertTrue(value.isUseForPlace());
+        assertSame(publication, value.getDSpaceObject());
+
+        assertNull(cache.get(context, author));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testCommittedChangeOfRelatedItemInvalidatesDependents() throws Exception {
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+
+        cache.invalidate(List.of(author.getID()));
+
+        assertNull(cache.get(context, publication));
+    }
+
+    @Test
+    public void testUncommittedChangeIsNotShared() throws Exception {
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+
+        cache.change(author.getID());
+        assertNull(cache.get(context, publication));
+
+        // the virtual metadata computed by the transaction changing the author are not stored until it commits
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+        assertNull(cache.get(context, publication));
+
+        cache.invalidate(List.of(author.getID()));
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+        assertNotNull(cache.get(context, publication));
+    }
+
+    @Test
+    public void testVirtualMetadataComputedBeforeAChangeAreDiscarded() throws Exception {
+        long generation = cache.getGeneration();
+        cache.invalidate(List.of(author.getID()));
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), generation);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpiredVirtualMetadataAreDiscarded() throws Exception {
+        when(configurationService.getLongProperty(eq("relationship.virtual-metadata.cache.ttl"), anyLong()))
+            .thenReturn(0L);
+        cache.put(publication, List.of(authorName()), Set.of(author.getID()), cache.getGeneration());
+
+        assertNull(cache.get(context, publication));
+        assertEquals(0, cache.size());
+    }
+
+    private RelationshipMetadataValue authorName() {
+        RelationshipMetadataValue value = new RelationshipMetadataValue();
+        value.setMetadataField(metadataField);
+        value.setValue("Smith, John");
+        value.setAuthority("virtual::1");
+        value.setPlace(2);
+        value.setUseForPlace(true);
+        value.setDSpaceObject(publication);
+        return value;
+    }
+}
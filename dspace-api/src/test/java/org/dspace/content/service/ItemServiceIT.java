@@ -21,8 +21,10 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
@@ -924,6 +926,24 @@ public class ItemServiceIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testFindAllByIds() throws Exception {
+        context.turnOffAuthorisationSystem();
+        Item first = ItemBuilder.createItem(context, collection1).withTitle("First").build();
+        Item second = ItemBuilder.createItem(context, collection1).withTitle("Second").build();
+        context.restoreAuthSystemState();
+
+        List<UUID> ids = List.of(second.getID(), UUID.randomUUID(), first.getID(), second.getID());
+
+        // the missing ids are skipped and the duplicated ones are returned once, in the order of the given ids
+        assertEquals(List.of(second, first), itemService.findAllByIds(context, ids));
+
+        List<Item> iterated = new ArrayList<>();
+        itemService.findByIds(context, ids.stream().map(UUID::toString).collect(Collectors.toList()))
+            .forEachRemaining(iterated::add);
+        assertEquals(List.of(second, first), iterated);
+    }
+
     private void assertMetadataValue(String authorQualifier, String contributorElement, String dcSchema, String value,
                                      String authority, int place, MetadataValue metadataValue) {
         assertThat(metadataValue.getValue(), equalTo(value));
@@ -0,0 +1,98 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link IndexStalenessResolver}.
+ */
+public class IndexStalenessResolverTest {
+
+    private final SolrSearchCore solrSearchCore = mock(SolrSearchCore.class);
+
+    private final SolrClient solr = mock(SolrClient.class);
+
+    private final IndexStalenessResolver resolver = new IndexStalenessResolver(solrSearchCore);
+
+    @Before
+    public void setUp() {
+        when(solrSearchCore.getSolr()).thenReturn(solr);
+    }
+
+    @Test
+    public void testFindStaleWithSingleQuery() throws Exception {
+        IndexableObject upToDate = indexableObject("Item-1", new Date(1000));
+        IndexableObject modified = indexableObject("Item-2", new Date(5000));
+        IndexableObject notIndexed = indexableObject("Item-3", new Date(1000));
+        IndexableObject withoutDate = indexableObject("Item-4", null);
+
+        SolrDocumentList results = new SolrDocumentList();
+        results.add(document("Item-1", new Date(2000)));
+        results.add(document("Item-2", new Date(2000)));
+        QueryResponse response = mock(QueryResponse.class);
+        when(response.getResults()).thenReturn(results);
+        when(solr.query(any(SolrQuery.class), any())).thenReturn(response);
+
+        assertThat(resolver.findStale(List.of(upToDate, modified, notIndexed, withoutDate)),
+            containsInAnyOrder("Item-2", "Item-3", "Item-4"));
+        verify(solr, times(1)).query(any(SolrQuery.class), any());
+    }
+
+    @Test
+    public void testNoQueryWhenNoObjectHasALastModifiedDate() throws Exception {
+        assertThat(resolver.findStale(List.of(indexableObject("Item-1", null))), containsInAnyOrder("Item-1"));
+        verify(solr, never()).query(any(SolrQuery.class), any());
+    }
+
+    @Test
+    public void testDocumentWithoutLastIndexedDateIsNotStale() throws Exception {
+        SolrDocumentList results = new SolrDocumentList();
+        results.add(document("Item-1", null));
+        QueryResponse response = mock(QueryResponse.class);
+        when(response.getResults()).thenReturn(results);
+        when(solr.query(any(SolrQuery.class), any())).thenReturn(response);
+
+        assertTrue(resolver.findStale(List.of(indexableObject("Item-1", new Date()))).isEmpty());
+    }
+
+    private IndexableObject indexableObject(String uniqueId, Date lastModified) {
+        IndexableObject indexableObject = mock(IndexableObject.class);
+        when(indexableObject.getUniqueIndexID()).thenReturn(uniqueId);
+        when(indexableObject.getLastModified()).thenReturn(lastModified);
+        return indexableObject;
+    }
+
+    private SolrDocument document(String uniqueId, Date lastIndexed) {
+        SolrDocument document = new SolrDocument();
+        document.addField(SearchUtils.RESOURCE_UNIQUE_ID, uniqueId);
+        if (lastIndexed != null) {
+            document.addField(SearchUtils.LAST_INDEXED_FIELD, lastIndexed);
+        }
+        return document;
+    }
+}
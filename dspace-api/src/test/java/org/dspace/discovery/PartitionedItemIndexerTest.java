@@ -0,0 +1,50 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PartitionedItemIndexer}.
+ */
+public class PartitionedItemIndexerTest {
+
+    @Test
+    public void testSinglePartitionIsUnbounded() {
+        UUID[] boundaries = PartitionedItemIndexer.getPartitionBoundaries(1);
+        assertEquals(2, boundaries.length);
+        assertNull(boundaries[0]);
+        assertNull(boundaries[1]);
+    }
+
+    @Test
+    public void testPartitionBoundariesAreContiguousAndOrdered() {
+        UUID[] boundaries = PartitionedItemIndexer.getPartitionBoundaries(4);
+        assertEquals(5, boundaries.length);
+        assertNull(boundaries[0]);
+        assertEquals(UUID.fromString("40000000-0000-0000-0000-000000000000"), boundaries[1]);
+        assertEquals(UUID.fromString("80000000-0000-0000-0000-000000000000"), boundaries[2]);
+        assertEquals(UUID.fromString("c0000000-0000-0000-0000-000000000000"), boundaries[3]);
+        assertNull(boundaries[4]);
+    }
+
+    @Test
+    public void testPartitionBoundariesWithUnevenSplit() {
+        UUID[] boundaries = PartitionedItemIndexer.getPartitionBoundaries(3);
+        // compare the boundaries as the database does, as unsigned strings
+        assertTrue(boundaries[1].toString().compareTo(boundaries[2].toString()) < 0);
+        assertEquals(UUID.fromString("55550000-0000-0000-0000-000000000000"), boundaries[1]);
+        assertEquals(UUID.fromString("aaaa0000-0000-0000-0000-000000000000"), boundaries[2]);
+    }
+}
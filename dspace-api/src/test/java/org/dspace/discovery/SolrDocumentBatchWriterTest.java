@@ -0,0 +1,159 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SolrDocumentBatchWriter}.
+ */
+public class SolrDocumentBatchWriterTest {
+
+    private final SolrClient solr = mock(SolrClient.class);
+
+    @Test
+    public void testDocumentsAreSentImmediatelyWithoutBatching() throws Exception {
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 1, 0, 0);
+        SolrInputDocument document = document("Item-1");
+        writer.add(document);
+        verify(solr).add(document);
+        assertEquals(0, writer.size());
+    }
+
+    @Test
+    public void testDocumentsAreSentWhenBatchSizeIsReached() throws Exception {
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 3, 0, 0);
+        writer.add(document("Item-1"));
+        writer.add(document("Item-2"));
+        verify(solr, never()).add(anyCollection());
+        assertEquals(2, writer.size());
+
+        writer.add(document("Item-3"));
+        verify(solr, times(1)).add(anyCollection());
+        assertEquals(0, writer.size());
+    }
+
+    @Test
+    public void testDocumentsAreSentWhenMaxBytesIsReached() throws Exception {
+        SolrInputDocument document = document("Item-1");
+        long size = SolrDocumentBatchWriter.estimateSize(document);
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 100, size * 2, 0);
+        writer.add(document);
+        verify(solr, never()).add(anyCollection());
+        writer.add(document("Item-2"));
+        verify(solr, times(1)).add(anyCollection());
+    }
+
+    @Test
+    public void testFlushSendsBufferedDocuments() throws Exception {
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 100, 0, 0);
+        writer.add(document("Item-1"));
+        writer.flush();
+        verify(solr, times(1)).add(anyCollection());
+        assertEquals(0, writer.size());
+
+        // nothing left to send
+        writer.flush();
+        verify(solr, times(1)).add(anyCollection());
+    }
+
+    @Test
+    public void testFailedBatchIsSentOneByOne() throws Exception {
+        SolrInputDocument valid = document("Item-1");
+        SolrInputDocument invalid = document("Item-2");
+        doThrow(new SolrServerException("batch rejected")).when(solr).add(any(Collection.class));
+        doThrow(new SolrServerException("invalid document")).when(solr).add(invalid);
+
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 2, 0, 0);
+        writer.add(valid);
+        writer.add(invalid);
+
+        verify(solr).add(valid);
+        verify(solr).add(invalid);
+        assertEquals(0, writer.size());
+        assertEquals(List.of("Item-2"), getFailedUniqueIds(writer));
+        // the failures are reported only once
+        writer.flush();
+    }
+
+    @Test
+    public void testFailureIsPropagatedWhenNoDocumentCanBeSent() throws Exception {
+        doThrow(new SolrServerException("batch rejected")).when(solr).add(any(Collection.class));
+        doThrow(new SolrServerException("solr down")).when(solr).add(any(SolrInputDocument.class));
+
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 2, 0, 0);
+        writer.add(document("Item-1"));
+        writer.add(document("Item-2"));
+        writer.add(document("Item-3"));
+
+        assertEquals(List.of("Item-1", "Item-2", "Item-3"), getFailedUniqueIds(writer));
+    }
+
+    @Test
+    public void testFailuresOfTheTimedFlushAreReportedByTheNextFlush() throws Exception {
+        doThrow(new SolrServerException("batch rejected")).when(solr).add(any(Collection.class));
+        doThrow(new SolrServerException("solr down")).when(solr).add(any(SolrInputDocument.class));
+
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 100, 0, 10);
+        try {
+            writer.add(document("Item-1"));
+            verify(solr, timeout(5000)).add(any(SolrInputDocument.class));
+            assertEquals(0, writer.size());
+            assertEquals(List.of("Item-1"), getFailedUniqueIds(writer));
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void testSendBufferedKeepsTheFailuresForTheNextFlush() throws Exception {
+        SolrInputDocument invalid = document("Item-2");
+        doThrow(new SolrServerException("batch rejected")).when(solr).add(any(Collection.class));
+        doThrow(new SolrServerException("invalid document")).when(solr).add(invalid);
+
+        SolrDocumentBatchWriter writer = new SolrDocumentBatchWriter(solr, 100, 0, 0);
+        writer.add(document("Item-1"));
+        writer.add(invalid);
+        writer.sendBuffered();
+
+        assertEquals(0, writer.size());
+        assertEquals(List.of("Item-2"), getFailedUniqueIds(writer));
+    }
+
+    private List<String> getFailedUniqueIds(SolrDocumentBatchWriter writer) {
+        try {
+            writer.flush();
+        } catch (SolrDocumentWriteException e) {
+            return e.getFailedUniqueIds();
+        }
+        throw new AssertionError("No failure has been reported by the flush");
+    }
+
+    private SolrInputDocument document(String uniqueId) {
+        SolrInputDocument document = new SolrInputDocument();
+        document.addField(SearchUtils.RESOURCE_UNIQUE_ID, uniqueId);
+        document.addField("dc.title", "Title of " + uniqueId);
+        return document;
+    }
+}
@@ -347,6 +347,46 @@ public class GroupTest extends AbstractUnitTest {
         assertFalse("isMemberGroup 6", groupService.isParentOf(context, level2Group, topGroup));
     }
 
+    @Test
+    public void removeMemberGroupKeepsOtherPaths() throws SQLException, AuthorizeException, IOException {
+        context.turnOffAuthorisationSystem();
+        Group otherGroup = createGroup("otherLevel1Group");
+        groupService.addMember(context, topGroup, otherGroup);
+        groupService.addMember(context, otherGroup, level2Group);
+        assertTrue(groupService.isParentOf(context, topGroup, otherGroup));
+
+        // topGroup still contains level2Group through otherGroup
+        groupService.removeMember(context, level1Group, level2Group);
+        assertTrue(groupService.isParentOf(context, topGroup, level2Group));
+        assertTrue(groupService.isParentOf(context, otherGroup, level2Group));
+        assertFalse(groupService.isParentOf(context, level1Group, level2Group));
+
+        groupService.removeMember(context, otherGroup, level2Group);
+        assertFalse(groupService.isParentOf(context, topGroup, level2Group));
+        assertTrue(groupService.isParentOf(context, topGroup, level1Group));
+
+        groupService.delete(context, otherGroup);
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void deleteIntermediateGroup() throws SQLException, AuthorizeException, IOException {
+        context.turnOffAuthorisationSystem();
+        groupService.delete(context, level1Group);
+        level1Group = null;
+        assertFalse(groupService.isParentOf(context, topGroup, level2Group));
+        context.restoreAuthSystemState();
+    }
+
+    @Test
+    public void rebuildGroupCache() throws SQLException {
+        groupService.rebuildGroupCache(context);
+        assertTrue(groupService.isParentOf(context, topGroup, level1Group));
+        assertTrue(groupService.isParentOf(context, level1Group, level2Group));
+        assertTrue(groupService.isParentOf(context, topGroup, level2Group));
+        assertFalse(groupService.isParentOf(context, level2Group, topGroup));
+    }
+
     @Test
     public void isMemberEPerson() throws SQLException, AuthorizeException, EPersonDeletionException, IOException {
         EPerson ePerson = null;
@@ -0,0 +1,87 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.layout.service.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.dspace.content.Item;
+import org.dspace.content.MetadataField;
+import org.dspace.core.Context;
+import org.dspace.eperson.EPerson;
+import org.dspace.layout.CrisLayoutBox;
+import org.dspace.layout.LayoutSecurity;
+import org.dspace.layout.service.LayoutSecurityService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for the bulk access check of {@link CrisLayoutBoxAccessServiceImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CrisLayoutBoxAccessServiceImplTest {
+
+    @Mock
+    private LayoutSecurityService layoutSecurityService;
+    @Mock
+    private Context context;
+    @Mock
+    private EPerson user;
+    @Mock
+    private Item item;
+    @Mock
+    private MetadataField metadataField;
+
+    private CrisLayoutBoxAccessServiceImpl accessService;
+
+    @Before
+    public void setUp() throws Exception {
+        accessService = new CrisLayoutBoxAccessServiceImpl(layoutSecurityService);
+    }
+
+    @Test
+    public void policiesNotDependingOnTheBoxAreEvaluatedOnce() throws Exception {
+        CrisLayoutBox publicBox = box("public", LayoutSecurity.PUBLIC);
+        CrisLayoutBox adminBox1 = box("admin1", LayoutSecurity.ADMINISTRATOR);
+        CrisLayoutBox adminBox2 = box("admin2", LayoutSecurity.ADMINISTRATOR);
+        CrisLayoutBox customDataBox = box("custom", LayoutSecurity.CUSTOM_DATA_AND_ADMINISTRATOR);
+        customDataBox.addMetadataSecurityFields(metadataField);
+
+        when(layoutSecurityService.hasAccess(eq(LayoutSecurity.PUBLIC), eq(context), eq(user), any(), any(),
+            eq(item))).thenReturn(true);
+        when(layoutSecurityService.hasAccess(eq(LayoutSecurity.ADMINISTRATOR), eq(context), eq(user), any(), any(),
+            eq(item))).thenReturn(false);
+        when(layoutSecurityService.hasAccess(eq(LayoutSecurity.CUSTOM_DATA), eq(context), eq(user), any(), any(),
+            eq(item))).thenReturn(true);
+
+        Map<CrisLayoutBox, Boolean> access = accessService.hasAccess(context, user,
+            List.of(publicBox, adminBox1, adminBox2, customDataBox), item);
+
+        assertThat(access, is(Map.of(publicBox, true, adminBox1, false, adminBox2, false, customDataBox, true)));
+        verify(layoutSecurityService, times(1)).hasAccess(eq(LayoutSecurity.ADMINISTRATOR), eq(context), eq(user),
+            any(), any(), eq(item));
+    }
+
+    private CrisLayoutBox box(String shortname, LayoutSecurity security) {
+        CrisLayoutBox box = new CrisLayoutBox();
+        box.setShortname(shortname);
+        box.setSecurity(security);
+        return box;
+    }
+}
@@ -14,8 +14,11 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,6 +27,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -41,11 +45,14 @@ import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.discovery.configuration.DiscoveryConfigurationUtilsService;
 import org.dspace.layout.CrisLayoutBox;
+import org.dspace.layout.CrisLayoutBox2SecurityGroup;
 import org.dspace.layout.CrisLayoutBoxTypes;
 import org.dspace.layout.CrisLayoutField;
 import org.dspace.layout.CrisLayoutFieldBitstream;
 import org.dspace.layout.CrisLayoutMetric2Box;
+import org.dspace.layout.CrisLayoutTab;
 import org.dspace.layout.dao.CrisLayoutBoxDAO;
+import org.dspace.layout.service.CrisLayoutBoxAccessService;
 import org.dspace.metrics.CrisItemMetricsService;
 import org.dspace.metrics.embeddable.model.EmbeddableCrisMetrics;
 import org.junit.Test;
@@ -87,6 +94,9 @@ public class CrisLayoutBoxServiceImplTest {
     @Mock
     private BitstreamService bitstreamService;
 
+    @Mock
+    private CrisLayoutBoxAccessService crisLayoutBoxAccessService;
+
     @Test
     public void testHasContentWithMetadataBox() {
 
@@ -247,7 +257,8 @@ public class CrisLayoutBoxServiceImplTest {
     @Test
     public void testHasMetricsBoxContent() throws SQLException {
 
-        when(authorizeService.authorizeActionBoolean(eq(context), any(), eq(Constants.READ))).thenReturn(true);
+        when(authorizeService.authorizeActionBoolean(eq(context), any(Item.class), eq(Constants.READ)))
+            .thenReturn(true);
 
         // should return false when the box has no metrics associated
         CrisLayoutBox boxWithoutMetrics = crisLayoutMetricBox();
@@ -280,7 +291,8 @@ public class CrisLayoutBoxServiceImplTest {
     public void testHasMetricsBoxContentNotAuthorized() throws SQLException {
 
         // should return false if there is content but context has not an authenticated user
-        when(authorizeService.authorizeActionBoolean(eq(context), any(), eq(Constants.READ))).thenReturn(false);
+        when(authorizeService.authorizeActionBoolean(eq(context), any(Item.class), eq(Constants.READ)))
+            .thenReturn(false);
         CrisLayoutBox boxMetric1 = crisLayoutMetricBox("metric1");
         storedCrisMetrics();
         embeddableCrisMetrics("metric1");
@@ -379,6 +391,79 @@ public class CrisLayoutBoxServiceImplTest {
         assertFalse(crisLayoutBoxService.hasContent(context, box, item));
     }
 
+    @Test
+    public void testFindVisibleBoxesChecksRelationBoxesWithOneSearch() {
+
+        CrisLayoutBox authorsBox = crisLayoutBox("authors", CrisLayoutBoxTypes.RELATION.name());
+        CrisLayoutBox projectsBox = crisLayoutBox("projects", CrisLayoutBoxTypes.RELATION.name());
+        Item item = item();
+        CrisLayoutTab tab = tab(authorsBox, projectsBox);
+
+        when(crisLayoutBoxAccessService.hasAccess(eq(context), any(), anyCollection(), eq(item)))
+            .thenReturn(Map.of(authorsBox, true, projectsBox, true));
+        when(searchConfigurationUtilsService.hasRelations(context, item, Set.of("authors", "projects")))
+            .thenReturn(Map.of("authors", true, "projects", false));
+
+        Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes = crisLayoutBoxService.findVisibleBoxes(context, item,
+            List.of(tab));
+
+        assertThat(visibleBoxes, is(Map.of(authorsBox, authorsBox)));
+        verify(searchConfigurationUtilsService, times(1)).hasRelations(any(), any(), any());
+        verify(searchConfigurationUtilsService, never()).findByRelation(any(), any(), any());
+    }
+
+    @Test
+    public void testFindVisibleBoxesReadsTheMetricsOnce() throws SQLException {
+
+        CrisLayoutBox metricBox1 = crisLayoutMetricBox("metric1");
+        metricBox1.setShortname("metrics1");
+        CrisLayoutBox metricBox2 = crisLayoutMetricBox("metric2");
+        metricBox2.setShortname("metrics2");
+        Item item = item();
+        CrisLayoutTab tab = tab(metricBox1, metricBox2);
+
+        when(crisLayoutBoxAccessService.hasAccess(eq(context), any(), anyCollection(), eq(item)))
+            .thenReturn(Map.of(metricBox1, true, metricBox2, true));
+        when(authorizeService.authorizeActionBoolean(eq(context), any(Item.class), eq(Constants.READ)))
+            .thenReturn(true);
+        storedCrisMetrics("metric2");
+        embeddableCrisMetrics();
+
+        Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes = crisLayoutBoxService.findVisibleBoxes(context, item,
+            List.of(tab));
+
+        assertThat(visibleBoxes, is(Map.of(metricBox2, metricBox2)));
+        verify(crisItemMetricsService, times(1)).getStoredMetrics(any(), any());
+        verify(crisItemMetricsService, times(1)).getEmbeddableMetrics(any(), any(), any());
+        verify(authorizeService, times(1))
+            .authorizeActionBoolean(eq(context), any(Item.class), eq(Constants.READ));
+    }
+
+    @Test
+    public void testFindVisibleBoxesWithAlternativeBox() {
+
+        MetadataField titleField = metadataField("dc", "title", null);
+        CrisLayoutBox box = crisLayoutMetadataBox("Main Box", titleField);
+        CrisLayoutBox alternativeBox = crisLayoutMetadataBox("Public Box", titleField);
+        box.getBox2SecurityGroups().add(new CrisLayoutBox2SecurityGroup(null, box, null, alternativeBox));
+        Item item = item(metadataValue(titleField, "John Smith"));
+        CrisLayoutTab tab = tab(box);
+
+        when(crisLayoutBoxAccessService.hasAccess(eq(context), any(), anyCollection(), eq(item)))
+            .thenReturn(Map.of(box, false));
+
+        Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes = crisLayoutBoxService.findVisibleBoxes(context, item,
+            List.of(tab));
+
+        assertThat(visibleBoxes, is(Map.of(box, alternativeBox)));
+    }
+
+    private CrisLayoutTab tab(CrisLayoutBox... boxes) {
+        CrisLayoutTab tab = mock(CrisLayoutTab.class);
+        when(tab.getBoxes()).thenReturn(List.of(boxes));
+        return tab;
+    }
+
     private CrisLayoutBox crisLayoutMetadataBox(String shortname, MetadataField... metadataFields) {
         return crisLayoutBox(shortname, CrisLayoutBoxTypes.METADATA.name(), metadataFields);
     }
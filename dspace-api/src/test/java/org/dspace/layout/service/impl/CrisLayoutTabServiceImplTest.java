@@ -32,6 +32,7 @@ import org.dspace.layout.CrisLayoutCell;
 import org.dspace.layout.CrisLayoutRow;
 import org.dspace.layout.CrisLayoutTab;
 import org.dspace.layout.dao.CrisLayoutTabDAO;
+import org.dspace.layout.dao.pojo.CrisLayoutTabKey;
 import org.dspace.services.ConfigurationService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -100,7 +101,12 @@ public class CrisLayoutTabServiceImplTest {
         when(itemService.getMetadata(item, "dspace.entity.type"))
             .thenReturn(entityType);
 
-        when(tabDao.findByEntityTypeAndEagerlyFetchBoxes(context, entityType, null))
+        when(tabDao.findKeysByEntityType(context, entityType))
+            .thenReturn(Arrays.asList(new CrisLayoutTabKey(1, null), new CrisLayoutTabKey(2, null),
+                                      new CrisLayoutTabKey(3, null), new CrisLayoutTabKey(4, null),
+                                      new CrisLayoutTabKey(5, null)));
+
+        when(tabDao.findByIdsAndEagerlyFetchBoxes(context, Arrays.asList(1, 2, 3, 4, 5)))
             .thenReturn(Arrays.asList(tabOne, tabTwo, tabThree, tabWithoutBoxes, tabWithOnlyForbiddenBoxes));
 
         List<CrisLayoutTab> tabs = crisLayoutTabService.findByItem(context, itemUuid);
@@ -123,7 +129,7 @@ public class CrisLayoutTabServiceImplTest {
         when(itemService.getMetadata(item, "dspace.entity.type"))
             .thenReturn(entityType);
 
-        when(tabDao.findByEntityTypeAndEagerlyFetchBoxes(context, entityType, null)).thenReturn(emptyList());
+        when(tabDao.findKeysByEntityType(context, entityType)).thenReturn(emptyList());
 
         List<CrisLayoutTab> tabs = crisLayoutTabService.findByItem(context, itemUuid);
 
@@ -143,13 +149,37 @@ public class CrisLayoutTabServiceImplTest {
         when(itemService.getMetadata(item, "dspace.entity.type"))
             .thenReturn(entityType);
 
-        when(tabDao.findByEntityTypeAndEagerlyFetchBoxes(context, entityType, null)).thenReturn(List.of());
+        when(tabDao.findKeysByEntityType(context, entityType)).thenReturn(List.of());
 
         List<CrisLayoutTab> tabs = crisLayoutTabService.findByItem(context, itemUuid);
 
         assertThat(tabs, is(emptyList()));
     }
 
+    @Test
+    public void tabsWithCustomFilterOfTheLayoutMetadataAreReturned() throws SQLException {
+        String itemUuid = UUID.randomUUID().toString();
+        String entityType = "Publication";
+
+        Item item = mock(Item.class);
+        MetadataValue layoutMetadata = mock(MetadataValue.class);
+        when(layoutMetadata.getValue()).thenReturn("thesis");
+        CrisLayoutTab thesisTab = grantedAccessTab("thesis");
+
+        when(itemService.find(context, UUID.fromString(itemUuid))).thenReturn(item);
+        when(itemService.getMetadata(item, "dspace.entity.type")).thenReturn(entityType);
+        when(configurationService.getProperty("dspace.metadata.layout.tab")).thenReturn("dc.type");
+        when(itemService.getMetadataByMetadataString(item, "dc.type")).thenReturn(List.of(layoutMetadata));
+        when(tabDao.findKeysByEntityType(context, entityType))
+            .thenReturn(Arrays.asList(new CrisLayoutTabKey(1, null), new CrisLayoutTabKey(2, "thesis"),
+                                      new CrisLayoutTabKey(3, "dataset")));
+        when(tabDao.findByIdsAndEagerlyFetchBoxes(context, List.of(2))).thenReturn(List.of(thesisTab));
+
+        List<CrisLayoutTab> tabs = crisLayoutTabService.findByItem(context, itemUuid);
+
+        assertThat(tabs, is(List.of(thesisTab)));
+    }
+
     @Test(expected = NullPointerException.class)
     public void nullItemThrowsNullPointerException() throws SQLException {
         UUID itemUuid = UUID.randomUUID();
@@ -0,0 +1,107 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.metrics.wos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.dspace.metrics.RateLimitedRequestExecutor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of the {@link WOSRestConnector} against a stub of the WOS API served locally, to verify the retries of the
+ * {@link RateLimitedRequestExecutor}.
+ */
+public class WOSRestConnectorTest {
+
+    private static final String RESPONSE = "{\"Data\":{\"Records\":{\"records\":\"\"}}}";
+
+    private HttpServer server;
+
+    private final List<Integer> statuses = new CopyOnWriteArrayList<>();
+
+    private final List<String> queries = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private WOSRestConnector connector;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/api/wos/", this::handle);
+        server.start();
+
+        RateLimitedRequestExecutor requestExecutor = new RateLimitedRequestExecutor();
+        requestExecutor.setMaxRetries(2);
+        requestExecutor.setRetryDelay(1);
+        requestExecutor.setRequestsPerSecond(100);
+
+        connector = new WOSRestConnector();
+        connector.setWosUrl("http://localhost:" + server.getAddress().getPort() + "/api/wos/?databaseId=WOS&usrQuery=");
+        connector.setApiKey("test-key");
+        connector.setRequestExecutor(requestExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testRequestIsRetriedWhenTheQuotaIsExceeded() {
+        statuses.addAll(List.of(429, 200));
+
+        assertEquals(RESPONSE, connector.get("10.1000/182"));
+        assertEquals(2, requests.get());
+        assertEquals("databaseId=WOS&usrQuery=DO=(10.1000/182)&count=10&firstRecord=1", queries.get(1));
+    }
+
+    @Test
+    public void testRequestIsRetriedOnServerErrors() {
+        statuses.addAll(List.of(503, 503, 503));
+
+        assertNull(connector.get("10.1000/182"));
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testRequestIsNotRetriedOnClientErrors() {
+        statuses.addAll(List.of(401, 200));
+
+        assertNull(connector.get("10.1000/182"));
+        assertEquals(1, requests.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int request = requests.getAndIncrement();
+        queries.add(exchange.getRequestURI().getQuery());
+        int status = request < statuses.size() ? statuses.get(request) : 200;
+        byte[] body = status == 200 ? RESPONSE.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (status == 429) {
+            exchange.getResponseHeaders().add("Retry-After", "0");
+        }
+        exchange.sendResponseHeaders(status, body.length > 0 ? body.length : -1);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.common.SolrInputDocument;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SolrStatisticsQueue}.
+ */
+public class SolrStatisticsQueueTest {
+
+    private final SolrClient solr = mock(SolrClient.class);
+
+    private final List<String> addedIds = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch solrAvailable = new CountDownLatch(1);
+
+    private final CountDownLatch solrCalled = new CountDownLatch(1);
+
+    @Before
+    public void setUp() throws Exception {
+        when(solr.add(anyCollection())).thenAnswer(invocation -> {
+            solrCalled.countDown();
+            solrAvailable.await(10, TimeUnit.SECONDS);
+            Collection<SolrInputDocument> documents = invocation.getArgument(0);
+            documents.forEach(document -> addedIds.add(document.getFieldValue("id") + ":"
+                + document.getFieldValue("dns")));
+            return null;
+        });
+    }
+
+    @Test
+    public void testDocumentsAreCompletedAndAdded() throws Exception {
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(solr, 10, 5,
+            SolrStatisticsQueue.OverflowPolicy.DROP_NEWEST, 0, false);
+        solrAvailable.countDown();
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(queue.offer(document(i), document -> document.addField("dns", "localhost")));
+        }
+        queue.shutdown(5000);
+
+        assertEquals(List.of("1:localhost", "2:localhost", "3:localhost"), addedIds);
+        assertEquals(3, queue.getEnqueued());
+        assertEquals(3, queue.getAdded());
+        assertEquals(0, queue.getSize());
+        assertFalse(queue.isRunning());
+        verify(solr, never()).commit(false, false);
+    }
+
+    @Test
+    public void testNewestDocumentIsDroppedWhenFull() throws Exception {
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(solr, 1, 1,
+            SolrStatisticsQueue.OverflowPolicy.DROP_NEWEST, 0, true);
+
+        fillWhileSolrIsUnavailable(queue);
+        assertFalse(queue.offer(document(3), null));
+        solrAvailable.countDown();
+        queue.shutdown(5000);
+
+        assertEquals(List.of("1:null", "2:null"), addedIds);
+        assertEquals(1, queue.getDropped());
+        verify(solr, times(2)).commit(false, false);
+    }
+
+    @Test
+    public void testOldestDocumentIsDroppedWhenFull() throws Exception {
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(solr, 1, 1,
+            SolrStatisticsQueue.OverflowPolicy.DROP_OLDEST, 0, false);
+
+        fillWhileSolrIsUnavailable(queue);
+        assertTrue(queue.offer(document(3), null));
+        solrAvailable.countDown();
+        queue.shutdown(5000);
+
+        assertEquals(List.of("1:null", "3:null"), addedIds);
+        assertEquals(1, queue.getDropped());
+    }
+
+    @Test
+    public void testBlockedDocumentIsDroppedAfterTimeout() throws Exception {
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(solr, 1, 1,
+            SolrStatisticsQueue.OverflowPolicy.BLOCK, 10, false);
+
+        fillWhileSolrIsUnavailable(queue);
+        assertFalse(queue.offer(document(3), null));
+        solrAvailable.countDown();
+        queue.shutdown(5000);
+
+        assertEquals(1, queue.getDropped());
+        assertEquals(2, queue.getAdded());
+    }
+
+    @Test
+    public void testDocumentsOfABatchAreCompletedInParallel() throws Exception {
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(solr, 10, 3,
+            SolrStatisticsQueue.OverflowPolicy.DROP_NEWEST, 0, false, 3);
+        // the completions of the batch can only pass the barrier together
+        CyclicBarrier barrier = new CyclicBarrier(3);
+
+        // the first document keeps the worker waiting for Solr, so that the next ones are added as one batch
+        assertTrue(queue.offer(document(0), null));
+        assertTrue(solrCalled.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(queue.offer(document(i), document -> {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    document.addField("dns", "parallel");
+                } catch (Exception e) {
+                    document.addField("dns", "sequential");
+                }
+            }));
+        }
+        solrAvailable.countDown();
+        queue.shutdown(5000);
+
+        assertEquals(List.of("0:null", "1:parallel", "2:parallel", "3:parallel"), addedIds);
+        assertEquals(4, queue.getAdded());
+    }
+
+    @Test
+    public void testFailedBatchIsDiscarded() throws Exception {
+        SolrClient failingSolr = mock(SolrClient.class);
+        when(failingSolr.add(anyCollection())).thenThrow(new SolrServerException("unavailable"));
+        SolrStatisticsQueue queue = new SolrStatisticsQueue(failingSolr, 10, 5,
+            SolrStatisticsQueue.OverflowPolicy.DROP_NEWEST, 0, false);
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(queue.offer(document(i), null));
+        }
+        queue.shutdown(5000);
+
+        assertEquals(0, queue.getAdded());
+        assertEquals(3, queue.getFailed());
+        assertEquals(0, queue.getSize());
+    }
+
+    /**
+     * Enqueue a document taken by the worker, which waits for Solr, and another one filling the queue.
+     */
+    private void fillWhileSolrIsUnavailable(SolrStatisticsQueue queue) throws InterruptedException {
+        assertTrue(queue.offer(document(1), null));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(queue.offer(document(2), null));
+        assertEquals(1, queue.getSize());
+    }
+
+    private SolrInputDocument document(int id) {
+        SolrInputDocument document = new SolrInputDocument();
+        document.addField("id", String.valueOf(id));
+        return document;
+    }
+}
@@ -38,6 +38,7 @@ import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import io.findify.s3mock.S3Mock;
 import org.apache.commons.io.FileUtils;
@@ -174,6 +175,65 @@ public class S3BitStoreServiceIT extends AbstractIntegrationTestWithDatabase {
         assertThat(objectMetadata.getContentMD5(), is(expectedChecksum));
     }
 
+    @Test
+    public void testBitstreamGetWithPrefetch() throws IOException {
+
+        s3BitStoreService.setPrefetchDepth(2);
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream contentThis content span three chunksTest bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content));
+        }
+
+        // skip inside the current chunk, across chunks and read across the chunk boundaries
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            assertThat(inputStream.skip(5), is(5L));
+            byte[] buffer = new byte[30];
+            assertThat(IOUtils.read(inputStream, buffer), is(30));
+            assertThat(new String(buffer, UTF_8), is(content.substring(5, 35)));
+            assertThat(inputStream.skip(20), is(20L));
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content.substring(55)));
+            assertThat(inputStream.read(), is(-1));
+        }
+    }
+
+    @Test
+    public void testBitstreamPutWithMultipartUpload() throws IOException {
+
+        s3BitStoreService.setUploadPartSize(10);
+        s3BitStoreService.setUploadConcurrency(2);
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream contentThis content span three chunksTest bitstream content";
+        String shortContent = "Short";
+        Bitstream bitstream = createBitstream(content);
+        Bitstream shortBitstream = createBitstream(shortContent);
+        context.restoreAuthSystemState();
+
+        checkPutAndGet(content, bitstream);
+        checkPutAndGet(shortContent, shortBitstream);
+    }
+
+    private void checkPutAndGet(String content, Bitstream bitstream) throws IOException {
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        assertThat(bitstream.getSizeBytes(), is((long) content.length()));
+        assertThat(bitstream.getChecksum(), is(Utils.toHex(generateChecksum(content))));
+        assertThat(bitstream.getChecksumAlgorithm(), is(CSA));
+
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content));
+        }
+    }
+
     @Test
     public void testBitstreamPutAndGetWithoutSpecifingBucket() throws IOException {
 
@@ -292,6 +352,86 @@ public class S3BitStoreServiceIT extends AbstractIntegrationTestWithDatabase {
 
     }
 
+    @Test
+    public void testAboutStoredChecksum() throws IOException {
+
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        Map<String, Object> about = s3BitStoreService.about(bitstream,
+            List.of("size_bytes", "stored_checksum", "checksum_algorithm"));
+        assertThat(about, hasEntry("size_bytes", 22L));
+        assertThat(about, hasEntry("stored_checksum", Utils.toHex(generateChecksum(content))));
+        assertThat(about, hasEntry("checksum_algorithm", CSA));
+        assertThat(about.size(), is(3));
+
+    }
+
+    @Test
+    public void testAboutStoredChecksumPrefersETag() throws IOException {
+
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream content";
+        Bitstream bitstream = createBitstream(content);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+
+        // replace the digest computed while uploading, the ETag computed by S3 is returned anyway
+        String bucketName = s3BitStoreService.getBucketName();
+        String key = s3BitStoreService.getFullKey(bitstream.getInternalId());
+        ObjectMetadata objectMetadata = amazonS3Client.getObjectMetadata(bucketName, key).clone();
+        objectMetadata.addUserMetadata(S3BitStoreService.CONTENT_MD5_METADATA, "0123456789abcdef0123456789abcdef");
+        amazonS3Client.copyObject(new CopyObjectRequest(bucketName, key, bucketName, key)
+            .withNewObjectMetadata(objectMetadata));
+
+        Map<String, Object> about = s3BitStoreService.about(bitstream, List.of("stored_checksum"));
+        assertThat(about, hasEntry("stored_checksum", Utils.toHex(generateChecksum(content))));
+
+    }
+
+    @Test
+    public void testAboutStoredChecksumOfMultipartUpload() throws IOException {
+
+        s3BitStoreService.setUploadPartSize(10);
+        s3BitStoreService.setUploadConcurrency(2);
+        s3BitStoreService.init();
+
+        context.turnOffAuthorisationSystem();
+        String content = "Test bitstream contentThis content span three chunksTest bitstream content";
+        String shortContent = "Short";
+        Bitstream bitstream = createBitstream(content);
+        Bitstream shortBitstream = createBitstream(shortContent);
+        context.restoreAuthSystemState();
+
+        s3BitStoreService.put(bitstream, toInputStream(content));
+        s3BitStoreService.put(shortBitstream, toInputStream(shortContent));
+
+        // the ETag of a multipart upload is not the MD5 digest, the one computed while uploading is returned
+        Map<String, Object> about = s3BitStoreService.about(bitstream,
+            List.of("size_bytes", "stored_checksum", "checksum_algorithm"));
+        assertThat(about, hasEntry("size_bytes", (long) content.length()));
+        assertThat(about, hasEntry("stored_checksum", Utils.toHex(generateChecksum(content))));
+        assertThat(about, hasEntry("checksum_algorithm", CSA));
+        assertThat(about.size(), is(3));
+
+        Map<String, Object> shortAbout = s3BitStoreService.about(shortBitstream, List.of("stored_checksum"));
+        assertThat(shortAbout, hasEntry("stored_checksum", Utils.toHex(generateChecksum(shortContent))));
+
+        // the copy storing the digest keeps the content
+        try (InputStream inputStream = s3BitStoreService.get(bitstream)) {
+            assertThat(IOUtils.toString(inputStream, UTF_8), is(content));
+        }
+    }
+
     @Test
     public void handleRegisteredIdentifierPrefixInS3() {
         String trueBitStreamId = "012345";
@@ -0,0 +1,79 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.app;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.solr.common.SolrInputDocument;
+
+/**
+ * A chunk of items submitted to the workers of the concurrent OAI import. When its worker fails, for instance
+ * because no database connection is available, the chunk is compiled again by the importing thread, so that the
+ * items are skipped one at a time as in the sequential import and a whole chunk is never dropped.
+ */
+public class PendingChunk {
+
+    private static final Logger log = LogManager.getLogger(PendingChunk.class);
+
+    private final List<UUID> itemIds;
+
+    private final Future<List<SolrInputDocument>> documents;
+
+    /**
+     * @param itemIds   the ids of the items of the chunk
+     * @param documents the documents being compiled by a worker
+     */
+    public PendingChunk(List<UUID> itemIds, Future<List<SolrInputDocument>> documents) {
+        this.itemIds = itemIds;
+        this.documents = documents;
+    }
+
+    /**
+     * @return true if the worker has completed the chunk
+     */
+    public boolean isDone() {
+        return documents.isDone();
+    }
+
+    /**
+     * Wait for the documents compiled by the worker, compiling the chunk again with the given compiler if the
+     * worker failed.
+     *
+     * @param compiler the compiler of the chunk in the current thread
+     * @return the compiled documents
+     * @throws InterruptedException if interrupted while waiting for the worker
+     * @throws SQLException         if the chunk can't be compiled again
+     * @throws IOException          if the chunk can't be compiled again
+     */
+    public List<SolrInputDocument> getDocuments(ChunkCompiler compiler)
+            throws InterruptedException, SQLException, IOException {
+        try {
+            return documents.get();
+        } catch (ExecutionException ex) {
+            log.warn("Unable to compile a chunk of " + itemIds.size() + " items in a worker, "
+                    + "compiling it in the importing thread", ex.getCause());
+            return compiler.compile(itemIds);
+        }
+    }
+
+    /**
+     * Compiler of the documents of the items of a chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkCompiler {
+
+        List<SolrInputDocument> compile(List<UUID> itemIds) throws SQLException, IOException;
+    }
+}
@@ -9,7 +9,6 @@ package org.dspace.xoai.app;
 
 import static com.lyncode.xoai.dataprovider.core.Granularity.Second;
 import static java.util.Objects.nonNull;
-import static org.apache.commons.lang.StringUtils.EMPTY;
 import static org.apache.solr.common.params.CursorMarkParams.CURSOR_MARK_PARAM;
 import static org.apache.solr.common.params.CursorMarkParams.CURSOR_MARK_START;
 import static org.dspace.xoai.util.ItemUtils.retrieveMetadata;
@@ -18,16 +17,26 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import javax.xml.stream.XMLStreamException;
 
+import com.google.common.collect.AbstractIterator;
 import com.lyncode.xoai.dataprovider.exceptions.ConfigurationException;
 import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
 import com.lyncode.xoai.dataprovider.xml.XmlOutputContext;
@@ -37,6 +46,7 @@ import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
 import org.apache.commons.cli.Options;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.solr.client.solrj.SolrClient;
@@ -88,6 +98,14 @@ public class XOAI {
     private final Context context;
     private final boolean verbose;
     private boolean clean;
+    private int threads = 1;
+
+    /*
+     * The sets and the handles of the items changed by an incremental import, whose
+     * cached OAI responses have to be deleted. Null when all the responses are deleted.
+     */
+    private Set<String> changedSets;
+    private Set<String> changedItems;
 
     @Autowired
     private SolrServerResolver solrServerResolver;
@@ -106,7 +124,7 @@ public class XOAI {
 
     private final List<XOAIExtensionItemCompilePlugin> extensionPlugins;
 
-    private List<String> getFileFormats(Item item) {
+    private List<String> getFileFormats(Context context, Item item) {
         List<String> formats = new ArrayList<>();
         try {
             for (Bundle b : itemService.getBundles(item, "ORIGINAL")) {
@@ -149,6 +167,17 @@ public class XOAI {
         System.out.println(line);
     }
 
+    /**
+     * Set the number of threads compiling the items during the import. With more than one thread, the items are
+     * compiled concurrently by workers with their own read-only context, while the documents are added to the
+     * OAI core by the importing thread only.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
     public int index() throws DSpaceSolrIndexerException {
         int result;
 
@@ -182,6 +211,8 @@ public class XOAI {
 
     private int index(Date last) throws DSpaceSolrIndexerException, IOException {
         System.out.println("Incremental import. Searching for documents modified after: " + last.toString());
+        changedSets = ConcurrentHashMap.newKeySet();
+        changedItems = ConcurrentHashMap.newKeySet();
         /*
          * Index all changed or new items or items whose visibility is viable to change
          * due to an embargo.
@@ -196,61 +227,23 @@ public class XOAI {
                     + this.index(possiblyChangedItems);
         } catch (SQLException ex) {
             throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
+        } catch (PossiblyChangedItemsException ex) {
+            throw new DSpaceSolrIndexerException(ex.getMessage(), ex.getCause());
         }
     }
 
     /**
      * Get all items already in the index which are viable to change visibility due
      * to an embargo. Only consider those which haven't been modified anyways since
-     * the last update, so they aren't updated twice in one import run.
+     * the last update, so they aren't updated twice in one import run. The items are
+     * streamed one cursor page at a time, so they are never all loaded in memory.
      *
      * @param last maximum date for an item to be considered for an update
      * @return Iterator over list of items which might have changed their visibility
      *         since the last update.
-     * @throws DSpaceSolrIndexerException e
      */
-    private Iterator<Item> getItemsWithPossibleChangesBefore(Date last) throws DSpaceSolrIndexerException, IOException {
-        try {
-            SolrQuery params = new SolrQuery("item.willChangeStatus:true").addField("item.id").setRows(100)
-                    .addSort("item.handle", SolrQuery.ORDER.asc);
-            SolrClient solrClient = solrServerResolver.getServer();
-
-            List<Item> items = new LinkedList<>();
-            boolean done = false;
-            /*
-             * Using solr cursors to paginate and prevent the query from returning 10
-             * SolrDocument objects only.
-             */
-            String cursorMark = CURSOR_MARK_START;
-            String nextCursorMark = EMPTY;
-
-            while (!done) {
-                params.set(CURSOR_MARK_PARAM, cursorMark);
-                QueryResponse response = solrClient.query(params);
-                nextCursorMark = response.getNextCursorMark();
-
-                for (SolrDocument document : response.getResults()) {
-                    Item item = itemService.find(context, UUID.fromString((String) document.getFieldValue("item.id")));
-                    if (nonNull(item)) {
-                        if (nonNull(item.getLastModified())) {
-                            if (item.getLastModified().before(last)) {
-                                items.add(item);
-                            }
-                        } else {
-                            log.warn("Skipping item with id " + item.getID());
-                        }
-                    }
-                }
-
-                if (cursorMark.equals(nextCursorMark)) {
-                    done = true;
-                }
-                cursorMark = nextCursorMark;
-            }
-            return items.iterator();
-        } catch (SolrServerException | SQLException ex) {
-            throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
-        }
+    private Iterator<Item> getItemsWithPossibleChangesBefore(Date last) {
+        return new PossiblyChangedItemIterator(last);
     }
 
     private int indexAll() throws DSpaceSolrIndexerException {
@@ -270,67 +263,60 @@ public class XOAI {
     }
 
     /**
-     * Check if an item is already indexed. Using this, it is possible to check if
-     * withdrawn or nondiscoverable items have to be indexed at all.
+     * Get the status of the given items in the index with a single query. Using this, it is possible to check if
+     * withdrawn or nondiscoverable items have to be indexed at all, and if they are flagged visible.
      *
-     * @param item Item that should be checked for its presence in the index.
-     * @return has it been indexed?
+     * @param items Items that should be checked for their presence in the index.
+     * @return the item.public flag of the indexed items by id, the items missing from the map are not indexed
      */
-    private boolean checkIfIndexed(Item item) throws IOException {
-        SolrQuery params = new SolrQuery("item.id:" + item.getID().toString()).addField("item.id");
-        try {
-            SolrDocumentList documents = DSpaceSolrSearch.query(solrServerResolver.getServer(), params);
-            return documents.getNumFound() == 1;
-        } catch (DSpaceSolrException | SolrServerException e) {
-            return false;
+    private Map<String, Boolean> getIndexedVisibility(List<Item> items) throws IOException {
+        Map<String, Boolean> indexedVisibility = new HashMap<>();
+        if (items.isEmpty()) {
+            return indexedVisibility;
+        }
+        String ids = items.stream().map(item -> item.getID().toString()).collect(Collectors.joining(","));
+        SolrQuery params = new SolrQuery("{!terms f=item.id}" + ids).addField("item.id").addField("item.public")
+                .setRows(items.size());
+        if (changedSets != null) {
+            // the sets the items belonged to, to delete the cached responses still listing them
+            params.addField("item.collections").addField("item.communities");
         }
-    }
-
-    /**
-     * Check if an item is flagged visible in the index.
-     *
-     * @param item Item that should be checked for its presence in the index.
-     * @return has it been indexed?
-     */
-    private boolean checkIfVisibleInOAI(Item item) throws IOException {
-        SolrQuery params = new SolrQuery("item.id:" + item.getID().toString()).addField("item.public");
         try {
-            SolrDocumentList documents = DSpaceSolrSearch.query(solrServerResolver.getServer(), params);
-            if (documents.getNumFound() == 1) {
-                return (boolean) documents.get(0).getFieldValue("item.public");
-            } else {
-                return false;
+            for (SolrDocument document : DSpaceSolrSearch.query(solrServerResolver.getServer(), params)) {
+                indexedVisibility.put(String.valueOf(document.getFieldValue("item.id")),
+                        (Boolean) document.getFieldValue("item.public"));
+                addChangedSets(document.getFieldValues("item.collections"));
+                addChangedSets(document.getFieldValues("item.communities"));
             }
         } catch (DSpaceSolrException | SolrServerException e) {
-            return false;
+            // consider the items not indexed, as done checking them one by one
+            log.warn("Unable to check the status of the items in the index: " + e.getMessage());
         }
+        return indexedVisibility;
     }
 
     private int index(Iterator<Item> iterator) throws DSpaceSolrIndexerException {
+        if (threads > 1) {
+            return indexConcurrently(iterator);
+        }
         try {
             int i = 0;
             int batchSize = configurationService.getIntProperty("oai.import.batch.size", 1000);
+            int chunkSize = getChunkSize();
             SolrClient server = solrServerResolver.getServer();
             ArrayList<SolrInputDocument> list = new ArrayList<>();
+            List<Item> chunk = new ArrayList<>(chunkSize);
             while (iterator.hasNext()) {
-                try {
-                    Item item = iterator.next();
-                    if (item.getHandle() == null) {
-                        log.warn("Skipped item without handle: " + item.getID());
-                    } else {
-                        list.add(this.index(item));
-                    }
-                    // Uncache the item to keep memory consumption low
-                    context.uncacheEntity(item);
-
-                } catch (SQLException | IOException | XMLStreamException | WritingXmlException ex) {
-                    log.error(ex.getMessage(), ex);
-                }
+                chunk.add(iterator.next());
                 i++;
+                if (chunk.size() >= chunkSize || !iterator.hasNext()) {
+                    list.addAll(compileItems(context, chunk));
+                    chunk.clear();
+                }
                 if (i % 1000 == 0 && batchSize != 1000) {
                     System.out.println(i + " items imported so far...");
                 }
-                if (i % batchSize == 0) {
+                if (list.size() >= batchSize) {
                     System.out.println(i + " items imported so far...");
                     server.add(list);
                     server.commit();
@@ -346,21 +332,163 @@ public class XOAI {
                 list.clear();
             }
             return i;
-        } catch (SolrServerException | IOException ex) {
+        } catch (SolrServerException | IOException | SQLException ex) {
+            throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Index the items concurrently. The UUIDs of the items are split in chunks of contiguous ids, each chunk is
+     * compiled by a worker thread with its own read-only context, and the resulting documents are added to the OAI
+     * core in batches by the current thread, which is the only one writing to Solr. The number of pending chunks
+     * is bounded, so that the compiled documents waiting to be added don't exhaust the memory. The chunks whose
+     * worker fails are compiled again by the current thread, see {@link PendingChunk}.
+     *
+     * @param iterator the items to index
+     * @return the number of processed items
+     * @throws DSpaceSolrIndexerException if the documents can't be added to Solr
+     */
+    private int indexConcurrently(Iterator<Item> iterator) throws DSpaceSolrIndexerException {
+        int batchSize = configurationService.getIntProperty("oai.import.batch.size", 1000);
+        int chunkSize = getChunkSize();
+        System.out.println("Compiling the items with " + threads + " threads");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+            new BasicThreadFactory.Builder().namingPattern("oai-import-%d").daemon(true).build());
+        Deque<PendingChunk> pending = new ArrayDeque<>();
+        List<SolrInputDocument> list = new ArrayList<>();
+        long start = System.currentTimeMillis();
+        int i = 0;
+        int added = 0;
+        try {
+            SolrClient server = solrServerResolver.getServer();
+            List<UUID> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                Item item = iterator.next();
+                chunk.add(item.getID());
+                // Uncache the item to keep memory consumption low
+                context.uncacheEntity(item);
+                i++;
+                if (chunk.size() >= chunkSize || !iterator.hasNext()) {
+                    List<UUID> itemIds = chunk;
+                    pending.add(new PendingChunk(itemIds, executor.submit(() -> compileChunk(itemIds))));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+                // wait for the oldest chunk when the workers fall behind, otherwise take the completed ones only
+                while (!pending.isEmpty() && (pending.size() > threads * 2 || pending.peekFirst().isDone())) {
+                    list.addAll(pending.pollFirst().getDocuments(this::recompileChunk));
+                    if (list.size() >= batchSize) {
+                        added += addAndCommit(server, list, start, added);
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                list.addAll(pending.pollFirst().getDocuments(this::recompileChunk));
+                if (list.size() >= batchSize) {
+                    added += addAndCommit(server, list, start, added);
+                }
+            }
+            System.out.println("Total: " + i + " items");
+            if (i > 0) {
+                if (!list.isEmpty()) {
+                    server.add(list);
+                }
+                server.commit(true, true);
+                list.clear();
+            }
+            return i;
+        } catch (SolrServerException | IOException | SQLException ex) {
             throw new DSpaceSolrIndexerException(ex.getMessage(), ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DSpaceSolrIndexerException("Interrupted while compiling the items", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compile the documents of the items with the given ids, using a new read-only context bound to the current
+     * thread. The items are resolved with a single query.
+     */
+    private List<SolrInputDocument> compileChunk(List<UUID> itemIds) throws SQLException, IOException {
+        Context workerContext = new Context(Context.Mode.READ_ONLY);
+        try {
+            return compileItems(workerContext, itemService.findAllByIds(workerContext, itemIds));
+        } finally {
+            workerContext.abort();
         }
     }
 
+    /**
+     * Compile the documents of the items with the given ids in the current thread, when their worker failed.
+     */
+    private List<SolrInputDocument> recompileChunk(List<UUID> itemIds) throws SQLException, IOException {
+        return compileItems(context, itemService.findAllByIds(context, itemIds));
+    }
+
+    /**
+     * Compile the documents of the given items, checking their current status in the index with a single query.
+     * The items that can't be compiled are logged and skipped, and all the items are uncached to keep memory
+     * consumption low.
+     */
+    private List<SolrInputDocument> compileItems(Context context, List<Item> items) throws SQLException, IOException {
+        Map<String, Boolean> indexedVisibility = getIndexedVisibility(items);
+        List<SolrInputDocument> documents = new ArrayList<>(items.size());
+        for (Item item : items) {
+            try {
+                if (item.getHandle() == null) {
+                    log.warn("Skipped item without handle: " + item.getID());
+                } else {
+                    SolrInputDocument document = this.index(context, item, indexedVisibility);
+                    documents.add(document);
+                    if (changedItems != null) {
+                        changedItems.add(item.getHandle());
+                        addChangedSets(document.getFieldValues("item.collections"));
+                        addChangedSets(document.getFieldValues("item.communities"));
+                    }
+                }
+            } catch (SQLException | IOException | XMLStreamException | WritingXmlException ex) {
+                log.error(ex.getMessage(), ex);
+            }
+            context.uncacheEntity(item);
+        }
+        return documents;
+    }
+
+    private void addChangedSets(java.util.Collection<Object> sets) {
+        if (changedSets != null && sets != null) {
+            sets.forEach(set -> changedSets.add(String.valueOf(set)));
+        }
+    }
+
+    private int getChunkSize() {
+        return Math.max(1, configurationService.getIntProperty("oai.import.chunk.size", 100));
+    }
+
+    private int addAndCommit(SolrClient server, List<SolrInputDocument> list, long start, int added)
+            throws SolrServerException, IOException {
+        int size = list.size();
+        server.add(list);
+        server.commit();
+        list.clear();
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        System.out.println((added + size) + " items imported so far (" + ((added + size) * 1000L / elapsed)
+            + " items/s)...");
+        return size;
+    }
+
     /**
      * Method to get the most recent date on which the item changed concerning the
      * OAI deleted status (policy start and end dates for all anonymous READ
      * policies and the standard last modification date)
      *
+     * @param context the context used to read the policies
      * @param item Item
      * @return date
      * @throws SQLException e
      */
-    private Date getMostRecentModificationDate(Item item) throws SQLException {
+    private Date getMostRecentModificationDate(Context context, Item item) throws SQLException {
         List<Date> dates = new LinkedList<>();
         List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, item, Constants.READ);
         for (ResourcePolicy policy : policies) {
@@ -386,7 +514,7 @@ public class XOAI {
         return lastChange;
     }
 
-    private SolrInputDocument index(Item item)
+    private SolrInputDocument index(Context context, Item item, Map<String, Boolean> indexedVisibility)
             throws SQLException, IOException, XMLStreamException, WritingXmlException {
         SolrInputDocument doc = new SolrInputDocument();
         doc.addField("item.id", item.getID().toString());
@@ -398,9 +526,9 @@ public class XOAI {
             doc.addField("item.legacyoaiidentifier", legacyOaiId.split(":")[2]);
         }
 
-        boolean isEmbargoed = !this.isPublic(item);
-        boolean isCurrentlyVisible = this.checkIfVisibleInOAI(item);
-        boolean isIndexed = this.checkIfIndexed(item);
+        boolean isEmbargoed = !this.isPublic(context, item);
+        boolean isCurrentlyVisible = Boolean.TRUE.equals(indexedVisibility.get(item.getID().toString()));
+        boolean isIndexed = indexedVisibility.containsKey(item.getID().toString());
 
         /*
          * If the item is not under embargo, it should be visible. If it is, make it
@@ -421,7 +549,7 @@ public class XOAI {
         // if the visibility of the item will change in the future due to an
         // embargo, mark it as such.
 
-        doc.addField("item.willChangeStatus", willChangeStatus(item));
+        doc.addField("item.willChangeStatus", willChangeStatus(context, item));
 
         /*
          * Mark an item as deleted not only if it is withdrawn, but also if it is made
@@ -441,7 +569,7 @@ public class XOAI {
          * date and take the most recent of those which have already passed.
          */
         doc.addField("item.lastmodified",
-                SolrUtils.getDateFormatter().format(this.getMostRecentModificationDate(item)));
+                SolrUtils.getDateFormatter().format(this.getMostRecentModificationDate(context, item)));
 
         if (item.getSubmitter() != null) {
             doc.addField("item.submitter", item.getSubmitter().getEmail());
@@ -468,7 +596,7 @@ public class XOAI {
             }
         }
 
-        for (String f : getFileFormats(item)) {
+        for (String f : getFileFormats(context, item)) {
             doc.addField("metadata.dc.format.mimetype", f);
         }
 
@@ -498,7 +626,7 @@ public class XOAI {
         return doc;
     }
 
-    private boolean willChangeStatus(Item item) throws SQLException {
+    private boolean willChangeStatus(Context context, Item item) throws SQLException {
         List<ResourcePolicy> policies = authorizeService.getPoliciesActionFilter(context, item, Constants.READ);
         for (ResourcePolicy policy : policies) {
             if ((policy.getGroup() != null) && (policy.getGroup().getName().equals("Anonymous"))) {
@@ -514,7 +642,7 @@ public class XOAI {
         return false;
     }
 
-    private boolean isPublic(Item item) {
+    private boolean isPublic(Context context, Item item) {
         boolean pub = false;
         try {
             // Check if READ access allowed on this Item
@@ -563,6 +691,22 @@ public class XOAI {
         xoaiCacheService.deleteAll();
     }
 
+    /**
+     * Purge the cached OAI responses depending on the sets and the items changed by the
+     * import, or all of them after a full import.
+     */
+    private void cleanChangedCache(XOAIItemCacheService xoaiItemCacheService, XOAICacheService xoaiCacheService)
+            throws IOException {
+        if (changedSets == null || changedItems == null) {
+            cleanCache(xoaiItemCacheService, xoaiCacheService);
+            return;
+        }
+        System.out.println("Purging cached OAI responses of " + changedItems.size() + " items in "
+                + changedSets.size() + " sets.");
+        xoaiItemCacheService.deleteAll();
+        xoaiCacheService.delete(changedSets, changedItems);
+    }
+
     private static final String COMMAND_IMPORT = "import";
     private static final String COMMAND_CLEAN_CACHE = "clean-cache";
     private static final String COMMAND_COMPILE_ITEMS = "compile-items";
@@ -585,6 +729,7 @@ public class XOAI {
             options.addOption("v", "verbose", false, "Verbose output");
             options.addOption("h", "help", false, "Shows some help");
             options.addOption("n", "number", true, "FOR DEVELOPMENT MUST DELETE");
+            options.addOption("t", "threads", true, "Number of threads compiling the items");
             CommandLine line = parser.parse(options, argv);
 
             String[] validSolrCommands = { COMMAND_IMPORT, COMMAND_CLEAN_CACHE };
@@ -606,6 +751,13 @@ public class XOAI {
                 }
             }
 
+            Integer threads = line.hasOption('t') ? parsePositiveInteger(line.getOptionValue('t'))
+                : Integer.valueOf(configurationService.getIntProperty("oai.import.threads", 1));
+            if (threads == null) {
+                System.out.println("The number of threads must be a positive integer: " + line.getOptionValue('t'));
+                run = false;
+            }
+
             if (!line.hasOption('h') && run) {
                 System.out.println("OAI 2.0 manager action started");
                 long start = System.currentTimeMillis();
@@ -615,12 +767,13 @@ public class XOAI {
                 if (COMMAND_IMPORT.equals(command)) {
                     ctx = new Context(Context.Mode.READ_ONLY);
                     XOAI indexer = new XOAI(ctx, line.hasOption('c'), line.hasOption('v'));
+                    indexer.setThreads(threads);
 
                     applicationContext.getAutowireCapableBeanFactory().autowireBean(indexer);
 
                     int imported = indexer.index();
                     if (imported > 0) {
-                        cleanCache(itemCacheService, cacheService);
+                        indexer.cleanChangedCache(itemCacheService, cacheService);
                     }
                 } else if (COMMAND_CLEAN_CACHE.equals(command)) {
                     cleanCache(itemCacheService, cacheService);
@@ -656,6 +809,24 @@ public class XOAI {
         }
     }
 
+    /**
+     * Parse the given value as a positive integer.
+     *
+     * @param value the value to parse
+     * @return the parsed integer, or null if the value is not a positive integer
+     */
+    private static Integer parsePositiveInteger(String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        return null;
+    }
+
     private static void cleanCompiledItems(XOAIItemCacheService itemCacheService) throws IOException {
         System.out.println("Purging compiled items");
         itemCacheService.deleteAll();
@@ -701,6 +872,8 @@ public class XOAI {
             System.out.println("     " + COMMAND_CLEAN_CACHE + " - Cleans the OAI cached responses");
             System.out.println("> Parameters:");
             System.out.println("     -c Clear index (" + COMMAND_IMPORT + " only)");
+            System.out.println("     -t Number of threads compiling the items, a positive integer ("
+                + COMMAND_IMPORT + " only)");
             System.out.println("     -v Verbose output");
             System.out.println("     -h Shows this text");
         } else {
@@ -716,4 +889,80 @@ public class XOAI {
         }
     }
 
+    /**
+     * Iterator over the indexed items flagged with item.willChangeStatus. Solr cursors are
+     * used to paginate, the ids of each page are resolved with a single query and the items
+     * modified after the given date, which are indexed anyway, are skipped.
+     */
+    private class PossiblyChangedItemIterator extends AbstractIterator<Item> {
+
+        private final Date last;
+
+        private final SolrQuery params;
+
+        private String cursorMark = CURSOR_MARK_START;
+
+        private boolean done = false;
+
+        private Iterator<Item> page = Collections.emptyIterator();
+
+        private PossiblyChangedItemIterator(Date last) {
+            this.last = last;
+            this.params = new SolrQuery("item.willChangeStatus:true").addField("item.id").setRows(getChunkSize())
+                    .addSort("item.handle", SolrQuery.ORDER.asc);
+        }
+
+        @Override
+        protected Item computeNext() {
+            while (!page.hasNext()) {
+                if (done) {
+                    return endOfData();
+                }
+                page = nextPage();
+            }
+            return page.next();
+        }
+
+        private Iterator<Item> nextPage() {
+            try {
+                params.set(CURSOR_MARK_PARAM, cursorMark);
+                QueryResponse response = solrServerResolver.getServer().query(params);
+                String nextCursorMark = response.getNextCursorMark();
+                done = cursorMark.equals(nextCursorMark);
+                cursorMark = nextCursorMark;
+
+                List<UUID> ids = new ArrayList<>();
+                for (SolrDocument document : response.getResults()) {
+                    ids.add(UUID.fromString(String.valueOf(document.getFieldValue("item.id"))));
+                }
+                List<Item> items = new ArrayList<>(ids.size());
+                for (Item item : itemService.findAllByIds(context, ids)) {
+                    if (nonNull(item.getLastModified()) && item.getLastModified().before(last)) {
+                        items.add(item);
+                    } else {
+                        if (item.getLastModified() == null) {
+                            log.warn("Skipping item with id " + item.getID());
+                        }
+                        context.uncacheEntity(item);
+                    }
+                }
+                return items.iterator();
+            } catch (SolrServerException | IOException | SQLException ex) {
+                throw new PossiblyChangedItemsException("Unable to retrieve the items which might have changed "
+                        + "their visibility: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Unchecked wrapper of the failures of {@link PossiblyChangedItemIterator},
+     * rethrown as {@link DSpaceSolrIndexerException} by {@link #index(Date)}.
+     */
+    private static class PossiblyChangedItemsException extends RuntimeException {
+
+        private PossiblyChangedItemsException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
 }
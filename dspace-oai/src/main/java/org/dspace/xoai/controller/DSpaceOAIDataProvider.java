@@ -30,6 +30,7 @@ import com.lyncode.xoai.dataprovider.exceptions.OAIException;
 import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
 import org.apache.logging.log4j.Logger;
 import org.dspace.core.Context;
+import org.dspace.xoai.services.api.cache.XOAICacheScope;
 import org.dspace.xoai.services.api.cache.XOAICacheService;
 import org.dspace.xoai.services.api.config.XOAIManagerResolver;
 import org.dspace.xoai.services.api.config.XOAIManagerResolverException;
@@ -107,7 +108,8 @@ public class DSpaceOAIDataProvider {
                                                                resumptionTokenFormat);
 
             OutputStream out = response.getOutputStream();
-            OAIRequestParameters parameters = new OAIRequestParameters(buildParametersMap(request));
+            Map<String, List<String>> parametersMap = buildParametersMap(request);
+            OAIRequestParameters parameters = new OAIRequestParameters(parametersMap);
 
             response.setContentType("text/xml");
             response.setCharacterEncoding("UTF-8");
@@ -116,7 +118,8 @@ public class DSpaceOAIDataProvider {
 
             if (cacheService.isActive()) {
                 if (!cacheService.hasCache(identification)) {
-                    cacheService.store(identification, dataProvider.handle(parameters));
+                    cacheService.store(identification, XOAICacheScope.of(parametersMap),
+                                       dataProvider.handle(parameters));
                 }
 
                 cacheService.handle(identification, out);
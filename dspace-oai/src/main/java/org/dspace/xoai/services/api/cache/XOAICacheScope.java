@@ -0,0 +1,80 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.services.api.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Scopes of the cached OAI responses, i.e. what a response depends on: a single item for the requests with an
+ * identifier, a collection or a community for the requests with its set (directly or in the resumption token), any
+ * item otherwise. The sets defined by filters in xoai.xml (e.g. driver or openaire) are not tracked by the import, so
+ * their responses depend on any item.
+ */
+public final class XOAICacheScope {
+
+    public static final String ANY = "any";
+
+    public static final String SET_PREFIX = "set:";
+
+    public static final String ITEM_PREFIX = "item:";
+
+    private static final String COLLECTION_SET_PREFIX = "col_";
+
+    private static final String COMMUNITY_SET_PREFIX = "com_";
+
+    private XOAICacheScope() { }
+
+    public static String set(String setSpec) {
+        return SET_PREFIX + setSpec;
+    }
+
+    public static String item(String handle) {
+        return ITEM_PREFIX + handle;
+    }
+
+    /**
+     * Get the scope of a request.
+     *
+     * @param parameters the parameters of the OAI request
+     * @return the scope
+     */
+    public static String of(Map<String, List<String>> parameters) {
+        String identifier = getParameter(parameters, "identifier");
+        if (identifier != null) {
+            // the identifiers are oai:<repository identifier>:<handle>
+            return item(identifier.substring(identifier.lastIndexOf(':') + 1));
+        }
+        String set = getParameter(parameters, "set");
+        String resumptionToken = getParameter(parameters, "resumptionToken");
+        if (set == null && resumptionToken != null) {
+            // see DSpaceResumptionTokenFormatter, the tokens are prefix/from/until/set/offset
+            String[] token = resumptionToken.split("/", -1);
+            set = token.length == 5 ? StringUtils.trimToNull(token[3]) : null;
+        }
+        return isContainerSet(set) ? set(set) : ANY;
+    }
+
+    /**
+     * Check if the given set is the set of a collection or of a community, whose changes are tracked by the import.
+     *
+     * @param setSpec the spec of the set, may be null
+     * @return true if the set is the set of a collection or of a community
+     */
+    public static boolean isContainerSet(String setSpec) {
+        return setSpec != null
+            && (setSpec.startsWith(COLLECTION_SET_PREFIX) || setSpec.startsWith(COMMUNITY_SET_PREFIX));
+    }
+
+    private static String getParameter(Map<String, List<String>> parameters, String name) {
+        List<String> values = parameters.get(name);
+        return values != null && !values.isEmpty() ? StringUtils.trimToNull(values.get(0)) : null;
+    }
+}
@@ -9,6 +9,7 @@ package org.dspace.xoai.services.api.cache;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collection;
 
 import com.lyncode.xoai.dataprovider.xml.oaipmh.OAIPMH;
 
@@ -22,7 +23,28 @@ public interface XOAICacheService {
 
     void store(String requestID, OAIPMH response) throws IOException;
 
+    /**
+     * Store the response of a request, tagged with the scope of the request (see
+     * {@link XOAICacheScope}) so that it can be deleted
+     * when the set or the item it depends on changes.
+     */
+    default void store(String requestID, String scope, OAIPMH response) throws IOException {
+        store(requestID, response);
+    }
+
     void delete(String requestID);
 
     void deleteAll() throws IOException;
+
+    /**
+     * Delete the responses depending on the given sets or items, together with the ones
+     * depending on any item (e.g. the lists of records without a set or with a set defined
+     * by a filter).
+     *
+     * @param sets    the specs of the changed sets
+     * @param handles the handles of the changed items
+     */
+    default void delete(Collection<String> sets, Collection<String> handles) throws IOException {
+        deleteAll();
+    }
 }
@@ -8,17 +8,29 @@
 package org.dspace.xoai.services.impl.cache;
 
 import static com.lyncode.xoai.dataprovider.core.Granularity.Second;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 import static org.apache.commons.io.IOUtils.copy;
 import static org.apache.commons.io.IOUtils.write;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
 import javax.xml.stream.XMLStreamException;
 
 import com.lyncode.xoai.dataprovider.core.XOAIManager;
@@ -26,21 +38,51 @@ import com.lyncode.xoai.dataprovider.exceptions.WritingXmlException;
 import com.lyncode.xoai.dataprovider.xml.XmlOutputContext;
 import com.lyncode.xoai.dataprovider.xml.oaipmh.OAIPMH;
 import com.lyncode.xoai.util.Base64Utils;
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.dspace.xoai.services.api.cache.XOAICacheScope;
 import org.dspace.xoai.services.api.cache.XOAICacheService;
 import org.dspace.xoai.services.api.config.ConfigurationService;
 import org.dspace.xoai.util.DateUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 
-
+/**
+ * Two tiers cache of the OAI responses. The responses are stored on disk, in a directory for each scope (see
+ * {@link XOAICacheScope}), so that the responses depending on the changed sets and items can be deleted by the
+ * import without wiping the whole cache. The size of the disk tier is bounded by
+ * <code>oai.cache.disk.max-size</code>, the least recently used responses being deleted when it is exceeded.
+ * <p>
+ * The most requested responses, e.g. the resumption pages being harvested, are also kept in memory up to
+ * <code>oai.cache.memory.max-size</code> bytes. A response in memory is used only while its file is unchanged on
+ * disk, so the deletions made by the import, which runs in another process, also apply to the memory tier.
+ */
 public class DSpaceXOAICacheService implements XOAICacheService {
+    private static final Logger log = LogManager.getLogger(DSpaceXOAICacheService.class);
+
     private static final String REQUEST_DIR = File.separator + "requests";
+    private static final String RESPONSE_DATE_END = "</responseDate>";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long DEFAULT_MEMORY_MAX_SIZE = 16L * 1024 * 1024;
+    private static final long DEFAULT_DISK_MAX_SIZE = 1024L * 1024 * 1024;
     private static String baseDir;
     private static String staticHead;
 
     @Autowired
     ConfigurationService configurationService;
 
+    /**
+     * The responses kept in memory by request id, in access order.
+     */
+    private final LinkedHashMap<String, MemoryEntry> memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize = 0;
+
+    /**
+     * The responses stored on disk by file name, in access order, loaded scanning the cache directory on first use.
+     */
+    private LinkedHashMap<String, DiskEntry> diskEntries;
+    private long diskSize = 0;
+
     private String getBaseDir() {
         if (baseDir == null) {
             String dir = configurationService.getProperty("oai.cache.dir") + REQUEST_DIR;
@@ -69,14 +111,34 @@ public class DSpaceXOAICacheService implements XOAICacheService {
         this.manager = manager;
     }
 
-    private File getCacheFile(String id) {
-        File dir = new File(getBaseDir());
-        if (!dir.exists()) {
-            dir.mkdirs();
-        }
+    /**
+     * Get the directory of the responses of the given scope, e.g. <code>set/col_123456789_2</code>.
+     */
+    private File getScopeDir(String scope) {
+        String name = scope.replace(':', '/').replaceAll("[^A-Za-z0-9_./-]", "_").replace("..", "_")
+            .replace('/', File.separatorChar);
+        return new File(getBaseDir(), name);
+    }
+
+    private String getFileName(String requestID) {
+        return Base64Utils.encode(requestID);
+    }
 
-        String name = File.separator + Base64Utils.encode(id);
-        return new File(getBaseDir() + name);
+    /**
+     * Get the file of the response of the given request, or null if it is not stored on disk.
+     */
+    private synchronized File getCacheFile(String requestID) {
+        String name = getFileName(requestID);
+        DiskEntry entry = getDiskEntries().get(name);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.file.exists()) {
+            // deleted by the import
+            removeDiskEntry(name);
+            return null;
+        }
+        return entry.file;
     }
 
     @Override
@@ -86,51 +148,298 @@ public class DSpaceXOAICacheService implements XOAICacheService {
 
     @Override
     public boolean hasCache(String requestID) {
-        return this.getCacheFile(requestID).exists();
+        return getMemoryEntry(requestID) != null || getCacheFile(requestID) != null;
     }
 
     @Override
     public void handle(String requestID, OutputStream out) throws IOException {
-        InputStream in = new FileInputStream(this.getCacheFile(requestID));
-        write(getStaticHead(manager, new Date()), out);
-        copy(in, out);
-        in.close();
+        byte[] content = getMemoryEntry(requestID);
+        if (content == null) {
+            File file = getCacheFile(requestID);
+            if (file == null) {
+                throw new FileNotFoundException("No cached response for the request " + requestID);
+            }
+            if (file.length() > getMaxMemoryEntrySize()) {
+                write(getStaticHead(manager, new Date()), out, UTF_8);
+                try (InputStream in = new FileInputStream(file)) {
+                    copy(in, out);
+                }
+                return;
+            }
+            long lastModified = file.lastModified();
+            content = Files.readAllBytes(file.toPath());
+            putMemoryEntry(requestID, new MemoryEntry(file, lastModified, content));
+        }
+        write(getStaticHead(manager, new Date()), out, UTF_8);
+        out.write(content);
     }
 
     @Override
     public void store(String requestID, OAIPMH response) throws IOException {
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        store(requestID, XOAICacheScope.ANY, response);
+    }
+
+    @Override
+    public void store(String requestID, String scope, OAIPMH response) throws IOException {
+        File dir = getScopeDir(scope);
+        dir.mkdirs();
+        File file = new File(dir, getFileName(requestID));
+
+        // the response is streamed to a temporary file, moved when complete so that it is never read partially
+        Path temporaryFile = Files.createTempFile(dir.toPath(), "response", TEMPORARY_SUFFIX);
         try {
-            XmlOutputContext context = XmlOutputContext.emptyContext(output, Second);
-            response.write(context);
-            context.getWriter().flush();
-            context.getWriter().close();
-
-            String xoaiResponse = output.toString();
-
-            // Cutting the header (to allow one to change the response time)
-            String end = "</responseDate>";
-            int pos = xoaiResponse.indexOf(end);
-            if (pos > 0) {
-                xoaiResponse = xoaiResponse.substring(pos + (end.length()));
+            try (OutputStream output = new ResponseBodyOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+                XmlOutputContext context = XmlOutputContext.emptyContext(output, Second);
+                response.write(context);
+                context.getWriter().flush();
+                context.getWriter().close();
+            } catch (XMLStreamException | WritingXmlException e) {
+                throw new IOException(e);
             }
-
-            FileUtils.write(this.getCacheFile(requestID), xoaiResponse);
-        } catch (XMLStreamException e) {
-            throw new IOException(e);
-        } catch (WritingXmlException e) {
-            throw new IOException(e);
+            Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
         }
+
+        removeMemoryEntry(requestID);
+        addDiskEntry(file);
     }
 
     @Override
     public void delete(String requestID) {
-        this.getCacheFile(requestID).delete();
+        removeMemoryEntry(requestID);
+        synchronized (this) {
+            DiskEntry entry = removeDiskEntry(getFileName(requestID));
+            if (entry != null) {
+                entry.file.delete();
+            }
+        }
     }
 
     @Override
-    public void deleteAll() throws IOException {
+    public synchronized void deleteAll() throws IOException {
+        memoryEntries.clear();
+        memorySize = 0;
+        diskEntries = null;
+        diskSize = 0;
         deleteDirectory(new File(getBaseDir()));
     }
 
+    @Override
+    public synchronized void delete(Collection<String> sets, Collection<String> handles) throws IOException {
+        deleteScope(XOAICacheScope.ANY);
+        for (String set : sets) {
+            deleteScope(XOAICacheScope.set(set));
+        }
+        for (String handle : handles) {
+            deleteScope(XOAICacheScope.item(handle));
+        }
+
+        // the responses stored before the scopes were introduced, whose scope is unknown
+        File[] files = new File(getBaseDir()).listFiles(File::isFile);
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        // the memory tier and the index of the disk tier are checked against the files on access
+    }
+
+    private void deleteScope(String scope) throws IOException {
+        File dir = getScopeDir(scope);
+        if (dir.exists()) {
+            deleteDirectory(dir);
+        }
+    }
+
+    private synchronized byte[] getMemoryEntry(String requestID) {
+        MemoryEntry entry = memoryEntries.get(requestID);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.file.lastModified() != entry.lastModified) {
+            // deleted or replaced on disk
+            removeMemoryEntry(requestID);
+            return null;
+        }
+        return entry.content;
+    }
+
+    private synchronized void putMemoryEntry(String requestID, MemoryEntry entry) {
+        removeMemoryEntry(requestID);
+        memoryEntries.put(requestID, entry);
+        memorySize += entry.content.length;
+
+        long maxSize = getLongProperty("oai.cache.memory.max-size", DEFAULT_MEMORY_MAX_SIZE);
+        Iterator<MemoryEntry> iterator = memoryEntries.values().iterator();
+        while (memorySize > maxSize && iterator.hasNext()) {
+            memorySize -= iterator.next().content.length;
+            iterator.remove();
+        }
+    }
+
+    private synchronized void removeMemoryEntry(String requestID) {
+        MemoryEntry entry = memoryEntries.remove(requestID);
+        if (entry != null) {
+            memorySize -= entry.content.length;
+        }
+    }
+
+    /**
+     * Responses larger than a quarter of the memory tier are always read from disk.
+     */
+    private long getMaxMemoryEntrySize() {
+        return getLongProperty("oai.cache.memory.max-size", DEFAULT_MEMORY_MAX_SIZE) / 4;
+    }
+
+    private synchronized Map<String, DiskEntry> getDiskEntries() {
+        if (diskEntries == null) {
+            diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+            diskSize = 0;
+            try (Stream<Path> paths = Files.walk(new File(getBaseDir()).toPath())) {
+                // the least recently modified first, as the least recently used
+                paths.map(Path::toFile)
+                    .filter(file -> file.isFile() && !file.getName().endsWith(TEMPORARY_SUFFIX))
+                    .sorted((file1, file2) -> Long.compare(file1.lastModified(), file2.lastModified()))
+                    .forEach(file -> {
+                        DiskEntry entry = new DiskEntry(file);
+                        diskEntries.put(file.getName(), entry);
+                        diskSize += entry.size;
+                    });
+            } catch (IOException e) {
+                log.debug("Unable to scan the cache directory " + getBaseDir() + ": " + e.getMessage());
+            }
+        }
+        return diskEntries;
+    }
+
+    private synchronized void addDiskEntry(File file) {
+        Map<String, DiskEntry> entries = getDiskEntries();
+        removeDiskEntry(file.getName());
+        DiskEntry entry = new DiskEntry(file);
+        entries.put(file.getName(), entry);
+        diskSize += entry.size;
+
+        long maxSize = getLongProperty("oai.cache.disk.max-size", DEFAULT_DISK_MAX_SIZE);
+        if (maxSize <= 0) {
+            return;
+        }
+        Iterator<DiskEntry> iterator = entries.values().iterator();
+        while (diskSize > maxSize && iterator.hasNext()) {
+            DiskEntry evicted = iterator.next();
+            if (evicted == entry) {
+                break;
+            }
+            diskSize -= evicted.size;
+            evicted.file.delete();
+            iterator.remove();
+        }
+    }
+
+    private synchronized DiskEntry removeDiskEntry(String name) {
+        DiskEntry entry = getDiskEntries().remove(name);
+        if (entry != null) {
+            diskSize -= entry.size;
+        }
+        return entry;
+    }
+
+    private long getLongProperty(String key, long defaultValue) {
+        String value = StringUtils.trimToNull(configurationService.getProperty(key));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value of " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    private static final class MemoryEntry {
+
+        private final File file;
+
+        private final long lastModified;
+
+        private final byte[] content;
+
+        private MemoryEntry(File file, long lastModified, byte[] content) {
+            this.file = file;
+            this.lastModified = lastModified;
+            this.content = content;
+        }
+    }
+
+    private static final class DiskEntry {
+
+        private final File file;
+
+        private final long size;
+
+        private DiskEntry(File file) {
+            this.file = file;
+            this.size = file.length();
+        }
+    }
+
+    /**
+     * Output stream discarding the header of the response up to the response date, which is written when the
+     * response is served, so that the cached response has the right response time.
+     */
+    private static final class ResponseBodyOutputStream extends FilterOutputStream {
+
+        private static final byte[] MARKER = RESPONSE_DATE_END.getBytes(UTF_8);
+
+        private final ByteArrayOutputStream header = new ByteArrayOutputStream();
+
+        private int matched = 0;
+
+        private boolean body = false;
+
+        private ResponseBodyOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (body) {
+                out.write(b);
+                return;
+            }
+            header.write(b);
+            if (b == MARKER[matched]) {
+                matched++;
+            } else {
+                matched = b == MARKER[0] ? 1 : 0;
+            }
+            if (matched == MARKER.length) {
+                body = true;
+                header.reset();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (body) {
+                out.write(b, off, len);
+                return;
+            }
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!body) {
+                // no response date, keep the whole response as it is
+                header.writeTo(out);
+            }
+            super.close();
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.tests.unit.app;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.solr.common.SolrInputDocument;
+import org.dspace.xoai.app.PendingChunk;
+import org.junit.Test;
+
+public class PendingChunkTest {
+
+    private final List<UUID> itemIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    @Test
+    public void compiledDocumentsAreReturned() throws Exception {
+        List<SolrInputDocument> documents = List.of(document("a"), document("b"));
+        PendingChunk chunk = new PendingChunk(itemIds, CompletableFuture.completedFuture(documents));
+
+        assertThat(chunk.isDone(), is(true));
+        assertThat(chunk.getDocuments(ids -> {
+            fail("The chunk compiled by the worker must not be compiled again");
+            return null;
+        }), is(documents));
+    }
+
+    @Test
+    public void failedChunkIsCompiledAgain() throws Exception {
+        CompletableFuture<List<SolrInputDocument>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new SQLException("No connection available"));
+        PendingChunk chunk = new PendingChunk(itemIds, failed);
+
+        List<UUID> compiledIds = new ArrayList<>();
+        List<SolrInputDocument> documents = chunk.getDocuments(ids -> {
+            compiledIds.addAll(ids);
+            return List.of(document("a"), document("b"));
+        });
+
+        // the items of the chunk are not dropped
+        assertThat(compiledIds, is(itemIds));
+        assertThat(documents.size(), is(2));
+    }
+
+    @Test
+    public void failureOfTheSecondCompilationIsPropagated() {
+        CompletableFuture<List<SolrInputDocument>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new SQLException("No connection available"));
+        PendingChunk chunk = new PendingChunk(itemIds, failed);
+
+        SQLException ex = assertThrows(SQLException.class, () -> chunk.getDocuments(ids -> {
+            throw new SQLException("Still no connection available");
+        }));
+        assertThat(ex.getMessage(), is("Still no connection available"));
+    }
+
+    private SolrInputDocument document(String id) {
+        SolrInputDocument document = new SolrInputDocument();
+        document.addField("item.id", id);
+        return document;
+    }
+}
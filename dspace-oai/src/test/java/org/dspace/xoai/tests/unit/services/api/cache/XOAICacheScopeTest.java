@@ -0,0 +1,82 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.tests.unit.services.api.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dspace.xoai.services.api.cache.XOAICacheScope;
+import org.junit.Test;
+
+public class XOAICacheScopeTest {
+
+    @Test
+    public void identifierScope() {
+        assertEquals("item:123456789/10",
+                     XOAICacheScope.of(parameters("verb", "GetRecord", "identifier", "oai:localhost:123456789/10",
+                                                  "metadataPrefix", "oai_dc")));
+    }
+
+    @Test
+    public void collectionSetScope() {
+        assertEquals("set:col_123456789_2",
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "set", "col_123456789_2",
+                                                  "metadataPrefix", "oai_dc")));
+        assertEquals("set:com_123456789_1",
+                     XOAICacheScope.of(parameters("verb", "ListIdentifiers", "set", "com_123456789_1",
+                                                  "metadataPrefix", "oai_dc")));
+    }
+
+    @Test
+    public void filterSetScope() {
+        // the sets defined by filters are not tracked by the import
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "set", "driver",
+                                                  "metadataPrefix", "oai_dc")));
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "set", "openaire_cris_publications",
+                                                  "metadataPrefix", "oai_cerif_openaire")));
+    }
+
+    @Test
+    public void resumptionTokenWithSetScope() {
+        assertEquals("set:col_123456789_2",
+                     XOAICacheScope.of(parameters("verb", "ListRecords",
+                                                  "resumptionToken", "oai_dc///col_123456789_2/100")));
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords",
+                                                  "resumptionToken", "oai_dc///openaire/100")));
+    }
+
+    @Test
+    public void resumptionTokenWithoutSetScope() {
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "resumptionToken", "oai_dc////100")));
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "resumptionToken", "malformed")));
+    }
+
+    @Test
+    public void noSetScope() {
+        assertEquals(XOAICacheScope.ANY,
+                     XOAICacheScope.of(parameters("verb", "ListRecords", "metadataPrefix", "oai_dc")));
+        assertEquals(XOAICacheScope.ANY, XOAICacheScope.of(parameters("verb", "Identify")));
+    }
+
+    private Map<String, List<String>> parameters(String... namesAndValues) {
+        Map<String, List<String>> parameters = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            parameters.put(namesAndValues[i], Collections.singletonList(namesAndValues[i + 1]));
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.xoai.tests.unit.services.impl.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.lyncode.xoai.dataprovider.core.XOAIManager;
+import com.lyncode.xoai.dataprovider.xml.XmlOutputContext;
+import com.lyncode.xoai.dataprovider.xml.oaipmh.OAIPMH;
+import com.lyncode.xoai.util.Base64Utils;
+import org.apache.commons.lang3.StringUtils;
+import org.dspace.xoai.services.api.cache.XOAICacheScope;
+import org.dspace.xoai.services.api.config.ConfigurationService;
+import org.dspace.xoai.services.impl.cache.DSpaceXOAICacheService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class DSpaceXOAICacheServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ConfigurationService configurationService = mock(ConfigurationService.class);
+
+    private DSpaceXOAICacheService cacheService;
+
+    @Before
+    public void setUp() throws IOException {
+        // the directory of the cache is kept in a static field
+        ReflectionTestUtils.setField(DSpaceXOAICacheService.class, "baseDir", null);
+        when(configurationService.getProperty("oai.cache.dir")).thenReturn(folder.getRoot().getAbsolutePath());
+
+        XOAIManager manager = mock(XOAIManager.class);
+        when(manager.hasStyleSheet()).thenReturn(false);
+        cacheService = new DSpaceXOAICacheService(manager);
+        ReflectionTestUtils.setField(cacheService, "configurationService", configurationService);
+    }
+
+    @After
+    public void tearDown() {
+        ReflectionTestUtils.setField(DSpaceXOAICacheService.class, "baseDir", null);
+    }
+
+    @Test
+    public void memoryTierIsBounded() throws Exception {
+        // each response takes about 110 bytes, the memory tier holds four of them
+        when(configurationService.getProperty("oai.cache.memory.max-size")).thenReturn("500");
+
+        for (String id : Arrays.asList("a", "b", "c", "d", "e")) {
+            cacheService.store(id, response(id));
+            assertTrue(handle(id).contains(body(id)));
+        }
+
+        // the files are replaced keeping their modification time, so only the responses read from disk change
+        for (String id : Arrays.asList("a", "b", "c", "d", "e")) {
+            File file = getCacheFile(XOAICacheScope.ANY, id);
+            long lastModified = file.lastModified();
+            Files.write(file.toPath(), StringUtils.repeat('z', (int) file.length()).getBytes(UTF_8));
+            file.setLastModified(lastModified);
+        }
+
+        for (String id : Arrays.asList("e", "d", "c", "b")) {
+            assertTrue("the response of " + id + " should be served from memory", handle(id).contains(body(id)));
+        }
+        // the least recently used response has been evicted from memory
+        assertFalse(handle("a").contains(body("a")));
+    }
+
+    @Test
+    public void diskTierIsBounded() throws Exception {
+        // each response takes about 110 bytes, the disk tier holds two of them
+        when(configurationService.getProperty("oai.cache.disk.max-size")).thenReturn("250");
+
+        cacheService.store("a", response("a"));
+        cacheService.store("b", response("b"));
+        assertTrue(cacheService.hasCache("a"));
+        assertTrue(cacheService.hasCache("b"));
+
+        cacheService.store("c", response("c"));
+        assertFalse(cacheService.hasCache("a"));
+        assertFalse(getCacheFile(XOAICacheScope.ANY, "a").exists());
+        assertTrue(cacheService.hasCache("b"));
+        assertTrue(cacheService.hasCache("c"));
+    }
+
+    @Test
+    public void deleteScopes() throws Exception {
+        cacheService.store("any", XOAICacheScope.ANY, response("any"));
+        cacheService.store("col1", XOAICacheScope.set("col_123456789_1"), response("col1"));
+        cacheService.store("col2", XOAICacheScope.set("col_123456789_2"), response("col2"));
+        cacheService.store("item1", XOAICacheScope.item("123456789/10"), response("item1"));
+        cacheService.store("item2", XOAICacheScope.item("123456789/11"), response("item2"));
+
+        cacheService.delete(Collections.singletonList("col_123456789_1"), Collections.singletonList("123456789/10"));
+
+        assertFalse(cacheService.hasCache("any"));
+        assertFalse(cacheService.hasCache("col1"));
+        assertFalse(cacheService.hasCache("item1"));
+        assertTrue(cacheService.hasCache("col2"));
+        assertTrue(cacheService.hasCache("item2"));
+        assertTrue(handle("col2").contains(body("col2")));
+        assertTrue(handle("item2").contains(body("item2")));
+    }
+
+    @Test
+    public void memoryEntryIsDroppedWithItsFile() throws Exception {
+        cacheService.store("a", response("a"));
+        assertTrue(handle("a").contains(body("a")));
+
+        // deleted by the import, which runs in another process
+        assertTrue(getCacheFile(XOAICacheScope.ANY, "a").delete());
+
+        assertFalse(cacheService.hasCache("a"));
+        try {
+            handle("a");
+        } catch (FileNotFoundException e) {
+            return;
+        }
+        throw new AssertionError("The deleted response should not be served");
+    }
+
+    private File getCacheFile(String scope, String requestID) {
+        File scopeDir = new File(new File(folder.getRoot(), "requests"), scope.replace(':', File.separatorChar));
+        return new File(scopeDir, Base64Utils.encode(requestID));
+    }
+
+    private String handle(String requestID) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cacheService.handle(requestID, out);
+        return out.toString(UTF_8.name());
+    }
+
+    private String body(String id) {
+        return id + StringUtils.repeat('x', 80 - id.length());
+    }
+
+    private OAIPMH response(String id) throws Exception {
+        OAIPMH response = mock(OAIPMH.class);
+        doAnswer(invocation -> {
+            XmlOutputContext context = invocation.getArgument(0);
+            context.getWriter().writeStartElement("OAI-PMH");
+            context.getWriter().writeStartElement("responseDate");
+            context.getWriter().writeCharacters("2026-01-01T00:00:00Z");
+            context.getWriter().writeEndElement();
+            context.getWriter().writeStartElement("content");
+            context.getWriter().writeCharacters(body(id));
+            context.getWriter().writeEndElement();
+            context.getWriter().writeEndElement();
+            return null;
+        }).when(response).write(any(XmlOutputContext.class));
+        return response;
+    }
+}
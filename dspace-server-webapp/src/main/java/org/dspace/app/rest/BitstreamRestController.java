@@ -40,6 +40,7 @@ import org.dspace.disseminate.service.CitationDocumentService;
 import org.dspace.eperson.EPerson;
 import org.dspace.services.ConfigurationService;
 import org.dspace.services.EventService;
+import org.dspace.storage.bitstore.service.BitstreamStorageService;
 import org.dspace.usage.UsageEvent;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
@@ -78,6 +79,12 @@ public class BitstreamRestController {
     //Most file systems are configured to use block sizes of 4096 or 8192 and our buffer should be a multiple of that.
     private static final int BUFFER_SIZE = 4096 * 10;
 
+    // Request attributes of the Tomcat connectors able to send a file without copying it through the JVM
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
     @Autowired
     private BitstreamService bitstreamService;
 
@@ -90,6 +97,9 @@ public class BitstreamRestController {
     @Autowired
     private CitationDocumentService citationDocumentService;
 
+    @Autowired
+    private BitstreamStorageService bitstreamStorageService;
+
     @Autowired
     private ConfigurationService configurationService;
 
@@ -164,6 +174,14 @@ public class BitstreamRestController {
                 new org.dspace.app.rest.utils.BitstreamResource(name, uuid,
                     currentUser != null ? currentUser.getID() : null,
                     context.getSpecialGroupUuids(), citationEnabledForBitstream, true);
+
+            // When the connector supports sendfile, the whole content of a bitstream stored in the local file system
+            // is handed over to it, unless a cover page has to be added. Everything else, range requests included,
+            // is copied by Spring from the bitstreamResource.
+            boolean sendfile = !citationEnabledForBitstream && StringUtils.isBlank(request.getHeader("Range"))
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))
+                && bitstreamStorageService.isFileBacked(bit);
+            String sendfilePath = sendfile ? bitstreamStorageService.absolutePath(context, bit) : null;
             //We have all the data we need, close the connection to the database so that it doesn't stay open during
             //download/streaming
             context.complete();
@@ -177,6 +195,11 @@ public class BitstreamRestController {
                     return ResponseEntity.ok().headers(httpHeaders).build();
                 }
 
+                if (sendfilePath != null) {
+                    sendFile(bit, sendfilePath, httpHeaders, request, response);
+                    return null;
+                }
+
                 return ResponseEntity.ok().headers(httpHeaders).body(bitstreamResource);
             }
 
@@ -191,6 +214,19 @@ public class BitstreamRestController {
         return null;
     }
 
+    /**
+     * Hand the file of a file-backed bitstream over to the connector, that sends it to the socket with sendfile,
+     * without copying it through the heap.
+     */
+    private void sendFile(Bitstream bit, String sendfilePath, HttpHeaders httpHeaders, HttpServletRequest request,
+                          HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        httpHeaders.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        request.setAttribute(SENDFILE_FILENAME_ATTR, sendfilePath);
+        request.setAttribute(SENDFILE_FILE_START_ATTR, 0L);
+        request.setAttribute(SENDFILE_FILE_END_ATTR, bit.getSizeBytes());
+    }
+
     private String getBitstreamName(Bitstream bit, BitstreamFormat format) {
         String name = bit.getName();
         if (name == null) {
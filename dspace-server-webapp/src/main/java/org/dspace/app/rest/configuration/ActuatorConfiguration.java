@@ -16,8 +16,10 @@ import org.dspace.app.rest.DiscoverableEndpointsService;
 import org.dspace.app.rest.health.EPersonGroupHealthIndicator;
 import org.dspace.app.rest.health.GeoIpHealthIndicator;
 import org.dspace.app.rest.health.SiteHealthIndicator;
+import org.dspace.app.rest.health.StatisticsQueueHealthIndicator;
 import org.dspace.authority.AuthoritySolrServiceImpl;
 import org.dspace.discovery.SolrSearchCore;
+import org.dspace.statistics.SolrLoggerServiceImpl;
 import org.dspace.statistics.SolrStatisticsCore;
 import org.dspace.xoai.services.api.solr.SolrServerResolver;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -84,6 +86,13 @@ public class ActuatorConfiguration {
         return new SolrHealthIndicator(solrServerResolver.getServer());
     }
 
+    @Bean
+    @ConditionalOnEnabledHealthIndicator("statisticsQueue")
+    @ConditionalOnProperty(name = "solr-statistics.async.enabled", havingValue = "true")
+    public StatisticsQueueHealthIndicator statisticsQueueHealthIndicator(SolrLoggerServiceImpl solrLoggerService) {
+        return new StatisticsQueueHealthIndicator(solrLoggerService);
+    }
+
     @Bean
     @ConditionalOnEnabledHealthIndicator("geoIp")
     public GeoIpHealthIndicator geoIpHealthIndicator() {
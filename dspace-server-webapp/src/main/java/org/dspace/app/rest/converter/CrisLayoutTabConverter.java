@@ -9,6 +9,7 @@ package org.dspace.app.rest.converter;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -28,7 +29,6 @@ import org.dspace.content.service.ItemService;
 import org.dspace.core.Context;
 import org.dspace.core.exception.SQLRuntimeException;
 import org.dspace.layout.CrisLayoutBox;
-import org.dspace.layout.CrisLayoutBox2SecurityGroup;
 import org.dspace.layout.CrisLayoutCell;
 import org.dspace.layout.CrisLayoutRow;
 import org.dspace.layout.CrisLayoutTab;
@@ -104,7 +104,7 @@ public class CrisLayoutTabConverter implements DSpaceConverter<CrisLayoutTab, Cr
         rest.setHeader(tab.getHeader());
         rest.setPriority(tab.getPriority());
         rest.setSecurity(tab.getSecurity());
-        rest.setRows(convertRows(getScopeItem(), tab.getRows(), projection));
+        rest.setRows(convertRows(findVisibleBoxes(getScopeItem(), tab), tab.getRows(), projection));
         rest.setLeading(tab.isLeading());
         return rest;
     }
@@ -127,75 +127,55 @@ public class CrisLayoutTabConverter implements DSpaceConverter<CrisLayoutTab, Cr
         return tab;
     }
 
-    private List<CrisLayoutRowRest> convertRows(Item item, List<CrisLayoutRow> rows, Projection projection) {
+    private Map<CrisLayoutBox, CrisLayoutBox> findVisibleBoxes(Item item, CrisLayoutTab tab) {
+        if (item == null) {
+            return null;
+        }
+        Context context = ContextUtil.obtainCurrentRequestContext();
+        return crisLayoutBoxService.findVisibleBoxes(context, item, List.of(tab));
+    }
+
+    private List<CrisLayoutRowRest> convertRows(Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes,
+                                                List<CrisLayoutRow> rows, Projection projection) {
         return rows.stream()
-            .map(row -> convertRow(item, row, projection))
+            .map(row -> convertRow(visibleBoxes, row, projection))
             .filter(row -> CollectionUtils.isNotEmpty(row.getCells()))
             .collect(Collectors.toList());
     }
 
-    private CrisLayoutRowRest convertRow(Item item, CrisLayoutRow row, Projection projection) {
+    private CrisLayoutRowRest convertRow(Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes, CrisLayoutRow row,
+                                         Projection projection) {
         CrisLayoutRowRest rest = new CrisLayoutRowRest();
         rest.setStyle(row.getStyle());
-        rest.setCells(convertCells(item, row.getCells(), projection));
+        rest.setCells(convertCells(visibleBoxes, row.getCells(), projection));
         return rest;
     }
 
-    private List<CrisLayoutCellRest> convertCells(Item item, List<CrisLayoutCell> cells, Projection projection) {
+    private List<CrisLayoutCellRest> convertCells(Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes,
+                                                  List<CrisLayoutCell> cells, Projection projection) {
         return cells.stream()
-            .map(cell -> convertCell(item, cell, projection))
+            .map(cell -> convertCell(visibleBoxes, cell, projection))
             .filter(cell -> CollectionUtils.isNotEmpty(cell.getBoxes()))
             .collect(Collectors.toList());
     }
 
-    private CrisLayoutCellRest convertCell(Item item, CrisLayoutCell cell, Projection projection) {
+    private CrisLayoutCellRest convertCell(Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes, CrisLayoutCell cell,
+                                           Projection projection) {
         CrisLayoutCellRest rest = new CrisLayoutCellRest();
         rest.setStyle(cell.getStyle());
-        rest.setBoxes(convertBoxes(item, cell.getBoxes(), projection));
+        rest.setBoxes(convertBoxes(visibleBoxes, cell.getBoxes(), projection));
         return rest;
     }
 
-    private List<CrisLayoutBoxRest> convertBoxes(Item item, List<CrisLayoutBox> boxes, Projection projection) {
+    private List<CrisLayoutBoxRest> convertBoxes(Map<CrisLayoutBox, CrisLayoutBox> visibleBoxes,
+                                                 List<CrisLayoutBox> boxes, Projection projection) {
         return boxes.stream()
-                    .map(box -> getCrisLayoutBox(item, box))
+                    .map(box -> visibleBoxes != null ? visibleBoxes.get(box) : box)
                     .filter(Objects::nonNull)
                     .map(box -> boxConverter.convert(box, projection))
                     .collect(Collectors.toList());
     }
 
-    private CrisLayoutBox getCrisLayoutBox(Item item, CrisLayoutBox box) {
-
-        if (item == null) {
-            return box;
-        }
-
-        return Optional.of(box)
-                       .filter(b -> hasAccess(item, b) && hasContent(item, b))
-                       .orElseGet(() ->
-                           Optional.ofNullable(findAlternativeBox(box))
-                                   .filter(altBox -> hasContent(item, altBox))
-                                   .orElse(null));
-    }
-
-    private boolean hasAccess(Item item, CrisLayoutBox box) {
-        Context context = ContextUtil.obtainCurrentRequestContext();
-        return crisLayoutBoxService.hasAccess(context, box, item);
-    }
-
-    private boolean hasContent(Item item, CrisLayoutBox box) {
-        Context context = ContextUtil.obtainCurrentRequestContext();
-        return crisLayoutBoxService.hasContent(context, box, item);
-    }
-
-    private CrisLayoutBox findAlternativeBox(CrisLayoutBox box) {
-        return box.getBox2SecurityGroups()
-                  .stream()
-                  .map(CrisLayoutBox2SecurityGroup::getAlternativeBox)
-                  .filter(Objects::nonNull)
-                  .findFirst()
-                  .orElse(null);
-    }
-
     private CrisLayoutRow toRowModel(Context context, CrisLayoutRowRest rowRest) {
         CrisLayoutRow row = new CrisLayoutRow();
         row.setStyle(rowRest.getStyle());
@@ -0,0 +1,55 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import static org.dspace.app.rest.configuration.ActuatorConfiguration.UP_WITH_ISSUES_STATUS;
+
+import org.dspace.statistics.SolrLoggerServiceImpl;
+import org.dspace.statistics.SolrStatisticsQueue;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Implementation of {@link HealthIndicator} that reports the depth and the lag of the queue of the usage events
+ * added asynchronously to the statistics core, which is up with issues when the queue is full.
+ */
+public class StatisticsQueueHealthIndicator extends AbstractHealthIndicator {
+
+    private final SolrLoggerServiceImpl solrLoggerService;
+
+    public StatisticsQueueHealthIndicator(SolrLoggerServiceImpl solrLoggerService) {
+        this.solrLoggerService = solrLoggerService;
+    }
+
+    @Override
+    protected void doHealthCheck(Builder builder) throws Exception {
+
+        SolrStatisticsQueue queue = solrLoggerService.getStatisticsQueue();
+        if (queue == null || !queue.isRunning()) {
+            builder.down().withDetail("reason", "The statistics queue is not running");
+            return;
+        }
+
+        if (queue.getSize() >= queue.getCapacity()) {
+            builder.status(UP_WITH_ISSUES_STATUS).withDetail("reason", "The statistics queue is full");
+        } else {
+            builder.up();
+        }
+
+        builder.withDetail("size", queue.getSize())
+            .withDetail("capacity", queue.getCapacity())
+            .withDetail("lag", queue.getLag())
+            .withDetail("lastLag", queue.getLastLag())
+            .withDetail("enqueued", queue.getEnqueued())
+            .withDetail("added", queue.getAdded())
+            .withDetail("dropped", queue.getDropped())
+            .withDetail("failed", queue.getFailed());
+    }
+
+}
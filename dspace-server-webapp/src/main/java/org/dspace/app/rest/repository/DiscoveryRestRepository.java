@@ -7,7 +7,9 @@
  */
 package org.dspace.app.rest.repository;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,7 +28,11 @@ import org.dspace.app.rest.parameter.SearchFilter;
 import org.dspace.app.rest.projection.Projection;
 import org.dspace.app.rest.utils.RestDiscoverQueryBuilder;
 import org.dspace.app.rest.utils.ScopeResolver;
+import org.dspace.authorize.service.AuthorizeService;
+import org.dspace.content.DSpaceObject;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
+import org.dspace.core.exception.SQLRuntimeException;
 import org.dspace.discovery.DiscoverQuery;
 import org.dspace.discovery.DiscoverResult;
 import org.dspace.discovery.IndexableObject;
@@ -80,6 +86,9 @@ public class DiscoveryRestRepository extends AbstractDSpaceRestRepository {
     @Autowired
     private DiscoverFacetsConverter discoverFacetsConverter;
 
+    @Autowired
+    private AuthorizeService authorizeService;
+
     public SearchConfigurationRest getSearchConfiguration(final String dsoScope, final String configuration) {
         Context context = obtainContext();
 
@@ -119,11 +128,29 @@ public class DiscoveryRestRepository extends AbstractDSpaceRestRepository {
             throw new IllegalArgumentException("Error while searching with Discovery: " + e.getMessage());
         }
 
+        prefetchReadAuthorizations(context, searchResult);
         return discoverResultConverter
             .convert(context, query, dsoTypes, configuration, dsoScope, searchFilters, page, searchResult,
                      discoveryConfiguration, projection);
     }
 
+    /**
+     * Evaluate in bulk the READ permission on the objects of the page, which is checked again for each object when
+     * it is converted.
+     */
+    private void prefetchReadAuthorizations(Context context, DiscoverResult searchResult) {
+        List<DSpaceObject> dsos = searchResult.getIndexableObjects().stream()
+            .map(IndexableObject::getIndexedObject)
+            .filter(DSpaceObject.class::isInstance)
+            .map(DSpaceObject.class::cast)
+            .collect(Collectors.toList());
+        try {
+            authorizeService.authorizeActionBoolean(context, dsos, Constants.READ);
+        } catch (SQLException e) {
+            throw new SQLRuntimeException(e);
+        }
+    }
+
     public FacetConfigurationRest getFacetsConfiguration(final String dsoScope, final String configuration) {
         Context context = obtainContext();
 
@@ -54,6 +54,7 @@ import org.dspace.content.service.ItemService;
 import org.dspace.content.service.RelationshipService;
 import org.dspace.content.service.RelationshipTypeService;
 import org.dspace.content.service.WorkspaceItemService;
+import org.dspace.core.Constants;
 import org.dspace.core.Context;
 import org.dspace.core.exception.SQLRuntimeException;
 import org.dspace.util.UUIDUtils;
@@ -150,6 +151,7 @@ public class ItemRestRepository extends DSpaceObjectRestRepository<Item, ItemRes
             while (it.hasNext()) {
                 items.add(it.next());
             }
+            authorizeService.authorizeActionBoolean(context, items, Constants.READ);
             return converter.toRestPage(items, pageable, total, utils.obtainProjection());
         } catch (SQLException e) {
             throw new RuntimeException(e.getMessage(), e);
@@ -89,6 +89,11 @@ public class BitstreamResource extends AbstractResource {
 
     @Override
     public InputStream getInputStream() throws IOException {
+        if (!shouldGenerateCoverPage) {
+            // the bitstream is opened on the first read, so that only the requested range is retrieved from the
+            // asset store when serving a Range request
+            return new RangeAwareInputStream(this::retrieve);
+        }
         try (Context context = initializeContext()) {
 
             if (skipAuthCheck) {
@@ -97,13 +102,7 @@ public class BitstreamResource extends AbstractResource {
             EPerson currentUser = ePersonService.find(context, currentUserUUID);
             context.setCurrentUser(currentUser);
             Bitstream bitstream = bitstreamService.find(context, uuid);
-            InputStream out;
-
-            if (shouldGenerateCoverPage) {
-                out = new ByteArrayInputStream(getCoverpageByteArray(context, bitstream));
-            } else {
-                out = bitstreamService.retrieve(context, bitstream);
-            }
+            InputStream out = new ByteArrayInputStream(getCoverpageByteArray(context, bitstream));
 
             this.file = null;
             return out;
@@ -112,6 +111,29 @@ public class BitstreamResource extends AbstractResource {
         }
     }
 
+    /**
+     * Retrieve the content of the bitstream starting from the given offset.
+     *
+     * @param offset the position of the first byte to retrieve
+     * @return the stream of the content
+     */
+    private InputStream retrieve(long offset) throws IOException {
+        try (Context context = initializeContext()) {
+
+            if (skipAuthCheck) {
+                context.turnOffAuthorisationSystem();
+            }
+            Bitstream bitstream = bitstreamService.find(context, uuid);
+            if (offset > 0) {
+                return bitstreamService.retrieve(context, bitstream, offset,
+                    Long.max(bitstream.getSizeBytes() - offset, 0));
+            }
+            return bitstreamService.retrieve(context, bitstream);
+        } catch (SQLException | AuthorizeException e) {
+            throw new IOException(e);
+        }
+    }
+
     @Override
     public String getFilename() {
         return name;
@@ -0,0 +1,81 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link InputStream} that opens the underlying stream on the first read, at the position reached by the skips
+ * performed before it. Spring serves the HTTP Range requests skipping the bytes before the requested range, so
+ * that with this stream only the requested range is retrieved from the asset store.
+ */
+public class RangeAwareInputStream extends InputStream {
+
+    /**
+     * Opens the underlying stream at the given position.
+     */
+    @FunctionalInterface
+    public interface RangeOpener {
+        InputStream open(long offset) throws IOException;
+    }
+
+    private final RangeOpener opener;
+
+    private long offset = 0;
+
+    private InputStream delegate;
+
+    /**
+     * @param opener the function opening the underlying stream at a given offset
+     */
+    public RangeAwareInputStream(RangeOpener opener) {
+        this.opener = opener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return open().read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return open().read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (delegate != null) {
+            return delegate.skip(n);
+        }
+        if (n <= 0) {
+            return 0;
+        }
+        offset += n;
+        return n;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return delegate != null ? delegate.available() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    private InputStream open() throws IOException {
+        if (delegate == null) {
+            delegate = opener.open(offset);
+        }
+        return delegate;
+    }
+}
@@ -41,6 +41,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.ByteArrayInputStream;
@@ -102,6 +103,11 @@ public class BitstreamRestControllerIT extends AbstractControllerIntegrationTest
 
     public static final String[] PASS_ONLY = {"org.dspace.authenticate.PasswordAuthentication"};
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
     protected SolrLoggerService solrLoggerService = StatisticsServiceFactory.getInstance().getSolrLoggerService();
 
     @Autowired
@@ -327,6 +333,104 @@ public class BitstreamRestControllerIT extends AbstractControllerIntegrationTest
             checkNumberOfStatsRecords(bitstream, 0);
     }
 
+    @Test
+    public void retrieveFullBitstreamWithSendfile() throws Exception {
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                                          .withName("Parent Community")
+                                          .build();
+
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 1").build();
+
+        String bitstreamContent = "0123456789";
+
+        try (InputStream is = IOUtils.toInputStream(bitstreamContent, CharEncoding.UTF_8)) {
+
+            Item publicItem1 = ItemBuilder.createItem(context, col1)
+                                          .withTitle("Public item 1")
+                                          .build();
+
+            bitstream = BitstreamBuilder
+                .createBitstream(context, publicItem1, is)
+                .withName("Test bitstream")
+                .withMimeType("text/plain")
+                .build();
+        }
+        context.restoreAuthSystemState();
+
+        String path = StorageServiceFactory.getInstance().getBitstreamStorageService()
+                                           .absolutePath(context, bitstream);
+
+        //The connector supports sendfile, the whole file of the local assetstore is handed over to it
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .requestAttr(SENDFILE_SUPPORT, true))
+                   .andExpect(status().isOk())
+                   .andExpect(header().longValue("Content-Length", bitstreamContent.getBytes().length))
+                   .andExpect(header().string("ETag", "\"" + bitstream.getChecksum() + "\""))
+                   .andExpect(request().attribute(SENDFILE_FILENAME, path))
+                   .andExpect(request().attribute(SENDFILE_START, 0L))
+                   .andExpect(request().attribute(SENDFILE_END, (long) bitstreamContent.getBytes().length))
+                   //The content is written by the connector, not by the controller
+                   .andExpect(content().bytes(new byte[] {}));
+
+        //Range requests are served from the bitstream resource
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                .requestAttr(SENDFILE_SUPPORT, true)
+                                .header("Range", "bytes=1-3"))
+                   .andExpect(status().is(206))
+                   .andExpect(request().attribute(SENDFILE_FILENAME, nullValue()))
+                   .andExpect(request().attribute(SENDFILE_START, nullValue()))
+                   .andExpect(request().attribute(SENDFILE_END, nullValue()))
+                   .andExpect(content().bytes("123".getBytes()));
+
+        //Without the support of the connector the content is sent by the controller
+        getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content"))
+                   .andExpect(status().isOk())
+                   .andExpect(request().attribute(SENDFILE_FILENAME, nullValue()))
+                   .andExpect(content().bytes(bitstreamContent.getBytes()));
+    }
+
+    @Test
+    public void retrieveCitationCoverpageOfBitstreamWithSendfile() throws Exception {
+        configurationService.setProperty("citation-page.enable_globally", true);
+        citationDocumentService.afterPropertiesSet();
+        context.turnOffAuthorisationSystem();
+
+        parentCommunity = CommunityBuilder.createCommunity(context)
+                .withName("Parent Community")
+                .build();
+
+        Collection col1 = CollectionBuilder.createCollection(context, parentCommunity).withName("Collection 1").build();
+
+        File originalPdf = new File(testProps.getProperty("test.bitstream"));
+
+        try (InputStream is = new FileInputStream(originalPdf)) {
+
+            Item publicItem1 = ItemBuilder.createItem(context, col1)
+                    .withTitle("Public item citation cover page sendfile test")
+                    .build();
+
+            bitstream = BitstreamBuilder
+                    .createBitstream(context, publicItem1, is)
+                    .withName("Test bitstream")
+                    .withMimeType("application/pdf")
+                    .build();
+        }
+        context.restoreAuthSystemState();
+
+        //The cover page has to be added, so the file can't be handed over to the connector
+        byte[] content = getClient().perform(get("/api/core/bitstreams/" + bitstream.getID() + "/content")
+                                                 .requestAttr(SENDFILE_SUPPORT, true))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(SENDFILE_FILENAME, nullValue()))
+                .andExpect(request().attribute(SENDFILE_START, nullValue()))
+                .andExpect(request().attribute(SENDFILE_END, nullValue()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertTrue(StringUtils.contains(extractPDFText(content), "Public item citation cover page sendfile test"));
+    }
+
     @Test
     public void testBitstreamName() throws Exception {
 
@@ -0,0 +1,83 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.health;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import org.dspace.app.rest.configuration.ActuatorConfiguration;
+import org.dspace.statistics.SolrLoggerServiceImpl;
+import org.dspace.statistics.SolrStatisticsQueue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+/**
+ * Unit tests for {@link StatisticsQueueHealthIndicator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsQueueHealthIndicatorTest {
+
+    @Mock
+    private SolrLoggerServiceImpl solrLoggerService;
+
+    @Mock
+    private SolrStatisticsQueue statisticsQueue;
+
+    private StatisticsQueueHealthIndicator statisticsQueueHealthIndicator;
+
+    @Before
+    public void setUp() {
+        statisticsQueueHealthIndicator = new StatisticsQueueHealthIndicator(solrLoggerService);
+    }
+
+    @Test
+    public void testWithQueueNotFull() {
+        when(solrLoggerService.getStatisticsQueue()).thenReturn(statisticsQueue);
+        when(statisticsQueue.isRunning()).thenReturn(true);
+        when(statisticsQueue.getSize()).thenReturn(10);
+        when(statisticsQueue.getCapacity()).thenReturn(100);
+        when(statisticsQueue.getLag()).thenReturn(250L);
+
+        Health health = statisticsQueueHealthIndicator.health();
+
+        assertThat(health.getStatus(), is(Status.UP));
+        assertThat(health.getDetails(), hasEntry("size", 10));
+        assertThat(health.getDetails(), hasEntry("lag", 250L));
+    }
+
+    @Test
+    public void testWithQueueFull() {
+        when(solrLoggerService.getStatisticsQueue()).thenReturn(statisticsQueue);
+        when(statisticsQueue.isRunning()).thenReturn(true);
+        when(statisticsQueue.getSize()).thenReturn(100);
+        when(statisticsQueue.getCapacity()).thenReturn(100);
+        when(statisticsQueue.getDropped()).thenReturn(5L);
+
+        Health health = statisticsQueueHealthIndicator.health();
+
+        assertThat(health.getStatus(), is(ActuatorConfiguration.UP_WITH_ISSUES_STATUS));
+        assertThat(health.getDetails(), hasEntry("reason", "The statistics queue is full"));
+        assertThat(health.getDetails(), hasEntry("dropped", 5L));
+    }
+
+    @Test
+    public void testWithQueueNotRunning() {
+        when(solrLoggerService.getStatisticsQueue()).thenReturn(null);
+
+        Health health = statisticsQueueHealthIndicator.health();
+
+        assertThat(health.getStatus(), is(Status.DOWN));
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree and available online at
+ *
+ * http://www.dspace.org/license/
+ */
+package org.dspace.app.rest.utils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Unit tests for {@link RangeAwareInputStream}.
+ */
+public class RangeAwareInputStreamTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(UTF_8);
+
+    private final List<Long> openedOffsets = new ArrayList<>();
+
+    @Test
+    public void testStreamIsOpenedAtTheRequestedRange() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RangeAwareInputStream in = new RangeAwareInputStream(this::open)) {
+            // this is how spring copies the range of a resource
+            StreamUtils.copyRange(in, out, 10, 14);
+        }
+        assertEquals("abcde", out.toString(UTF_8));
+        assertEquals(List.of(10L), openedOffsets);
+    }
+
+    @Test
+    public void testStreamIsOpenedFromTheBeginningWithoutSkip() throws Exception {
+        try (RangeAwareInputStream in = new RangeAwareInputStream(this::open)) {
+            assertEquals(new String(CONTENT, UTF_8), new String(in.readAllBytes(), UTF_8));
+        }
+        assertEquals(List.of(0L), openedOffsets);
+    }
+
+    @Test
+    public void testSkipAfterTheFirstReadIsDelegated() throws Exception {
+        try (RangeAwareInputStream in = new RangeAwareInputStream(this::open)) {
+            assertEquals('0', in.read());
+            assertEquals(5, in.skip(5));
+            assertEquals('6', in.read());
+        }
+        assertEquals(List.of(0L), openedOffsets);
+    }
+
+    private ByteArrayInputStream open(long offset) {
+        openedOffsets.add(offset);
+        return new ByteArrayInputStream(CONTENT, (int) offset, CONTENT.length - (int) offset);
+    }
+}